@@ -1,6 +1,7 @@
 package com.monteweb.admin;
 
-import java.time.Instant;
+import com.monteweb.shared.RequestMemoized;
+
 
 /**
  * Public API: Facade interface for the admin module.
@@ -8,8 +9,10 @@ import java.time.Instant;
  */
 public interface AdminModuleApi {
 
+    @RequestMemoized
     TenantConfigInfo getTenantConfig();
 
+    @RequestMemoized
     boolean isModuleEnabled(String moduleName);
 
     /**
@@ -18,12 +21,6 @@ public interface AdminModuleApi {
      */
     String getLdapBindPassword();
 
+    @RequestMemoized
     boolean isMaintenanceEnabled();
-
-    /**
-     * DSGVO retention: deletes old error reports.
-     * RESOLVED/IGNORED older than cutoff90, NEW/REPORTED older than cutoff365.
-     * Returns total number of deleted records.
-     */
-    int cleanupOldErrorReports(Instant cutoff90, Instant cutoff365);
 }
@@ -1,7 +1,7 @@
 package com.monteweb.admin.internal.controller;
 
 import com.monteweb.admin.TenantConfigInfo;
-import com.monteweb.admin.internal.dto.CsvImportResult;
+import com.monteweb.admin.internal.dto.CsvImportJobInfo;
 import com.monteweb.admin.internal.dto.UpdateConfigRequest;
 import com.monteweb.admin.internal.model.AuditLogEntry;
 import com.monteweb.admin.internal.service.AdminService;
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/admin")
@@ -137,11 +138,16 @@ public class AdminConfigController {
     // --- CSV Import ---
 
     @PostMapping("/csv-import")
-    public ResponseEntity<ApiResponse<CsvImportResult>> importCsv(
+    public ResponseEntity<ApiResponse<CsvImportJobInfo>> importCsv(
             @RequestParam("file") MultipartFile file,
             @RequestParam(defaultValue = "false") boolean dryRun) {
-        var result = csvImportService.processCsv(file, dryRun);
-        return ResponseEntity.ok(ApiResponse.ok(result));
+        var job = csvImportService.startImport(file, dryRun);
+        return ResponseEntity.ok(ApiResponse.ok(job));
+    }
+
+    @GetMapping("/csv-import/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<CsvImportJobInfo>> getCsvImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(ApiResponse.ok(csvImportService.getJob(jobId)));
     }
 
     @GetMapping("/csv-import/example")
@@ -0,0 +1,35 @@
+package com.monteweb.admin.internal.controller;
+
+import com.monteweb.shared.dto.ApiResponse;
+import com.monteweb.shared.storage.OrphanObjectCollector;
+import com.monteweb.shared.storage.StorageGcReport;
+import com.monteweb.shared.storage.StorageGcRun;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Storage garbage collection: report of reclaimed space and manual runs.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/storage")
+@PreAuthorize("hasRole('SUPERADMIN')")
+public class AdminStorageController {
+
+    private final OrphanObjectCollector orphanObjectCollector;
+
+    public AdminStorageController(OrphanObjectCollector orphanObjectCollector) {
+        this.orphanObjectCollector = orphanObjectCollector;
+    }
+
+    @GetMapping("/gc")
+    public ResponseEntity<ApiResponse<StorageGcReport>> getGcReport() {
+        return ResponseEntity.ok(ApiResponse.ok(orphanObjectCollector.getReport()));
+    }
+
+    @PostMapping("/gc")
+    public ResponseEntity<ApiResponse<StorageGcRun>> startGc() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.ok(orphanObjectCollector.start()));
+    }
+}
@@ -0,0 +1,21 @@
+package com.monteweb.admin.internal.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * State of a background CSV import. {@code result} is set once the status is COMPLETED,
+ * {@code errorMessage} once it is FAILED.
+ */
+public record CsvImportJobInfo(
+        UUID id,
+        String status,
+        boolean dryRun,
+        int totalRows,
+        int processedRows,
+        CsvImportResult result,
+        String errorMessage,
+        Instant createdAt,
+        Instant finishedAt
+) {
+}
@@ -0,0 +1,33 @@
+package com.monteweb.admin.internal.repository;
+
+import com.monteweb.admin.internal.model.CsvImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface CsvImportJobRepository extends JpaRepository<CsvImportJob, UUID> {
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE CsvImportJob j SET j.processedRows = :processedRows WHERE j.id = :id")
+    void updateProgress(@Param("id") UUID id, @Param("processedRows") int processedRows);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE CsvImportJob j SET j.status = 'FAILED', j.errorMessage = :message, j.finishedAt = :now
+            WHERE j.status IN ('QUEUED', 'RUNNING') AND j.createdAt < :cutoff
+            """)
+    int failActiveJobsCreatedBefore(@Param("cutoff") Instant cutoff, @Param("message") String message,
+                                    @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CsvImportJob j WHERE j.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") Instant cutoff);
+}
@@ -193,16 +193,6 @@ public class AdminService implements AdminModuleApi {
         return isModuleEnabled("maintenance");
     }
 
-    @Override
-    @Transactional
-    public int cleanupOldErrorReports(Instant cutoff90, Instant cutoff365) {
-        int deleted90 = errorReportRepository.deleteByStatusInAndLastSeenAtBefore(
-            List.of("RESOLVED", "IGNORED"), cutoff90);
-        int deleted365 = errorReportRepository.deleteByStatusInAndLastSeenAtBefore(
-            List.of("NEW", "REPORTED"), cutoff365);
-        return deleted90 + deleted365;
-    }
-
     @Transactional
     public TenantConfigInfo updateMaintenance(boolean enabled, String message) {
         var config = getConfig();
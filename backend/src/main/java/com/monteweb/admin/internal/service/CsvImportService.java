@@ -1,25 +1,56 @@
 package com.monteweb.admin.internal.service;
 
+import com.monteweb.admin.internal.dto.CsvImportJobInfo;
 import com.monteweb.admin.internal.dto.CsvImportResult;
 import com.monteweb.admin.internal.dto.CsvImportResult.CsvRowError;
 import com.monteweb.admin.internal.dto.CsvImportResult.CsvRowPreview;
+import com.monteweb.admin.internal.model.CsvImportJob;
+import com.monteweb.admin.internal.repository.CsvImportJobRepository;
+import com.monteweb.family.FamilyMemberAssignment;
 import com.monteweb.family.FamilyModuleApi;
+import com.monteweb.shared.config.TaskExecutorConfig;
+import com.monteweb.shared.exception.BusinessException;
+import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.util.SecurityUtils;
+import com.monteweb.user.ImportedUser;
 import com.monteweb.user.UserModuleApi;
 import com.monteweb.user.UserRole;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
 import java.util.regex.Pattern;
 
+/**
+ * Imports users and families from CSV as a background job with pollable progress.
+ * <p>
+ * The pipeline runs in stages: the whole file is validated first, with one query for
+ * existing emails and one for existing families. Valid rows are then written in chunks,
+ * each with its passwords hashed in parallel and its users, families and memberships
+ * inserted as JDBC batches in one short transaction. A dry run stops after validation.
+ */
 @Service
 public class CsvImportService {
 
@@ -28,164 +59,312 @@ public class CsvImportService {
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9._%+\\-]+@[A-Za-z0-9.\\-]+\\.[A-Za-z]{2,}$");
     private static final Set<String> VALID_ROLES = Set.of("PARENT", "STUDENT", "TEACHER", "SECTION_ADMIN");
     private static final Set<String> VALID_FAMILY_ROLES = Set.of("PARENT", "CHILD");
+    /** Rows written per transaction, so an import never holds its locks for long. */
+    private static final int CHUNK_SIZE = 200;
+    private static final Duration JOB_RETENTION = Duration.ofDays(30);
+    /** A job still queued or running after this long was lost to a restart. */
+    private static final Duration STALE_AFTER = Duration.ofHours(1);
 
     private final UserModuleApi userModuleApi;
     private final FamilyModuleApi familyModuleApi;
     private final PasswordEncoder passwordEncoder;
+    private final CsvImportJobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final AsyncTaskExecutor importRunner;
+    /** BCrypt is CPU-bound; the parallel pool is sized to the available cores. */
+    private final AsyncTaskExecutor hashPool;
 
     public CsvImportService(UserModuleApi userModuleApi,
                             FamilyModuleApi familyModuleApi,
-                            PasswordEncoder passwordEncoder) {
+                            PasswordEncoder passwordEncoder,
+                            CsvImportJobRepository jobRepository,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            @Qualifier(TaskExecutorConfig.BACKGROUND_JOBS) AsyncTaskExecutor importRunner,
+                            @Qualifier(TaskExecutorConfig.PARALLEL_TASKS) AsyncTaskExecutor hashPool) {
         this.userModuleApi = userModuleApi;
         this.familyModuleApi = familyModuleApi;
         this.passwordEncoder = passwordEncoder;
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.importRunner = importRunner;
+        this.hashPool = hashPool;
     }
 
     /**
-     * Process a CSV file: parse, validate, and optionally import users and families.
-     *
-     * @param file   the uploaded CSV file
-     * @param dryRun if true, only validate without persisting
-     * @return the import result with statistics and errors
+     * Starts importing (or, with {@code dryRun}, validating) the uploaded file in the
+     * background. The file is parsed right away; poll {@link #getJob} for progress and result.
      */
-    @Transactional
-    public CsvImportResult processCsv(MultipartFile file, boolean dryRun) {
+    public CsvImportJobInfo startImport(MultipartFile file, boolean dryRun) {
         List<String[]> rows = parseCsv(file);
+
+        var job = new CsvImportJob();
+        job.setDryRun(dryRun);
+        job.setTotalRows(rows.size());
+        job.setCreatedBy(SecurityUtils.getCurrentUserId().orElse(null));
+        job = jobRepository.save(job);
+
+        UUID jobId = job.getId();
+        try {
+            importRunner.submit(() -> runJob(jobId, rows, dryRun));
+        } catch (TaskRejectedException e) {
+            log.warn("CSV import {} rejected: background job queue is full", jobId);
+            job.setStatus("FAILED");
+            job.setErrorMessage("Import konnte nicht gestartet werden");
+            job.setFinishedAt(Instant.now());
+            jobRepository.save(job);
+            throw new BusinessException("Zu viele laufende Hintergrundaufgaben, bitte später erneut versuchen");
+        }
+        return toJobInfo(job);
+    }
+
+    public CsvImportJobInfo getJob(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .map(this::toJobInfo)
+                .orElseThrow(() -> new ResourceNotFoundException("CsvImportJob", jobId));
+    }
+
+    @Scheduled(cron = "0 45 3 * * *")
+    public void cleanupOldJobs() {
+        int deleted = jobRepository.deleteByCreatedAtBefore(Instant.now().minus(JOB_RETENTION));
+        if (deleted > 0) {
+            log.info("Deleted {} CSV import jobs older than {} days", deleted, JOB_RETENTION.toDays());
+        }
+    }
+
+    /**
+     * Marks jobs that are still queued or running after {@link #STALE_AFTER} as failed: their
+     * rows only lived in memory, so a restart ends them for good.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 900_000, initialDelay = 900_000)
+    public void failStaleJobs() {
+        int failed = jobRepository.failActiveJobsCreatedBefore(Instant.now().minus(STALE_AFTER),
+                "Import wurde unterbrochen", Instant.now());
+        if (failed > 0) {
+            log.warn("Marked {} interrupted CSV import jobs as failed", failed);
+        }
+    }
+
+    /**
+     * Runs the import pipeline on parsed rows. Dry runs share every stage up to the writes.
+     *
+     * @param progress receives the number of rows handled so far
+     */
+    public CsvImportResult runImport(List<String[]> rows, boolean dryRun, IntConsumer progress) {
         List<CsvRowError> errors = new ArrayList<>();
         List<CsvRowPreview> previews = new ArrayList<>();
+        List<ImportRow> validRows = new ArrayList<>();
 
-        int usersCreated = 0;
-        int familiesCreated = 0;
+        // Stage 1: validate the whole file against the existing users and families
+        List<ImportRow> parsed = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            parsed.add(ImportRow.of(i + 2, rows.get(i))); // +2 because row 1 is header, data starts at row 2
+        }
+        Set<String> existingEmails = userModuleApi.findExistingEmails(parsed.stream()
+                .map(ImportRow::email)
+                .filter(email -> EMAIL_PATTERN.matcher(email).matches())
+                .toList());
+        Map<String, UUID> familyIds = new HashMap<>(familyModuleApi.findIdsByNamesIgnoreCase(parsed.stream()
+                .map(ImportRow::familyName)
+                .filter(name -> !name.isEmpty())
+                .toList()));
 
-        // Track families created during this import (name -> familyId)
-        Map<String, UUID> importedFamilies = new HashMap<>();
         // Track emails seen in this import to detect duplicates within the file
         Set<String> seenEmails = new HashSet<>();
+        for (ImportRow row : parsed) {
+            List<String> rowErrors = validate(row, seenEmails, existingEmails);
+            boolean valid = rowErrors.isEmpty();
 
-        for (int i = 0; i < rows.size(); i++) {
-            int rowNum = i + 2; // +2 because row 1 is header, data starts at row 2
-            String[] cols = rows.get(i);
-
-            String email = col(cols, 0).trim().toLowerCase();
-            String firstName = col(cols, 1).trim();
-            String lastName = col(cols, 2).trim();
-            String roleStr = col(cols, 3).trim().toUpperCase();
-            String familyName = col(cols, 4).trim();
-            String familyRoleStr = col(cols, 5).trim().toUpperCase();
-            String sectionSlug = col(cols, 6).trim();
-
-            // Validate required fields
-            List<String> rowErrors = new ArrayList<>();
-
-            if (email.isEmpty()) {
-                rowErrors.add("E-Mail ist erforderlich");
-            } else if (!EMAIL_PATTERN.matcher(email).matches()) {
-                rowErrors.add("Ungültiges E-Mail-Format: " + email);
-            } else if (seenEmails.contains(email)) {
-                rowErrors.add("Doppelte E-Mail in der CSV-Datei: " + email);
-            } else if (userModuleApi.existsByEmail(email)) {
-                rowErrors.add("E-Mail existiert bereits: " + email);
-            }
+            previews.add(new CsvRowPreview(
+                    row.rowNum(), row.email(), row.firstName() + " " + row.lastName(), row.role(),
+                    row.familyName(), row.familyRole(), row.sectionSlug(), valid,
+                    valid ? null : String.join("; ", rowErrors)));
 
-            if (firstName.isEmpty()) {
-                rowErrors.add("Vorname ist erforderlich");
-            }
-            if (lastName.isEmpty()) {
-                rowErrors.add("Nachname ist erforderlich");
+            if (!valid) {
+                for (String err : rowErrors) {
+                    errors.add(new CsvRowError(row.rowNum(), "", err));
+                }
+                continue;
             }
+            seenEmails.add(row.email());
+            validRows.add(row);
+        }
 
-            if (roleStr.isEmpty()) {
-                rowErrors.add("Rolle ist erforderlich");
-            } else if (!VALID_ROLES.contains(roleStr)) {
-                rowErrors.add("Ungültige Rolle: " + roleStr + " (erlaubt: PARENT, STUDENT, TEACHER, SECTION_ADMIN)");
+        // Families named in the file that do not exist yet, with the first spelling used
+        Map<String, String> newFamilies = new LinkedHashMap<>();
+        for (ImportRow row : validRows) {
+            if (!row.familyName().isEmpty() && !familyIds.containsKey(row.familyKey())) {
+                newFamilies.putIfAbsent(row.familyKey(), row.familyName());
             }
+        }
 
-            if (!familyName.isEmpty() && !familyRoleStr.isEmpty() && !VALID_FAMILY_ROLES.contains(familyRoleStr)) {
-                rowErrors.add("Ungültige Familienrolle: " + familyRoleStr + " (erlaubt: PARENT, CHILD)");
-            }
+        int processed = rows.size() - validRows.size();
+        progress.accept(processed);
+        if (dryRun) {
+            progress.accept(rows.size());
+            return new CsvImportResult(rows.size(), validRows.size(), newFamilies.size(),
+                    errors.size(), errors, previews);
+        }
 
-            if (!familyName.isEmpty() && familyRoleStr.isEmpty()) {
-                rowErrors.add("Familienrolle ist erforderlich wenn Familienname angegeben ist");
+        // Stages 2 and 3 per chunk: hash passwords in parallel, then write in one short transaction
+        int usersCreated = 0;
+        int familiesCreated = 0;
+        for (int from = 0; from < validRows.size(); from += CHUNK_SIZE) {
+            List<ImportRow> chunk = validRows.subList(from, Math.min(from + CHUNK_SIZE, validRows.size()));
+            List<String> hashes = hashRandomPasswords(chunk.size());
+
+            List<ImportedUser> users = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                ImportRow row = chunk.get(i);
+                users.add(new ImportedUser(UUID.randomUUID(), row.email(), hashes.get(i),
+                        row.firstName(), row.lastName(), UserRole.valueOf(row.role())));
             }
 
-            boolean valid = rowErrors.isEmpty();
-            String errorMsg = valid ? null : String.join("; ", rowErrors);
-
-            previews.add(new CsvRowPreview(
-                    rowNum, email, firstName + " " + lastName, roleStr,
-                    familyName, familyRoleStr, sectionSlug, valid, errorMsg));
-
-            if (!valid) {
-                for (String err : rowErrors) {
-                    errors.add(new CsvRowError(rowNum, "", err));
+            Map<UUID, String> familiesToCreate = new LinkedHashMap<>();
+            for (ImportRow row : chunk) {
+                if (!row.familyName().isEmpty() && !familyIds.containsKey(row.familyKey())) {
+                    UUID familyId = UUID.randomUUID();
+                    familyIds.put(row.familyKey(), familyId);
+                    familiesToCreate.put(familyId, newFamilies.get(row.familyKey()));
                 }
-                continue;
             }
 
-            seenEmails.add(email);
-
-            if (!dryRun) {
-                // Create user with a random password — they must reset via "force password change"
-                UserRole role = UserRole.valueOf(roleStr);
-                String randomPassword = passwordEncoder.encode(generateRandomPassword());
-                var userInfo = userModuleApi.createUser(email, randomPassword, firstName, lastName, null, role);
-                // Activate user and require password change on first login
-                userModuleApi.setActive(userInfo.id(), true);
-                userModuleApi.setForcePasswordChange(userInfo.id(), true);
-                usersCreated++;
-
-                // Handle family assignment
-                if (!familyName.isEmpty()) {
-                    String familyKey = familyName.toLowerCase().trim();
-                    UUID familyId = importedFamilies.get(familyKey);
-
-                    if (familyId == null) {
-                        // Check if family already exists in DB
-                        var existingFamily = familyModuleApi.findByNameIgnoreCase(familyName);
-                        if (existingFamily.isPresent()) {
-                            familyId = existingFamily.get().id();
-                        } else {
-                            // Create new family
-                            var newFamily = familyModuleApi.adminCreateFamily(familyName);
-                            familyId = newFamily.id();
-                            familiesCreated++;
-                        }
-                        importedFamilies.put(familyKey, familyId);
-                    }
+            Set<UUID> created = transactionTemplate.execute(status -> {
+                familyModuleApi.adminCreateFamilies(familiesToCreate);
+                Set<UUID> inserted = userModuleApi.createImportedUsers(users);
 
-                    // Add user to family
-                    try {
-                        familyModuleApi.adminAddMember(familyId, userInfo.id(), familyRoleStr.isEmpty() ? "PARENT" : familyRoleStr);
-                    } catch (Exception e) {
-                        log.warn("Failed to add user {} to family {}: {}", email, familyName, e.getMessage());
+                List<FamilyMemberAssignment> members = new ArrayList<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    ImportRow row = chunk.get(i);
+                    if (!row.familyName().isEmpty() && inserted.contains(users.get(i).id())) {
+                        members.add(new FamilyMemberAssignment(familyIds.get(row.familyKey()), users.get(i).id(),
+                                row.familyRole().isEmpty() ? "PARENT" : row.familyRole()));
                     }
                 }
-            } else {
-                // In dry-run mode, count what would happen
-                usersCreated++;
-                if (!familyName.isEmpty()) {
-                    String familyKey = familyName.toLowerCase().trim();
-                    if (!importedFamilies.containsKey(familyKey)) {
-                        var existingFamily = familyModuleApi.findByNameIgnoreCase(familyName);
-                        if (existingFamily.isEmpty()) {
-                            importedFamilies.put(familyKey, UUID.randomUUID()); // placeholder
-                            familiesCreated++;
-                        } else {
-                            importedFamilies.put(familyKey, existingFamily.get().id());
-                        }
-                    }
+                familyModuleApi.adminAddMembers(members);
+                return inserted;
+            });
+
+            // Emails registered since validation are skipped by the insert
+            for (int i = 0; i < chunk.size(); i++) {
+                if (!created.contains(users.get(i).id())) {
+                    errors.add(new CsvRowError(chunk.get(i).rowNum(), "", "E-Mail existiert bereits: " + chunk.get(i).email()));
                 }
             }
+            usersCreated += created.size();
+            familiesCreated += familiesToCreate.size();
+            processed += chunk.size();
+            progress.accept(processed);
+        }
+
+        return new CsvImportResult(rows.size(), usersCreated, familiesCreated, errors.size(), errors, previews);
+    }
+
+    private void runJob(UUID jobId, List<String[]> rows, boolean dryRun) {
+        var job = jobRepository.findById(jobId).orElseThrow();
+        job.setStatus("RUNNING");
+        jobRepository.save(job);
+
+        String result = null;
+        String errorMessage = null;
+        try {
+            var importResult = runImport(rows, dryRun, processed -> jobRepository.updateProgress(jobId, processed));
+            result = objectMapper.writeValueAsString(importResult);
+            log.info("CSV import {} finished{}: {} users, {} families, {} errors", jobId, dryRun ? " (dry run)" : "",
+                    importResult.usersCreated(), importResult.familiesCreated(), importResult.errorsCount());
+        } catch (RuntimeException e) {
+            log.error("CSV import {} failed", jobId, e);
+            errorMessage = e.getMessage() != null && e.getMessage().length() > 1000
+                    ? e.getMessage().substring(0, 1000) : e.getMessage();
         }
 
-        return new CsvImportResult(
-                rows.size(),
-                usersCreated,
-                familiesCreated,
-                errors.size(),
-                errors,
-                previews
-        );
+        job = jobRepository.findById(jobId).orElseThrow();
+        job.setStatus(result != null ? "COMPLETED" : "FAILED");
+        job.setResult(result);
+        job.setErrorMessage(errorMessage);
+        if (result != null) job.setProcessedRows(rows.size());
+        job.setFinishedAt(Instant.now());
+        jobRepository.save(job);
+    }
+
+    private List<String> validate(ImportRow row, Set<String> seenEmails, Set<String> existingEmails) {
+        List<String> rowErrors = new ArrayList<>();
+        String email = row.email();
+
+        if (email.isEmpty()) {
+            rowErrors.add("E-Mail ist erforderlich");
+        } else if (!EMAIL_PATTERN.matcher(email).matches()) {
+            rowErrors.add("Ungültiges E-Mail-Format: " + email);
+        } else if (seenEmails.contains(email)) {
+            rowErrors.add("Doppelte E-Mail in der CSV-Datei: " + email);
+        } else if (existingEmails.contains(email)) {
+            rowErrors.add("E-Mail existiert bereits: " + email);
+        }
+
+        if (row.firstName().isEmpty()) {
+            rowErrors.add("Vorname ist erforderlich");
+        }
+        if (row.lastName().isEmpty()) {
+            rowErrors.add("Nachname ist erforderlich");
+        }
+
+        if (row.role().isEmpty()) {
+            rowErrors.add("Rolle ist erforderlich");
+        } else if (!VALID_ROLES.contains(row.role())) {
+            rowErrors.add("Ungültige Rolle: " + row.role() + " (erlaubt: PARENT, STUDENT, TEACHER, SECTION_ADMIN)");
+        }
+
+        String familyName = row.familyName();
+        String familyRole = row.familyRole();
+        if (!familyName.isEmpty() && !familyRole.isEmpty() && !VALID_FAMILY_ROLES.contains(familyRole)) {
+            rowErrors.add("Ungültige Familienrolle: " + familyRole + " (erlaubt: PARENT, CHILD)");
+        }
+        if (!familyName.isEmpty() && familyRole.isEmpty()) {
+            rowErrors.add("Familienrolle ist erforderlich wenn Familienname angegeben ist");
+        }
+        return rowErrors;
+    }
+
+    /**
+     * Random passwords for imported users, who must set their own on first login.
+     */
+    private List<String> hashRandomPasswords(int count) {
+        List<Future<String>> pending = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pending.add(hashPool.submit(() -> passwordEncoder.encode(generateRandomPassword())));
+        }
+        try {
+            List<String> hashes = new ArrayList<>(count);
+            for (Future<String> hash : pending) {
+                hashes.add(hash.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.forEach(hash -> hash.cancel(true));
+            throw new IllegalStateException("CSV import interrupted", e);
+        } catch (ExecutionException e) {
+            pending.forEach(hash -> hash.cancel(true));
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private CsvImportJobInfo toJobInfo(CsvImportJob job) {
+        CsvImportResult result = null;
+        if (job.getResult() != null) {
+            try {
+                result = objectMapper.readValue(job.getResult(), CsvImportResult.class);
+            } catch (JacksonException e) {
+                throw new RuntimeException("Failed to read CSV import result", e);
+            }
+        }
+        return new CsvImportJobInfo(job.getId(), job.getStatus(), job.isDryRun(),
+                job.getTotalRows(), job.getProcessedRows(), result, job.getErrorMessage(),
+                job.getCreatedAt(), job.getFinishedAt());
     }
 
     /**
@@ -259,8 +438,27 @@ public class CsvImportService {
         return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
-    private String col(String[] cols, int index) {
+    private static String col(String[] cols, int index) {
         if (index >= cols.length) return "";
         return cols[index] != null ? cols[index] : "";
     }
+
+    private record ImportRow(int rowNum, String email, String firstName, String lastName, String role,
+                             String familyName, String familyRole, String sectionSlug) {
+
+        static ImportRow of(int rowNum, String[] cols) {
+            return new ImportRow(rowNum,
+                    col(cols, 0).trim().toLowerCase(),
+                    col(cols, 1).trim(),
+                    col(cols, 2).trim(),
+                    col(cols, 3).trim().toUpperCase(),
+                    col(cols, 4).trim(),
+                    col(cols, 5).trim().toUpperCase(),
+                    col(cols, 6).trim());
+        }
+
+        String familyKey() {
+            return familyName.toLowerCase();
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.monteweb.admin.internal.service;
+
+import com.monteweb.shared.retention.RetentionPolicy;
+import com.monteweb.shared.retention.RetentionPolicyProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * DSGVO retention of error reports: RESOLVED/IGNORED reports are purged 90 days after
+ * they were last seen, NEW/REPORTED ones after 365 days.
+ */
+@Component
+public class ErrorReportRetentionPolicies implements RetentionPolicyProvider {
+
+    @Override
+    public List<RetentionPolicy> retentionPolicies() {
+        Instant now = Instant.now();
+        return List.of(
+                RetentionPolicy.olderThan("error-reports-closed", "error_reports", "last_seen_at",
+                                now.minus(90, ChronoUnit.DAYS))
+                        .where("status IN ('RESOLVED', 'IGNORED')"),
+                RetentionPolicy.olderThan("error-reports-open", "error_reports", "last_seen_at",
+                                now.minus(365, ChronoUnit.DAYS))
+                        .where("status IN ('NEW', 'REPORTED')"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.monteweb.auth.internal.config;
 
 import com.monteweb.auth.internal.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -33,34 +34,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = extractToken(request);
 
         if (token != null) {
-            if (isImageEndpoint(request)) {
-                // Image endpoints: accept short-lived image tokens (preferred) or regular JWT
-                authenticateImageToken(request, token);
-            } else if (jwtService.validateToken(token)) {
-                authenticateWithJwt(request, token);
-            }
+            // Verified once per request; image endpoints accept image tokens (preferred) or regular JWT
+            jwtService.parseVerified(token).ifPresent(claims -> {
+                if (isImageEndpoint(request) && "image".equals(claims.get("type", String.class))) {
+                    authenticateImageToken(request, claims);
+                } else {
+                    authenticateWithJwt(request, claims);
+                }
+            });
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateImageToken(HttpServletRequest request, String token) {
-        // First try as image token, then fall back to regular JWT for backwards compatibility
-        var imageUserId = jwtService.validateImageToken(token);
-        if (imageUserId.isPresent()) {
-            var authentication = new UsernamePasswordAuthenticationToken(
-                    imageUserId.get(), null, new ArrayList<>()
-            );
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        } else if (jwtService.validateToken(token)) {
-            // Backwards compatibility: accept regular JWT (will be removed in future)
-            authenticateWithJwt(request, token);
-        }
+    private void authenticateImageToken(HttpServletRequest request, Claims claims) {
+        var authentication = new UsernamePasswordAuthenticationToken(
+                claims.getSubject(), null, new ArrayList<>()
+        );
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
-    private void authenticateWithJwt(HttpServletRequest request, String token) {
-        var claims = jwtService.extractClaims(token);
+    private void authenticateWithJwt(HttpServletRequest request, Claims claims) {
         String userId = claims.getSubject();
         String role = claims.get("role", String.class);
 
@@ -199,11 +199,7 @@ public class AuthService implements AuthModuleApi {
 
     @Override
     public java.util.Optional<TokenClaims> validateAndExtractClaims(String token) {
-        if (token == null || !jwtService.validateToken(token)) {
-            return java.util.Optional.empty();
-        }
-        var claims = jwtService.extractClaims(token);
-        return java.util.Optional.of(new TokenClaims(
+        return jwtService.parseVerified(token).map(claims -> new TokenClaims(
                 claims.getSubject(),
                 claims.get("role", String.class)
         ));
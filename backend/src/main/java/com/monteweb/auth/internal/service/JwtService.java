@@ -2,6 +2,7 @@ package com.monteweb.auth.internal.service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
@@ -11,11 +12,11 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Date;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 
 @Service
 public class JwtService {
@@ -24,11 +25,23 @@ public class JwtService {
 
     private final SecretKey key;
     private final Duration accessTokenExpiration;
+    private final JwtParser parser;
+    private final int claimsCacheSize;
+    private final Map<String, VerifiedClaims> verifiedClaims;
 
     public JwtService(@Value("${monteweb.jwt.secret}") String secret,
-                      @Value("${monteweb.jwt.access-token-expiration}") Duration accessTokenExpiration) {
+                      @Value("${monteweb.jwt.access-token-expiration}") Duration accessTokenExpiration,
+                      @Value("${monteweb.jwt.claims-cache-size:10000}") int claimsCacheSize) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpiration = accessTokenExpiration;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.claimsCacheSize = claimsCacheSize;
+        this.verifiedClaims = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedClaims> eldest) {
+                return size() > JwtService.this.claimsCacheSize;
+            }
+        };
     }
 
     public String generateAccessToken(UUID userId, String email, String role) {
@@ -60,22 +73,48 @@ public class JwtService {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Verifies the signature and expiry of a token and returns its claims, in one pass.
+     * Verified claims are kept in a bounded LRU keyed by the token's SHA-256 digest until
+     * the token expires, so repeated requests with the same token skip the HMAC check
+     * and JSON parse. Invalid tokens are never cached.
+     */
+    public Optional<Claims> parseVerified(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String digest = claimsCacheSize > 0 ? digest(token) : null;
+        if (digest != null) {
+            synchronized (verifiedClaims) {
+                var cached = verifiedClaims.get(digest);
+                if (cached != null) {
+                    if (cached.expiresAtMillis() > System.currentTimeMillis()) {
+                        return Optional.of(cached.claims());
+                    }
+                    verifiedClaims.remove(digest);
+                }
+            }
+        }
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            var claims = parser.parseSignedClaims(token).getPayload();
+            if (digest != null && claims.getExpiration() != null) {
+                synchronized (verifiedClaims) {
+                    verifiedClaims.put(digest, new VerifiedClaims(claims, claims.getExpiration().getTime()));
+                }
+            }
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException e) {
             log.debug("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return parseVerified(token).isPresent();
+    }
+
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parseVerified(token).orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     public UUID extractUserId(String token) {
@@ -104,17 +143,9 @@ public class JwtService {
     /**
      * Validates a 2FA temp token and returns claims if valid.
      */
-    public java.util.Optional<Claims> validateTempToken(String token) {
-        try {
-            var claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-            if (!"2fa_temp".equals(claims.get("type", String.class))) {
-                return java.util.Optional.empty();
-            }
-            return java.util.Optional.of(claims);
-        } catch (JwtException | IllegalArgumentException e) {
-            log.debug("Invalid temp token: {}", e.getMessage());
-            return java.util.Optional.empty();
-        }
+    public Optional<Claims> validateTempToken(String token) {
+        return parseVerified(token)
+                .filter(claims -> "2fa_temp".equals(claims.get("type", String.class)));
     }
 
     /**
@@ -135,16 +166,21 @@ public class JwtService {
     /**
      * Validates a short-lived image token and returns the user ID if valid.
      */
-    public java.util.Optional<String> validateImageToken(String token) {
+    public Optional<String> validateImageToken(String token) {
+        return parseVerified(token)
+                .filter(claims -> "image".equals(claims.get("type", String.class)))
+                .map(Claims::getSubject);
+    }
+
+    private static String digest(String token) {
         try {
-            var claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-            if (!"image".equals(claims.get("type", String.class))) {
-                return java.util.Optional.empty();
-            }
-            return java.util.Optional.of(claims.getSubject());
-        } catch (JwtException | IllegalArgumentException e) {
-            log.debug("Invalid image token: {}", e.getMessage());
-            return java.util.Optional.empty();
+            var hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
+
+    private record VerifiedClaims(Claims claims, long expiresAtMillis) {
+    }
 }
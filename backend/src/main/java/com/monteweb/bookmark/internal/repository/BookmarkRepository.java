@@ -4,8 +4,11 @@ import com.monteweb.bookmark.internal.model.Bookmark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,4 +31,8 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, UUID> {
     void deleteByContentTypeAndContentId(String contentType, UUID contentId);
 
     void deleteByUserId(UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM Bookmark b WHERE b.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
@@ -76,6 +76,12 @@ public class BookmarkService implements BookmarkModuleApi {
         log.info("Cleaned up bookmarks for deleted user {}", userId);
     }
 
+    @Transactional
+    public void cleanupUserData(Collection<UUID> userIds) {
+        int deleted = bookmarkRepository.deleteByUserIdIn(userIds);
+        log.info("Cleaned up {} bookmarks for {} deleted users", deleted, userIds.size());
+    }
+
     private void validateContentType(String contentType) {
         if (!VALID_TYPES.contains(contentType)) {
             throw new IllegalArgumentException("Invalid content type: " + contentType + ". Must be one of: " + VALID_TYPES);
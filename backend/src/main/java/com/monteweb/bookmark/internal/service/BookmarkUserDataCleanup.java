@@ -1,34 +1,39 @@
 package com.monteweb.bookmark.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up bookmark data when a user account is deleted.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.bookmarks", name = "enabled", havingValue = "true")
-public class BookmarkDeletionListener {
+public class BookmarkUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(BookmarkDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(BookmarkUserDataCleanup.class);
 
     private final BookmarkService bookmarkService;
 
-    public BookmarkDeletionListener(BookmarkService bookmarkService) {
+    public BookmarkUserDataCleanup(BookmarkService bookmarkService) {
         this.bookmarkService = bookmarkService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "bookmarks";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up bookmarks for deleted user {}", event.userId());
-        bookmarkService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up bookmarks for {} deleted users", userIds.size());
+        bookmarkService.cleanupUserData(userIds);
     }
 }
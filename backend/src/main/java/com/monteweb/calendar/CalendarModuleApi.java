@@ -1,6 +1,7 @@
 package com.monteweb.calendar;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,6 +21,17 @@ public interface CalendarModuleApi {
 
     Optional<EventInfo> findById(UUID eventId);
 
+    /**
+     * Bulk variant of {@link #findById}; creators, scope names, RSVP and job counts are
+     * resolved with one query each. Unknown IDs are absent from the map.
+     */
+    Map<UUID, EventInfo> findByIds(Collection<UUID> eventIds);
+
+    /**
+     * Event titles only. Unknown IDs are absent from the map.
+     */
+    Map<UUID, String> findTitlesByIds(Collection<UUID> eventIds);
+
     /**
      * Returns events where any of the given user IDs has an RSVP with status ATTENDING or MAYBE.
      * Used by the family calendar to show events for all family members.
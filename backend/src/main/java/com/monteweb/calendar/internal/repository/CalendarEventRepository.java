@@ -2,6 +2,7 @@ package com.monteweb.calendar.internal.repository;
 
 import com.monteweb.calendar.EventScope;
 import com.monteweb.calendar.internal.model.CalendarEvent;
+import com.monteweb.shared.dto.NamedRef;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -68,6 +70,9 @@ public interface CalendarEventRepository extends JpaRepository<CalendarEvent, UU
             @Param("to") LocalDate to,
             Pageable pageable);
 
+    @Query("SELECT new com.monteweb.shared.dto.NamedRef(e.id, e.title) FROM CalendarEvent e WHERE e.id IN :ids")
+    List<NamedRef> findTitlesByIdIn(@Param("ids") Collection<UUID> ids);
+
     @Query("""
             SELECT e FROM CalendarEvent e
             WHERE e.id IN :eventIds
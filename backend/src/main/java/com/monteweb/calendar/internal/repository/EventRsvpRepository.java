@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +18,12 @@ public interface EventRsvpRepository extends JpaRepository<EventRsvp, UUID> {
 
     long countByEventIdAndStatus(UUID eventId, RsvpStatus status);
 
+    @Query("SELECT new com.monteweb.calendar.internal.repository.RsvpCount(r.eventId, r.status, COUNT(r)) " +
+            "FROM EventRsvp r WHERE r.eventId IN :eventIds GROUP BY r.eventId, r.status")
+    List<RsvpCount> countByEventIdInGroupByStatus(@Param("eventIds") Collection<UUID> eventIds);
+
+    List<EventRsvp> findByEventIdInAndUserId(Collection<UUID> eventIds, UUID userId);
+
     @Query("SELECT DISTINCT r.eventId FROM EventRsvp r WHERE r.userId IN :userIds AND r.status IN ('ATTENDING', 'MAYBE')")
     List<UUID> findEventIdsByUserIdsAndAccepted(@Param("userIds") List<UUID> userIds);
 
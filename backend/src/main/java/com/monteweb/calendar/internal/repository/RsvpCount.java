@@ -0,0 +1,11 @@
+package com.monteweb.calendar.internal.repository;
+
+import com.monteweb.calendar.RsvpStatus;
+
+import java.util.UUID;
+
+/**
+ * Number of RSVPs with one status for one event.
+ */
+public record RsvpCount(UUID eventId, RsvpStatus status, Long count) {
+}
@@ -9,6 +9,7 @@ import com.monteweb.jobboard.JobboardModuleApi;
 import com.monteweb.room.RoomModuleApi;
 import com.monteweb.room.RoomRole;
 import com.monteweb.school.SchoolModuleApi;
+import com.monteweb.shared.dto.NamedRef;
 import com.monteweb.user.UserModuleApi;
 import com.monteweb.user.UserRole;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,10 +22,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -68,16 +75,18 @@ public class CalendarService implements CalendarModuleApi {
         if (roomIds.isEmpty()) roomIds = List.of(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         if (sectionIds.isEmpty()) sectionIds = List.of(UUID.fromString("00000000-0000-0000-0000-000000000000"));
 
-        return eventRepository.findPersonalEvents(roomIds, sectionIds, from, to, pageable)
-                .map(e -> toEventInfo(e, userId));
+        var page = eventRepository.findPersonalEvents(roomIds, sectionIds, from, to, pageable);
+        var infos = toEventInfos(page.getContent(), userId).iterator();
+        return page.map(e -> infos.next());
     }
 
     public Page<EventInfo> getRoomEvents(UUID roomId, UUID userId, LocalDate from, LocalDate to, Pageable pageable) {
         if (!isSuperAdmin(userId) && !roomModule.isUserInRoom(userId, roomId)) {
             throw new IllegalArgumentException("User is not a member of this room");
         }
-        return eventRepository.findByRoomId(roomId, from, to, pageable)
-                .map(e -> toEventInfo(e, userId));
+        var page = eventRepository.findByRoomId(roomId, from, to, pageable);
+        var infos = toEventInfos(page.getContent(), userId).iterator();
+        return page.map(e -> infos.next());
     }
 
     public EventInfo getEvent(UUID eventId, UUID userId) {
@@ -207,22 +216,19 @@ public class CalendarService implements CalendarModuleApi {
     @Override
     @Transactional(readOnly = true)
     public List<EventInfo> getUpcomingEventsForRoom(UUID roomId, LocalDate from, LocalDate to) {
-        return eventRepository.findByScopeAndScopeIdAndDateRange(EventScope.ROOM, roomId, from, to)
-                .stream().map(e -> toEventInfo(e, null)).toList();
+        return toEventInfos(eventRepository.findByScopeAndScopeIdAndDateRange(EventScope.ROOM, roomId, from, to), null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<EventInfo> getUpcomingEventsForSection(UUID sectionId, LocalDate from, LocalDate to) {
-        return eventRepository.findByScopeAndScopeIdAndDateRange(EventScope.SECTION, sectionId, from, to)
-                .stream().map(e -> toEventInfo(e, null)).toList();
+        return toEventInfos(eventRepository.findByScopeAndScopeIdAndDateRange(EventScope.SECTION, sectionId, from, to), null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<EventInfo> getUpcomingEventsForSchool(LocalDate from, LocalDate to) {
-        return eventRepository.findSchoolEvents(from, to)
-                .stream().map(e -> toEventInfo(e, null)).toList();
+        return toEventInfos(eventRepository.findSchoolEvents(from, to), null);
     }
 
     @Override
@@ -232,6 +238,29 @@ public class CalendarService implements CalendarModuleApi {
                 .map(e -> toEventInfo(e, null));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, EventInfo> findByIds(Collection<UUID> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return Map.of();
+        }
+        var events = eventRepository.findAllById(eventIds);
+        var result = new HashMap<UUID, EventInfo>();
+        for (var info : toEventInfos(events, null)) {
+            result.put(info.id(), info);
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, String> findTitlesByIds(Collection<UUID> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return Map.of();
+        }
+        return NamedRef.toMap(eventRepository.findTitlesByIdIn(eventIds));
+    }
+
     @Transactional
     public EventInfo generateJitsiRoom(UUID eventId, UUID userId) {
         var event = eventRepository.findById(eventId)
@@ -294,8 +323,7 @@ public class CalendarService implements CalendarModuleApi {
         if (eventIds.isEmpty()) {
             return List.of();
         }
-        return eventRepository.findByIdsAndDateRange(eventIds, from, to)
-                .stream().map(e -> toEventInfo(e, null)).toList();
+        return toEventInfos(eventRepository.findByIdsAndDateRange(eventIds, from, to), null);
     }
 
     private boolean isSuperAdmin(UUID userId) {
@@ -342,26 +370,30 @@ public class CalendarService implements CalendarModuleApi {
     }
 
     private EventInfo toEventInfo(CalendarEvent event, UUID currentUserId) {
-        var creator = userModule.findById(event.getCreatedBy()).orElse(null);
-        String creatorName = creator != null ? creator.displayName() : "Unknown";
+        return mapEvent(event, loadLookups(List.of(event), currentUserId));
+    }
 
-        String scopeName = resolveScopeName(event.getScope(), event.getScopeId());
+    private List<EventInfo> toEventInfos(List<CalendarEvent> events, UUID currentUserId) {
+        var lookups = loadLookups(events, currentUserId);
+        return events.stream().map(e -> mapEvent(e, lookups)).toList();
+    }
 
-        int attendingCount = (int) rsvpRepository.countByEventIdAndStatus(event.getId(), RsvpStatus.ATTENDING);
-        int maybeCount = (int) rsvpRepository.countByEventIdAndStatus(event.getId(), RsvpStatus.MAYBE);
-        int declinedCount = (int) rsvpRepository.countByEventIdAndStatus(event.getId(), RsvpStatus.DECLINED);
+    private EventInfo mapEvent(CalendarEvent event, EventLookups lookups) {
+        String creatorName = lookups.creatorNames().getOrDefault(event.getCreatedBy(), "Unknown");
 
-        RsvpStatus currentUserRsvp = null;
-        if (currentUserId != null) {
-            currentUserRsvp = rsvpRepository.findByEventIdAndUserId(event.getId(), currentUserId)
-                    .map(EventRsvp::getStatus)
-                    .orElse(null);
-        }
+        String scopeName = event.getScopeId() == null ? null : switch (event.getScope()) {
+            case ROOM -> lookups.roomNames().get(event.getScopeId());
+            case SECTION -> lookups.sectionNames().get(event.getScopeId());
+            case SCHOOL -> null;
+        };
 
-        int linkedJobCount = 0;
-        if (jobboardModuleApi != null) {
-            linkedJobCount = jobboardModuleApi.countJobsForEvent(event.getId());
-        }
+        var rsvpCounts = lookups.rsvpCounts().getOrDefault(event.getId(), Map.of());
+        int attendingCount = rsvpCounts.getOrDefault(RsvpStatus.ATTENDING, 0L).intValue();
+        int maybeCount = rsvpCounts.getOrDefault(RsvpStatus.MAYBE, 0L).intValue();
+        int declinedCount = rsvpCounts.getOrDefault(RsvpStatus.DECLINED, 0L).intValue();
+
+        RsvpStatus currentUserRsvp = lookups.currentUserRsvps().get(event.getId());
+        int linkedJobCount = lookups.linkedJobCounts().getOrDefault(event.getId(), 0);
 
         return new EventInfo(
                 event.getId(),
@@ -394,13 +426,66 @@ public class CalendarService implements CalendarModuleApi {
         );
     }
 
-    private String resolveScopeName(EventScope scope, UUID scopeId) {
-        if (scopeId == null) return null;
-        return switch (scope) {
-            case ROOM -> roomModule.findById(scopeId).map(r -> r.name()).orElse(null);
-            case SECTION -> schoolModule.findById(scopeId).map(s -> s.name()).orElse(null);
-            case SCHOOL -> null;
-        };
+    /**
+     * Everything {@link EventInfo} needs beyond the event row, loaded with one query per
+     * kind for the whole list instead of per event.
+     */
+    private EventLookups loadLookups(List<CalendarEvent> events, UUID currentUserId) {
+        if (events.isEmpty()) {
+            return new EventLookups(Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+        }
+        var eventIds = events.stream().map(CalendarEvent::getId).toList();
+
+        var creatorIds = events.stream().map(CalendarEvent::getCreatedBy)
+                .filter(Objects::nonNull).distinct().toList();
+        var creatorNames = new HashMap<UUID, String>();
+        if (!creatorIds.isEmpty()) {
+            for (var user : userModule.findByIds(creatorIds)) {
+                creatorNames.put(user.id(), user.displayName());
+            }
+        }
+
+        var roomIds = scopeIds(events, EventScope.ROOM);
+        var sectionIds = scopeIds(events, EventScope.SECTION);
+
+        var rsvpCounts = new HashMap<UUID, Map<RsvpStatus, Long>>();
+        for (var row : rsvpRepository.countByEventIdInGroupByStatus(eventIds)) {
+            rsvpCounts.computeIfAbsent(row.eventId(), id -> new EnumMap<>(RsvpStatus.class))
+                    .put(row.status(), row.count());
+        }
+
+        var currentUserRsvps = new HashMap<UUID, RsvpStatus>();
+        if (currentUserId != null) {
+            for (var rsvp : rsvpRepository.findByEventIdInAndUserId(eventIds, currentUserId)) {
+                currentUserRsvps.put(rsvp.getEventId(), rsvp.getStatus());
+            }
+        }
+
+        return new EventLookups(
+                creatorNames,
+                roomIds.isEmpty() ? Map.of() : roomModule.findNamesByIds(roomIds),
+                sectionIds.isEmpty() ? Map.of() : schoolModule.findNamesByIds(sectionIds),
+                rsvpCounts,
+                currentUserRsvps,
+                jobboardModuleApi != null ? jobboardModuleApi.countJobsForEvents(eventIds) : Map.of()
+        );
+    }
+
+    private static Set<UUID> scopeIds(List<CalendarEvent> events, EventScope scope) {
+        return events.stream()
+                .filter(e -> e.getScope() == scope && e.getScopeId() != null)
+                .map(CalendarEvent::getScopeId)
+                .collect(Collectors.toSet());
+    }
+
+    private record EventLookups(
+            Map<UUID, String> creatorNames,
+            Map<UUID, String> roomNames,
+            Map<UUID, String> sectionNames,
+            Map<UUID, Map<RsvpStatus, Long>> rsvpCounts,
+            Map<UUID, RsvpStatus> currentUserRsvps,
+            Map<UUID, Integer> linkedJobCounts
+    ) {
     }
 
     /**
@@ -420,9 +505,7 @@ public class CalendarService implements CalendarModuleApi {
 
     @Override
     public List<EventInfo> searchEvents(String query, int limit) {
-        return eventRepository.searchEvents(query, Pageable.ofSize(limit)).stream()
-                .map(e -> toEventInfo(e, null))
-                .toList();
+        return toEventInfos(eventRepository.searchEvents(query, Pageable.ofSize(limit)), null);
     }
 
     /**
@@ -1,35 +1,40 @@
 package com.monteweb.calendar.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up calendar data when a user account is deleted.
  * Anonymizes events (nullifies created_by), deletes RSVPs.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.calendar", name = "enabled", havingValue = "true")
-public class CalendarDeletionListener {
+public class CalendarUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(CalendarDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(CalendarUserDataCleanup.class);
 
     private final CalendarService calendarService;
 
-    public CalendarDeletionListener(CalendarService calendarService) {
+    public CalendarUserDataCleanup(CalendarService calendarService) {
         this.calendarService = calendarService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "calendar";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up calendar data for deleted user {}", event.userId());
-        calendarService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up calendar data for {} deleted users", userIds.size());
+        userIds.forEach(calendarService::cleanupUserData);
     }
 }
@@ -26,6 +26,12 @@ public interface CleaningModuleApi {
      */
     BigDecimal getCleaningHoursForFamilyInRange(UUID familyId, LocalDate from, LocalDate to);
 
+    /**
+     * Returns cleaning hours of all families within a date range, in one query.
+     * Families without checked-out registrations are absent from the map.
+     */
+    Map<UUID, BigDecimal> getCleaningHoursPerFamilyInRange(LocalDate from, LocalDate to);
+
     /**
      * Links a job ID back to a cleaning config (called by jobboard after creating the job).
      */
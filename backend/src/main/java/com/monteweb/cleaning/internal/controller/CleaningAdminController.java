@@ -18,6 +18,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -137,7 +138,7 @@ public class CleaningAdminController {
     // ── QR Code PDF Export ──────────────────────────────────────────────
 
     @GetMapping(value = "/configs/{id}/qr-codes", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<byte[]> exportQrCodesPdf(
+    public ResponseEntity<StreamingResponseBody> exportQrCodesPdf(
             @PathVariable UUID id,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
@@ -152,13 +153,11 @@ public class CleaningAdminController {
                         s.qrToken() != null ? s.qrToken() : "N/A"))
                 .toList();
 
-        byte[] pdf = pdfService.generateCleaningQrCodes(config.title(), entries);
-
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "attachment; filename=\"qr-codes-" + config.title() + ".pdf\"")
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(pdf);
+                .body(out -> pdfService.generateCleaningQrCodes(config.title(), entries, out));
     }
 
     // ── Dashboard ───────────────────────────────────────────────────────
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +18,8 @@ public interface CleaningRegistrationRepository extends JpaRepository<CleaningRe
 
     List<CleaningRegistration> findBySlotId(UUID slotId);
 
+    List<CleaningRegistration> findBySlotIdIn(Collection<UUID> slotIds);
+
     List<CleaningRegistration> findByUserId(UUID userId);
 
     Optional<CleaningRegistration> findBySlotIdAndUserId(UUID slotId, UUID userId);
@@ -25,15 +28,17 @@ public interface CleaningRegistrationRepository extends JpaRepository<CleaningRe
 
     long countBySlotId(UUID slotId);
 
-    @Query("SELECT r FROM CleaningRegistration r JOIN CleaningSlot s ON r.slotId = s.id " +
-            "WHERE r.userId = :userId AND s.slotDate >= :fromDate AND s.cancelled = false " +
-            "ORDER BY s.slotDate ASC")
-    List<CleaningRegistration> findUpcomingByUserId(@Param("userId") UUID userId,
-                                                     @Param("fromDate") LocalDate fromDate);
-
     @Query("SELECT r FROM CleaningRegistration r WHERE r.slotId = :slotId AND r.swapOffered = true")
     List<CleaningRegistration> findSwapOffersForSlot(@Param("slotId") UUID slotId);
 
+    @Query("SELECT new com.monteweb.cleaning.internal.repository.FamilyCleaningMinutes(r.familyId, COALESCE(SUM(r.actualMinutes), 0L)) " +
+            "FROM CleaningRegistration r JOIN CleaningSlot s ON r.slotId = s.id " +
+            "WHERE r.familyId IS NOT NULL AND r.checkedOut = true " +
+            "AND s.slotDate BETWEEN :from AND :to " +
+            "GROUP BY r.familyId")
+    List<FamilyCleaningMinutes> sumActualMinutesPerFamilyInRange(@Param("from") LocalDate from,
+                                                                 @Param("to") LocalDate to);
+
     @Query("SELECT COUNT(r) FROM CleaningRegistration r JOIN CleaningSlot s ON r.slotId = s.id " +
             "WHERE r.familyId = :familyId AND r.checkedOut = true " +
             "AND s.slotDate BETWEEN :from AND :to")
@@ -0,0 +1,19 @@
+package com.monteweb.cleaning.internal.repository;
+
+import com.monteweb.cleaning.internal.model.CleaningSlot;
+
+import java.util.List;
+
+/**
+ * Set-based slot writes that bypass the per-entity persist path.
+ */
+public interface CleaningSlotBulkRepository {
+
+    /**
+     * Inserts the slots, whose IDs and QR tokens are already set, as a single JDBC batch.
+     * Slots whose config already has a slot on that date are skipped.
+     *
+     * @return the slots actually inserted, in input order
+     */
+    List<CleaningSlot> insertIgnoringDuplicates(List<CleaningSlot> slots);
+}
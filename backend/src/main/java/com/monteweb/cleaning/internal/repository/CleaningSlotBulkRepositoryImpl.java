@@ -0,0 +1,67 @@
+package com.monteweb.cleaning.internal.repository;
+
+import com.monteweb.cleaning.internal.model.CleaningSlot;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+class CleaningSlotBulkRepositoryImpl implements CleaningSlotBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO cleaning_slots (id, config_id, section_id, slot_date, start_time, end_time,
+                                        min_participants, max_participants, status, cancelled, qr_token,
+                                        created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?, ?)
+            ON CONFLICT (config_id, slot_date) DO NOTHING
+            """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    CleaningSlotBulkRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<CleaningSlot> insertIgnoringDuplicates(List<CleaningSlot> slots) {
+        if (slots.isEmpty()) return List.of();
+
+        // The config row may still be pending in the persistence context
+        entityManager.flush();
+
+        Instant now = Instant.now();
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, slots, BATCH_SIZE, (ps, slot) -> {
+            slot.setCreatedAt(now);
+            slot.setUpdatedAt(now);
+            ps.setObject(1, slot.getId());
+            ps.setObject(2, slot.getConfigId());
+            ps.setObject(3, slot.getSectionId());
+            ps.setObject(4, slot.getSlotDate());
+            ps.setObject(5, slot.getStartTime());
+            ps.setObject(6, slot.getEndTime());
+            ps.setInt(7, slot.getMinParticipants());
+            ps.setInt(8, slot.getMaxParticipants());
+            ps.setString(9, slot.getStatus());
+            ps.setString(10, slot.getQrToken());
+            ps.setTimestamp(11, Timestamp.from(now));
+            ps.setTimestamp(12, Timestamp.from(now));
+        });
+
+        var inserted = new ArrayList<CleaningSlot>(slots.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0) inserted.add(slots.get(index));
+                index++;
+            }
+        }
+        return inserted;
+    }
+}
@@ -9,11 +9,13 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface CleaningSlotRepository extends JpaRepository<CleaningSlot, UUID> {
+public interface CleaningSlotRepository extends JpaRepository<CleaningSlot, UUID>,
+        CleaningSlotBulkRepository {
 
     @Query("SELECT s FROM CleaningSlot s WHERE s.sectionId = :sectionId AND s.slotDate >= :fromDate " +
             "AND s.cancelled = false ORDER BY s.slotDate ASC, s.startTime ASC")
@@ -38,6 +40,19 @@ public interface CleaningSlotRepository extends JpaRepository<CleaningSlot, UUID
 
     List<CleaningSlot> findByConfigIdAndSlotDateBetween(UUID configId, LocalDate from, LocalDate to);
 
+    @Query("SELECT s FROM CleaningSlot s JOIN CleaningRegistration r ON r.slotId = s.id " +
+            "WHERE r.userId = :userId AND s.slotDate >= :fromDate AND s.cancelled = false " +
+            "ORDER BY s.slotDate ASC")
+    List<CleaningSlot> findUpcomingByRegisteredUserId(@Param("userId") UUID userId,
+                                                      @Param("fromDate") LocalDate fromDate);
+
+    /**
+     * Date of the latest slot of each given config; configs without slots are absent.
+     */
+    @Query("SELECT new com.monteweb.cleaning.internal.repository.ConfigLastSlotDate(s.configId, MAX(s.slotDate)) " +
+            "FROM CleaningSlot s WHERE s.configId IN :configIds GROUP BY s.configId")
+    List<ConfigLastSlotDate> findLastSlotDates(@Param("configIds") Collection<UUID> configIds);
+
     @Query("SELECT s FROM CleaningSlot s WHERE s.slotDate = :date AND s.status = 'OPEN' " +
             "AND s.cancelled = false AND " +
             "(SELECT COUNT(r) FROM CleaningRegistration r WHERE r.slotId = s.id) < s.minParticipants")
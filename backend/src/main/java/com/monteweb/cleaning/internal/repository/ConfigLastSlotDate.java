@@ -0,0 +1,10 @@
+package com.monteweb.cleaning.internal.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Date of the latest generated slot of one cleaning config.
+ */
+public record ConfigLastSlotDate(UUID configId, LocalDate lastSlotDate) {
+}
@@ -0,0 +1,9 @@
+package com.monteweb.cleaning.internal.repository;
+
+import java.util.UUID;
+
+/**
+ * Checked-out cleaning minutes of one family; 0 when none of them has recorded minutes.
+ */
+public record FamilyCleaningMinutes(UUID familyId, Long minutes) {
+}
@@ -34,9 +34,13 @@ import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.Period;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -163,23 +167,17 @@ public class CleaningService implements CleaningModuleApi {
 
     @Transactional(readOnly = true)
     public List<CleaningConfigInfo> getConfigsBySection(UUID sectionId) {
-        return configRepository.findBySectionId(sectionId).stream()
-                .map(this::toConfigInfo)
-                .toList();
+        return toConfigInfos(configRepository.findBySectionId(sectionId));
     }
 
     @Transactional(readOnly = true)
     public List<CleaningConfigInfo> getAllActiveConfigs() {
-        return configRepository.findByActiveTrue().stream()
-                .map(this::toConfigInfo)
-                .toList();
+        return toConfigInfos(configRepository.findByActiveTrue());
     }
 
     @Transactional(readOnly = true)
     public List<CleaningConfigInfo> getConfigsByRoom(UUID roomId) {
-        return configRepository.findByRoomId(roomId).stream()
-                .map(this::toConfigInfo)
-                .toList();
+        return toConfigInfos(configRepository.findByRoomId(roomId));
     }
 
     // ── Slot Generation ─────────────────────────────────────────────────
@@ -197,58 +195,50 @@ public class CleaningService implements CleaningModuleApi {
             throw new BusinessException("Cannot generate slots for inactive config");
         }
 
-        // Find existing slots to avoid duplicates
-        List<CleaningSlot> existing = slotRepository.findByConfigIdAndSlotDateBetween(configId, from, to);
-        var existingDates = existing.stream()
-                .map(CleaningSlot::getSlotDate)
-                .collect(Collectors.toSet());
+        List<CleaningSlot> inserted = insertSlots(config, slotDates(config, from, to));
+        if (inserted.isEmpty()) return List.of();
 
-        List<CleaningSlot> generated = new ArrayList<>();
+        // New slots have no registrations yet
+        String sectionName = getSectionName(config.getSectionId());
+        return inserted.stream()
+                .map(s -> buildSlotInfo(s, sectionName, config.getTitle(), config.getJobId(), List.of()))
+                .toList();
+    }
 
+    /**
+     * Dates in the range on which the config takes place: the specific date of a one-time
+     * cleaning action, or every matching weekday of a recurring one.
+     */
+    private List<LocalDate> slotDates(CleaningConfig config, LocalDate from, LocalDate to) {
         if (config.getSpecificDate() != null) {
-            // One-time cleaning action: generate exactly one slot for the specific date
             LocalDate target = config.getSpecificDate();
-            if (!target.isBefore(from) && !target.isAfter(to) && !existingDates.contains(target)) {
-                CleaningSlot slot = new CleaningSlot();
-                slot.setConfigId(configId);
-                slot.setSectionId(config.getSectionId());
-                slot.setSlotDate(target);
-                slot.setStartTime(config.getStartTime());
-                slot.setEndTime(config.getEndTime());
-                slot.setMinParticipants(config.getMinParticipants());
-                slot.setMaxParticipants(config.getMaxParticipants());
-                slot.setQrToken(qrTokenService.generateToken(UUID.randomUUID()));
-                generated.add(slot);
-            }
-        } else {
-            // Recurring: iterate by day-of-week
-            DayOfWeek targetDay = DayOfWeek.of(config.getDayOfWeek());
-            LocalDate current = from;
-            while (!current.isAfter(to)) {
-                if (current.getDayOfWeek() == targetDay && !existingDates.contains(current)) {
-                    CleaningSlot slot = new CleaningSlot();
-                    slot.setConfigId(configId);
-                    slot.setSectionId(config.getSectionId());
-                    slot.setSlotDate(current);
-                    slot.setStartTime(config.getStartTime());
-                    slot.setEndTime(config.getEndTime());
-                    slot.setMinParticipants(config.getMinParticipants());
-                    slot.setMaxParticipants(config.getMaxParticipants());
-                    slot.setQrToken(qrTokenService.generateToken(slot.getId() != null ? slot.getId() : UUID.randomUUID()));
-                    generated.add(slot);
-                }
-                current = current.plusDays(1);
-            }
+            return !target.isBefore(from) && !target.isAfter(to) ? List.of(target) : List.of();
         }
+        LocalDate first = from.with(TemporalAdjusters.nextOrSame(DayOfWeek.of(config.getDayOfWeek())));
+        if (first.isAfter(to)) return List.of();
+        return first.datesUntil(to.plusDays(1), Period.ofWeeks(1)).toList();
+    }
 
-        List<CleaningSlot> saved = slotRepository.saveAll(generated);
-        // Regenerate QR tokens with actual IDs
-        for (CleaningSlot slot : saved) {
+    /**
+     * Inserts one slot per date in a single batch. IDs are assigned here so the QR tokens
+     * can be signed before the insert; dates that already have a slot are skipped.
+     */
+    private List<CleaningSlot> insertSlots(CleaningConfig config, List<LocalDate> dates) {
+        List<CleaningSlot> slots = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            CleaningSlot slot = new CleaningSlot();
+            slot.setId(UUID.randomUUID());
+            slot.setConfigId(config.getId());
+            slot.setSectionId(config.getSectionId());
+            slot.setSlotDate(date);
+            slot.setStartTime(config.getStartTime());
+            slot.setEndTime(config.getEndTime());
+            slot.setMinParticipants(config.getMinParticipants());
+            slot.setMaxParticipants(config.getMaxParticipants());
             slot.setQrToken(qrTokenService.generateToken(slot.getId()));
+            slots.add(slot);
         }
-        slotRepository.saveAll(saved);
-
-        return saved.stream().map(s -> toSlotInfo(s, config.getTitle())).toList();
+        return slotRepository.insertIgnoringDuplicates(slots);
     }
 
     /**
@@ -272,26 +262,37 @@ public class CleaningService implements CleaningModuleApi {
 
     /**
      * Scheduled task: auto-generates cleaning slots for all active recurring configs.
-     * Runs daily at 2:00 AM. Generates slots for the next 3 months.
+     * Runs daily at 2:00 AM and keeps a 3-month horizon filled. Only the window after
+     * each config's latest slot is generated, so a night usually adds one week per config.
      */
     @Transactional
     @Scheduled(cron = "0 0 2 * * *")
     public void autoGenerateRecurringSlots() {
-        List<CleaningConfig> activeConfigs = configRepository.findByActiveTrue();
-        LocalDate from = LocalDate.now();
-        LocalDate to = from.plusMonths(3);
+        List<CleaningConfig> recurringConfigs = configRepository.findByActiveTrue().stream()
+                .filter(c -> c.getSpecificDate() == null)
+                .toList();
+        if (recurringConfigs.isEmpty()) return;
+
+        Map<UUID, LocalDate> lastSlotDates = new HashMap<>();
+        for (var row : slotRepository.findLastSlotDates(recurringConfigs.stream().map(CleaningConfig::getId).toList())) {
+            lastSlotDates.put(row.configId(), row.lastSlotDate());
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate to = today.plusMonths(3);
         int totalGenerated = 0;
-        for (CleaningConfig config : activeConfigs) {
-            if (config.getSpecificDate() != null) continue; // skip one-time
+        for (CleaningConfig config : recurringConfigs) {
+            LocalDate last = lastSlotDates.get(config.getId());
+            LocalDate from = last != null && !last.isBefore(today) ? last.plusDays(1) : today;
+            if (from.isAfter(to)) continue;
             try {
-                List<CleaningSlotInfo> slots = generateSlots(config.getId(), from, to);
-                totalGenerated += slots.size();
+                totalGenerated += insertSlots(config, slotDates(config, from, to)).size();
             } catch (Exception e) {
                 log.warn("Failed to auto-generate slots for config {}: {}", config.getId(), e.getMessage());
             }
         }
         if (totalGenerated > 0) {
-            log.info("Auto-generated {} cleaning slots for {} active configs", totalGenerated, activeConfigs.size());
+            log.info("Auto-generated {} cleaning slots for {} active configs", totalGenerated, recurringConfigs.size());
         }
     }
 
@@ -302,13 +303,14 @@ public class CleaningService implements CleaningModuleApi {
     public List<CleaningSlotInfo> getUpcomingSlotsForSection(UUID sectionId, int limit) {
         List<CleaningSlot> slots = slotRepository.findUpcomingBySectionId(
                 sectionId, LocalDate.now(), PageRequest.of(0, limit));
-        return slots.stream().map(s -> toSlotInfo(s, getConfigTitle(s.getConfigId()))).toList();
+        return toSlotInfos(slots);
     }
 
     @Transactional(readOnly = true)
     public Page<CleaningSlotInfo> getUpcomingSlots(Pageable pageable) {
-        return slotRepository.findUpcoming(LocalDate.now(), pageable)
-                .map(s -> toSlotInfo(s, getConfigTitle(s.getConfigId())));
+        Page<CleaningSlot> page = slotRepository.findUpcoming(LocalDate.now(), pageable);
+        var infos = toSlotInfos(page.getContent()).iterator();
+        return page.map(s -> infos.next());
     }
 
     @Transactional(readOnly = true)
@@ -320,22 +322,13 @@ public class CleaningService implements CleaningModuleApi {
 
     @Transactional(readOnly = true)
     public List<CleaningSlotInfo> getMySlots(UUID userId) {
-        List<CleaningRegistration> registrations = registrationRepository.findUpcomingByUserId(userId, LocalDate.now());
-        return registrations.stream()
-                .map(r -> {
-                    CleaningSlot slot = slotRepository.findById(r.getSlotId()).orElse(null);
-                    return slot != null ? toSlotInfo(slot, getConfigTitle(slot.getConfigId())) : null;
-                })
-                .filter(s -> s != null)
-                .toList();
+        return toSlotInfos(slotRepository.findUpcomingByRegisteredUserId(userId, LocalDate.now()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CleaningSlotInfo> getSlotsNeedingParticipants(LocalDate from, LocalDate to) {
-        return slotRepository.findSlotsNeedingParticipantsInRange(from, to).stream()
-                .map(s -> toSlotInfo(s, getConfigTitle(s.getConfigId())))
-                .toList();
+        return toSlotInfos(slotRepository.findSlotsNeedingParticipantsInRange(from, to));
     }
 
     // ── Registration ────────────────────────────────────────────────────
@@ -644,6 +637,17 @@ public class CleaningService implements CleaningModuleApi {
         return BigDecimal.valueOf(totalMinutes).divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, BigDecimal> getCleaningHoursPerFamilyInRange(LocalDate from, LocalDate to) {
+        var hours = new HashMap<UUID, BigDecimal>();
+        for (var row : registrationRepository.sumActualMinutesPerFamilyInRange(from, to)) {
+            hours.put(row.familyId(), BigDecimal.valueOf(row.minutes())
+                    .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP));
+        }
+        return hours;
+    }
+
     // ── Dashboard ───────────────────────────────────────────────────────
 
     @Transactional(readOnly = true)
@@ -701,6 +705,10 @@ public class CleaningService implements CleaningModuleApi {
                     .map(r -> r.name())
                     .orElse(null);
         }
+        return buildConfigInfo(config, sectionName, roomName);
+    }
+
+    private CleaningConfigInfo buildConfigInfo(CleaningConfig config, String sectionName, String roomName) {
         return new CleaningConfigInfo(
                 config.getId(), config.getSectionId(), sectionName,
                 config.getRoomId(), roomName,
@@ -713,16 +721,42 @@ public class CleaningService implements CleaningModuleApi {
                 config.getParticipantCircle(), config.getParticipantCircleId());
     }
 
-    private CleaningSlotInfo toSlotInfo(CleaningSlot slot, String configTitle) {
-        String sectionName = getSectionName(slot.getSectionId());
-        List<CleaningRegistration> regs = registrationRepository.findBySlotId(slot.getId());
-        List<CleaningSlotInfo.RegistrationInfo> regInfos = regs.stream()
-                .map(this::toRegistrationInfo)
+    /**
+     * List variant of {@link #toConfigInfo(CleaningConfig)}: section and room names are
+     * resolved with one bulk call per module.
+     */
+    private List<CleaningConfigInfo> toConfigInfos(List<CleaningConfig> configs) {
+        if (configs.isEmpty()) return List.of();
+
+        var sectionIds = configs.stream().map(CleaningConfig::getSectionId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<UUID, String> sectionNames = sectionIds.isEmpty() ? Map.of() : schoolModuleApi.findNamesByIds(sectionIds);
+
+        var roomIds = configs.stream().map(CleaningConfig::getRoomId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<UUID, String> roomNames = roomIds.isEmpty() || roomModuleApi == null ? Map.of()
+                : roomModuleApi.findNamesByIds(roomIds);
+
+        return configs.stream()
+                .map(config -> buildConfigInfo(config,
+                        sectionNames.getOrDefault(config.getSectionId(), ""),
+                        config.getRoomId() != null ? roomNames.get(config.getRoomId()) : null))
                 .toList();
+    }
 
+    private CleaningSlotInfo toSlotInfo(CleaningSlot slot, String configTitle) {
         UUID jobId = configRepository.findById(slot.getConfigId())
                 .map(CleaningConfig::getJobId)
                 .orElse(null);
+        return buildSlotInfo(slot, getSectionName(slot.getSectionId()), configTitle, jobId,
+                registrationRepository.findBySlotId(slot.getId()));
+    }
+
+    private CleaningSlotInfo buildSlotInfo(CleaningSlot slot, String sectionName, String configTitle,
+                                           UUID jobId, List<CleaningRegistration> regs) {
+        List<CleaningSlotInfo.RegistrationInfo> regInfos = regs.stream()
+                .map(this::toRegistrationInfo)
+                .toList();
 
         return new CleaningSlotInfo(
                 slot.getId(), slot.getConfigId(), slot.getSectionId(), sectionName,
@@ -732,6 +766,36 @@ public class CleaningService implements CleaningModuleApi {
                 slot.isCancelled(), jobId, regInfos);
     }
 
+    /**
+     * List variant of {@link #toSlotInfo}: configs, section names and registrations are
+     * loaded with one query or bulk call each.
+     */
+    private List<CleaningSlotInfo> toSlotInfos(List<CleaningSlot> slots) {
+        if (slots.isEmpty()) return List.of();
+
+        Map<UUID, CleaningConfig> configs = configRepository.findAllById(
+                        slots.stream().map(CleaningSlot::getConfigId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(CleaningConfig::getId, c -> c));
+
+        var sectionIds = slots.stream().map(CleaningSlot::getSectionId).collect(Collectors.toSet());
+        Map<UUID, String> sectionNames = schoolModuleApi.findNamesByIds(sectionIds);
+
+        Map<UUID, List<CleaningRegistration>> regsBySlot = registrationRepository.findBySlotIdIn(
+                        slots.stream().map(CleaningSlot::getId).toList()).stream()
+                .collect(Collectors.groupingBy(CleaningRegistration::getSlotId));
+
+        return slots.stream()
+                .map(slot -> {
+                    CleaningConfig config = configs.get(slot.getConfigId());
+                    return buildSlotInfo(slot,
+                            sectionNames.getOrDefault(slot.getSectionId(), ""),
+                            config != null ? config.getTitle() : "",
+                            config != null ? config.getJobId() : null,
+                            regsBySlot.getOrDefault(slot.getId(), List.of()));
+                })
+                .toList();
+    }
+
     private CleaningSlotInfo.RegistrationInfo toRegistrationInfo(CleaningRegistration reg) {
         return new CleaningSlotInfo.RegistrationInfo(
                 reg.getId(), reg.getUserId(), reg.getUserName(), reg.getFamilyId(),
@@ -1,35 +1,40 @@
 package com.monteweb.cleaning.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up cleaning data when a user account is deleted.
  * Deletes cleaning registrations for the user.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.cleaning", name = "enabled", havingValue = "true")
-public class CleaningDeletionListener {
+public class CleaningUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(CleaningDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(CleaningUserDataCleanup.class);
 
     private final CleaningService cleaningService;
 
-    public CleaningDeletionListener(CleaningService cleaningService) {
+    public CleaningUserDataCleanup(CleaningService cleaningService) {
         this.cleaningService = cleaningService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "cleaning";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up cleaning registrations for deleted user {}", event.userId());
-        cleaningService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up cleaning registrations for {} deleted users", userIds.size());
+        userIds.forEach(cleaningService::cleanupUserData);
     }
 }
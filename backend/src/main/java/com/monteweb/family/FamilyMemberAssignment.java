@@ -0,0 +1,13 @@
+package com.monteweb.family;
+
+import java.util.UUID;
+
+/**
+ * Public API: A membership to be written by a bulk import. Role is PARENT or CHILD.
+ */
+public record FamilyMemberAssignment(
+        UUID familyId,
+        UUID userId,
+        String role
+) {
+}
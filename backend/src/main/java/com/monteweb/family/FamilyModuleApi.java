@@ -1,5 +1,9 @@
 package com.monteweb.family;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -14,16 +18,39 @@ public interface FamilyModuleApi {
     Optional<FamilyInfo> findById(UUID familyId);
 
     /**
-     * Returns all families in the system.
+     * Bulk variant of {@link #findById}. Unknown IDs are absent from the map.
+     */
+    Map<UUID, FamilyInfo> findByIds(Collection<UUID> familyIds);
+
+    /**
+     * Family names only, without resolving members. Unknown IDs are absent from the map.
+     */
+    Map<UUID, String> findNamesByIds(Collection<UUID> familyIds);
+
+    /**
+     * Returns all families in the system. Prefer {@link #findAll(Pageable)} for reports
+     * that can work through the families in batches.
      */
     List<FamilyInfo> findAll();
 
+    /**
+     * One page of all families, members and display names resolved in batch.
+     * Sorting is by family name unless the pageable says otherwise.
+     */
+    Page<FamilyInfo> findAll(Pageable pageable);
+
     /**
      * Returns all families that a user belongs to.
      * A parent belongs to exactly one family; a child may belong to multiple (separated parents).
      */
     List<FamilyInfo> findByUserId(UUID userId);
 
+    /**
+     * Bulk lookup: the parents of all families the given users belong to, in a single query.
+     * Users without a family produce no rows.
+     */
+    List<FamilyParentLink> findParentLinks(Collection<UUID> memberIds);
+
     boolean isUserInFamily(UUID userId, UUID familyId);
 
     /**
@@ -57,4 +84,22 @@ public interface FamilyModuleApi {
      * Admin: Create a family with a given name (no creator user added). Used by CSV import.
      */
     FamilyInfo adminCreateFamily(String name);
+
+    /**
+     * Finds families by name (case-insensitive) in one query. Keys are the lower-cased
+     * names; if several families share a name, the oldest wins. Used by CSV import.
+     */
+    Map<String, UUID> findIdsByNamesIgnoreCase(Collection<String> names);
+
+    /**
+     * Admin: Create families (ID to name) as one JDBC batch. Used by CSV import.
+     */
+    void adminCreateFamilies(Map<UUID, String> namesById);
+
+    /**
+     * Admin: Add members as one JDBC batch, skipping existing memberships. Used by CSV import.
+     *
+     * @return number of memberships actually added
+     */
+    int adminAddMembers(List<FamilyMemberAssignment> members);
 }
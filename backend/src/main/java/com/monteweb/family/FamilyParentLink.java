@@ -0,0 +1,14 @@
+package com.monteweb.family;
+
+import java.util.UUID;
+
+/**
+ * Public API: A parent of a family member, e.g. the parent of a student.
+ * One row per (member, family, parent) combination.
+ */
+public record FamilyParentLink(
+        UUID memberId,
+        UUID familyId,
+        UUID parentId
+) {
+}
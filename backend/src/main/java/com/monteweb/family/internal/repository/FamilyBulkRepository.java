@@ -0,0 +1,24 @@
+package com.monteweb.family.internal.repository;
+
+import com.monteweb.family.FamilyMemberAssignment;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based family writes that bypass the per-entity persist path.
+ */
+public interface FamilyBulkRepository {
+
+    /**
+     * Inserts one family per entry (ID to name) as a single JDBC batch.
+     */
+    void insertFamilies(Map<UUID, String> namesById);
+
+    /**
+     * Inserts the memberships as a single JDBC batch. Existing memberships are skipped.
+     *
+     * @return number of memberships actually inserted
+     */
+    int insertMembers(Iterable<FamilyMemberAssignment> members);
+}
@@ -0,0 +1,63 @@
+package com.monteweb.family.internal.repository;
+
+import com.monteweb.family.FamilyMemberAssignment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+class FamilyBulkRepositoryImpl implements FamilyBulkRepository {
+
+    private static final String INSERT_FAMILY_SQL = """
+            INSERT INTO families (id, name, created_at, updated_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_MEMBER_SQL = """
+            INSERT INTO family_members (family_id, user_id, role, joined_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (family_id, user_id) DO NOTHING
+            """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    FamilyBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertFamilies(Map<UUID, String> namesById) {
+        if (namesById.isEmpty()) return;
+
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_FAMILY_SQL, new ArrayList<>(namesById.entrySet()), BATCH_SIZE,
+                (ps, family) -> {
+                    ps.setObject(1, family.getKey());
+                    ps.setString(2, family.getValue());
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                });
+    }
+
+    @Override
+    public int insertMembers(Iterable<FamilyMemberAssignment> members) {
+        var rows = new ArrayList<FamilyMemberAssignment>();
+        members.forEach(rows::add);
+        if (rows.isEmpty()) return 0;
+
+        Timestamp now = Timestamp.from(Instant.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, rows, BATCH_SIZE, (ps, member) -> {
+            ps.setObject(1, member.familyId());
+            ps.setObject(2, member.userId());
+            ps.setString(3, member.role());
+            ps.setTimestamp(4, now);
+        });
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(c -> Math.max(c, 0)).sum();
+    }
+}
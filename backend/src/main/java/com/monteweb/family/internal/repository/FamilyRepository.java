@@ -1,22 +1,52 @@
 package com.monteweb.family.internal.repository;
 
+import com.monteweb.family.FamilyParentLink;
 import com.monteweb.family.internal.model.Family;
+import com.monteweb.shared.dto.NamedRef;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface FamilyRepository extends JpaRepository<Family, UUID> {
+public interface FamilyRepository extends JpaRepository<Family, UUID>, FamilyBulkRepository {
 
     Optional<Family> findByInviteCode(String inviteCode);
 
     @Query("SELECT f FROM Family f JOIN f.members m WHERE m.userId = :userId")
     List<Family> findByMemberUserId(UUID userId);
 
+    @Query("SELECT DISTINCT f FROM Family f LEFT JOIN FETCH f.members")
+    List<Family> findAllWithMembers();
+
+    @Query("SELECT DISTINCT f FROM Family f LEFT JOIN FETCH f.members WHERE f.id IN :ids")
+    List<Family> findWithMembersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT f.id FROM Family f")
+    Page<UUID> findIds(Pageable pageable);
+
+    @Query("""
+            SELECT new com.monteweb.family.FamilyParentLink(m.userId, m.family.id, p.userId)
+            FROM FamilyMember m JOIN FamilyMember p ON p.family.id = m.family.id
+            WHERE m.userId IN :memberIds
+              AND p.role = com.monteweb.family.internal.model.FamilyMemberRole.PARENT
+            """)
+    List<FamilyParentLink> findParentLinksByMemberUserIds(Collection<UUID> memberIds);
+
+    @Query("SELECT new com.monteweb.shared.dto.NamedRef(f.id, f.name) FROM Family f WHERE f.id IN :ids")
+    List<NamedRef> findNamesByIdIn(Collection<UUID> ids);
+
     @Query("SELECT COUNT(m) > 0 FROM FamilyMember m WHERE m.family.id = :familyId AND m.userId = :userId")
     boolean isMember(UUID userId, UUID familyId);
 
     Optional<Family> findByNameIgnoreCase(String name);
+
+    @Query("SELECT new com.monteweb.shared.dto.NamedRef(f.id, f.name) FROM Family f " +
+            "WHERE LOWER(f.name) IN :names ORDER BY f.createdAt ASC")
+    List<NamedRef> findByLowerNameIn(@Param("names") Collection<String> names);
 }
@@ -2,25 +2,37 @@ package com.monteweb.family.internal.service;
 
 import com.monteweb.family.FamilyInfo;
 import com.monteweb.family.FamilyInvitationEvent;
+import com.monteweb.family.FamilyMemberAssignment;
 import com.monteweb.family.FamilyModuleApi;
+import com.monteweb.family.FamilyParentLink;
 import com.monteweb.family.internal.dto.FamilyInvitationInfo;
 import com.monteweb.family.internal.model.*;
 import com.monteweb.family.internal.repository.FamilyInvitationRepository;
 import com.monteweb.family.internal.repository.FamilyRepository;
+import com.monteweb.shared.dto.NamedRef;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
 import com.monteweb.user.UserInfo;
 import com.monteweb.user.UserModuleApi;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -49,18 +61,53 @@ public class FamilyService implements FamilyModuleApi {
         return familyRepository.findById(familyId).map(this::toFamilyInfo);
     }
 
+    @Override
+    public Map<UUID, FamilyInfo> findByIds(Collection<UUID> familyIds) {
+        if (familyIds.isEmpty()) return Map.of();
+        var families = new HashMap<UUID, FamilyInfo>();
+        for (var family : toFamilyInfos(familyRepository.findWithMembersByIdIn(familyIds))) {
+            families.put(family.id(), family);
+        }
+        return families;
+    }
+
+    @Override
+    public Map<UUID, String> findNamesByIds(Collection<UUID> familyIds) {
+        if (familyIds.isEmpty()) return Map.of();
+        return NamedRef.toMap(familyRepository.findNamesByIdIn(familyIds));
+    }
+
     @Override
     public List<FamilyInfo> findAll() {
-        return familyRepository.findAll().stream()
-                .map(this::toFamilyInfo)
-                .toList();
+        return toFamilyInfos(familyRepository.findAllWithMembers());
+    }
+
+    @Override
+    public Page<FamilyInfo> findAll(Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("name", "id"));
+        }
+        var ids = familyRepository.findIds(pageable);
+        var byId = new HashMap<UUID, Family>();
+        for (var family : familyRepository.findWithMembersByIdIn(ids.getContent())) {
+            byId.put(family.getId(), family);
+        }
+        var infos = toFamilyInfos(ids.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList());
+        return new PageImpl<>(infos, pageable, ids.getTotalElements());
     }
 
     @Override
     public List<FamilyInfo> findByUserId(UUID userId) {
-        return familyRepository.findByMemberUserId(userId).stream()
-                .map(this::toFamilyInfo)
-                .toList();
+        return toFamilyInfos(familyRepository.findByMemberUserId(userId));
+    }
+
+    @Override
+    public List<FamilyParentLink> findParentLinks(Collection<UUID> memberIds) {
+        if (memberIds.isEmpty()) return List.of();
+        return familyRepository.findParentLinksByMemberUserIds(memberIds);
     }
 
     @Override
@@ -405,13 +452,33 @@ public class FamilyService implements FamilyModuleApi {
     }
 
     private FamilyInfo toFamilyInfo(Family family) {
+        return toFamilyInfos(List.of(family)).getFirst();
+    }
+
+    /**
+     * Resolves the display names of all members of all given families in one user lookup.
+     */
+    private List<FamilyInfo> toFamilyInfos(List<Family> families) {
+        var userIds = families.stream()
+                .flatMap(f -> f.getMembers().stream())
+                .map(FamilyMember::getUserId)
+                .distinct()
+                .toList();
+        var displayNames = new HashMap<UUID, String>();
+        if (!userIds.isEmpty()) {
+            for (var user : userModuleApi.findByIds(userIds)) {
+                displayNames.put(user.id(), user.displayName());
+            }
+        }
+        return families.stream()
+                .map(family -> buildFamilyInfo(family, displayNames))
+                .toList();
+    }
+
+    private FamilyInfo buildFamilyInfo(Family family, Map<UUID, String> displayNames) {
         var members = family.getMembers().stream()
-                .map(m -> {
-                    String displayName = userModuleApi.findById(m.getUserId())
-                            .map(UserInfo::displayName)
-                            .orElse("Unknown");
-                    return new FamilyInfo.FamilyMemberInfo(m.getUserId(), displayName, m.getRole().name());
-                })
+                .map(m -> new FamilyInfo.FamilyMemberInfo(m.getUserId(),
+                        displayNames.getOrDefault(m.getUserId(), "Unknown"), m.getRole().name()))
                 .toList();
         return new FamilyInfo(family.getId(), family.getName(), family.getAvatarUrl(), family.isHoursExempt(), family.isActive(), family.isSoleCustody(), family.isSoleCustodyApproved(), members);
     }
@@ -446,6 +513,33 @@ public class FamilyService implements FamilyModuleApi {
         return toFamilyInfo(family);
     }
 
+    @Override
+    public Map<String, UUID> findIdsByNamesIgnoreCase(Collection<String> names) {
+        if (names.isEmpty()) return Map.of();
+        var lowerNames = names.stream().map(n -> n.toLowerCase().trim()).collect(Collectors.toSet());
+        var ids = new HashMap<String, UUID>();
+        for (var ref : familyRepository.findByLowerNameIn(lowerNames)) {
+            ids.putIfAbsent(ref.name().toLowerCase().trim(), ref.id());
+        }
+        return ids;
+    }
+
+    @Override
+    @Transactional
+    public void adminCreateFamilies(Map<UUID, String> namesById) {
+        familyRepository.insertFamilies(namesById);
+    }
+
+    @Override
+    @Transactional
+    public int adminAddMembers(List<FamilyMemberAssignment> members) {
+        // Reject unknown roles before anything is written
+        for (var member : members) {
+            FamilyMemberRole.valueOf(member.role());
+        }
+        return familyRepository.insertMembers(members);
+    }
+
     @Override
     @Transactional
     public void deactivateFamily(UUID familyId) {
@@ -1,33 +1,38 @@
 package com.monteweb.family.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up family data when a user account is deleted.
  * Removes from families, handles orphan families, deletes invitations.
  */
 @Component
-public class FamilyDeletionListener {
+public class FamilyUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(FamilyDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(FamilyUserDataCleanup.class);
 
     private final FamilyService familyService;
 
-    public FamilyDeletionListener(FamilyService familyService) {
+    public FamilyUserDataCleanup(FamilyService familyService) {
         this.familyService = familyService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "families";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up family data for deleted user {}", event.userId());
-        familyService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up family data for {} deleted users", userIds.size());
+        userIds.forEach(familyService::cleanupUserData);
     }
 }
@@ -3,6 +3,7 @@ package com.monteweb.feed;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -26,6 +27,16 @@ public interface FeedModuleApi {
 
     Optional<FeedPostInfo> findPostById(UUID postId);
 
+    /**
+     * Bulk variant of {@link #findPostById}. Unknown IDs are absent from the result.
+     */
+    Map<UUID, FeedPostInfo> findPostsByIds(Collection<UUID> postIds);
+
+    /**
+     * Post titles by ID, without loading comments, attachments or polls.
+     */
+    Map<UUID, String> findTitlesByIds(Collection<UUID> postIds);
+
     /**
      * Returns the personalized feed for a user, respecting room memberships and roles.
      */
@@ -2,8 +2,16 @@ package com.monteweb.feed.internal.repository;
 
 import com.monteweb.feed.internal.model.FeedPostAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface FeedPostAttachmentRepository extends JpaRepository<FeedPostAttachment, UUID> {
+
+    @Query("SELECT a.fileUrl FROM FeedPostAttachment a WHERE a.fileUrl IN :keys")
+    List<String> findReferencedKeys(Collection<String> keys);
+
+    List<FeedPostAttachment> findByPostAuthorId(UUID authorId);
 }
@@ -4,7 +4,11 @@ import com.monteweb.feed.internal.model.FeedPostComment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,4 +19,8 @@ public interface FeedPostCommentRepository extends JpaRepository<FeedPostComment
     long countByPostId(UUID postId);
 
     List<FeedPostComment> findByAuthorId(UUID authorId);
+
+    @Modifying
+    @Query("DELETE FROM FeedPostComment c WHERE c.authorId IN :authorIds")
+    int deleteByAuthorIdIn(@Param("authorIds") Collection<UUID> authorIds);
 }
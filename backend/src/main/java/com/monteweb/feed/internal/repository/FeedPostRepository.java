@@ -2,9 +2,11 @@ package com.monteweb.feed.internal.repository;
 
 import com.monteweb.feed.SourceType;
 import com.monteweb.feed.internal.model.FeedPost;
+import com.monteweb.shared.dto.NamedRef;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -72,6 +74,14 @@ public interface FeedPostRepository extends JpaRepository<FeedPost, UUID> {
 
     List<FeedPost> findByAuthorId(UUID authorId);
 
+    @Query("SELECT a.fileUrl FROM FeedPostAttachment a WHERE a.post.authorId IN :authorIds")
+    List<String> findAttachmentUrlsByAuthorIdIn(@Param("authorIds") Collection<UUID> authorIds);
+
+    /** Comments, attachments, polls and reactions of the posts go with them (ON DELETE CASCADE). */
+    @Modifying
+    @Query("DELETE FROM FeedPost p WHERE p.authorId IN :authorIds")
+    int deleteByAuthorIdIn(@Param("authorIds") Collection<UUID> authorIds);
+
     /**
      * Global search: search posts by title or content that the user can see.
      * Respects targeted posts (target_user_ids).
@@ -86,4 +96,7 @@ public interface FeedPostRepository extends JpaRepository<FeedPost, UUID> {
         LIMIT :limit
         """, nativeQuery = true)
     List<FeedPost> searchPosts(@Param("query") String query, @Param("userId") UUID userId, @Param("limit") int limit);
+
+    @Query("SELECT new com.monteweb.shared.dto.NamedRef(p.id, p.title) FROM FeedPost p WHERE p.id IN :ids")
+    List<NamedRef> findTitlesByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -6,9 +6,11 @@ import com.monteweb.feed.internal.model.*;
 import com.monteweb.feed.internal.repository.*;
 import com.monteweb.room.RoomInfo;
 import com.monteweb.room.RoomModuleApi;
+import com.monteweb.shared.dto.NamedRef;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ForbiddenException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import com.monteweb.shared.util.FileValidationUtils;
 import com.monteweb.user.UserInfo;
 import com.monteweb.user.UserModuleApi;
@@ -41,6 +43,7 @@ public class FeedService implements FeedModuleApi {
     private final FeedPollRepository pollRepository;
     private final FeedPollVoteRepository pollVoteRepository;
     private final FeedStorageService storageService;
+    private final ObjectDeletionQueue deletionQueue;
     private final UserModuleApi userModuleApi;
     private final RoomModuleApi roomModuleApi;
     private final ApplicationEventPublisher eventPublisher;
@@ -52,6 +55,7 @@ public class FeedService implements FeedModuleApi {
                        FeedPollRepository pollRepository,
                        FeedPollVoteRepository pollVoteRepository,
                        FeedStorageService storageService,
+                       ObjectDeletionQueue deletionQueue,
                        UserModuleApi userModuleApi,
                        RoomModuleApi roomModuleApi,
                        ApplicationEventPublisher eventPublisher) {
@@ -62,6 +66,7 @@ public class FeedService implements FeedModuleApi {
         this.pollRepository = pollRepository;
         this.pollVoteRepository = pollVoteRepository;
         this.storageService = storageService;
+        this.deletionQueue = deletionQueue;
         this.userModuleApi = userModuleApi;
         this.roomModuleApi = roomModuleApi;
         this.eventPublisher = eventPublisher;
@@ -103,6 +108,22 @@ public class FeedService implements FeedModuleApi {
         return postRepository.findById(postId).map(this::toPostInfo);
     }
 
+    @Override
+    public Map<UUID, FeedPostInfo> findPostsByIds(Collection<UUID> postIds) {
+        if (postIds == null || postIds.isEmpty()) return Map.of();
+        var result = new HashMap<UUID, FeedPostInfo>();
+        for (var info : toPostInfos(postRepository.findAllById(postIds))) {
+            result.put(info.id(), info);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<UUID, String> findTitlesByIds(Collection<UUID> postIds) {
+        if (postIds == null || postIds.isEmpty()) return Map.of();
+        return NamedRef.toMap(postRepository.findTitlesByIdIn(postIds));
+    }
+
     @Override
     public Page<FeedPostInfo> getPersonalFeed(UUID userId, Pageable pageable) {
         var userInfo = userModuleApi.findById(userId)
@@ -128,15 +149,14 @@ public class FeedService implements FeedModuleApi {
 
         boolean isParent = userInfo.role() == UserRole.PARENT;
 
-        return postRepository.findPersonalFeed(roomIds, sectionIds, isParent, userId, pageable)
-                .map(this::toPostInfo);
+        var page = postRepository.findPersonalFeed(roomIds, sectionIds, isParent, userId, pageable);
+        var infos = toPostInfos(page.getContent()).iterator();
+        return page.map(p -> infos.next());
     }
 
     @Override
     public List<FeedPostInfo> searchPosts(String query, int limit, UUID userId) {
-        return postRepository.searchPosts(query, userId, limit).stream()
-                .map(this::toPostInfo)
-                .toList();
+        return toPostInfos(postRepository.searchPosts(query, userId, limit));
     }
 
     // --- Internal service methods ---
@@ -298,10 +318,8 @@ public class FeedService implements FeedModuleApi {
         if (!post.getAuthorId().equals(userId) && user.role() != UserRole.SUPERADMIN) {
             throw new ForbiddenException("Only the author or admin can delete this post");
         }
-        // Clean up attachment files from storage
-        for (var attachment : post.getAttachments()) {
-            storageService.delete(attachment.getFileUrl());
-        }
+        // Attachment files are removed in bulk once the post is gone
+        deletionQueue.enqueue(post.getAttachments().stream().map(FeedPostAttachment::getFileUrl).toList());
         postRepository.delete(post);
     }
 
@@ -450,15 +468,14 @@ public class FeedService implements FeedModuleApi {
     }
 
     public Page<FeedPostInfo> getPostsBySource(SourceType sourceType, UUID sourceId, Pageable pageable) {
-        return postRepository
-                .findBySourceTypeAndSourceIdOrderByPinnedDescPublishedAtDesc(sourceType, sourceId, pageable)
-                .map(this::toPostInfo);
+        var page = postRepository
+                .findBySourceTypeAndSourceIdOrderByPinnedDescPublishedAtDesc(sourceType, sourceId, pageable);
+        var infos = toPostInfos(page.getContent()).iterator();
+        return page.map(p -> infos.next());
     }
 
     public List<FeedPostInfo> getActiveSystemBanners() {
-        return postRepository.findActiveSystemBanners().stream()
-                .map(this::toPostInfo)
-                .toList();
+        return toPostInfos(postRepository.findActiveSystemBanners());
     }
 
     // --- Reactions ---
@@ -545,6 +562,62 @@ public class FeedService implements FeedModuleApi {
 
         String sourceName = resolveSourceName(post.getSourceType(), post.getSourceId());
 
+        PollInfo pollInfo = pollRepository.findByPostId(post.getId())
+                .map(poll -> toPollInfo(poll, currentUserId))
+                .orElse(null);
+
+        return buildPostInfo(post, authorName, sourceName, pollInfo);
+    }
+
+    private List<FeedPostInfo> toPostInfos(List<FeedPost> posts) {
+        return toPostInfos(posts, null);
+    }
+
+    /**
+     * List variant of {@link #toPostInfo(FeedPost, UUID)}: authors, room names and polls
+     * (with their votes) are loaded with one query per kind for all posts.
+     */
+    private List<FeedPostInfo> toPostInfos(List<FeedPost> posts, UUID currentUserId) {
+        if (posts.isEmpty()) return List.of();
+
+        var authorIds = posts.stream().map(FeedPost::getAuthorId)
+                .filter(Objects::nonNull).distinct().toList();
+        var authorNames = authorIds.isEmpty() ? Map.<UUID, String>of()
+                : userModuleApi.findByIds(authorIds).stream()
+                    .collect(Collectors.toMap(UserInfo::id, UserInfo::displayName, (a, b) -> a));
+
+        var roomIds = posts.stream()
+                .filter(p -> p.getSourceType() == SourceType.ROOM && p.getSourceId() != null)
+                .map(FeedPost::getSourceId)
+                .collect(Collectors.toSet());
+        var roomNames = roomIds.isEmpty() ? Map.<UUID, String>of() : roomModuleApi.findNamesByIds(roomIds);
+
+        var polls = pollRepository.findByPostIdIn(posts.stream().map(FeedPost::getId).toList());
+        var optionIds = polls.stream()
+                .flatMap(poll -> poll.getOptions().stream())
+                .map(FeedPollOption::getId)
+                .toList();
+        var votesByOption = optionIds.isEmpty() ? Map.<UUID, List<FeedPollVote>>of()
+                : pollVoteRepository.findByOptionIdIn(optionIds).stream()
+                    .collect(Collectors.groupingBy(FeedPollVote::getOptionId));
+        var pollsByPost = new HashMap<UUID, PollInfo>();
+        for (var poll : polls) {
+            var votes = poll.getOptions().stream()
+                    .flatMap(o -> votesByOption.getOrDefault(o.getId(), List.of()).stream())
+                    .toList();
+            pollsByPost.put(poll.getPostId(), toPollInfo(poll, votes, currentUserId));
+        }
+
+        return posts.stream()
+                .map(post -> buildPostInfo(post,
+                        post.getAuthorId() != null ? authorNames.getOrDefault(post.getAuthorId(), "System") : "System",
+                        post.getSourceType() == SourceType.ROOM && post.getSourceId() != null
+                                ? roomNames.get(post.getSourceId()) : null,
+                        pollsByPost.get(post.getId())))
+                .toList();
+    }
+
+    private FeedPostInfo buildPostInfo(FeedPost post, String authorName, String sourceName, PollInfo pollInfo) {
         var attachments = post.getAttachments().stream()
                 .map(a -> new FeedPostInfo.AttachmentInfo(
                         a.getId(), a.getFileName(), a.getFileUrl(), a.getFileType(),
@@ -552,10 +625,6 @@ public class FeedService implements FeedModuleApi {
                 ))
                 .toList();
 
-        PollInfo pollInfo = pollRepository.findByPostId(post.getId())
-                .map(poll -> toPollInfo(poll, currentUserId))
-                .orElse(null);
-
         return new FeedPostInfo(
                 post.getId(),
                 post.getAuthorId(),
@@ -578,7 +647,10 @@ public class FeedService implements FeedModuleApi {
 
     private PollInfo toPollInfo(FeedPoll poll, UUID currentUserId) {
         var allOptionIds = poll.getOptions().stream().map(FeedPollOption::getId).toList();
-        var allVotes = pollVoteRepository.findByOptionIdIn(allOptionIds);
+        return toPollInfo(poll, pollVoteRepository.findByOptionIdIn(allOptionIds), currentUserId);
+    }
+
+    private PollInfo toPollInfo(FeedPoll poll, List<FeedPollVote> allVotes, UUID currentUserId) {
         var userVotedOptionIds = currentUserId != null
                 ? allVotes.stream()
                     .filter(v -> v.getUserId().equals(currentUserId))
@@ -637,6 +709,17 @@ public class FeedService implements FeedModuleApi {
         postRepository.deleteAll(postRepository.findByAuthorId(userId));
     }
 
+    /**
+     * DSGVO: Clean up all feed data for a batch of deleted users, a statement per table.
+     */
+    @Transactional
+    public void cleanupUserData(Collection<UUID> userIds) {
+        commentRepository.deleteByAuthorIdIn(userIds);
+        // Attachment files are removed in bulk once the posts are gone
+        deletionQueue.enqueue(postRepository.findAttachmentUrlsByAuthorIdIn(userIds));
+        postRepository.deleteByAuthorIdIn(userIds);
+    }
+
     /**
      * DSGVO: Export all feed data for a user.
      */
@@ -0,0 +1,42 @@
+package com.monteweb.feed.internal.service;
+
+import com.monteweb.feed.internal.repository.FeedPostAttachmentRepository;
+import com.monteweb.shared.storage.StorageReferenceProvider;
+import com.monteweb.shared.storage.StoredObject;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Feed post attachments, stored under {@code feed/{postId}/}.
+ */
+@Component
+public class FeedStorageReferences implements StorageReferenceProvider {
+
+    private final FeedPostAttachmentRepository attachmentRepository;
+
+    public FeedStorageReferences(FeedPostAttachmentRepository attachmentRepository) {
+        this.attachmentRepository = attachmentRepository;
+    }
+
+    @Override
+    public String listingPrefix() {
+        return "feed/";
+    }
+
+    @Override
+    public Set<String> findReferenced(Collection<String> objectKeys) {
+        return new HashSet<>(attachmentRepository.findReferencedKeys(objectKeys));
+    }
+
+    @Override
+    public List<StoredObject> findUploadedBy(UUID userId) {
+        return attachmentRepository.findByPostAuthorId(userId).stream()
+                .map(a -> new StoredObject(a.getFileUrl(), a.getFileName()))
+                .toList();
+    }
+}
@@ -1,33 +1,38 @@
 package com.monteweb.feed.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up feed data when a user account is deleted.
  * Deletes user's posts and comments.
  */
 @Component
-public class FeedDeletionListener {
+public class FeedUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(FeedDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(FeedUserDataCleanup.class);
 
     private final FeedService feedService;
 
-    public FeedDeletionListener(FeedService feedService) {
+    public FeedUserDataCleanup(FeedService feedService) {
         this.feedService = feedService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "feed";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up feed data for deleted user {}", event.userId());
-        feedService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up feed data for {} deleted users", userIds.size());
+        feedService.cleanupUserData(userIds);
     }
 }
@@ -2,8 +2,11 @@ package com.monteweb.files.internal.repository;
 
 import com.monteweb.files.internal.model.RoomFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,5 +23,18 @@ public interface RoomFileRepository extends JpaRepository<RoomFile, UUID> {
 
     void deleteAllByRoomId(UUID roomId);
 
+    @Query("SELECT f.storagePath FROM RoomFile f WHERE f.roomId = :roomId")
+    List<String> findStoragePathsByRoomId(UUID roomId);
+
     List<RoomFile> findByUploadedBy(UUID uploadedBy);
+
+    @Query("SELECT f.storagePath FROM RoomFile f WHERE f.uploadedBy IN :userIds")
+    List<String> findStoragePathsByUploadedByIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @Query("DELETE FROM RoomFile f WHERE f.uploadedBy IN :userIds")
+    int deleteByUploadedByIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("SELECT f.storagePath FROM RoomFile f WHERE f.storagePath IN :keys")
+    List<String> findReferencedKeys(Collection<String> keys);
 }
@@ -16,6 +16,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ForbiddenException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import com.monteweb.user.UserModuleApi;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.monteweb.shared.util.FileValidationUtils;
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -41,19 +43,22 @@ public class FileService implements FilesModuleApi {
     private final RoomModuleApi roomModuleApi;
     private final UserModuleApi userModuleApi;
     private final ApplicationEventPublisher eventPublisher;
+    private final ObjectDeletionQueue deletionQueue;
 
     public FileService(RoomFileRepository fileRepository,
                        RoomFolderRepository folderRepository,
                        FileStorageService storageService,
                        RoomModuleApi roomModuleApi,
                        UserModuleApi userModuleApi,
-                       ApplicationEventPublisher eventPublisher) {
+                       ApplicationEventPublisher eventPublisher,
+                       ObjectDeletionQueue deletionQueue) {
         this.fileRepository = fileRepository;
         this.folderRepository = folderRepository;
         this.storageService = storageService;
         this.roomModuleApi = roomModuleApi;
         this.userModuleApi = userModuleApi;
         this.eventPublisher = eventPublisher;
+        this.deletionQueue = deletionQueue;
     }
 
     // ---- Public API (FilesModuleApi) ----
@@ -408,6 +413,16 @@ public class FileService implements FilesModuleApi {
         fileRepository.deleteAll(files);
     }
 
+    /**
+     * DSGVO: Clean up all files for a batch of deleted users, a statement per table.
+     */
+    @Transactional
+    public void cleanupUserData(Collection<UUID> userIds) {
+        // Objects are removed in bulk once the rows are gone
+        deletionQueue.enqueue(fileRepository.findStoragePathsByUploadedByIn(userIds));
+        fileRepository.deleteByUploadedByIn(userIds);
+    }
+
     /**
      * DSGVO: Export all files data for a user.
      */
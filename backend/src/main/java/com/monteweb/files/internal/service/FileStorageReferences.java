@@ -0,0 +1,52 @@
+package com.monteweb.files.internal.service;
+
+import com.monteweb.files.internal.repository.RoomFileRepository;
+import com.monteweb.shared.storage.StorageReferenceProvider;
+import com.monteweb.shared.storage.StoredObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Room files, stored under {@code rooms/{roomId}/files/}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules.files", name = "enabled", havingValue = "true")
+public class FileStorageReferences implements StorageReferenceProvider {
+
+    private static final Pattern KEY = Pattern.compile("^rooms/[^/]+/files/");
+
+    private final RoomFileRepository fileRepository;
+
+    public FileStorageReferences(RoomFileRepository fileRepository) {
+        this.fileRepository = fileRepository;
+    }
+
+    @Override
+    public String listingPrefix() {
+        return "rooms/";
+    }
+
+    @Override
+    public boolean owns(String objectKey) {
+        return KEY.matcher(objectKey).find();
+    }
+
+    @Override
+    public Set<String> findReferenced(Collection<String> objectKeys) {
+        return new HashSet<>(fileRepository.findReferencedKeys(objectKeys));
+    }
+
+    @Override
+    public List<StoredObject> findUploadedBy(UUID userId) {
+        return fileRepository.findByUploadedBy(userId).stream()
+                .map(f -> new StoredObject(f.getStoragePath(), f.getOriginalName()))
+                .toList();
+    }
+}
@@ -0,0 +1,30 @@
+package com.monteweb.files.internal.service;
+
+import com.monteweb.files.internal.repository.RoomFileRepository;
+import com.monteweb.room.RoomDeletedEvent;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queues the stored files of a deleted room for removal. Runs synchronously in the
+ * deleting transaction, before the database drops the file rows by cascade.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules.files", name = "enabled", havingValue = "true")
+public class RoomDeletedFilesListener {
+
+    private final RoomFileRepository fileRepository;
+    private final ObjectDeletionQueue deletionQueue;
+
+    public RoomDeletedFilesListener(RoomFileRepository fileRepository, ObjectDeletionQueue deletionQueue) {
+        this.fileRepository = fileRepository;
+        this.deletionQueue = deletionQueue;
+    }
+
+    @EventListener
+    public void onRoomDeleted(RoomDeletedEvent event) {
+        deletionQueue.enqueue(fileRepository.findStoragePathsByRoomId(event.roomId()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.monteweb.forms;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published after a response was submitted or edited. Also pushed to
+ * {@code /topic/forms/{formId}/results}. Text answers are omitted from the results.
+ */
+public record FormResultsUpdatedEvent(
+        UUID formId,
+        int responseCount,
+        List<QuestionResult> results
+) {
+}
@@ -1,5 +1,6 @@
 package com.monteweb.forms;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,8 +16,23 @@ public interface FormsModuleApi {
 
     Optional<FormInfo> findById(UUID formId, UUID currentUserId);
 
+    /**
+     * Bulk variant of {@link #findById}. Unknown IDs are absent from the result.
+     */
+    Map<UUID, FormInfo> findByIds(Collection<UUID> formIds, UUID currentUserId);
+
+    /**
+     * Form titles by ID, without loading questions or counts.
+     */
+    Map<UUID, String> findTitlesByIds(Collection<UUID> formIds);
+
     boolean hasUserResponded(UUID formId, UUID userId);
 
+    /**
+     * Whether the user may see the (live) results of a form.
+     */
+    boolean canViewResults(UUID formId, UUID userId);
+
     /**
      * DSGVO: Export all forms-related data for a user.
      */
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
@@ -47,14 +48,12 @@ public class FormsExportController {
     }
 
     @GetMapping(value = "/{id}/results/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<byte[]> exportPdf(@PathVariable UUID id) {
+    public ResponseEntity<StreamingResponseBody> exportPdf(@PathVariable UUID id) {
         UUID userId = SecurityUtils.requireCurrentUserId();
         String html = formsService.generateResultsHtml(id, userId);
-        byte[] pdf = pdfService.renderHtmlToPdf(html);
-
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"form-results.pdf\"")
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(pdf);
+                .body(out -> pdfService.renderHtmlToPdf(html, out));
     }
 }
@@ -0,0 +1,71 @@
+package com.monteweb.forms.internal.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Running result counters for one question, updated as deltas whenever answers
+ * are submitted or edited. Text answers are not aggregated and are still read
+ * from {@link FormAnswer}.
+ */
+@Entity
+@Table(name = "form_question_aggregates")
+@Getter
+@Setter
+@NoArgsConstructor
+public class FormQuestionAggregate {
+
+    @Id
+    @Column(name = "question_id")
+    private UUID questionId;
+
+    @Column(name = "form_id", nullable = false)
+    private UUID formId;
+
+    @Column(name = "answer_count", nullable = false)
+    private int answerCount = 0;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "option_counts", columnDefinition = "jsonb", nullable = false)
+    private Map<String, Integer> optionCounts = new HashMap<>();
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum = 0;
+
+    @Column(name = "rating_count", nullable = false)
+    private int ratingCount = 0;
+
+    /** Keyed by the rating value as string (JSON object keys). */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "rating_histogram", columnDefinition = "jsonb", nullable = false)
+    private Map<String, Integer> ratingHistogram = new HashMap<>();
+
+    @Column(name = "yes_count", nullable = false)
+    private int yesCount = 0;
+
+    @Column(name = "no_count", nullable = false)
+    private int noCount = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public FormQuestionAggregate(UUID questionId, UUID formId) {
+        this.questionId = questionId;
+        this.formId = formId;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+}
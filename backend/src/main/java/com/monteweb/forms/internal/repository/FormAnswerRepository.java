@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,6 +15,8 @@ public interface FormAnswerRepository extends JpaRepository<FormAnswer, UUID> {
 
     List<FormAnswer> findByQuestionId(UUID questionId);
 
+    List<FormAnswer> findByQuestionIdIn(Collection<UUID> questionIds);
+
     @Modifying
     @Query("DELETE FROM FormAnswer a WHERE a.responseId IN (SELECT r.id FROM FormResponse r WHERE r.formId = :formId)")
     void deleteByResponseFormId(UUID formId);
@@ -0,0 +1,9 @@
+package com.monteweb.forms.internal.repository;
+
+import java.util.UUID;
+
+/**
+ * Per-form row count from a grouped query.
+ */
+public record FormCount(UUID formId, Long count) {
+}
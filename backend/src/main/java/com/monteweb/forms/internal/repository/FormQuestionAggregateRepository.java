@@ -0,0 +1,37 @@
+package com.monteweb.forms.internal.repository;
+
+import com.monteweb.forms.internal.model.FormQuestionAggregate;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface FormQuestionAggregateRepository extends JpaRepository<FormQuestionAggregate, UUID> {
+
+    List<FormQuestionAggregate> findByFormId(UUID formId);
+
+    /**
+     * Locks the aggregate rows of the given questions. Rows are locked in primary key
+     * order so concurrent submissions to the same form cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM FormQuestionAggregate a WHERE a.questionId IN :questionIds ORDER BY a.questionId")
+    List<FormQuestionAggregate> findByQuestionIdInForUpdate(@Param("questionIds") Collection<UUID> questionIds);
+
+    /**
+     * Creates an empty aggregate row unless one already exists. Safe to call concurrently.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO form_question_aggregates (question_id, form_id)
+            VALUES (:questionId, :formId)
+            ON CONFLICT (question_id) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("questionId") UUID questionId, @Param("formId") UUID formId);
+}
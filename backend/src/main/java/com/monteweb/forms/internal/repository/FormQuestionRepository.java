@@ -2,7 +2,10 @@ package com.monteweb.forms.internal.repository;
 
 import com.monteweb.forms.internal.model.FormQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +16,8 @@ public interface FormQuestionRepository extends JpaRepository<FormQuestion, UUID
     void deleteByFormId(UUID formId);
 
     int countByFormId(UUID formId);
+
+    @Query("SELECT new com.monteweb.forms.internal.repository.FormCount(q.formId, COUNT(q)) " +
+           "FROM FormQuestion q WHERE q.formId IN :formIds GROUP BY q.formId")
+    List<FormCount> countByFormIdIn(@Param("formIds") Collection<UUID> formIds);
 }
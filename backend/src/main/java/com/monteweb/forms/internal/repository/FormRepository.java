@@ -3,6 +3,7 @@ package com.monteweb.forms.internal.repository;
 import com.monteweb.forms.FormScope;
 import com.monteweb.forms.FormStatus;
 import com.monteweb.forms.internal.model.Form;
+import com.monteweb.shared.dto.NamedRef;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -57,5 +59,10 @@ public interface FormRepository extends JpaRepository<Form, UUID> {
 
     List<Form> findByScopeAndStatus(FormScope scope, FormStatus status);
 
+    List<Form> findByStatus(FormStatus status);
+
     List<Form> findByStatusAndDeadlineBefore(FormStatus status, LocalDate deadline);
+
+    @Query("SELECT new com.monteweb.shared.dto.NamedRef(f.id, f.title) FROM Form f WHERE f.id IN :ids")
+    List<NamedRef> findTitlesByIdIn(@Param("ids") Collection<UUID> ids);
 }
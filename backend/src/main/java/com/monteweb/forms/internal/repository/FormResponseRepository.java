@@ -2,7 +2,10 @@ package com.monteweb.forms.internal.repository;
 
 import com.monteweb.forms.internal.model.FormResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,6 +14,13 @@ public interface FormResponseRepository extends JpaRepository<FormResponse, UUID
 
     int countByFormId(UUID formId);
 
+    @Query("SELECT new com.monteweb.forms.internal.repository.FormCount(r.formId, COUNT(r)) " +
+           "FROM FormResponse r WHERE r.formId IN :formIds GROUP BY r.formId")
+    List<FormCount> countByFormIdIn(@Param("formIds") Collection<UUID> formIds);
+
+    @Query("SELECT DISTINCT r.formId FROM FormResponse r WHERE r.formId IN :formIds AND r.userId = :userId")
+    List<UUID> findRespondedFormIds(@Param("formIds") Collection<UUID> formIds, @Param("userId") UUID userId);
+
     Optional<FormResponse> findByFormIdAndUserId(UUID formId, UUID userId);
 
     boolean existsByFormIdAndUserId(UUID formId, UUID userId);
@@ -3,13 +3,20 @@ package com.monteweb.forms.internal.repository;
 import com.monteweb.forms.internal.model.FormResponseTracking;
 import com.monteweb.forms.internal.model.FormResponseTrackingId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface FormResponseTrackingRepository extends JpaRepository<FormResponseTracking, FormResponseTrackingId> {
 
     boolean existsByFormIdAndUserId(UUID formId, UUID userId);
 
+    @Query("SELECT t.formId FROM FormResponseTracking t WHERE t.formId IN :formIds AND t.userId = :userId")
+    List<UUID> findRespondedFormIds(@Param("formIds") Collection<UUID> formIds, @Param("userId") UUID userId);
+
     void deleteByFormId(UUID formId);
 
     void deleteByUserId(UUID userId);
@@ -0,0 +1,276 @@
+package com.monteweb.forms.internal.service;
+
+import com.monteweb.forms.FormResultsUpdatedEvent;
+import com.monteweb.forms.QuestionResult;
+import com.monteweb.forms.QuestionType;
+import com.monteweb.forms.internal.model.FormAnswer;
+import com.monteweb.forms.internal.model.FormQuestion;
+import com.monteweb.forms.internal.model.FormQuestionAggregate;
+import com.monteweb.forms.internal.repository.FormAnswerRepository;
+import com.monteweb.forms.internal.repository.FormQuestionAggregateRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains {@link FormQuestionAggregate} rows as running deltas so that results
+ * can be read without scanning every {@link FormAnswer} of a form.
+ * <p>
+ * All methods must be called inside the caller's transaction.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules", name = "forms.enabled", havingValue = "true")
+public class FormResultsAggregator {
+
+    private final FormQuestionAggregateRepository aggregateRepository;
+    private final FormAnswerRepository answerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FormResultsAggregator(FormQuestionAggregateRepository aggregateRepository,
+                                 FormAnswerRepository answerRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.aggregateRepository = aggregateRepository;
+        this.answerRepository = answerRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Creates empty aggregate rows for the given questions (no-op for existing rows).
+     */
+    public void initialize(UUID formId, Collection<UUID> questionIds) {
+        for (var questionId : questionIds) {
+            aggregateRepository.insertIfAbsent(questionId, formId);
+        }
+    }
+
+    /**
+     * Adds ({@code sign = 1}) or removes ({@code sign = -1}) the given answers
+     * from the aggregates of their questions.
+     */
+    public void applyDelta(UUID formId, Map<UUID, FormQuestion> questions, List<FormAnswer> answers, int sign) {
+        if (answers.isEmpty()) return;
+
+        var questionIds = answers.stream()
+                .map(FormAnswer::getQuestionId)
+                .filter(questions::containsKey)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (questionIds.isEmpty()) return;
+
+        initialize(formId, questionIds);
+        var aggregates = lockAggregates(formId, questionIds);
+
+        for (var answer : answers) {
+            var question = questions.get(answer.getQuestionId());
+            if (question == null) continue;
+            apply(aggregates.get(question.getId()), question.getType(), answer, sign);
+        }
+        aggregateRepository.saveAll(aggregates.values());
+    }
+
+    /**
+     * Consistency check: recomputes the aggregates of a form from the raw answers
+     * and overwrites rows that drifted.
+     *
+     * @return number of questions whose aggregate had to be corrected
+     */
+    public int rebuild(UUID formId, List<FormQuestion> questions) {
+        if (questions.isEmpty()) return 0;
+
+        var questionIds = questions.stream()
+                .map(FormQuestion::getId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        initialize(formId, questionIds);
+        // Lock first, then read the answers, so concurrent deltas are either fully
+        // visible in the answers or applied after the rebuild.
+        var aggregates = lockAggregates(formId, questionIds);
+        var answersByQuestion = answerRepository.findByQuestionIdIn(questionIds).stream()
+                .collect(Collectors.groupingBy(FormAnswer::getQuestionId));
+
+        int drifted = 0;
+        for (var question : questions) {
+            var expected = compute(question, answersByQuestion.getOrDefault(question.getId(), List.of()));
+            var actual = aggregates.get(question.getId());
+            if (!sameCounts(expected, actual)) {
+                copyCounts(expected, actual);
+                drifted++;
+            }
+        }
+        aggregateRepository.saveAll(aggregates.values());
+        return drifted;
+    }
+
+    /**
+     * Reads the results of all questions. Only TEXT questions (and questions that
+     * have no aggregate row yet) touch the raw answers.
+     */
+    public List<QuestionResult> readResults(UUID formId, List<FormQuestion> questions) {
+        var aggregates = aggregateRepository.findByFormId(formId).stream()
+                .collect(Collectors.toMap(FormQuestionAggregate::getQuestionId, a -> a));
+
+        var results = new ArrayList<QuestionResult>();
+        for (var question : questions) {
+            var aggregate = aggregates.get(question.getId());
+            List<FormAnswer> answers = null;
+            if (aggregate == null || question.getType() == QuestionType.TEXT) {
+                answers = answerRepository.findByQuestionId(question.getId());
+            }
+            if (aggregate == null) {
+                aggregate = compute(question, answers);
+            }
+            List<String> textAnswers = question.getType() == QuestionType.TEXT
+                    ? answers.stream()
+                        .map(FormAnswer::getAnswerText)
+                        .filter(Objects::nonNull)
+                        .filter(t -> !t.isBlank())
+                        .toList()
+                    : null;
+            results.add(toQuestionResult(question, aggregate, textAnswers));
+        }
+        return results;
+    }
+
+    /**
+     * Publishes the current aggregates of a form. Listeners receive it after commit.
+     */
+    public void publishUpdate(UUID formId, List<FormQuestion> questions, int responseCount) {
+        var aggregates = aggregateRepository.findByFormId(formId).stream()
+                .collect(Collectors.toMap(FormQuestionAggregate::getQuestionId, a -> a));
+        var results = questions.stream()
+                .map(q -> toQuestionResult(q,
+                        aggregates.getOrDefault(q.getId(), new FormQuestionAggregate(q.getId(), formId)),
+                        null))
+                .toList();
+        eventPublisher.publishEvent(new FormResultsUpdatedEvent(formId, responseCount, results));
+    }
+
+    // Private helpers
+
+    private Map<UUID, FormQuestionAggregate> lockAggregates(UUID formId, Collection<UUID> questionIds) {
+        var aggregates = aggregateRepository.findByQuestionIdInForUpdate(questionIds).stream()
+                .collect(Collectors.toMap(FormQuestionAggregate::getQuestionId, a -> a));
+        for (var questionId : questionIds) {
+            aggregates.computeIfAbsent(questionId, id -> new FormQuestionAggregate(id, formId));
+        }
+        return aggregates;
+    }
+
+    private FormQuestionAggregate compute(FormQuestion question, List<FormAnswer> answers) {
+        var aggregate = new FormQuestionAggregate(question.getId(), question.getFormId());
+        for (var answer : answers) {
+            apply(aggregate, question.getType(), answer, 1);
+        }
+        return aggregate;
+    }
+
+    private void apply(FormQuestionAggregate aggregate, QuestionType type, FormAnswer answer, int sign) {
+        aggregate.setAnswerCount(aggregate.getAnswerCount() + sign);
+
+        switch (type) {
+            case SINGLE_CHOICE, MULTIPLE_CHOICE -> {
+                if (answer.getAnswerOptions() != null) {
+                    var counts = new HashMap<>(aggregate.getOptionCounts());
+                    for (var opt : answer.getAnswerOptions()) {
+                        mergeCount(counts, opt, sign);
+                    }
+                    aggregate.setOptionCounts(counts);
+                }
+            }
+            case RATING -> {
+                if (answer.getAnswerRating() != null) {
+                    aggregate.setRatingSum(aggregate.getRatingSum() + (long) sign * answer.getAnswerRating());
+                    aggregate.setRatingCount(aggregate.getRatingCount() + sign);
+                    var histogram = new HashMap<>(aggregate.getRatingHistogram());
+                    mergeCount(histogram, answer.getAnswerRating().toString(), sign);
+                    aggregate.setRatingHistogram(histogram);
+                }
+            }
+            case YES_NO -> {
+                if ("yes".equalsIgnoreCase(answer.getAnswerText())) {
+                    aggregate.setYesCount(aggregate.getYesCount() + sign);
+                } else if ("no".equalsIgnoreCase(answer.getAnswerText())) {
+                    aggregate.setNoCount(aggregate.getNoCount() + sign);
+                }
+            }
+            case TEXT -> {
+                // Text answers are listed individually, only the count is aggregated
+            }
+        }
+    }
+
+    private static void mergeCount(Map<String, Integer> counts, String key, int delta) {
+        int value = counts.getOrDefault(key, 0) + delta;
+        if (value <= 0) {
+            counts.remove(key);
+        } else {
+            counts.put(key, value);
+        }
+    }
+
+    private QuestionResult toQuestionResult(FormQuestion question, FormQuestionAggregate aggregate,
+                                            List<String> textAnswers) {
+        Map<String, Integer> optionCounts = null;
+        Double averageRating = null;
+        Map<Integer, Integer> ratingDistribution = null;
+
+        switch (question.getType()) {
+            case SINGLE_CHOICE, MULTIPLE_CHOICE -> {
+                optionCounts = new LinkedHashMap<>();
+                // Initialize with all options
+                if (question.getOptions() != null && question.getOptions().containsKey("choices")) {
+                    @SuppressWarnings("unchecked")
+                    var choices = (List<String>) question.getOptions().get("choices");
+                    for (var choice : choices) {
+                        optionCounts.put(choice, 0);
+                    }
+                }
+                optionCounts.putAll(aggregate.getOptionCounts());
+            }
+            case RATING -> {
+                ratingDistribution = new TreeMap<>();
+                for (var entry : aggregate.getRatingHistogram().entrySet()) {
+                    ratingDistribution.put(Integer.valueOf(entry.getKey()), entry.getValue());
+                }
+                averageRating = aggregate.getRatingCount() > 0
+                        ? (double) aggregate.getRatingSum() / aggregate.getRatingCount() : null;
+            }
+            case YES_NO, TEXT -> {
+            }
+        }
+
+        return new QuestionResult(
+                question.getId(),
+                question.getLabel(),
+                question.getType(),
+                aggregate.getAnswerCount(),
+                optionCounts,
+                averageRating,
+                ratingDistribution,
+                textAnswers,
+                aggregate.getYesCount(),
+                aggregate.getNoCount()
+        );
+    }
+
+    private boolean sameCounts(FormQuestionAggregate a, FormQuestionAggregate b) {
+        return a.getAnswerCount() == b.getAnswerCount()
+                && a.getRatingSum() == b.getRatingSum()
+                && a.getRatingCount() == b.getRatingCount()
+                && a.getYesCount() == b.getYesCount()
+                && a.getNoCount() == b.getNoCount()
+                && a.getOptionCounts().equals(b.getOptionCounts())
+                && a.getRatingHistogram().equals(b.getRatingHistogram());
+    }
+
+    private void copyCounts(FormQuestionAggregate from, FormQuestionAggregate to) {
+        to.setAnswerCount(from.getAnswerCount());
+        to.setOptionCounts(new HashMap<>(from.getOptionCounts()));
+        to.setRatingSum(from.getRatingSum());
+        to.setRatingCount(from.getRatingCount());
+        to.setRatingHistogram(new HashMap<>(from.getRatingHistogram()));
+        to.setYesCount(from.getYesCount());
+        to.setNoCount(from.getNoCount());
+    }
+}
@@ -0,0 +1,27 @@
+package com.monteweb.forms.internal.service;
+
+import com.monteweb.forms.FormResultsUpdatedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Pushes updated form results to subscribers of {@code /topic/forms/{formId}/results}
+ * once the submitting transaction has committed.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules", name = "forms.enabled", havingValue = "true")
+public class FormResultsBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public FormResultsBroadcaster(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @TransactionalEventListener
+    public void onResultsUpdated(FormResultsUpdatedEvent event) {
+        messagingTemplate.convertAndSend("/topic/forms/" + event.formId() + "/results", event);
+    }
+}
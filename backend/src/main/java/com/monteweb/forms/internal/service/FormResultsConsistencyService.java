@@ -0,0 +1,76 @@
+package com.monteweb.forms.internal.service;
+
+import com.monteweb.forms.FormStatus;
+import com.monteweb.forms.internal.repository.FormQuestionRepository;
+import com.monteweb.forms.internal.repository.FormRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * Rebuilds the incrementally maintained form result aggregates from the raw
+ * {@code form_answers} rows and corrects any drift.
+ * <p>
+ * Each form is rebuilt in its own transaction, so the aggregate row locks of a form are
+ * released before the next one is rebuilt and live submissions wait at most for one form.
+ */
+@Service
+@EnableScheduling
+@ConditionalOnProperty(prefix = "monteweb.modules", name = "forms.enabled", havingValue = "true")
+public class FormResultsConsistencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(FormResultsConsistencyService.class);
+
+    private final FormRepository formRepository;
+    private final FormQuestionRepository questionRepository;
+    private final FormResultsAggregator resultsAggregator;
+    private final TransactionTemplate transactionTemplate;
+
+    public FormResultsConsistencyService(FormRepository formRepository,
+                                         FormQuestionRepository questionRepository,
+                                         FormResultsAggregator resultsAggregator,
+                                         PlatformTransactionManager transactionManager) {
+        this.formRepository = formRepository;
+        this.questionRepository = questionRepository;
+        this.resultsAggregator = resultsAggregator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "0 30 0 * * *")
+    public void verifyPublishedForms() {
+        int corrected = 0;
+        for (var form : formRepository.findByStatus(FormStatus.PUBLISHED)) {
+            UUID formId = form.getId();
+            try {
+                Integer drifted = transactionTemplate.execute(status -> rebuild(formId));
+                corrected += drifted != null ? drifted : 0;
+            } catch (RuntimeException e) {
+                log.error("Form {}: rebuilding result aggregates failed", formId, e);
+            }
+        }
+        if (corrected > 0) {
+            log.warn("Corrected {} drifted form result aggregates", corrected);
+        }
+    }
+
+    /**
+     * @return number of questions whose aggregate had drifted
+     */
+    @Transactional
+    public int rebuild(UUID formId) {
+        var questions = questionRepository.findByFormIdOrderBySortOrder(formId);
+        int drifted = resultsAggregator.rebuild(formId, questions);
+        if (drifted > 0) {
+            log.warn("Form {}: rebuilt {} drifted result aggregates", formId, drifted);
+        }
+        return drifted;
+    }
+}
@@ -6,6 +6,7 @@ import com.monteweb.forms.internal.repository.*;
 import com.monteweb.room.RoomModuleApi;
 import com.monteweb.room.RoomRole;
 import com.monteweb.school.SchoolModuleApi;
+import com.monteweb.shared.dto.NamedRef;
 import com.monteweb.user.UserModuleApi;
 import com.monteweb.user.UserRole;
 import org.springframework.context.ApplicationEventPublisher;
@@ -29,6 +30,7 @@ public class FormsService implements FormsModuleApi {
     private final FormResponseRepository responseRepository;
     private final FormAnswerRepository answerRepository;
     private final FormResponseTrackingRepository trackingRepository;
+    private final FormResultsAggregator resultsAggregator;
     private final RoomModuleApi roomModule;
     private final SchoolModuleApi schoolModule;
     private final UserModuleApi userModule;
@@ -39,6 +41,7 @@ public class FormsService implements FormsModuleApi {
                         FormResponseRepository responseRepository,
                         FormAnswerRepository answerRepository,
                         FormResponseTrackingRepository trackingRepository,
+                        FormResultsAggregator resultsAggregator,
                         RoomModuleApi roomModule,
                         SchoolModuleApi schoolModule,
                         UserModuleApi userModule,
@@ -48,6 +51,7 @@ public class FormsService implements FormsModuleApi {
         this.responseRepository = responseRepository;
         this.answerRepository = answerRepository;
         this.trackingRepository = trackingRepository;
+        this.resultsAggregator = resultsAggregator;
         this.roomModule = roomModule;
         this.schoolModule = schoolModule;
         this.userModule = userModule;
@@ -66,13 +70,15 @@ public class FormsService implements FormsModuleApi {
         if (roomIds.isEmpty()) roomIds = List.of(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         if (sectionIds.isEmpty()) sectionIds = List.of(UUID.fromString("00000000-0000-0000-0000-000000000000"));
 
-        return formRepository.findAvailableForms(roomIds, sectionIds, pageable)
-                .map(f -> toFormInfo(f, userId));
+        var page = formRepository.findAvailableForms(roomIds, sectionIds, pageable);
+        var infos = toFormInfos(page.getContent(), userId).iterator();
+        return page.map(f -> infos.next());
     }
 
     public Page<FormInfo> getMyForms(UUID userId, Pageable pageable) {
-        return formRepository.findByCreatedByOrderByCreatedAtDesc(userId, pageable)
-                .map(f -> toFormInfo(f, userId));
+        var page = formRepository.findByCreatedByOrderByCreatedAtDesc(userId, pageable);
+        var infos = toFormInfos(page.getContent(), userId).iterator();
+        return page.map(f -> infos.next());
     }
 
     public FormDetailInfo getForm(UUID formId, UUID userId) {
@@ -186,10 +192,11 @@ public class FormsService implements FormsModuleApi {
 
         checkManagePermission(form, userId);
 
-        int qCount = questionRepository.countByFormId(formId);
-        if (qCount == 0) {
+        var questions = questionRepository.findByFormIdOrderBySortOrder(formId);
+        if (questions.isEmpty()) {
             throw new IllegalStateException("Cannot publish a form without questions");
         }
+        resultsAggregator.initialize(formId, questions.stream().map(FormQuestion::getId).toList());
 
         form.setStatus(FormStatus.PUBLISHED);
         form.setPublishedAt(Instant.now());
@@ -274,26 +281,8 @@ public class FormsService implements FormsModuleApi {
         response = responseRepository.save(response);
 
         // Save answers
-        for (var answerReq : request.answers()) {
-            var question = questionMap.get(answerReq.questionId());
-            if (question == null) continue;
-
-            var answer = new FormAnswer();
-            answer.setResponseId(response.getId());
-            answer.setQuestionId(answerReq.questionId());
-
-            switch (question.getType()) {
-                case TEXT -> answer.setAnswerText(answerReq.text());
-                case SINGLE_CHOICE -> answer.setAnswerOptions(
-                        answerReq.selectedOptions() != null ? answerReq.selectedOptions() : List.of());
-                case MULTIPLE_CHOICE -> answer.setAnswerOptions(
-                        answerReq.selectedOptions() != null ? answerReq.selectedOptions() : List.of());
-                case RATING -> answer.setAnswerRating(answerReq.rating());
-                case YES_NO -> answer.setAnswerText(answerReq.text());
-            }
-
-            answerRepository.save(answer);
-        }
+        var answers = saveAnswers(response.getId(), request.answers(), questionMap);
+        resultsAggregator.applyDelta(formId, questionMap, answers, 1);
 
         // Track anonymous responses
         if (form.isAnonymous()) {
@@ -302,6 +291,8 @@ public class FormsService implements FormsModuleApi {
             tracking.setUserId(userId);
             trackingRepository.save(tracking);
         }
+
+        resultsAggregator.publishUpdate(formId, questions, responseRepository.countByFormId(formId));
     }
 
     public void updateResponse(UUID formId, SubmitResponseRequest request, UUID userId) {
@@ -327,33 +318,19 @@ public class FormsService implements FormsModuleApi {
         var questionMap = questions.stream().collect(Collectors.toMap(FormQuestion::getId, q -> q));
 
         // Delete old answers
+        var oldAnswers = answerRepository.findByResponseId(existingResponse.getId());
+        resultsAggregator.applyDelta(formId, questionMap, oldAnswers, -1);
         answerRepository.deleteByResponseId(existingResponse.getId());
 
         // Save new answers
-        for (var answerReq : request.answers()) {
-            var question = questionMap.get(answerReq.questionId());
-            if (question == null) continue;
-
-            var answer = new FormAnswer();
-            answer.setResponseId(existingResponse.getId());
-            answer.setQuestionId(answerReq.questionId());
-
-            switch (question.getType()) {
-                case TEXT -> answer.setAnswerText(answerReq.text());
-                case SINGLE_CHOICE -> answer.setAnswerOptions(
-                        answerReq.selectedOptions() != null ? answerReq.selectedOptions() : List.of());
-                case MULTIPLE_CHOICE -> answer.setAnswerOptions(
-                        answerReq.selectedOptions() != null ? answerReq.selectedOptions() : List.of());
-                case RATING -> answer.setAnswerRating(answerReq.rating());
-                case YES_NO -> answer.setAnswerText(answerReq.text());
-            }
-
-            answerRepository.save(answer);
-        }
+        var answers = saveAnswers(existingResponse.getId(), request.answers(), questionMap);
+        resultsAggregator.applyDelta(formId, questionMap, answers, 1);
 
         // Update submitted timestamp
         existingResponse.setSubmittedAt(Instant.now());
         responseRepository.save(existingResponse);
+
+        resultsAggregator.publishUpdate(formId, questions, responseRepository.countByFormId(formId));
     }
 
     public MyResponseInfo getMyResponse(UUID formId, UUID userId) {
@@ -398,12 +375,7 @@ public class FormsService implements FormsModuleApi {
         checkResultsPermission(form, userId);
 
         var questions = questionRepository.findByFormIdOrderBySortOrder(formId);
-        var questionResults = new ArrayList<QuestionResult>();
-
-        for (var question : questions) {
-            var answers = answerRepository.findByQuestionId(question.getId());
-            questionResults.add(aggregateQuestionResult(question, answers));
-        }
+        var questionResults = resultsAggregator.readResults(formId, questions);
 
         return new FormResultsSummary(toFormInfo(form, userId), questionResults);
     }
@@ -456,22 +428,19 @@ public class FormsService implements FormsModuleApi {
     @Override
     @Transactional(readOnly = true)
     public List<FormInfo> getPublishedFormsForRoom(UUID roomId) {
-        return formRepository.findByScopeAndScopeIdAndStatus(FormScope.ROOM, roomId, FormStatus.PUBLISHED)
-                .stream().map(f -> toFormInfo(f, null)).toList();
+        return toFormInfos(formRepository.findByScopeAndScopeIdAndStatus(FormScope.ROOM, roomId, FormStatus.PUBLISHED), null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<FormInfo> getPublishedFormsForSection(UUID sectionId) {
-        return formRepository.findPublishedForSection(sectionId)
-                .stream().map(f -> toFormInfo(f, null)).toList();
+        return toFormInfos(formRepository.findPublishedForSection(sectionId), null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<FormInfo> getPublishedSchoolForms() {
-        return formRepository.findByScopeAndStatus(FormScope.SCHOOL, FormStatus.PUBLISHED)
-                .stream().map(f -> toFormInfo(f, null)).toList();
+        return toFormInfos(formRepository.findByScopeAndStatus(FormScope.SCHOOL, FormStatus.PUBLISHED), null);
     }
 
     @Override
@@ -481,6 +450,24 @@ public class FormsService implements FormsModuleApi {
                 .map(f -> toFormInfo(f, currentUserId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, FormInfo> findByIds(Collection<UUID> formIds, UUID currentUserId) {
+        if (formIds == null || formIds.isEmpty()) return Map.of();
+        var result = new HashMap<UUID, FormInfo>();
+        for (var info : toFormInfos(formRepository.findAllById(formIds), currentUserId)) {
+            result.put(info.id(), info);
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, String> findTitlesByIds(Collection<UUID> formIds) {
+        if (formIds == null || formIds.isEmpty()) return Map.of();
+        return NamedRef.toMap(formRepository.findTitlesByIdIn(formIds));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean hasUserResponded(UUID formId, UUID userId) {
@@ -492,6 +479,19 @@ public class FormsService implements FormsModuleApi {
         return responseRepository.existsByFormIdAndUserId(formId, userId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean canViewResults(UUID formId, UUID userId) {
+        var form = formRepository.findById(formId).orElse(null);
+        if (form == null) return false;
+        try {
+            checkResultsPermission(form, userId);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     // CSV export helper
 
     public String generateCsv(UUID formId, UUID userId) {
@@ -626,6 +626,33 @@ public class FormsService implements FormsModuleApi {
 
     // Private helpers
 
+    private List<FormAnswer> saveAnswers(UUID responseId, List<AnswerRequest> requests,
+                                         Map<UUID, FormQuestion> questionMap) {
+        var saved = new ArrayList<FormAnswer>();
+        for (var answerReq : requests) {
+            var question = questionMap.get(answerReq.questionId());
+            if (question == null) continue;
+
+            var answer = new FormAnswer();
+            answer.setResponseId(responseId);
+            answer.setQuestionId(answerReq.questionId());
+
+            switch (question.getType()) {
+                case TEXT -> answer.setAnswerText(answerReq.text());
+                case SINGLE_CHOICE -> answer.setAnswerOptions(
+                        answerReq.selectedOptions() != null ? answerReq.selectedOptions() : List.of());
+                case MULTIPLE_CHOICE -> answer.setAnswerOptions(
+                        answerReq.selectedOptions() != null ? answerReq.selectedOptions() : List.of());
+                case RATING -> answer.setAnswerRating(answerReq.rating());
+                case YES_NO -> answer.setAnswerText(answerReq.text());
+            }
+
+            answerRepository.save(answer);
+            saved.add(answer);
+        }
+        return saved;
+    }
+
     private List<FormQuestion> saveQuestions(UUID formId, List<QuestionRequest> requests) {
         if (requests == null || requests.isEmpty()) return List.of();
 
@@ -751,6 +778,86 @@ public class FormsService implements FormsModuleApi {
             }
         }
 
+        return buildFormInfo(form, creatorName, scopeName, sectionIdList, sectionNameList,
+                questionCount, responseCount, targetCount, hasResponded);
+    }
+
+    /**
+     * List variant of {@link #toFormInfo(Form, UUID)}: creators, scope names, counts and the
+     * current user's response state are loaded with one query per kind for all forms.
+     */
+    private List<FormInfo> toFormInfos(List<Form> forms, UUID currentUserId) {
+        if (forms.isEmpty()) return List.of();
+
+        var formIds = forms.stream().map(Form::getId).toList();
+        var creatorIds = forms.stream().map(Form::getCreatedBy).filter(Objects::nonNull).distinct().toList();
+        var creatorNames = creatorIds.isEmpty() ? Map.<UUID, String>of()
+                : userModule.findByIds(creatorIds).stream()
+                    .collect(Collectors.toMap(u -> u.id(), u -> u.displayName(), (a, b) -> a));
+
+        var roomIds = forms.stream()
+                .filter(f -> f.getScope() == FormScope.ROOM && f.getScopeId() != null)
+                .map(Form::getScopeId)
+                .collect(Collectors.toSet());
+        var sectionIds = new HashSet<UUID>();
+        for (var form : forms) {
+            if (form.getScope() == FormScope.SECTION && form.getScopeId() != null) sectionIds.add(form.getScopeId());
+            if (form.getSectionIds() != null) sectionIds.addAll(Arrays.asList(form.getSectionIds()));
+        }
+        var roomNames = roomIds.isEmpty() ? Map.<UUID, String>of() : roomModule.findNamesByIds(roomIds);
+        var sectionNames = sectionIds.isEmpty() ? Map.<UUID, String>of() : schoolModule.findNamesByIds(sectionIds);
+        var roomMemberCounts = new HashMap<UUID, Integer>();
+        for (var roomId : roomIds) {
+            roomMemberCounts.put(roomId, roomModule.getMemberUserIds(roomId).size());
+        }
+
+        var questionCounts = toCountMap(questionRepository.countByFormIdIn(formIds));
+        var responseCounts = toCountMap(responseRepository.countByFormIdIn(formIds));
+
+        var respondedFormIds = new HashSet<UUID>();
+        if (currentUserId != null) {
+            respondedFormIds.addAll(responseRepository.findRespondedFormIds(formIds, currentUserId));
+            respondedFormIds.addAll(trackingRepository.findRespondedFormIds(formIds, currentUserId));
+        }
+
+        var result = new ArrayList<FormInfo>(forms.size());
+        for (var form : forms) {
+            String scopeName = form.getScopeId() == null ? null : switch (form.getScope()) {
+                case ROOM -> roomNames.get(form.getScopeId());
+                case SECTION -> sectionNames.get(form.getScopeId());
+                case SCHOOL -> null;
+            };
+            List<UUID> sectionIdList = form.getSectionIds() != null ? List.of(form.getSectionIds()) : List.of();
+            List<String> sectionNameList = sectionIdList.stream()
+                    .map(sectionNames::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            int targetCount = form.getScope() == FormScope.ROOM && form.getScopeId() != null
+                    ? roomMemberCounts.getOrDefault(form.getScopeId(), 0) : 0;
+
+            result.add(buildFormInfo(form,
+                    creatorNames.getOrDefault(form.getCreatedBy(), "Unknown"),
+                    scopeName, sectionIdList, sectionNameList,
+                    questionCounts.getOrDefault(form.getId(), 0),
+                    responseCounts.getOrDefault(form.getId(), 0),
+                    targetCount,
+                    respondedFormIds.contains(form.getId())));
+        }
+        return result;
+    }
+
+    private static Map<UUID, Integer> toCountMap(List<FormCount> counts) {
+        var map = new HashMap<UUID, Integer>();
+        for (var row : counts) {
+            map.put(row.formId(), row.count().intValue());
+        }
+        return map;
+    }
+
+    private FormInfo buildFormInfo(Form form, String creatorName, String scopeName,
+                                   List<UUID> sectionIdList, List<String> sectionNameList,
+                                   int questionCount, int responseCount, int targetCount,
+                                   boolean hasResponded) {
         return new FormInfo(
                 form.getId(),
                 form.getTitle(),
@@ -815,78 +922,6 @@ public class FormsService implements FormsModuleApi {
         );
     }
 
-    private QuestionResult aggregateQuestionResult(FormQuestion question, List<FormAnswer> answers) {
-        Map<String, Integer> optionCounts = null;
-        Double averageRating = null;
-        Map<Integer, Integer> ratingDistribution = null;
-        List<String> textAnswers = null;
-        int yesCount = 0;
-        int noCount = 0;
-
-        switch (question.getType()) {
-            case SINGLE_CHOICE, MULTIPLE_CHOICE -> {
-                optionCounts = new LinkedHashMap<>();
-                // Initialize with all options
-                if (question.getOptions() != null && question.getOptions().containsKey("choices")) {
-                    @SuppressWarnings("unchecked")
-                    var choices = (List<String>) question.getOptions().get("choices");
-                    for (var choice : choices) {
-                        optionCounts.put(choice, 0);
-                    }
-                }
-                for (var answer : answers) {
-                    if (answer.getAnswerOptions() != null) {
-                        for (var opt : answer.getAnswerOptions()) {
-                            optionCounts.merge(opt, 1, Integer::sum);
-                        }
-                    }
-                }
-            }
-            case RATING -> {
-                ratingDistribution = new TreeMap<>();
-                int sum = 0;
-                int count = 0;
-                for (var answer : answers) {
-                    if (answer.getAnswerRating() != null) {
-                        ratingDistribution.merge(answer.getAnswerRating(), 1, Integer::sum);
-                        sum += answer.getAnswerRating();
-                        count++;
-                    }
-                }
-                averageRating = count > 0 ? (double) sum / count : null;
-            }
-            case YES_NO -> {
-                for (var answer : answers) {
-                    if ("yes".equalsIgnoreCase(answer.getAnswerText())) {
-                        yesCount++;
-                    } else if ("no".equalsIgnoreCase(answer.getAnswerText())) {
-                        noCount++;
-                    }
-                }
-            }
-            case TEXT -> {
-                textAnswers = answers.stream()
-                        .map(FormAnswer::getAnswerText)
-                        .filter(Objects::nonNull)
-                        .filter(t -> !t.isBlank())
-                        .toList();
-            }
-        }
-
-        return new QuestionResult(
-                question.getId(),
-                question.getLabel(),
-                question.getType(),
-                answers.size(),
-                optionCounts,
-                averageRating,
-                ratingDistribution,
-                textAnswers,
-                yesCount,
-                noCount
-        );
-    }
-
     private String formatAnswer(FormAnswer answer) {
         if (answer.getAnswerText() != null) return answer.getAnswerText();
         if (answer.getAnswerOptions() != null) return String.join(", ", answer.getAnswerOptions());
@@ -1,35 +1,40 @@
 package com.monteweb.forms.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up forms data when a user account is deleted.
  * Anonymizes form responses and deletes response tracking.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.forms", name = "enabled", havingValue = "true")
-public class FormsDeletionListener {
+public class FormsUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(FormsDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(FormsUserDataCleanup.class);
 
     private final FormsService formsService;
 
-    public FormsDeletionListener(FormsService formsService) {
+    public FormsUserDataCleanup(FormsService formsService) {
         this.formsService = formsService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "forms";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up forms data for deleted user {}", event.userId());
-        formsService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up forms data for {} deleted users", userIds.size());
+        userIds.forEach(formsService::cleanupUserData);
     }
 }
@@ -2,7 +2,9 @@ package com.monteweb.fotobox.internal.repository;
 
 import com.monteweb.fotobox.internal.model.FotoboxImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +14,21 @@ public interface FotoboxImageRepository extends JpaRepository<FotoboxImage, UUID
     void deleteAllByThreadId(UUID threadId);
 
     List<FotoboxImage> findByUploadedBy(UUID uploadedBy);
+
+    /** Storage keys of all originals and thumbnails in the room's threads. */
+    @Query(value = """
+            SELECT k.path FROM fotobox_images i
+            JOIN fotobox_threads t ON t.id = i.thread_id
+            CROSS JOIN LATERAL (VALUES (i.storage_path), (i.thumbnail_path)) AS k(path)
+            WHERE t.room_id = :roomId AND k.path IS NOT NULL
+            """, nativeQuery = true)
+    List<String> findStorageKeysByRoomId(UUID roomId);
+
+    /** Which of the keys an image or thumbnail still points at. */
+    @Query(value = """
+            SELECT storage_path FROM fotobox_images WHERE storage_path IN (:keys)
+            UNION
+            SELECT thumbnail_path FROM fotobox_images WHERE thumbnail_path IN (:keys)
+            """, nativeQuery = true)
+    List<String> findReferencedKeys(Collection<String> keys);
 }
@@ -13,6 +13,7 @@ import com.monteweb.room.RoomRole;
 import com.monteweb.shared.exception.BadRequestException;
 import com.monteweb.shared.exception.ForbiddenException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import com.monteweb.user.UserModuleApi;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @ConditionalOnProperty(prefix = "monteweb.modules", name = "fotobox.enabled", havingValue = "true")
@@ -39,6 +41,7 @@ public class FotoboxService implements FotoboxModuleApi {
     private final FotoboxRoomSettingsRepository settingsRepo;
     private final FotoboxPermissionService permissionService;
     private final FotoboxStorageService storageService;
+    private final ObjectDeletionQueue deletionQueue;
     private final RoomModuleApi roomModule;
     private final UserModuleApi userModule;
     private final ApplicationEventPublisher eventPublisher;
@@ -168,12 +171,11 @@ public class FotoboxService implements FotoboxModuleApi {
         if (!permissionService.isThreadOwnerOrLeader(userId, threadId)) {
             throw new ForbiddenException("Only thread creator or room leader can delete this thread");
         }
-        // Delete all images from storage
+        // Objects are removed in bulk once the rows are gone
         var images = imageRepo.findByThreadIdOrderBySortOrderAscCreatedAtAsc(threadId);
-        for (var image : images) {
-            storageService.delete(image.getStoragePath());
-            storageService.delete(image.getThumbnailPath());
-        }
+        deletionQueue.enqueue(images.stream()
+                .flatMap(image -> Stream.of(image.getStoragePath(), image.getThumbnailPath()))
+                .toList());
         imageRepo.deleteAllByThreadId(threadId);
         threadRepo.delete(thread);
     }
@@ -0,0 +1,52 @@
+package com.monteweb.fotobox.internal.service;
+
+import com.monteweb.fotobox.internal.repository.FotoboxImageRepository;
+import com.monteweb.shared.storage.StorageReferenceProvider;
+import com.monteweb.shared.storage.StoredObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Fotobox images and thumbnails, stored under {@code rooms/{roomId}/fotobox/}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules", name = "fotobox.enabled", havingValue = "true")
+public class FotoboxStorageReferences implements StorageReferenceProvider {
+
+    private static final Pattern KEY = Pattern.compile("^rooms/[^/]+/fotobox/");
+
+    private final FotoboxImageRepository imageRepo;
+
+    public FotoboxStorageReferences(FotoboxImageRepository imageRepo) {
+        this.imageRepo = imageRepo;
+    }
+
+    @Override
+    public String listingPrefix() {
+        return "rooms/";
+    }
+
+    @Override
+    public boolean owns(String objectKey) {
+        return KEY.matcher(objectKey).find();
+    }
+
+    @Override
+    public Set<String> findReferenced(Collection<String> objectKeys) {
+        return new HashSet<>(imageRepo.findReferencedKeys(objectKeys));
+    }
+
+    @Override
+    public List<StoredObject> findUploadedBy(UUID userId) {
+        return imageRepo.findByUploadedBy(userId).stream()
+                .map(img -> new StoredObject(img.getStoragePath(), img.getOriginalFilename()))
+                .toList();
+    }
+}
@@ -1,35 +1,40 @@
 package com.monteweb.fotobox.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up fotobox data when a user account is deleted.
  * Deletes user's images from MinIO, anonymizes threads.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.fotobox", name = "enabled", havingValue = "true")
-public class FotoboxDeletionListener {
+public class FotoboxUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(FotoboxDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(FotoboxUserDataCleanup.class);
 
     private final FotoboxService fotoboxService;
 
-    public FotoboxDeletionListener(FotoboxService fotoboxService) {
+    public FotoboxUserDataCleanup(FotoboxService fotoboxService) {
         this.fotoboxService = fotoboxService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "fotobox";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up fotobox data for deleted user {}", event.userId());
-        fotoboxService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up fotobox data for {} deleted users", userIds.size());
+        userIds.forEach(fotoboxService::cleanupUserData);
     }
 }
@@ -0,0 +1,30 @@
+package com.monteweb.fotobox.internal.service;
+
+import com.monteweb.fotobox.internal.repository.FotoboxImageRepository;
+import com.monteweb.room.RoomDeletedEvent;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queues the images and thumbnails of a deleted room for removal. Runs synchronously in
+ * the deleting transaction, before the database drops the thread and image rows by cascade.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules.fotobox", name = "enabled", havingValue = "true")
+public class RoomDeletedFotoboxListener {
+
+    private final FotoboxImageRepository imageRepo;
+    private final ObjectDeletionQueue deletionQueue;
+
+    public RoomDeletedFotoboxListener(FotoboxImageRepository imageRepo, ObjectDeletionQueue deletionQueue) {
+        this.imageRepo = imageRepo;
+        this.deletionQueue = deletionQueue;
+    }
+
+    @EventListener
+    public void onRoomDeleted(RoomDeletedEvent event) {
+        deletionQueue.enqueue(imageRepo.findStorageKeysByRoomId(event.roomId()));
+    }
+}
@@ -8,17 +8,20 @@ import com.monteweb.fundgrube.internal.dto.UpdateItemRequest;
 import com.monteweb.fundgrube.internal.service.FundgrubeService;
 import com.monteweb.fundgrube.internal.service.FundgrubeStorageService;
 import com.monteweb.shared.dto.ApiResponse;
+import com.monteweb.shared.dto.CursorPageResponse;
 import com.monteweb.shared.util.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,10 +37,15 @@ public class FundgrubeController {
     // ---- Items ----
 
     @GetMapping("/items")
-    public ApiResponse<List<FundgrubeItemInfo>> listItems(
-            @RequestParam(required = false) UUID sectionId) {
+    public ApiResponse<CursorPageResponse<FundgrubeItemInfo>> listItems(
+            @RequestParam(required = false) UUID sectionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "24") int size) {
         SecurityUtils.requireCurrentUserId();
-        return ApiResponse.ok(fundgrubeService.listItems(sectionId));
+        return ApiResponse.ok(fundgrubeService.listItems(sectionId, from, to, q, cursor, size));
     }
 
     @GetMapping("/items/{itemId}")
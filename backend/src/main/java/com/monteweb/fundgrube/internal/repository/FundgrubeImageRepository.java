@@ -2,7 +2,9 @@ package com.monteweb.fundgrube.internal.repository;
 
 import com.monteweb.fundgrube.internal.model.FundgrubeImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +15,14 @@ public interface FundgrubeImageRepository extends JpaRepository<FundgrubeImage,
     void deleteByItemId(UUID itemId);
 
     List<FundgrubeImage> findByItemIdIn(List<UUID> itemIds);
+
+    List<FundgrubeImage> findByItemIdInOrderByCreatedAt(Collection<UUID> itemIds);
+
+    /** Which of the keys an image or thumbnail still points at. */
+    @Query(value = """
+            SELECT storage_path FROM fundgrube_images WHERE storage_path IN (:keys)
+            UNION
+            SELECT thumbnail_path FROM fundgrube_images WHERE thumbnail_path IN (:keys)
+            """, nativeQuery = true)
+    List<String> findReferencedKeys(Collection<String> keys);
 }
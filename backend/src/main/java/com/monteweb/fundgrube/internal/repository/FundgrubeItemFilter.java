@@ -0,0 +1,19 @@
+package com.monteweb.fundgrube.internal.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Optional filters for the item listing; {@code null} means unfiltered.
+ *
+ * @param createdFrom inclusive lower bound on the creation time
+ * @param createdTo   exclusive upper bound on the creation time
+ * @param text        matched case-insensitively against title and description
+ */
+public record FundgrubeItemFilter(
+        UUID sectionId,
+        Instant createdFrom,
+        Instant createdTo,
+        String text
+) {
+}
@@ -0,0 +1,21 @@
+package com.monteweb.fundgrube.internal.repository;
+
+import com.monteweb.fundgrube.internal.model.FundgrubeItem;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset-paginated listing of active items, newest first.
+ */
+public interface FundgrubeItemPageRepository {
+
+    /**
+     * Up to {@code limit} active items matching the filter, ordered by creation time and
+     * ID descending, starting after the item identified by {@code afterCreatedAt} and
+     * {@code afterId} (both {@code null} for the first page).
+     */
+    List<FundgrubeItem> findActivePage(FundgrubeItemFilter filter, Instant now,
+                                       Instant afterCreatedAt, UUID afterId, int limit);
+}
@@ -0,0 +1,60 @@
+package com.monteweb.fundgrube.internal.repository;
+
+import com.monteweb.fundgrube.internal.model.FundgrubeItem;
+import jakarta.persistence.EntityManager;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+class FundgrubeItemPageRepositoryImpl implements FundgrubeItemPageRepository {
+
+    private final EntityManager entityManager;
+
+    FundgrubeItemPageRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<FundgrubeItem> findActivePage(FundgrubeItemFilter filter, Instant now,
+                                              Instant afterCreatedAt, UUID afterId, int limit) {
+        // Only the filters in use go into the statement, so the planner sees plain predicates
+        var sql = new StringBuilder("""
+                SELECT i.* FROM fundgrube_items i
+                WHERE (i.expires_at IS NULL OR i.expires_at > :now)
+                """);
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("now", now);
+        if (filter.sectionId() != null) {
+            sql.append(" AND i.section_id = :sectionId");
+            params.put("sectionId", filter.sectionId());
+        }
+        if (filter.createdFrom() != null) {
+            sql.append(" AND i.created_at >= :createdFrom");
+            params.put("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            sql.append(" AND i.created_at < :createdTo");
+            params.put("createdTo", filter.createdTo());
+        }
+        if (filter.text() != null) {
+            sql.append(" AND (i.title ILIKE :pattern ESCAPE '\\' OR i.description ILIKE :pattern ESCAPE '\\')");
+            params.put("pattern", "%" + filter.text().replace("\\", "\\\\")
+                    .replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+        if (afterCreatedAt != null) {
+            sql.append(" AND (i.created_at, i.id) < (:afterCreatedAt, :afterId)");
+            params.put("afterCreatedAt", afterCreatedAt);
+            params.put("afterId", afterId);
+        }
+        sql.append(" ORDER BY i.created_at DESC, i.id DESC LIMIT :limit");
+        params.put("limit", limit);
+
+        var query = entityManager.createNativeQuery(sql.toString(), FundgrubeItem.class);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
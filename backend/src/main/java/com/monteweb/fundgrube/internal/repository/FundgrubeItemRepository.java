@@ -10,13 +10,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
-public interface FundgrubeItemRepository extends JpaRepository<FundgrubeItem, UUID> {
-
-    @Query("SELECT i FROM FundgrubeItem i WHERE (i.expiresAt IS NULL OR i.expiresAt > :now) ORDER BY i.createdAt DESC")
-    List<FundgrubeItem> findAllActive(@Param("now") Instant now);
-
-    @Query("SELECT i FROM FundgrubeItem i WHERE i.sectionId = :sectionId AND (i.expiresAt IS NULL OR i.expiresAt > :now) ORDER BY i.createdAt DESC")
-    List<FundgrubeItem> findActiveBySectionId(@Param("sectionId") UUID sectionId, @Param("now") Instant now);
+public interface FundgrubeItemRepository extends JpaRepository<FundgrubeItem, UUID>, FundgrubeItemPageRepository {
 
     @Query("SELECT i FROM FundgrubeItem i WHERE i.expiresAt IS NOT NULL AND i.expiresAt < :now")
     List<FundgrubeItem> findExpired(@Param("now") Instant now);
@@ -1,7 +1,9 @@
 package com.monteweb.fundgrube.internal.service;
 
 import com.monteweb.fundgrube.internal.repository.FundgrubeImageRepository;
+import com.monteweb.fundgrube.internal.model.FundgrubeItem;
 import com.monteweb.fundgrube.internal.repository.FundgrubeItemRepository;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +16,8 @@ import java.time.Instant;
 
 /**
  * Removes claimed Fundgrube items after their expiry time (claimed_at + 1 day).
+ * Their images are handed to the {@link ObjectDeletionQueue} and removed from storage
+ * in bulk once the rows are gone.
  */
 @Service
 @ConditionalOnProperty(prefix = "monteweb.modules", name = "fundgrube.enabled", havingValue = "true")
@@ -24,7 +28,7 @@ public class FundgrubeCleanupService {
 
     private final FundgrubeItemRepository itemRepo;
     private final FundgrubeImageRepository imageRepo;
-    private final FundgrubeStorageService storageService;
+    private final ObjectDeletionQueue deletionQueue;
 
     @Scheduled(cron = "0 0 3 * * *") // Daily at 3 AM
     @Transactional
@@ -33,12 +37,8 @@ public class FundgrubeCleanupService {
         var expired = itemRepo.findExpired(now);
         if (expired.isEmpty()) return;
 
-        for (var item : expired) {
-            imageRepo.findByItemIdOrderByCreatedAt(item.getId()).forEach(img -> {
-                storageService.delete(img.getStoragePath());
-                storageService.delete(img.getThumbnailPath());
-            });
-        }
+        var images = imageRepo.findByItemIdInOrderByCreatedAt(expired.stream().map(FundgrubeItem::getId).toList());
+        deletionQueue.enqueue(FundgrubeService.storageKeys(images));
         int deleted = itemRepo.deleteExpired(now);
         log.info("Fundgrube cleanup: deleted {} expired items", deleted);
     }
@@ -9,11 +9,14 @@ import com.monteweb.fundgrube.internal.dto.UpdateItemRequest;
 import com.monteweb.fundgrube.internal.model.FundgrubeImage;
 import com.monteweb.fundgrube.internal.model.FundgrubeItem;
 import com.monteweb.fundgrube.internal.repository.FundgrubeImageRepository;
+import com.monteweb.fundgrube.internal.repository.FundgrubeItemFilter;
 import com.monteweb.fundgrube.internal.repository.FundgrubeItemRepository;
 import com.monteweb.school.SchoolModuleApi;
+import com.monteweb.shared.dto.CursorPageResponse;
 import com.monteweb.shared.exception.BadRequestException;
 import com.monteweb.shared.exception.ForbiddenException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import com.monteweb.user.UserInfo;
 import com.monteweb.user.UserModuleApi;
 import com.monteweb.user.UserRole;
@@ -23,29 +26,74 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Service
 @ConditionalOnProperty(prefix = "monteweb.modules", name = "fundgrube.enabled", havingValue = "true")
 @RequiredArgsConstructor
 public class FundgrubeService implements FundgrubeModuleApi {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    /** Date filters are calendar days at the school, whatever the server's zone. */
+    private static final ZoneId SCHOOL_ZONE = ZoneId.of("Europe/Berlin");
+
     private final FundgrubeItemRepository itemRepo;
     private final FundgrubeImageRepository imageRepo;
     private final FundgrubeStorageService storageService;
+    private final ObjectDeletionQueue deletionQueue;
     private final UserModuleApi userModule;
     private final SchoolModuleApi schoolModule;
 
     // ---- List ----
 
-    public List<FundgrubeItemInfo> listItems(UUID sectionId) {
-        var now = Instant.now();
-        List<FundgrubeItem> items = sectionId != null
-                ? itemRepo.findActiveBySectionId(sectionId, now)
-                : itemRepo.findAllActive(now);
-        return items.stream().map(this::toInfo).toList();
+    /**
+     * One page of active items, newest first. Uploaders, sections and images are loaded
+     * for the whole page at once, so a page takes the same number of queries at any size.
+     *
+     * @param from   earliest creation date, inclusive
+     * @param to     latest creation date, inclusive
+     * @param cursor {@code nextCursor} of the previous page, or {@code null} for the first
+     */
+    public CursorPageResponse<FundgrubeItemInfo> listItems(UUID sectionId, LocalDate from, LocalDate to,
+                                                          String query, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        var filter = new FundgrubeItemFilter(
+                sectionId,
+                from != null ? from.atStartOfDay(SCHOOL_ZONE).toInstant() : null,
+                to != null ? to.plusDays(1).atStartOfDay(SCHOOL_ZONE).toInstant() : null,
+                query != null && !query.isBlank() ? query.trim() : null);
+
+        Instant afterCreatedAt = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                        .split("_", 2);
+                afterCreatedAt = Instant.parse(parts[0]);
+                afterId = UUID.fromString(parts[1]);
+            } catch (RuntimeException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        // One extra row tells whether there is a next page
+        var items = itemRepo.findActivePage(filter, Instant.now(), afterCreatedAt, afterId, size + 1);
+        String nextCursor = null;
+        if (items.size() > size) {
+            items = items.subList(0, size);
+            var last = items.getLast();
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.getCreatedAt() + "_" + last.getId()).getBytes(StandardCharsets.UTF_8));
+        }
+        return CursorPageResponse.of(toInfos(items), nextCursor);
     }
 
     // ---- Get ----
@@ -94,11 +142,7 @@ public class FundgrubeService implements FundgrubeModuleApi {
     public void deleteItem(UUID userId, UUID itemId) {
         var item = requireItem(itemId);
         requireEditPermission(userId, item);
-        // Delete images from storage
-        imageRepo.findByItemIdOrderByCreatedAt(itemId).forEach(img -> {
-            storageService.delete(img.getStoragePath());
-            storageService.delete(img.getThumbnailPath());
-        });
+        deletionQueue.enqueue(storageKeys(imageRepo.findByItemIdOrderByCreatedAt(itemId)));
         itemRepo.delete(item);
     }
 
@@ -171,6 +215,13 @@ public class FundgrubeService implements FundgrubeModuleApi {
 
     // ---- Helpers ----
 
+    /** Storage keys of the images' originals and thumbnails, for the deletion queue. */
+    static List<String> storageKeys(List<FundgrubeImage> images) {
+        return images.stream()
+                .flatMap(img -> Stream.of(img.getStoragePath(), img.getThumbnailPath()))
+                .toList();
+    }
+
     private FundgrubeItem requireItem(UUID itemId) {
         return itemRepo.findById(itemId)
                 .orElseThrow(() -> new ResourceNotFoundException("Fundgrube item not found: " + itemId));
@@ -205,6 +256,44 @@ public class FundgrubeService implements FundgrubeModuleApi {
                 : null;
         List<FundgrubeImageInfo> images = imageRepo.findByItemIdOrderByCreatedAt(item.getId())
                 .stream().map(this::toImageInfo).toList();
+        return toInfo(item, createdByName, claimedByName, sectionName, images);
+    }
+
+    /**
+     * Batch variant of {@link #toInfo(FundgrubeItem)}: one lookup each for users, sections
+     * and images, however many items there are.
+     */
+    private List<FundgrubeItemInfo> toInfos(List<FundgrubeItem> items) {
+        if (items.isEmpty()) return List.of();
+
+        Set<UUID> userIds = new HashSet<>();
+        Set<UUID> sectionIds = new HashSet<>();
+        List<UUID> itemIds = new ArrayList<>(items.size());
+        for (var item : items) {
+            userIds.add(item.getCreatedBy());
+            if (item.getClaimedBy() != null) userIds.add(item.getClaimedBy());
+            if (item.getSectionId() != null) sectionIds.add(item.getSectionId());
+            itemIds.add(item.getId());
+        }
+        Map<UUID, String> userNames = new HashMap<>();
+        for (var user : userModule.findByIds(new ArrayList<>(userIds))) {
+            userNames.put(user.id(), user.displayName());
+        }
+        Map<UUID, String> sectionNames = sectionIds.isEmpty() ? Map.of() : schoolModule.findNamesByIds(sectionIds);
+        Map<UUID, List<FundgrubeImageInfo>> images = new HashMap<>();
+        for (var image : imageRepo.findByItemIdInOrderByCreatedAt(itemIds)) {
+            images.computeIfAbsent(image.getItemId(), id -> new ArrayList<>()).add(toImageInfo(image));
+        }
+
+        return items.stream().map(item -> toInfo(item,
+                userNames.getOrDefault(item.getCreatedBy(), "Unbekannt"),
+                item.getClaimedBy() != null ? userNames.get(item.getClaimedBy()) : null,
+                item.getSectionId() != null ? sectionNames.get(item.getSectionId()) : null,
+                images.getOrDefault(item.getId(), List.of()))).toList();
+    }
+
+    private FundgrubeItemInfo toInfo(FundgrubeItem item, String createdByName, String claimedByName,
+                                     String sectionName, List<FundgrubeImageInfo> images) {
         return new FundgrubeItemInfo(
                 item.getId(), item.getTitle(), item.getDescription(),
                 item.getSectionId(), sectionName,
@@ -235,10 +324,7 @@ public class FundgrubeService implements FundgrubeModuleApi {
         var itemIds = items.stream().map(FundgrubeItem::getId).toList();
         if (!itemIds.isEmpty()) {
             var images = imageRepo.findByItemIdIn(itemIds);
-            for (var img : images) {
-                storageService.delete(img.getStoragePath());
-                storageService.delete(img.getThumbnailPath());
-            }
+            deletionQueue.enqueue(storageKeys(images));
             imageRepo.deleteAll(images);
         }
         itemRepo.deleteAll(items);
@@ -0,0 +1,50 @@
+package com.monteweb.fundgrube.internal.service;
+
+import com.monteweb.fundgrube.internal.model.FundgrubeItem;
+import com.monteweb.fundgrube.internal.repository.FundgrubeImageRepository;
+import com.monteweb.fundgrube.internal.repository.FundgrubeItemRepository;
+import com.monteweb.shared.storage.StorageReferenceProvider;
+import com.monteweb.shared.storage.StoredObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Fundgrube images and thumbnails, stored under {@code fundgrube/{itemId}/}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules", name = "fundgrube.enabled", havingValue = "true")
+public class FundgrubeStorageReferences implements StorageReferenceProvider {
+
+    private final FundgrubeItemRepository itemRepo;
+    private final FundgrubeImageRepository imageRepo;
+
+    public FundgrubeStorageReferences(FundgrubeItemRepository itemRepo, FundgrubeImageRepository imageRepo) {
+        this.itemRepo = itemRepo;
+        this.imageRepo = imageRepo;
+    }
+
+    @Override
+    public String listingPrefix() {
+        return "fundgrube/";
+    }
+
+    @Override
+    public Set<String> findReferenced(Collection<String> objectKeys) {
+        return new HashSet<>(imageRepo.findReferencedKeys(objectKeys));
+    }
+
+    @Override
+    public List<StoredObject> findUploadedBy(UUID userId) {
+        var itemIds = itemRepo.findByCreatedBy(userId).stream().map(FundgrubeItem::getId).toList();
+        if (itemIds.isEmpty()) return List.of();
+        return imageRepo.findByItemIdIn(itemIds).stream()
+                .map(img -> new StoredObject(img.getStoragePath(), img.getOriginalFilename()))
+                .toList();
+    }
+}
@@ -1,35 +1,40 @@
 package com.monteweb.fundgrube.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up fundgrube data when a user account is deleted.
  * Deletes user's items and images from MinIO.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.fundgrube", name = "enabled", havingValue = "true")
-public class FundgrubeDeletionListener {
+public class FundgrubeUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(FundgrubeDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(FundgrubeUserDataCleanup.class);
 
     private final FundgrubeService fundgrubeService;
 
-    public FundgrubeDeletionListener(FundgrubeService fundgrubeService) {
+    public FundgrubeUserDataCleanup(FundgrubeService fundgrubeService) {
         this.fundgrubeService = fundgrubeService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "fundgrube";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up fundgrube data for deleted user {}", event.userId());
-        fundgrubeService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up fundgrube data for {} deleted users", userIds.size());
+        userIds.forEach(fundgrubeService::cleanupUserData);
     }
 }
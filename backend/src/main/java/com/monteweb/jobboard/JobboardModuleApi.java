@@ -1,6 +1,7 @@
 package com.monteweb.jobboard;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,6 +21,11 @@ public interface JobboardModuleApi {
 
     int countJobsForEvent(UUID eventId);
 
+    /**
+     * Bulk variant of {@link #countJobsForEvent}. Events without jobs are absent from the map.
+     */
+    Map<UUID, Integer> countJobsForEvents(Collection<UUID> eventIds);
+
     /**
      * DSGVO: Export all jobboard-related data for a user.
      */
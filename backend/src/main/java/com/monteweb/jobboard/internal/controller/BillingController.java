@@ -5,6 +5,7 @@ import com.monteweb.jobboard.internal.dto.BillingReportInfo;
 import com.monteweb.jobboard.internal.dto.CreateBillingPeriodRequest;
 import com.monteweb.jobboard.internal.service.BillingService;
 import com.monteweb.shared.dto.ApiResponse;
+import com.monteweb.shared.util.PdfService;
 import com.monteweb.shared.util.SecurityUtils;
 import jakarta.validation.Valid;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -13,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,9 +26,11 @@ import java.util.UUID;
 public class BillingController {
 
     private final BillingService billingService;
+    private final PdfService pdfService;
 
-    public BillingController(BillingService billingService) {
+    public BillingController(BillingService billingService, PdfService pdfService) {
         this.billingService = billingService;
+        this.pdfService = pdfService;
     }
 
     @GetMapping("/periods")
@@ -57,20 +61,20 @@ public class BillingController {
     }
 
     @GetMapping(value = "/periods/{id}/export/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<byte[]> exportPdf(@PathVariable UUID id) {
-        byte[] pdf = billingService.exportPdf(id);
+    public ResponseEntity<StreamingResponseBody> exportPdf(@PathVariable UUID id) {
+        String html = billingService.generatePdfHtml(id);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"jahresabrechnung.pdf\"")
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(pdf);
+                .body(out -> pdfService.renderHtmlToPdf(html, out));
     }
 
     @GetMapping(value = "/periods/{id}/export/csv", produces = "text/csv")
-    public ResponseEntity<byte[]> exportCsv(@PathVariable UUID id) {
-        byte[] csv = billingService.exportCsv(id);
+    public ResponseEntity<StreamingResponseBody> exportCsv(@PathVariable UUID id) {
+        var report = billingService.getReport(id);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"jahresabrechnung.csv\"")
                 .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
-                .body(csv);
+                .body(out -> billingService.writeCsv(report, out));
     }
 }
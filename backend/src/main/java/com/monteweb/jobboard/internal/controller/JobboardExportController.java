@@ -11,7 +11,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -33,38 +38,17 @@ public class JobboardExportController {
     }
 
     @GetMapping(value = "/export", produces = "text/csv")
-    public ResponseEntity<byte[]> exportCsv() {
+    public ResponseEntity<StreamingResponseBody> exportCsv() {
         List<FamilyHoursInfo> report = jobboardService.getAllFamilyHoursReport();
 
-        StringBuilder csv = new StringBuilder();
-        csv.append("Familie;Zielstunden;Elternstunden;Putzstunden;Gesamt;Ausstehend;Verbleibend;Ampel\n");
-
-        for (var entry : report) {
-            csv.append(escapeCsv(entry.familyName())).append(";");
-            csv.append(entry.targetHours()).append(";");
-            csv.append(entry.completedHours()).append(";");
-            csv.append(entry.cleaningHours()).append(";");
-            csv.append(entry.totalHours()).append(";");
-            csv.append(entry.pendingHours()).append(";");
-            csv.append(entry.remainingHours()).append(";");
-            csv.append(translateTrafficLight(entry.trafficLight())).append("\n");
-        }
-
-        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
-        // Add BOM for Excel
-        byte[] bom = new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
-        byte[] result = new byte[bom.length + bytes.length];
-        System.arraycopy(bom, 0, result, 0, bom.length);
-        System.arraycopy(bytes, 0, result, bom.length, bytes.length);
-
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"familien-stundenbericht.csv\"")
                 .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
-                .body(result);
+                .body(out -> writeCsv(report, out));
     }
 
     @GetMapping(value = "/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<byte[]> exportPdf() {
+    public ResponseEntity<StreamingResponseBody> exportPdf() {
         List<FamilyHoursInfo> report = jobboardService.getAllFamilyHoursReport();
         String schoolName = adminModuleApi.getTenantConfig().schoolName();
 
@@ -79,12 +63,29 @@ public class JobboardExportController {
                 ))
                 .toList();
 
-        byte[] pdf = pdfService.generateHoursReport(schoolName, rows);
-
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"familien-stundenbericht.pdf\"")
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(pdf);
+                .body(out -> pdfService.generateHoursReport(schoolName, rows, out));
+    }
+
+    private void writeCsv(List<FamilyHoursInfo> report, OutputStream out) throws IOException {
+        // Add BOM for Excel
+        out.write(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF});
+
+        var csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        csv.write("Familie;Zielstunden;Elternstunden;Putzstunden;Gesamt;Ausstehend;Verbleibend;Ampel\n");
+        for (var entry : report) {
+            csv.write(escapeCsv(entry.familyName()) + ";");
+            csv.write(entry.targetHours() + ";");
+            csv.write(entry.completedHours() + ";");
+            csv.write(entry.cleaningHours() + ";");
+            csv.write(entry.totalHours() + ";");
+            csv.write(entry.pendingHours() + ";");
+            csv.write(entry.remainingHours() + ";");
+            csv.write(translateTrafficLight(entry.trafficLight()) + "\n");
+        }
+        csv.flush();
     }
 
     private String escapeCsv(String value) {
@@ -47,6 +47,13 @@ public class Job {
     @Column(name = "max_assignees", nullable = false)
     private int maxAssignees = 1;
 
+    /**
+     * Non-cancelled assignments. Only changed while holding the job's row lock
+     * ({@code findByIdForUpdate}).
+     */
+    @Column(name = "active_assignee_count", nullable = false)
+    private int activeAssigneeCount;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 30)
     private JobStatus status = JobStatus.OPEN;
@@ -0,0 +1,9 @@
+package com.monteweb.jobboard.internal.repository;
+
+import java.util.UUID;
+
+/**
+ * Number of jobs linked to one calendar event.
+ */
+public record EventJobCount(UUID eventId, Long count) {
+}
@@ -0,0 +1,25 @@
+package com.monteweb.jobboard.internal.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * All-time job hours of one family: confirmed normal hours, pending (completed but not
+ * yet confirmed) hours and confirmed Reinigung-category hours.
+ */
+public record FamilyHoursSums(
+        UUID familyId,
+        BigDecimal confirmedNormalHours,
+        BigDecimal pendingHours,
+        BigDecimal cleaningJobHours
+) {
+    public FamilyHoursSums {
+        if (confirmedNormalHours == null) confirmedNormalHours = BigDecimal.ZERO;
+        if (pendingHours == null) pendingHours = BigDecimal.ZERO;
+        if (cleaningJobHours == null) cleaningJobHours = BigDecimal.ZERO;
+    }
+
+    public static FamilyHoursSums empty(UUID familyId) {
+        return new FamilyHoursSums(familyId, null, null, null);
+    }
+}
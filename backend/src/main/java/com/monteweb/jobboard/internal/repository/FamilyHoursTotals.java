@@ -0,0 +1,18 @@
+package com.monteweb.jobboard.internal.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Confirmed job hours of one family, split into normal and Reinigung-category jobs.
+ */
+public record FamilyHoursTotals(
+        UUID familyId,
+        BigDecimal normalHours,
+        BigDecimal cleaningJobHours
+) {
+    public FamilyHoursTotals {
+        if (normalHours == null) normalHours = BigDecimal.ZERO;
+        if (cleaningJobHours == null) cleaningJobHours = BigDecimal.ZERO;
+    }
+}
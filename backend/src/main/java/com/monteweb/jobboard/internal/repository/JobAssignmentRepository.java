@@ -2,11 +2,16 @@ package com.monteweb.jobboard.internal.repository;
 
 import com.monteweb.jobboard.AssignmentStatus;
 import com.monteweb.jobboard.internal.model.JobAssignment;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +20,17 @@ public interface JobAssignmentRepository extends JpaRepository<JobAssignment, UU
 
     List<JobAssignment> findByJobId(UUID jobId);
 
+    @Query("SELECT a.jobId FROM JobAssignment a WHERE a.id = :id")
+    Optional<UUID> findJobIdById(UUID id);
+
+    /**
+     * Loads the assignment with a pessimistic write lock. Callers lock its job first
+     * ({@link JobRepository#findByIdForUpdate}), in the same order as assigning does.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM JobAssignment a WHERE a.id = :id")
+    Optional<JobAssignment> findByIdForUpdate(UUID id);
+
     void deleteByJobId(UUID jobId);
 
     List<JobAssignment> findByUserId(UUID userId);
@@ -53,12 +69,19 @@ public interface JobAssignmentRepository extends JpaRepository<JobAssignment, UU
             """)
     BigDecimal sumInProgressHoursByFamilyId(UUID familyId);
 
+    // Normal and Reinigung hours of all families in date range, one row per family
     @Query("""
-            SELECT DISTINCT a.familyId
-            FROM JobAssignment a
-            WHERE a.status = 'COMPLETED'
+            SELECT new com.monteweb.jobboard.internal.repository.FamilyHoursTotals(
+                a.familyId,
+                SUM(CASE WHEN j.category IS NULL OR j.category <> 'Reinigung' THEN a.actualHours END),
+                SUM(CASE WHEN j.category = 'Reinigung' THEN a.actualHours END))
+            FROM JobAssignment a LEFT JOIN Job j ON j.id = a.jobId
+            WHERE a.familyId IS NOT NULL
+            AND a.status = 'COMPLETED' AND a.confirmed = true
+            AND a.confirmedAt >= :fromInstant AND a.confirmedAt < :toInstant
+            GROUP BY a.familyId
             """)
-    List<UUID> findAllFamilyIdsWithAssignments();
+    List<FamilyHoursTotals> sumConfirmedHoursPerFamilyInDateRange(Instant fromInstant, Instant toInstant);
 
     @Query("""
             SELECT a FROM JobAssignment a
@@ -91,6 +114,20 @@ public interface JobAssignmentRepository extends JpaRepository<JobAssignment, UU
             """)
     BigDecimal sumPendingHoursByFamilyIdAndDateRange(UUID familyId, Instant fromInstant, Instant toInstant);
 
+    // Confirmed normal, pending and confirmed Reinigung hours of the given families, one row per family
+    @Query("""
+            SELECT new com.monteweb.jobboard.internal.repository.FamilyHoursSums(
+                a.familyId,
+                SUM(CASE WHEN a.confirmed = true AND (j.category IS NULL OR j.category <> 'Reinigung') THEN a.actualHours END),
+                SUM(CASE WHEN a.confirmed = false THEN a.actualHours END),
+                SUM(CASE WHEN a.confirmed = true AND j.category = 'Reinigung' THEN a.actualHours END))
+            FROM JobAssignment a LEFT JOIN Job j ON j.id = a.jobId
+            WHERE a.familyId IN :familyIds
+            AND a.status = 'COMPLETED'
+            GROUP BY a.familyId
+            """)
+    List<FamilyHoursSums> sumHoursPerFamily(Collection<UUID> familyIds);
+
     // Normal hours (all categories except Reinigung)
     @Query("""
             SELECT COALESCE(SUM(a.actualHours), 0)
@@ -142,4 +179,11 @@ public interface JobAssignmentRepository extends JpaRepository<JobAssignment, UU
     List<JobAssignment> findPendingConfirmation();
 
     void deleteByUserId(UUID userId);
+
+    @Query("SELECT DISTINCT a.jobId FROM JobAssignment a WHERE a.userId IN :userIds")
+    List<UUID> findJobIdsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @Query("DELETE FROM JobAssignment a WHERE a.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
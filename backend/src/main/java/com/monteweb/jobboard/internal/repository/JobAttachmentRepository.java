@@ -2,8 +2,12 @@ package com.monteweb.jobboard.internal.repository;
 
 import com.monteweb.jobboard.internal.model.JobAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,9 +16,18 @@ public interface JobAttachmentRepository extends JpaRepository<JobAttachment, UU
 
     List<JobAttachment> findByJobIdOrderByCreatedAtAsc(UUID jobId);
 
+    List<JobAttachment> findByJobIdInOrderByCreatedAtAsc(Collection<UUID> jobIds);
+
     int countByJobId(UUID jobId);
 
     void deleteByJobId(UUID jobId);
 
     List<JobAttachment> findByUploadedBy(UUID uploadedBy);
+
+    @Query("SELECT a.storagePath FROM JobAttachment a WHERE a.uploadedBy IN :userIds")
+    List<String> findStoragePathsByUploadedByIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @Query("DELETE FROM JobAttachment a WHERE a.uploadedBy IN :userIds")
+    int deleteByUploadedByIn(@Param("userIds") Collection<UUID> userIds);
 }
@@ -7,9 +7,12 @@ import org.springframework.data.domain.Pageable;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +27,19 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
     @Query("SELECT j FROM Job j WHERE j.id = :id")
     Optional<Job> findByIdForUpdate(UUID id);
 
+    /**
+     * Recomputes {@code activeAssigneeCount} from the assignments, for bulk deletions that
+     * bypass the per-assignment bookkeeping.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Job j SET j.activeAssigneeCount = (
+                SELECT COUNT(a) FROM JobAssignment a
+                WHERE a.jobId = j.id AND a.status <> com.monteweb.jobboard.AssignmentStatus.CANCELLED)
+            WHERE j.id IN :ids
+            """)
+    int recountActiveAssignees(@Param("ids") Collection<UUID> ids);
+
 
     Page<Job> findByStatusOrderByScheduledDateAscCreatedAtDesc(JobStatus status, Pageable pageable);
 
@@ -68,10 +84,21 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
 
     int countByEventId(UUID eventId);
 
+    @Query("""
+            SELECT new com.monteweb.jobboard.internal.repository.EventJobCount(j.eventId, COUNT(j))
+            FROM Job j WHERE j.eventId IN :eventIds
+            GROUP BY j.eventId
+            """)
+    List<EventJobCount> countByEventIdIn(Collection<UUID> eventIds);
+
     @Query("SELECT DISTINCT j.category FROM Job j ORDER BY j.category")
     List<String> findAllCategories();
 
     long countByStatus(JobStatus status);
 
     List<Job> findByCreatedBy(UUID createdBy);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.createdBy = null WHERE j.createdBy IN :userIds")
+    int clearCreatedByIn(@Param("userIds") Collection<UUID> userIds);
 }
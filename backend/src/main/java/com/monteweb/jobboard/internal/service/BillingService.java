@@ -14,10 +14,10 @@ import com.monteweb.jobboard.internal.dto.BillingReportInfo.FamilyMember;
 import com.monteweb.jobboard.internal.dto.CreateBillingPeriodRequest;
 import com.monteweb.jobboard.internal.model.BillingPeriod;
 import com.monteweb.jobboard.internal.repository.BillingPeriodRepository;
+import com.monteweb.jobboard.internal.repository.FamilyHoursTotals;
 import com.monteweb.jobboard.internal.repository.JobAssignmentRepository;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
-import com.monteweb.shared.util.PdfService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,9 +25,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
@@ -35,6 +42,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -45,13 +53,13 @@ import java.util.UUID;
 public class BillingService {
 
     private static final Logger log = LoggerFactory.getLogger(BillingService.class);
+    private static final int FAMILY_BATCH_SIZE = 200;
 
     private final BillingPeriodRepository billingPeriodRepository;
     private final JobAssignmentRepository assignmentRepository;
     private final FamilyModuleApi familyModuleApi;
     private final AdminModuleApi adminModuleApi;
     private final CleaningModuleApi cleaningModuleApi;
-    private final PdfService pdfService;
     private final ObjectMapper objectMapper;
 
     public BillingService(BillingPeriodRepository billingPeriodRepository,
@@ -59,14 +67,12 @@ public class BillingService {
                           FamilyModuleApi familyModuleApi,
                           AdminModuleApi adminModuleApi,
                           @Autowired(required = false) CleaningModuleApi cleaningModuleApi,
-                          PdfService pdfService,
                           ObjectMapper objectMapper) {
         this.billingPeriodRepository = billingPeriodRepository;
         this.assignmentRepository = assignmentRepository;
         this.familyModuleApi = familyModuleApi;
         this.adminModuleApi = adminModuleApi;
         this.cleaningModuleApi = cleaningModuleApi;
-        this.pdfService = pdfService;
         this.objectMapper = objectMapper;
     }
 
@@ -167,17 +173,17 @@ public class BillingService {
             throw new BusinessException("Only active periods can be closed");
         }
 
-        // Generate and freeze the report
+        period.setStatus("CLOSED");
+        period.setClosedAt(Instant.now());
+        period.setClosedBy(closedByUserId);
+
+        // Generate and freeze the report; getReport and the exports read this snapshot from now on
         var report = generateReport(period);
         try {
             period.setReportData(objectMapper.writeValueAsString(report));
         } catch (JacksonException e) {
             throw new RuntimeException("Failed to serialize report data", e);
         }
-
-        period.setStatus("CLOSED");
-        period.setClosedAt(Instant.now());
-        period.setClosedBy(closedByUserId);
         period = billingPeriodRepository.save(period);
 
         // Create next period: derive dates from school vacations
@@ -207,7 +213,12 @@ public class BillingService {
         return toInfo(period);
     }
 
-    public byte[] exportPdf(UUID periodId) {
+    /**
+     * Builds the XHTML of the annual billing report; rendered by the caller so the
+     * PDF can be streamed outside of this transaction.
+     */
+    @Transactional(readOnly = true)
+    public String generatePdfHtml(UUID periodId) {
         var report = getReport(periodId);
         var period = report.period();
         String schoolName = adminModuleApi.getTenantConfig().schoolName();
@@ -294,14 +305,17 @@ public class BillingService {
         sb.append("<p class=\"footer\">Generiert am ").append(LocalDate.now()).append("</p>\n");
         sb.append("</body></html>");
 
-        return pdfService.renderHtmlToPdf(sb.toString());
+        return sb.toString();
     }
 
-    public byte[] exportCsv(UUID periodId) {
-        var report = getReport(periodId);
+    /**
+     * Writes the report as CSV (UTF-8 with BOM for Excel) row by row onto {@code out}.
+     */
+    public void writeCsv(BillingReportInfo report, OutputStream out) throws IOException {
+        out.write(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF});
 
-        var csv = new StringBuilder();
-        csv.append("Nr;Familie;Mitglieder;Elternstunden;Putzstunden;Gesamt;Soll;Saldo;Soll Putz;Saldo Putz;Ampel\n");
+        var csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        csv.write("Nr;Familie;Mitglieder;Elternstunden;Putzstunden;Gesamt;Soll;Saldo;Soll Putz;Saldo Putz;Ampel\n");
 
         int nr = 1;
         for (var entry : report.families()) {
@@ -310,25 +324,19 @@ public class BillingService {
                     .reduce((a, b) -> a + ", " + b)
                     .orElse("");
 
-            csv.append(nr++).append(";");
-            csv.append(escapeCsv(entry.familyName())).append(";");
-            csv.append(escapeCsv(membersStr)).append(";");
-            csv.append(entry.jobHours()).append(";");
-            csv.append(entry.cleaningHours()).append(";");
-            csv.append(entry.totalHours()).append(";");
-            csv.append(entry.targetHours()).append(";");
-            csv.append(entry.balance()).append(";");
-            csv.append(entry.targetCleaningHours()).append(";");
-            csv.append(entry.cleaningBalance()).append(";");
-            csv.append(translateTrafficLight(entry.trafficLight())).append("\n");
+            csv.write(nr++ + ";");
+            csv.write(escapeCsv(entry.familyName()) + ";");
+            csv.write(escapeCsv(membersStr) + ";");
+            csv.write(entry.jobHours() + ";");
+            csv.write(entry.cleaningHours() + ";");
+            csv.write(entry.totalHours() + ";");
+            csv.write(entry.targetHours() + ";");
+            csv.write(entry.balance() + ";");
+            csv.write(entry.targetCleaningHours() + ";");
+            csv.write(entry.cleaningBalance() + ";");
+            csv.write(translateTrafficLight(entry.trafficLight()) + "\n");
         }
-
-        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
-        byte[] bom = new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
-        byte[] result = new byte[bom.length + bytes.length];
-        System.arraycopy(bom, 0, result, 0, bom.length);
-        System.arraycopy(bytes, 0, result, bom.length, bytes.length);
-        return result;
+        csv.flush();
     }
 
     // ── Report Generation ────────────────────────────────────────────────
@@ -343,46 +351,55 @@ public class BillingService {
         Instant fromInstant = period.getStartDate().atStartOfDay(ZoneId.systemDefault()).toInstant();
         Instant toInstant = period.getEndDate().plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
 
-        List<FamilyInfo> allFamilies = familyModuleApi.findAll();
+        // Hours of all families in two grouped queries instead of three per family
+        Map<UUID, FamilyHoursTotals> jobHoursByFamily = new HashMap<>();
+        for (var totals : assignmentRepository.sumConfirmedHoursPerFamilyInDateRange(fromInstant, toInstant)) {
+            jobHoursByFamily.put(totals.familyId(), totals);
+        }
+        Map<UUID, BigDecimal> qrCleaningHoursByFamily = cleaningModuleApi != null
+                ? cleaningModuleApi.getCleaningHoursPerFamilyInRange(period.getStartDate(), period.getEndDate())
+                : Map.of();
+
         List<FamilyBillingEntry> entries = new ArrayList<>();
 
-        for (FamilyInfo family : allFamilies) {
-            // Skip families exempt from hours
-            if (family.hoursExempt()) continue;
-            // Skip inactive families
-            if (!family.active()) continue;
-            // Normal job hours (all categories except Reinigung)
-            BigDecimal jobHours = assignmentRepository.sumConfirmedNormalHoursByFamilyIdAndDateRange(
-                    family.id(), fromInstant, toInstant);
-
-            // Cleaning hours from Reinigung-category jobs
-            BigDecimal jobCleaningHours = assignmentRepository.sumConfirmedCleaningJobHoursByFamilyIdAndDateRange(
-                    family.id(), fromInstant, toInstant);
-
-            // Legacy QR cleaning hours
-            BigDecimal qrCleaningHours = BigDecimal.ZERO;
-            if (cleaningModuleApi != null) {
-                qrCleaningHours = cleaningModuleApi.getCleaningHoursForFamilyInRange(
-                        family.id(), period.getStartDate(), period.getEndDate());
+        // Families are read page by page so the whole family graph is never held at once
+        Pageable pageable = PageRequest.of(0, FAMILY_BATCH_SIZE);
+        Page<FamilyInfo> families;
+        do {
+            families = familyModuleApi.findAll(pageable);
+            for (FamilyInfo family : families) {
+                // Skip families exempt from hours
+                if (family.hoursExempt()) continue;
+                // Skip inactive families
+                if (!family.active()) continue;
+                var jobTotals = jobHoursByFamily.getOrDefault(family.id(),
+                        new FamilyHoursTotals(family.id(), BigDecimal.ZERO, BigDecimal.ZERO));
+                // Normal job hours (all categories except Reinigung)
+                BigDecimal jobHours = jobTotals.normalHours();
+                // Cleaning hours from Reinigung-category jobs
+                BigDecimal jobCleaningHours = jobTotals.cleaningJobHours();
+                // Legacy QR cleaning hours
+                BigDecimal qrCleaningHours = qrCleaningHoursByFamily.getOrDefault(family.id(), BigDecimal.ZERO);
+
+                BigDecimal cleaningHours = jobCleaningHours.add(qrCleaningHours);
+                BigDecimal totalHours = jobHours.add(cleaningHours);
+                BigDecimal balance = totalHours.subtract(targetHours);
+                BigDecimal cleaningBalance = cleaningHours.subtract(targetCleaningHrs);
+                String trafficLight = calculateTrafficLight(totalHours, targetHours);
+
+                List<FamilyMember> members = family.members().stream()
+                        .map(m -> new FamilyMember(m.userId(), m.displayName(), m.role()))
+                        .toList();
+
+                entries.add(new FamilyBillingEntry(
+                        family.id(), family.name(), members,
+                        jobHours, cleaningHours, totalHours,
+                        targetHours, balance,
+                        targetCleaningHrs, cleaningBalance,
+                        trafficLight));
             }
-
-            BigDecimal cleaningHours = jobCleaningHours.add(qrCleaningHours);
-            BigDecimal totalHours = jobHours.add(cleaningHours);
-            BigDecimal balance = totalHours.subtract(targetHours);
-            BigDecimal cleaningBalance = cleaningHours.subtract(targetCleaningHrs);
-            String trafficLight = calculateTrafficLight(totalHours, targetHours);
-
-            List<FamilyMember> members = family.members().stream()
-                    .map(m -> new FamilyMember(m.userId(), m.displayName(), m.role()))
-                    .toList();
-
-            entries.add(new FamilyBillingEntry(
-                    family.id(), family.name(), members,
-                    jobHours, cleaningHours, totalHours,
-                    targetHours, balance,
-                    targetCleaningHrs, cleaningBalance,
-                    trafficLight));
-        }
+            pageable = families.nextPageable();
+        } while (families.hasNext());
 
         // Sort: red first, then yellow, then green
         entries.sort((a, b) -> {
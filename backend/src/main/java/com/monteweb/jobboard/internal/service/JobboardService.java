@@ -11,18 +11,22 @@ import com.monteweb.jobboard.internal.model.Job;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import com.monteweb.jobboard.internal.model.JobAssignment;
+import com.monteweb.jobboard.internal.repository.FamilyHoursSums;
 import com.monteweb.jobboard.internal.repository.JobAssignmentRepository;
 import com.monteweb.jobboard.internal.repository.JobRepository;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ForbiddenException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import com.monteweb.room.RoomModuleApi;
+import com.monteweb.user.UserInfo;
 import com.monteweb.user.UserModuleApi;
 import com.monteweb.user.UserRole;
 import com.monteweb.jobboard.internal.model.JobAttachment;
 import com.monteweb.jobboard.internal.repository.JobAttachmentRepository;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.modulith.events.ApplicationModuleListener;
 import org.springframework.stereotype.Service;
@@ -36,12 +40,16 @@ import java.math.RoundingMode;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 @ConditionalOnProperty(prefix = "monteweb.modules.jobboard", name = "enabled", havingValue = "true")
 public class JobboardService implements JobboardModuleApi {
 
+    private static final int FAMILY_BATCH_SIZE = 200;
+
     private final JobRepository jobRepository;
     private final JobAssignmentRepository assignmentRepository;
     private final JobAttachmentRepository attachmentRepository;
@@ -53,6 +61,7 @@ public class JobboardService implements JobboardModuleApi {
     private final CalendarModuleApi calendarModuleApi;
     private final RoomModuleApi roomModuleApi;
     private final JobStorageService storageService;
+    private final ObjectDeletionQueue deletionQueue;
 
     public JobboardService(JobRepository jobRepository,
                            JobAssignmentRepository assignmentRepository,
@@ -64,7 +73,8 @@ public class JobboardService implements JobboardModuleApi {
                            @Autowired(required = false) CleaningModuleApi cleaningModuleApi,
                            @Autowired(required = false) CalendarModuleApi calendarModuleApi,
                            @Autowired(required = false) RoomModuleApi roomModuleApi,
-                           JobStorageService storageService) {
+                           JobStorageService storageService,
+                           ObjectDeletionQueue deletionQueue) {
         this.jobRepository = jobRepository;
         this.assignmentRepository = assignmentRepository;
         this.attachmentRepository = attachmentRepository;
@@ -76,6 +86,7 @@ public class JobboardService implements JobboardModuleApi {
         this.calendarModuleApi = calendarModuleApi;
         this.roomModuleApi = roomModuleApi;
         this.storageService = storageService;
+        this.deletionQueue = deletionQueue;
     }
 
     // ---- Public API (JobboardModuleApi) ----
@@ -96,9 +107,7 @@ public class JobboardService implements JobboardModuleApi {
     @Override
     @Transactional(readOnly = true)
     public List<JobInfo> getJobsForEvent(UUID eventId) {
-        return jobRepository.findByEventId(eventId).stream()
-                .map(this::toJobInfo)
-                .toList();
+        return toJobInfos(jobRepository.findByEventId(eventId));
     }
 
     @Override
@@ -107,6 +116,17 @@ public class JobboardService implements JobboardModuleApi {
         return jobRepository.countByEventId(eventId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Integer> countJobsForEvents(Collection<UUID> eventIds) {
+        if (eventIds.isEmpty()) return Map.of();
+        var counts = new HashMap<UUID, Integer>();
+        for (var row : jobRepository.countByEventIdIn(eventIds)) {
+            counts.put(row.eventId(), row.count().intValue());
+        }
+        return counts;
+    }
+
     // ---- Event Listener: Putzaktion → Job ----
 
     @ApplicationModuleListener
@@ -185,6 +205,7 @@ public class JobboardService implements JobboardModuleApi {
                 assignment.setStatus(AssignmentStatus.ASSIGNED);
                 assignmentRepository.save(assignment);
                 savedJob.setStatus(JobStatus.ASSIGNED);
+                savedJob.setActiveAssigneeCount(1);
                 savedJob = jobRepository.save(savedJob);
             }
         }
@@ -258,14 +279,16 @@ public class JobboardService implements JobboardModuleApi {
             statuses = List.of(JobStatus.OPEN, JobStatus.PARTIALLY_ASSIGNED, JobStatus.ASSIGNED, JobStatus.IN_PROGRESS);
         }
         String cat = (category != null && !category.isBlank()) ? category : null;
-        return jobRepository.findWithFilters(statuses, cat, eventId, roomId, fromDate, toDate, pageable)
-                .map(this::toJobInfo);
+        var page = jobRepository.findWithFilters(statuses, cat, eventId, roomId, fromDate, toDate, pageable);
+        var infos = toJobInfos(page.getContent()).iterator();
+        return page.map(job -> infos.next());
     }
 
     @Transactional(readOnly = true)
     public Page<JobInfo> listMyJobs(UUID userId, Pageable pageable) {
-        return jobRepository.findByCreatedByOrderByCreatedAtDesc(userId, pageable)
-                .map(this::toJobInfo);
+        var page = jobRepository.findByCreatedByOrderByCreatedAtDesc(userId, pageable);
+        var infos = toJobInfos(page.getContent()).iterator();
+        return page.map(job -> infos.next());
     }
 
     @Transactional(readOnly = true)
@@ -327,7 +350,9 @@ public class JobboardService implements JobboardModuleApi {
      */
     @Transactional(readOnly = true)
     public Page<JobInfo> getDraftJobs(Pageable pageable) {
-        return jobRepository.findDraftJobs(pageable).map(this::toJobInfo);
+        var page = jobRepository.findDraftJobs(pageable);
+        var infos = toJobInfos(page.getContent()).iterator();
+        return page.map(job -> infos.next());
     }
 
     // ---- Assignment operations ----
@@ -356,7 +381,7 @@ public class JobboardService implements JobboardModuleApi {
             throw new BusinessException("You have already applied for this job");
         }
 
-        long currentAssignees = assignmentRepository.countByJobIdAndStatusNot(jobId, AssignmentStatus.CANCELLED);
+        int currentAssignees = job.getActiveAssigneeCount();
         if (currentAssignees >= job.getMaxAssignees()) {
             throw new BusinessException("Maximum number of assignees reached");
         }
@@ -384,7 +409,8 @@ public class JobboardService implements JobboardModuleApi {
         }
 
         // Update job status based on how many slots are filled
-        long newCount = currentAssignees + 1;
+        int newCount = currentAssignees + 1;
+        job.setActiveAssigneeCount(newCount);
         if (newCount >= job.getMaxAssignees()) {
             job.setStatus(JobStatus.ASSIGNED);
         } else {
@@ -506,8 +532,8 @@ public class JobboardService implements JobboardModuleApi {
 
     @Transactional
     public void rejectAssignment(UUID assignmentId, UUID rejecterId) {
-        var assignment = assignmentRepository.findById(assignmentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Assignment", assignmentId));
+        var locked = lockAssignment(assignmentId);
+        var assignment = locked.assignment();
 
         if (assignment.getStatus() != AssignmentStatus.COMPLETED) {
             throw new BusinessException("Only completed assignments can be rejected");
@@ -518,20 +544,13 @@ public class JobboardService implements JobboardModuleApi {
 
         assignment.setStatus(AssignmentStatus.CANCELLED);
         assignmentRepository.save(assignment);
-
-        // Re-open job if needed
-        var job = jobRepository.findById(assignment.getJobId()).orElseThrow();
-        long activeAssignees = assignmentRepository.countByJobIdAndStatusNot(job.getId(), AssignmentStatus.CANCELLED);
-        if (activeAssignees < job.getMaxAssignees() && job.getStatus() != JobStatus.COMPLETED && job.getStatus() != JobStatus.CANCELLED) {
-            job.setStatus(activeAssignees > 0 ? JobStatus.PARTIALLY_ASSIGNED : JobStatus.OPEN);
-            jobRepository.save(job);
-        }
+        releaseSlot(locked.job());
     }
 
     @Transactional
     public void cancelAssignment(UUID assignmentId, UUID userId) {
-        var assignment = assignmentRepository.findById(assignmentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Assignment", assignmentId));
+        var locked = lockAssignment(assignmentId);
+        var assignment = locked.assignment();
 
         if (!assignment.getUserId().equals(userId)) {
             throw new ForbiddenException("Only the assignee can cancel this assignment");
@@ -540,59 +559,97 @@ public class JobboardService implements JobboardModuleApi {
             throw new BusinessException("Cannot cancel a confirmed assignment");
         }
 
+        if (assignment.getStatus() == AssignmentStatus.CANCELLED) {
+            return;
+        }
+
         assignment.setStatus(AssignmentStatus.CANCELLED);
         assignmentRepository.save(assignment);
+        releaseSlot(locked.job());
+    }
 
-        // Re-open job if needed
-        var job = jobRepository.findById(assignment.getJobId()).orElseThrow();
-        long activeAssignees = assignmentRepository.countByJobIdAndStatusNot(job.getId(), AssignmentStatus.CANCELLED);
+    /**
+     * Locks the assignment's job and then the assignment itself, and reads the assignment
+     * under those locks, so concurrent cancels or rejects see each other's status change
+     * and release the slot only once.
+     */
+    private LockedAssignment lockAssignment(UUID assignmentId) {
+        UUID jobId = assignmentRepository.findJobIdById(assignmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Assignment", assignmentId));
+        var job = jobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+        var assignment = assignmentRepository.findByIdForUpdate(assignmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Assignment", assignmentId));
+        return new LockedAssignment(job, assignment);
+    }
+
+    private record LockedAssignment(Job job, JobAssignment assignment) {
+    }
+
+    /**
+     * One assignment of a locked job was cancelled: lower the count and re-open the job if needed.
+     */
+    private void releaseSlot(Job job) {
+        int activeAssignees = Math.max(0, job.getActiveAssigneeCount() - 1);
+        job.setActiveAssigneeCount(activeAssignees);
         if (activeAssignees < job.getMaxAssignees() && job.getStatus() != JobStatus.COMPLETED && job.getStatus() != JobStatus.CANCELLED) {
             job.setStatus(activeAssignees > 0 ? JobStatus.PARTIALLY_ASSIGNED : JobStatus.OPEN);
-            jobRepository.save(job);
         }
+        jobRepository.save(job);
     }
 
     @Transactional(readOnly = true)
     public List<JobAssignmentInfo> getAssignmentsForJob(UUID jobId) {
-        return assignmentRepository.findByJobId(jobId).stream()
-                .map(this::toAssignmentInfo)
-                .toList();
+        return toAssignmentInfos(assignmentRepository.findByJobId(jobId));
     }
 
     @Transactional(readOnly = true)
     public List<JobAssignmentInfo> getAssignmentsForFamily(UUID familyId) {
-        return assignmentRepository.findByFamilyId(familyId).stream()
+        var assignments = assignmentRepository.findByFamilyId(familyId).stream()
                 .filter(a -> a.getStatus() == AssignmentStatus.COMPLETED && a.isConfirmed())
                 .sorted((a, b) -> b.getCompletedAt().compareTo(a.getCompletedAt()))
-                .map(this::toAssignmentInfo)
                 .toList();
+        return toAssignmentInfos(assignments);
     }
 
     @Transactional(readOnly = true)
     public List<JobAssignmentInfo> getMyAssignments(UUID userId) {
-        return assignmentRepository.findByUserId(userId).stream()
-                .map(this::toAssignmentInfo)
-                .toList();
+        return toAssignmentInfos(assignmentRepository.findByUserId(userId));
     }
 
     // ---- Reporting ----
 
+    /**
+     * Hours of every family, red first. Families are read page by page; each page costs one
+     * grouped hours query, and the QR cleaning hours of all families are read once.
+     */
     @Transactional(readOnly = true)
     public List<FamilyHoursInfo> getAllFamilyHoursReport() {
-        // Collect family IDs from job assignments
-        Set<UUID> familyIds = new LinkedHashSet<>(assignmentRepository.findAllFamilyIdsWithAssignments());
-
-        // Also include all families (they may have cleaning hours only)
-        for (FamilyInfo family : familyModuleApi.findAll()) {
-            familyIds.add(family.id());
+        var targets = hoursTargets();
+        Map<UUID, BigDecimal> qrCleaningHours = Map.of();
+        if (cleaningModuleApi != null) {
+            LocalDate today = LocalDate.now();
+            qrCleaningHours = cleaningModuleApi.getCleaningHoursPerFamilyInRange(
+                    today.withDayOfYear(1), today.withMonth(12).withDayOfMonth(31));
         }
 
+        // Every existing family, including those with cleaning hours only
         List<FamilyHoursInfo> report = new ArrayList<>();
-        for (UUID familyId : familyIds) {
-            familyModuleApi.findById(familyId)
-                    .map(this::buildFamilyHoursInfo)
-                    .ifPresent(report::add);
-        }
+        Pageable pageable = PageRequest.of(0, FAMILY_BATCH_SIZE);
+        Page<FamilyInfo> families;
+        do {
+            families = familyModuleApi.findAll(pageable);
+            var familyIds = families.stream().filter(f -> !f.hoursExempt()).map(FamilyInfo::id).toList();
+            Map<UUID, FamilyHoursSums> sumsByFamily = familyIds.isEmpty() ? Map.of()
+                    : assignmentRepository.sumHoursPerFamily(familyIds).stream()
+                            .collect(Collectors.toMap(FamilyHoursSums::familyId, Function.identity()));
+            for (FamilyInfo family : families) {
+                report.add(buildFamilyHoursInfo(family, targets,
+                        sumsByFamily.getOrDefault(family.id(), FamilyHoursSums.empty(family.id())),
+                        qrCleaningHours.getOrDefault(family.id(), BigDecimal.ZERO)));
+            }
+            pageable = families.nextPageable();
+        } while (families.hasNext());
 
         // Sort: red first, then yellow, then green
         report.sort((a, b) -> {
@@ -636,28 +693,15 @@ public class JobboardService implements JobboardModuleApi {
     }
 
     private FamilyHoursInfo buildFamilyHoursInfo(FamilyInfo family) {
-        // If family is exempt from hours, return zero-state with exempt flag
         if (family.hoursExempt()) {
-            return new FamilyHoursInfo(
-                    family.id(), family.name(),
-                    BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
-                    BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
-                    "GREEN", BigDecimal.ZERO, BigDecimal.ZERO, "GREEN", true
-            );
+            return buildFamilyHoursInfo(family, null, null, null);
         }
 
-        var tenantConfig = adminModuleApi.getTenantConfig();
-        BigDecimal targetHours = tenantConfig.targetHoursPerFamily();
-        if (targetHours == null) targetHours = BigDecimal.ZERO;
-        BigDecimal targetCleaningHrs = tenantConfig.targetCleaningHours();
-        if (targetCleaningHrs == null) targetCleaningHrs = BigDecimal.ZERO;
-
-        // Normal job hours (all categories except Reinigung)
-        BigDecimal confirmed = assignmentRepository.sumConfirmedNormalHoursByFamilyId(family.id());
-        BigDecimal pending = assignmentRepository.sumPendingHoursByFamilyId(family.id());
-
-        // Cleaning hours from Reinigung-category jobs
-        BigDecimal jobCleaningHrs = assignmentRepository.sumConfirmedCleaningJobHoursByFamilyId(family.id());
+        // Normal job hours, pending hours and cleaning hours from Reinigung-category jobs
+        var sums = new FamilyHoursSums(family.id(),
+                assignmentRepository.sumConfirmedNormalHoursByFamilyId(family.id()),
+                assignmentRepository.sumPendingHoursByFamilyId(family.id()),
+                assignmentRepository.sumConfirmedCleaningJobHoursByFamilyId(family.id()));
 
         // Legacy QR cleaning hours
         BigDecimal qrCleaningHrs = BigDecimal.ZERO;
@@ -665,7 +709,25 @@ public class JobboardService implements JobboardModuleApi {
             qrCleaningHrs = cleaningModuleApi.getCleaningHoursForFamily(family.id());
         }
 
-        BigDecimal cleaningHrs = jobCleaningHrs.add(qrCleaningHrs);
+        return buildFamilyHoursInfo(family, hoursTargets(), sums, qrCleaningHrs);
+    }
+
+    private FamilyHoursInfo buildFamilyHoursInfo(FamilyInfo family, HoursTargets targets,
+                                                 FamilyHoursSums sums, BigDecimal qrCleaningHrs) {
+        // If family is exempt from hours, return zero-state with exempt flag
+        if (family.hoursExempt()) {
+            return new FamilyHoursInfo(
+                    family.id(), family.name(),
+                    BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                    BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                    "GREEN", BigDecimal.ZERO, BigDecimal.ZERO, "GREEN", true
+            );
+        }
+
+        BigDecimal targetHours = targets.hours();
+        BigDecimal targetCleaningHrs = targets.cleaningHours();
+        BigDecimal confirmed = sums.confirmedNormalHours();
+        BigDecimal cleaningHrs = sums.cleaningJobHours().add(qrCleaningHrs);
         BigDecimal totalHours = confirmed.add(cleaningHrs);
         BigDecimal remaining = targetHours.subtract(totalHours).max(BigDecimal.ZERO);
         BigDecimal remainingCleaningHrs = targetCleaningHrs.subtract(cleaningHrs).max(BigDecimal.ZERO);
@@ -678,7 +740,7 @@ public class JobboardService implements JobboardModuleApi {
                 family.name(),
                 targetHours,
                 confirmed,
-                pending,
+                sums.pendingHours(),
                 cleaningHrs,
                 totalHours,
                 remaining,
@@ -690,6 +752,18 @@ public class JobboardService implements JobboardModuleApi {
         );
     }
 
+    private HoursTargets hoursTargets() {
+        var tenantConfig = adminModuleApi.getTenantConfig();
+        BigDecimal targetHours = tenantConfig.targetHoursPerFamily();
+        BigDecimal targetCleaningHrs = tenantConfig.targetCleaningHours();
+        return new HoursTargets(
+                targetHours != null ? targetHours : BigDecimal.ZERO,
+                targetCleaningHrs != null ? targetCleaningHrs : BigDecimal.ZERO);
+    }
+
+    private record HoursTargets(BigDecimal hours, BigDecimal cleaningHours) {
+    }
+
     private String calculateTrafficLight(BigDecimal completed, BigDecimal target) {
         if (target.compareTo(BigDecimal.ZERO) == 0) return "GREEN";
 
@@ -712,14 +786,10 @@ public class JobboardService implements JobboardModuleApi {
 
 
     public List<JobAssignmentInfo> getPendingConfirmations() {
-        return assignmentRepository.findPendingConfirmation().stream()
-                .map(this::toAssignmentInfo)
-                .toList();
+        return toAssignmentInfos(assignmentRepository.findPendingConfirmation());
     }
 
     private JobInfo toJobInfo(Job job) {
-        long currentAssignees = assignmentRepository.countByJobIdAndStatusNot(job.getId(), AssignmentStatus.CANCELLED);
-
         String creatorName = job.getCreatedBy() != null
                 ? userModuleApi.findById(job.getCreatedBy())
                     .map(u -> u.firstName() + " " + u.lastName())
@@ -740,12 +810,56 @@ public class JobboardService implements JobboardModuleApi {
                     .orElse(null);
         }
 
-        List<JobAttachmentInfo> attachments = attachmentRepository.findByJobIdOrderByCreatedAtAsc(job.getId())
-                .stream()
-                .map(a -> new JobAttachmentInfo(
-                        a.getId(), a.getJobId(), a.getOriginalFilename(),
-                        a.getFileSize(), a.getContentType(), a.getUploadedBy(), a.getCreatedAt()))
+        var attachments = attachmentRepository.findByJobIdOrderByCreatedAtAsc(job.getId()).stream()
+                .map(this::toAttachmentInfo)
                 .toList();
+        return buildJobInfo(job, creatorName, eventTitle, roomName, attachments);
+    }
+
+    private JobAttachmentInfo toAttachmentInfo(JobAttachment a) {
+        return new JobAttachmentInfo(
+                a.getId(), a.getJobId(), a.getOriginalFilename(),
+                a.getFileSize(), a.getContentType(), a.getUploadedBy(), a.getCreatedAt());
+    }
+
+    /**
+     * List variant of {@link #toJobInfo(Job)}: creator names, event titles and room names
+     * are resolved with one bulk call per module for all jobs.
+     */
+    private List<JobInfo> toJobInfos(List<Job> jobs) {
+        if (jobs.isEmpty()) return List.of();
+
+        var creatorIds = jobs.stream().map(Job::getCreatedBy).filter(Objects::nonNull).distinct().toList();
+        Map<UUID, String> creatorNames = creatorIds.isEmpty() ? Map.of()
+                : userModuleApi.findByIds(creatorIds).stream()
+                    .collect(Collectors.toMap(UserInfo::id, u -> u.firstName() + " " + u.lastName(), (a, b) -> a));
+
+        var eventIds = jobs.stream().map(Job::getEventId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<UUID, String> eventTitles = eventIds.isEmpty() || calendarModuleApi == null ? Map.of()
+                : calendarModuleApi.findTitlesByIds(eventIds);
+
+        var roomIds = jobs.stream().map(Job::getRoomId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<UUID, String> roomNames = roomIds.isEmpty() || roomModuleApi == null ? Map.of()
+                : roomModuleApi.findNamesByIds(roomIds);
+
+        Map<UUID, List<JobAttachmentInfo>> attachments = attachmentRepository
+                .findByJobIdInOrderByCreatedAtAsc(jobs.stream().map(Job::getId).toList()).stream()
+                .map(this::toAttachmentInfo)
+                .collect(Collectors.groupingBy(JobAttachmentInfo::jobId));
+
+        return jobs.stream()
+                .map(job -> buildJobInfo(job,
+                        job.getCreatedBy() != null
+                                ? creatorNames.getOrDefault(job.getCreatedBy(), "Unbekannt")
+                                : "Geloeschter Benutzer",
+                        job.getEventId() != null ? eventTitles.get(job.getEventId()) : null,
+                        job.getRoomId() != null ? roomNames.get(job.getRoomId()) : null,
+                        attachments.getOrDefault(job.getId(), List.of())))
+                .toList();
+    }
+
+    private JobInfo buildJobInfo(Job job, String creatorName, String eventTitle, String roomName,
+                                 List<JobAttachmentInfo> attachments) {
 
         return new JobInfo(
                 job.getId(),
@@ -758,7 +872,7 @@ public class JobboardService implements JobboardModuleApi {
                 roomName,
                 job.getEstimatedHours(),
                 job.getMaxAssignees(),
-                (int) currentAssignees,
+                job.getActiveAssigneeCount(),
                 job.getStatus(),
                 job.getScheduledDate(),
                 job.getScheduledTime(),
@@ -788,6 +902,38 @@ public class JobboardService implements JobboardModuleApi {
                 .map(Job::getTitle)
                 .orElse("Unknown");
 
+        return buildAssignmentInfo(a, jobTitle, userName, familyName);
+    }
+
+    /**
+     * List variant of {@link #toAssignmentInfo(JobAssignment)}: users, families and job
+     * titles are loaded once for all assignments.
+     */
+    private List<JobAssignmentInfo> toAssignmentInfos(List<JobAssignment> assignments) {
+        if (assignments.isEmpty()) return List.of();
+
+        var userIds = assignments.stream().map(JobAssignment::getUserId).filter(Objects::nonNull).distinct().toList();
+        Map<UUID, String> userNames = userIds.isEmpty() ? Map.of()
+                : userModuleApi.findByIds(userIds).stream()
+                    .collect(Collectors.toMap(UserInfo::id, u -> u.firstName() + " " + u.lastName(), (a, b) -> a));
+
+        var familyIds = assignments.stream().map(JobAssignment::getFamilyId).filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, String> familyNames = familyIds.isEmpty() ? Map.of() : familyModuleApi.findNamesByIds(familyIds);
+
+        var jobIds = assignments.stream().map(JobAssignment::getJobId).collect(Collectors.toSet());
+        Map<UUID, String> jobTitles = jobRepository.findAllById(jobIds).stream()
+                .collect(Collectors.toMap(Job::getId, Job::getTitle));
+
+        return assignments.stream()
+                .map(a -> buildAssignmentInfo(a,
+                        jobTitles.getOrDefault(a.getJobId(), "Unknown"),
+                        userNames.getOrDefault(a.getUserId(), "Unknown"),
+                        familyNames.getOrDefault(a.getFamilyId(), "Unknown")))
+                .toList();
+    }
+
+    private JobAssignmentInfo buildAssignmentInfo(JobAssignment a, String jobTitle, String userName, String familyName) {
         return new JobAssignmentInfo(
                 a.getId(),
                 a.getJobId(),
@@ -824,8 +970,32 @@ public class JobboardService implements JobboardModuleApi {
             job.setCreatedBy(null);
         }
         jobRepository.saveAll(jobs);
-        // Delete assignments
+        // Delete assignments and recount the jobs they occupied
+        var assignedJobIds = assignmentRepository.findByUserId(userId).stream()
+                .map(JobAssignment::getJobId)
+                .collect(Collectors.toSet());
         assignmentRepository.deleteByUserId(userId);
+        if (!assignedJobIds.isEmpty()) {
+            assignmentRepository.flush();
+            jobRepository.recountActiveAssignees(assignedJobIds);
+        }
+    }
+
+    /**
+     * DSGVO: Clean up all jobboard data for a batch of deleted users, a statement per table.
+     */
+    @Transactional
+    public void cleanupUserData(Collection<UUID> userIds) {
+        // Attachment files are removed in bulk once the rows are gone
+        deletionQueue.enqueue(attachmentRepository.findStoragePathsByUploadedByIn(userIds));
+        attachmentRepository.deleteByUploadedByIn(userIds);
+        jobRepository.clearCreatedByIn(userIds);
+        // Delete assignments and recount the jobs they occupied
+        var assignedJobIds = assignmentRepository.findJobIdsByUserIdIn(userIds);
+        assignmentRepository.deleteByUserIdIn(userIds);
+        if (!assignedJobIds.isEmpty()) {
+            jobRepository.recountActiveAssignees(assignedJobIds);
+        }
     }
 
     /**
@@ -887,10 +1057,7 @@ public class JobboardService implements JobboardModuleApi {
         attachment.setStoragePath(storagePath);
         attachment = attachmentRepository.save(attachment);
 
-        return new JobAttachmentInfo(
-                attachment.getId(), attachment.getJobId(), attachment.getOriginalFilename(),
-                attachment.getFileSize(), attachment.getContentType(), attachment.getUploadedBy(),
-                attachment.getCreatedAt());
+        return toAttachmentInfo(attachment);
     }
 
     /**
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,4 +37,8 @@ public interface ConversationParticipantRepository
     List<UUID> findMutedConversationIdsByUserId(UUID userId);
 
     void deleteByUserId(UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM ConversationParticipant cp WHERE cp.userId IN :userIds")
+    int deleteByUserIdIn(Collection<UUID> userIds);
 }
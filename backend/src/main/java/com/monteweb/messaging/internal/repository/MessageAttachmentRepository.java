@@ -2,8 +2,11 @@ package com.monteweb.messaging.internal.repository;
 
 import com.monteweb.messaging.internal.model.MessageAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,4 +17,20 @@ public interface MessageAttachmentRepository extends JpaRepository<MessageAttach
     List<MessageAttachment> findByMessageIdIn(List<UUID> messageIds);
 
     List<MessageAttachment> findByCreatedAtBefore(Instant cutoff);
+
+    @Query("SELECT a.storagePath FROM MessageAttachment a WHERE a.storagePath IN :keys")
+    List<String> findReferencedKeys(Collection<String> keys);
+
+    List<MessageAttachment> findByUploadedByAndStoragePathIsNotNull(UUID uploadedBy);
+
+    @Query("""
+            SELECT a.storagePath FROM MessageAttachment a
+            WHERE a.storagePath IS NOT NULL
+            AND a.messageId IN (SELECT m.id FROM Message m WHERE m.senderId IN :senderIds)
+            """)
+    List<String> findStoragePathsBySenderIdIn(Collection<UUID> senderIds);
+
+    @Modifying
+    @Query("DELETE FROM MessageAttachment a WHERE a.messageId IN (SELECT m.id FROM Message m WHERE m.senderId IN :senderIds)")
+    int deleteBySenderIdIn(Collection<UUID> senderIds);
 }
@@ -2,8 +2,11 @@ package com.monteweb.messaging.internal.repository;
 
 import com.monteweb.messaging.internal.model.MessageImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,4 +17,21 @@ public interface MessageImageRepository extends JpaRepository<MessageImage, UUID
     List<MessageImage> findByMessageIdIn(List<UUID> messageIds);
 
     List<MessageImage> findByCreatedAtBefore(Instant cutoff);
+
+    /** Which of the keys an image or thumbnail still points at. */
+    @Query(value = """
+            SELECT storage_path FROM message_images WHERE storage_path IN (:keys)
+            UNION
+            SELECT thumbnail_path FROM message_images WHERE thumbnail_path IN (:keys)
+            """, nativeQuery = true)
+    List<String> findReferencedKeys(Collection<String> keys);
+
+    List<MessageImage> findByUploadedBy(UUID uploadedBy);
+
+    @Query("SELECT i FROM MessageImage i WHERE i.messageId IN (SELECT m.id FROM Message m WHERE m.senderId IN :senderIds)")
+    List<MessageImage> findBySenderIdIn(Collection<UUID> senderIds);
+
+    @Modifying
+    @Query("DELETE FROM MessageImage i WHERE i.messageId IN (SELECT m.id FROM Message m WHERE m.senderId IN :senderIds)")
+    int deleteBySenderIdIn(Collection<UUID> senderIds);
 }
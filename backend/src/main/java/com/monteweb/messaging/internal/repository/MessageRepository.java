@@ -4,9 +4,11 @@ import com.monteweb.messaging.internal.model.Message;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,4 +28,9 @@ public interface MessageRepository extends JpaRepository<Message, UUID> {
     long countUnreadMessages(UUID conversationId, UUID userId, Instant since);
 
     List<Message> findBySenderId(UUID senderId);
+
+    /** Keeps the messages in their conversations, without sender or content. */
+    @Modifying
+    @Query("UPDATE Message m SET m.senderId = null, m.content = null, m.replyToId = null WHERE m.senderId IN :senderIds")
+    int anonymizeBySenderIdIn(Collection<UUID> senderIds);
 }
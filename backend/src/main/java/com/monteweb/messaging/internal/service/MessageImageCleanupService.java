@@ -3,6 +3,7 @@ package com.monteweb.messaging.internal.service;
 import com.monteweb.messaging.internal.model.MessageAttachment;
 import com.monteweb.messaging.internal.repository.MessageAttachmentRepository;
 import com.monteweb.messaging.internal.repository.MessageImageRepository;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -12,7 +13,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
 
+/**
+ * Deletes message images and file attachments after the retention period. The rows go
+ * right away; their objects are handed to the {@link ObjectDeletionQueue}.
+ */
 @Service
 @ConditionalOnProperty(prefix = "monteweb.modules.messaging", name = "enabled", havingValue = "true")
 public class MessageImageCleanupService {
@@ -22,14 +28,14 @@ public class MessageImageCleanupService {
 
     private final MessageImageRepository imageRepository;
     private final MessageAttachmentRepository attachmentRepository;
-    private final MessageStorageService storageService;
+    private final ObjectDeletionQueue deletionQueue;
 
     public MessageImageCleanupService(MessageImageRepository imageRepository,
                                        MessageAttachmentRepository attachmentRepository,
-                                       MessageStorageService storageService) {
+                                       ObjectDeletionQueue deletionQueue) {
         this.imageRepository = imageRepository;
         this.attachmentRepository = attachmentRepository;
-        this.storageService = storageService;
+        this.deletionQueue = deletionQueue;
     }
 
     @Scheduled(cron = "0 30 3 * * *") // Daily at 3:30 AM
@@ -40,11 +46,10 @@ public class MessageImageCleanupService {
 
         if (!expired.isEmpty()) {
             log.info("Cleaning up {} message images older than {} days", expired.size(), RETENTION_DAYS);
-            for (var image : expired) {
-                storageService.delete(image.getStoragePath());
-                storageService.delete(image.getThumbnailPath());
-                imageRepository.delete(image);
-            }
+            deletionQueue.enqueue(expired.stream()
+                    .flatMap(image -> Stream.of(image.getStoragePath(), image.getThumbnailPath()))
+                    .toList());
+            imageRepository.deleteAllInBatch(expired);
             log.info("Successfully cleaned up {} expired message images", expired.size());
         }
 
@@ -55,10 +60,8 @@ public class MessageImageCleanupService {
                 .toList();
         if (!fileAttachments.isEmpty()) {
             log.info("Cleaning up {} message attachments older than {} days", fileAttachments.size(), RETENTION_DAYS);
-            for (var att : fileAttachments) {
-                storageService.delete(att.getStoragePath());
-                attachmentRepository.delete(att);
-            }
+            deletionQueue.enqueue(fileAttachments.stream().map(MessageAttachment::getStoragePath).toList());
+            attachmentRepository.deleteAllInBatch(fileAttachments);
             log.info("Successfully cleaned up {} expired message attachments", fileAttachments.size());
         }
     }
@@ -0,0 +1,54 @@
+package com.monteweb.messaging.internal.service;
+
+import com.monteweb.messaging.internal.repository.MessageAttachmentRepository;
+import com.monteweb.messaging.internal.repository.MessageImageRepository;
+import com.monteweb.shared.storage.StorageReferenceProvider;
+import com.monteweb.shared.storage.StoredObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Message images, thumbnails and file attachments, stored under {@code messages/{conversationId}/}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules.messaging", name = "enabled", havingValue = "true")
+public class MessageStorageReferences implements StorageReferenceProvider {
+
+    private final MessageImageRepository imageRepository;
+    private final MessageAttachmentRepository attachmentRepository;
+
+    public MessageStorageReferences(MessageImageRepository imageRepository,
+                                    MessageAttachmentRepository attachmentRepository) {
+        this.imageRepository = imageRepository;
+        this.attachmentRepository = attachmentRepository;
+    }
+
+    @Override
+    public String listingPrefix() {
+        return "messages/";
+    }
+
+    @Override
+    public Set<String> findReferenced(Collection<String> objectKeys) {
+        Set<String> referenced = new HashSet<>(imageRepository.findReferencedKeys(objectKeys));
+        referenced.addAll(attachmentRepository.findReferencedKeys(objectKeys));
+        return referenced;
+    }
+
+    @Override
+    public List<StoredObject> findUploadedBy(UUID userId) {
+        List<StoredObject> objects = new ArrayList<>();
+        imageRepository.findByUploadedBy(userId).forEach(img ->
+                objects.add(new StoredObject(img.getStoragePath(), img.getOriginalFilename())));
+        attachmentRepository.findByUploadedByAndStoragePathIsNotNull(userId).forEach(att ->
+                objects.add(new StoredObject(att.getStoragePath(), att.getOriginalFilename())));
+        return objects;
+    }
+}
@@ -12,6 +12,7 @@ import com.monteweb.messaging.internal.repository.*;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ForbiddenException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import com.monteweb.user.UserModuleApi;
 import com.monteweb.user.UserRole;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -47,6 +48,7 @@ public class MessagingService implements MessagingModuleApi {
     private final SimpMessagingTemplate messagingTemplate;
     private final ApplicationEventPublisher eventPublisher;
     private final MessageStorageService storageService;
+    private final ObjectDeletionQueue deletionQueue;
 
     public MessagingService(ConversationRepository conversationRepository,
                             ConversationParticipantRepository participantRepository,
@@ -60,7 +62,8 @@ public class MessagingService implements MessagingModuleApi {
                             AdminModuleApi adminModuleApi,
                             SimpMessagingTemplate messagingTemplate,
                             ApplicationEventPublisher eventPublisher,
-                            MessageStorageService storageService) {
+                            MessageStorageService storageService,
+                            ObjectDeletionQueue deletionQueue) {
         this.messageReactionRepository = messageReactionRepository;
         this.messagePollRepository = messagePollRepository;
         this.messagePollVoteRepository = messagePollVoteRepository;
@@ -74,6 +77,7 @@ public class MessagingService implements MessagingModuleApi {
         this.messagingTemplate = messagingTemplate;
         this.eventPublisher = eventPublisher;
         this.storageService = storageService;
+        this.deletionQueue = deletionQueue;
     }
 
     // ---- Public API (MessagingModuleApi) ----
@@ -852,6 +856,26 @@ public class MessagingService implements MessagingModuleApi {
         participantRepository.deleteByUserId(userId);
     }
 
+    /**
+     * DSGVO: Clean up all messaging data for a batch of deleted users, a statement per table.
+     */
+    @Transactional
+    public void cleanupUserData(Collection<UUID> userIds) {
+        // Images and attachments of their messages; the objects are removed in bulk once the rows are gone
+        List<String> objectKeys = new ArrayList<>();
+        for (var img : messageImageRepository.findBySenderIdIn(userIds)) {
+            objectKeys.add(img.getStoragePath());
+            objectKeys.add(img.getThumbnailPath());
+        }
+        objectKeys.addAll(messageAttachmentRepository.findStoragePathsBySenderIdIn(userIds));
+        deletionQueue.enqueue(objectKeys);
+        messageImageRepository.deleteBySenderIdIn(userIds);
+        messageAttachmentRepository.deleteBySenderIdIn(userIds);
+        // Keep the messages in their conversations, without sender or content
+        messageRepository.anonymizeBySenderIdIn(userIds);
+        participantRepository.deleteByUserIdIn(userIds);
+    }
+
     /**
      * DSGVO: Export all messaging data for a user.
      */
@@ -1,35 +1,40 @@
 package com.monteweb.messaging.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up messaging data when a user account is deleted.
  * Anonymizes messages (nullifies sender and content) and deletes message images from MinIO.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.messaging", name = "enabled", havingValue = "true")
-public class MessageDeletionListener {
+public class MessagingUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(MessageDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(MessagingUserDataCleanup.class);
 
     private final MessagingService messagingService;
 
-    public MessageDeletionListener(MessagingService messagingService) {
+    public MessagingUserDataCleanup(MessagingService messagingService) {
         this.messagingService = messagingService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "messaging";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up messaging data for deleted user {}", event.userId());
-        messagingService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up messaging data for {} deleted users", userIds.size());
+        messagingService.cleanupUserData(userIds);
     }
 }
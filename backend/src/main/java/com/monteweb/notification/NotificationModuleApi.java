@@ -1,5 +1,8 @@
 package com.monteweb.notification;
 
+import com.monteweb.shared.retention.RetentionPolicy;
+
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
 
@@ -14,8 +17,8 @@ public interface NotificationModuleApi {
 
     long getUnreadCount(UUID userId);
 
-    /** DSGVO: Delete notifications older than the given cutoff. Returns deleted count. */
-    int deleteOlderThan(java.time.Instant cutoff);
+    /** DSGVO: Retention policy for notifications created before the given cutoff. */
+    RetentionPolicy retentionPolicy(Instant cutoff);
 
     /** DSGVO: Export all notification data for a user. */
     Map<String, Object> exportUserData(UUID userId);
@@ -6,11 +6,19 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * {@code notifications} is range-partitioned by {@code created_at} (V132). Queries bounded by
+ * {@code createdAt} are pruned to the matching months; per-user queries use the per-partition
+ * indexes on {@code user_id}, and lookups by id probe the primary key of each partition, of
+ * which retention keeps only a handful.
+ */
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
 
     List<Notification> findByUserId(UUID userId);
@@ -33,9 +41,9 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
 
     List<Notification> findByUserIdAndCreatedAtAfterOrderByCreatedAtDesc(UUID userId, Instant since);
 
-    @Modifying
-    @Query("DELETE FROM Notification n WHERE n.createdAt < :cutoff")
-    int deleteByCreatedAtBefore(@org.springframework.data.repository.query.Param("cutoff") Instant cutoff);
-
     void deleteByUserId(UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
@@ -2,8 +2,12 @@ package com.monteweb.notification.internal.repository;
 
 import com.monteweb.notification.internal.model.PushSubscription;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,4 +22,8 @@ public interface PushSubscriptionRepository extends JpaRepository<PushSubscripti
     void deleteByUserIdAndEndpoint(UUID userId, String endpoint);
 
     void deleteByUserId(UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM PushSubscription s WHERE s.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
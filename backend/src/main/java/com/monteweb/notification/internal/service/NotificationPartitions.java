@@ -0,0 +1,115 @@
+package com.monteweb.notification.internal.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly range partitions of {@code notifications} (V132).
+ * <p>
+ * Partitions cover whole UTC months and are named {@code notifications_yYYYYmMM}. The current
+ * month and the next {@link #MONTHS_AHEAD} months always exist, so inserts never hit a
+ * missing partition. Months past retention are detached and dropped instead of being
+ * deleted row by row; the retention engine calls {@link #dropPartitionsBefore} through
+ * the notification {@link com.monteweb.shared.retention.RetentionPolicy}.
+ */
+@Component
+public class NotificationPartitions {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationPartitions.class);
+    static final int MONTHS_AHEAD = 3;
+    private static final Pattern PARTITION = Pattern.compile("notifications_y(\\d{4})m(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationPartitions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 15 3 * * *")
+    public void createFuturePartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        int created = 0;
+        for (int i = 0; i <= MONTHS_AHEAD; i++) {
+            if (createPartition(current.plusMonths(i))) created++;
+        }
+        if (created > 0) {
+            log.info("Created {} notification partitions up to {}", created, current.plusMonths(MONTHS_AHEAD));
+        }
+    }
+
+    /**
+     * Creates the partition of {@code month} unless it exists.
+     *
+     * @return whether the partition was created
+     */
+    public boolean createPartition(YearMonth month) {
+        String name = partitionName(month);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name))) {
+            return false;
+        }
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF notifications FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(name, lowerBound(month), lowerBound(month.plusMonths(1))));
+            return true;
+        } catch (DataAccessException e) {
+            // Another instance may have created it in the meantime
+            log.warn("Could not create notification partition {}: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Detaches and drops every partition whose month ends at or before {@code cutoff}.
+     * Must run outside a transaction: partitions are detached concurrently, so readers and
+     * writers of the other partitions are not blocked. A detach that was interrupted is
+     * finalized on the next call.
+     *
+     * @return the number of partitions dropped
+     */
+    public int dropPartitionsBefore(Instant cutoff) {
+        var partitions = jdbcTemplate.query("""
+                SELECT c.relname, i.inhdetachpending
+                FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'notifications'::regclass
+                ORDER BY c.relname
+                """, (rs, n) -> new Partition(rs.getString("relname"), rs.getBoolean("inhdetachpending")));
+
+        int dropped = 0;
+        for (var partition : partitions) {
+            var matcher = PARTITION.matcher(partition.name());
+            if (!matcher.matches()) continue;
+            var month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (lowerBound(month.plusMonths(1)).isAfter(cutoff)) continue;
+
+            jdbcTemplate.execute("ALTER TABLE notifications DETACH PARTITION %s %s"
+                    .formatted(partition.name(), partition.detachPending() ? "FINALIZE" : "CONCURRENTLY"));
+            jdbcTemplate.execute("DROP TABLE " + partition.name());
+            log.info("Dropped notification partition {}", partition.name());
+            dropped++;
+        }
+        return dropped;
+    }
+
+    static String partitionName(YearMonth month) {
+        return "notifications_y%04dm%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+
+    private static Instant lowerBound(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private record Partition(String name, boolean detachPending) {
+    }
+}
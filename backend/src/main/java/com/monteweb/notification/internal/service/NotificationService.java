@@ -6,6 +6,7 @@ import com.monteweb.notification.NotificationType;
 import com.monteweb.notification.internal.model.Notification;
 import com.monteweb.notification.internal.repository.NotificationRepository;
 import com.monteweb.notification.internal.repository.PushSubscriptionRepository;
+import com.monteweb.shared.retention.RetentionPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -27,15 +28,18 @@ public class NotificationService implements NotificationModuleApi {
     private final PushSubscriptionRepository pushSubscriptionRepository;
     private final SimpMessagingTemplate messagingTemplate;
     private final Optional<WebPushService> webPushService;
+    private final NotificationPartitions partitions;
 
     public NotificationService(NotificationRepository repository,
                                PushSubscriptionRepository pushSubscriptionRepository,
                                SimpMessagingTemplate messagingTemplate,
-                               Optional<WebPushService> webPushService) {
+                               Optional<WebPushService> webPushService,
+                               NotificationPartitions partitions) {
         this.repository = repository;
         this.pushSubscriptionRepository = pushSubscriptionRepository;
         this.messagingTemplate = messagingTemplate;
         this.webPushService = webPushService;
+        this.partitions = partitions;
     }
 
     @Override
@@ -72,9 +76,9 @@ public class NotificationService implements NotificationModuleApi {
     }
 
     @Override
-    @Transactional
-    public int deleteOlderThan(java.time.Instant cutoff) {
-        return repository.deleteByCreatedAtBefore(cutoff);
+    public RetentionPolicy retentionPolicy(Instant cutoff) {
+        return RetentionPolicy.olderThan("notifications", "notifications", "created_at", cutoff)
+                .droppingPartitions(partitions::dropPartitionsBefore);
     }
 
     public Page<NotificationInfo> findByUser(UUID userId, Pageable pageable) {
@@ -132,6 +136,13 @@ public class NotificationService implements NotificationModuleApi {
         log.info("Cleaned up notifications and push subscriptions for deleted user {}", userId);
     }
 
+    @Transactional
+    public void cleanupUserData(Collection<UUID> userIds) {
+        int notifications = repository.deleteByUserIdIn(userIds);
+        pushSubscriptionRepository.deleteByUserIdIn(userIds);
+        log.info("Cleaned up {} notifications for {} deleted users", notifications, userIds.size());
+    }
+
     private NotificationInfo toInfo(Notification n) {
         return new NotificationInfo(
                 n.getId(), n.getUserId(), n.getType(), n.getTitle(), n.getMessage(),
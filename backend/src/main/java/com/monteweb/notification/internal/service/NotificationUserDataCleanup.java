@@ -0,0 +1,37 @@
+package com.monteweb.notification.internal.service;
+
+import com.monteweb.user.UserDataCleanup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * DSGVO: Cleans up notifications and push subscriptions when a user account is deleted.
+ */
+@Component
+public class NotificationUserDataCleanup implements UserDataCleanup {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationUserDataCleanup.class);
+
+    private final NotificationService notificationService;
+
+    public NotificationUserDataCleanup(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @Override
+    public String module() {
+        return "notifications";
+    }
+
+    @Override
+    @Transactional
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up notifications for {} deleted users", userIds.size());
+        notificationService.cleanupUserData(userIds);
+    }
+}
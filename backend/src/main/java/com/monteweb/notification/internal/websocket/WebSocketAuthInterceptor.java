@@ -2,8 +2,12 @@ package com.monteweb.notification.internal.websocket;
 
 import com.monteweb.auth.AuthModuleApi;
 import com.monteweb.auth.TokenClaims;
+import com.monteweb.forms.FormsModuleApi;
+import com.monteweb.room.RoomModuleApi;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -15,6 +19,8 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * Intercepts STOMP CONNECT frames to validate JWT tokens.
@@ -26,10 +32,22 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocketAuthInterceptor.class);
 
+    private static final Pattern FORM_RESULTS_TOPIC = Pattern.compile(
+            "^/topic/forms/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})/results$");
+
+    private static final Pattern ROOM_TASKS_TOPIC = Pattern.compile(
+            "^/topic/rooms/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})/tasks$");
+
     private final AuthModuleApi authModuleApi;
+    private final FormsModuleApi formsModuleApi;
+    private final RoomModuleApi roomModuleApi;
 
-    public WebSocketAuthInterceptor(AuthModuleApi authModuleApi) {
+    public WebSocketAuthInterceptor(AuthModuleApi authModuleApi,
+                                    @Lazy @Autowired(required = false) FormsModuleApi formsModuleApi,
+                                    @Lazy RoomModuleApi roomModuleApi) {
         this.authModuleApi = authModuleApi;
+        this.formsModuleApi = formsModuleApi;
+        this.roomModuleApi = roomModuleApi;
     }
 
     @Override
@@ -79,6 +97,40 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
     private Message<?> handleSubscribe(Message<?> message, StompHeaderAccessor accessor) {
         // Spring's UserDestinationMessageHandler resolves /user/queue/* subscriptions
         // to session-specific destinations automatically. No manual validation needed.
+        String destination = accessor.getDestination();
+        if (destination != null && destination.startsWith("/topic/rooms/")) {
+            return handleRoomSubscribe(message, accessor, destination);
+        }
+        if (destination == null || !destination.startsWith("/topic/forms/")) {
+            return message;
+        }
+
+        // Live form results are only visible to users allowed to see the results page
+        var matcher = FORM_RESULTS_TOPIC.matcher(destination);
+        if (!matcher.matches() || formsModuleApi == null || accessor.getUser() == null
+                || !formsModuleApi.canViewResults(UUID.fromString(matcher.group(1)),
+                        UUID.fromString(accessor.getUser().getName()))) {
+            log.warn("WebSocket SUBSCRIBE rejected for destination: {}", destination);
+            throw new org.springframework.security.access.AccessDeniedException("Subscription not allowed");
+        }
         return message;
     }
+
+    private Message<?> handleRoomSubscribe(Message<?> message, StompHeaderAccessor accessor, String destination) {
+        // Live task boards are only visible to room members and admins, as over REST
+        var matcher = ROOM_TASKS_TOPIC.matcher(destination);
+        var user = accessor.getUser();
+        if (!matcher.matches() || !(user instanceof UsernamePasswordAuthenticationToken auth)
+                || !(isAdmin(auth) || roomModuleApi.isUserInRoom(
+                        UUID.fromString(auth.getName()), UUID.fromString(matcher.group(1))))) {
+            log.warn("WebSocket SUBSCRIBE rejected for destination: {}", destination);
+            throw new org.springframework.security.access.AccessDeniedException("Subscription not allowed");
+        }
+        return message;
+    }
+
+    private static boolean isAdmin(UsernamePasswordAuthenticationToken auth) {
+        return auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_SUPERADMIN")
+                || a.getAuthority().equals("ROLE_SECTION_ADMIN"));
+    }
 }
@@ -5,6 +5,7 @@ import com.monteweb.parentletter.internal.service.ParentLetterPdfService;
 import com.monteweb.parentletter.internal.service.ParentLetterService;
 import com.monteweb.shared.dto.ApiResponse;
 import com.monteweb.shared.dto.PageResponse;
+import com.monteweb.shared.exception.BadRequestException;
 import com.monteweb.shared.util.SecurityUtils;
 import jakarta.validation.Valid;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -16,6 +17,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -168,8 +170,8 @@ public class ParentLetterController {
             @RequestParam(required = false) UUID studentId) {
         UUID userId = SecurityUtils.requireCurrentUserId();
         var detail = parentLetterService.getLetterDetail(id, userId);
-        String resolved = parentLetterService.getResolvedContent(id, studentId, userId);
-        byte[] pdf = pdfService.generateLetterPdf(detail, resolved);
+        var variables = parentLetterService.getTemplateVariables(id, studentId, userId);
+        byte[] pdf = pdfService.generateLetterPdf(detail, variables);
         String safeName = detail.title().replaceAll("[^a-zA-Z0-9\\-]", "_");
         return ResponseEntity.ok()
                 .header("Content-Type", "application/pdf")
@@ -177,6 +179,31 @@ public class ParentLetterController {
                 .body(pdf);
     }
 
+    /**
+     * Personalized letters for all recipients, either as a ZIP with one PDF per
+     * recipient ({@code format=zip}) or as a single PDF ({@code format=merged}).
+     */
+    @GetMapping("/{id}/pdf/batch")
+    public ResponseEntity<StreamingResponseBody> downloadLetterPdfBatch(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "zip") String format) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        var detail = parentLetterService.getLetterDetail(id, userId);
+        var personalizations = parentLetterService.getPersonalizations(id, userId);
+        String safeName = detail.title().replaceAll("[^a-zA-Z0-9\\-]", "_");
+        return switch (format) {
+            case "zip" -> ResponseEntity.ok()
+                    .header("Content-Type", "application/zip")
+                    .header("Content-Disposition", "attachment; filename=\"Elternbriefe-" + safeName + ".zip\"")
+                    .body(out -> pdfService.writeLettersZip(detail, personalizations, out));
+            case "merged" -> ResponseEntity.ok()
+                    .header("Content-Type", "application/pdf")
+                    .header("Content-Disposition", "attachment; filename=\"Elternbriefe-" + safeName + ".pdf\"")
+                    .body(out -> pdfService.writeMergedPdf(detail, personalizations, out));
+            default -> throw new BadRequestException("Unsupported format: " + format);
+        };
+    }
+
     /**
      * Download tracking/status list as PDF.
      */
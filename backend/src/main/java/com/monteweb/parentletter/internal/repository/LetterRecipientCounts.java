@@ -0,0 +1,14 @@
+package com.monteweb.parentletter.internal.repository;
+
+import java.util.UUID;
+
+/**
+ * Recipient totals of one letter from a grouped query.
+ */
+public record LetterRecipientCounts(UUID letterId, Long total, Long confirmed) {
+
+    public LetterRecipientCounts {
+        if (total == null) total = 0L;
+        if (confirmed == null) confirmed = 0L;
+    }
+}
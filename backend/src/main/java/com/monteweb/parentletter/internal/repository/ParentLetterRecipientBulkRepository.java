@@ -0,0 +1,20 @@
+package com.monteweb.parentletter.internal.repository;
+
+import com.monteweb.family.FamilyParentLink;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based recipient writes that bypass the per-entity persist path.
+ */
+public interface ParentLetterRecipientBulkRepository {
+
+    /**
+     * Inserts one OPEN recipient per link as a single JDBC batch.
+     * Rows violating {@code unique_plr_letter_parent} are skipped.
+     *
+     * @return number of rows actually inserted
+     */
+    int insertIgnoringDuplicates(UUID letterId, List<FamilyParentLink> links);
+}
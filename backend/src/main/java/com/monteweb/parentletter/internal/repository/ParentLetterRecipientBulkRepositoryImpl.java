@@ -0,0 +1,52 @@
+package com.monteweb.parentletter.internal.repository;
+
+import com.monteweb.family.FamilyParentLink;
+import com.monteweb.parentletter.RecipientStatus;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ParentLetterRecipientBulkRepositoryImpl implements ParentLetterRecipientBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO parent_letter_recipients (id, letter_id, student_id, parent_id, family_id, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT ON CONSTRAINT unique_plr_letter_parent DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    ParentLetterRecipientBulkRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int insertIgnoringDuplicates(UUID letterId, List<FamilyParentLink> links) {
+        if (links.isEmpty()) return 0;
+
+        // The letter row may still be pending in the persistence context
+        entityManager.flush();
+
+        // Keep the input order visible in created_at, which is the recipients' display order
+        Instant base = Instant.now();
+        var sequence = new AtomicLong();
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, links, 500, (ps, link) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, letterId);
+            ps.setObject(3, link.memberId());
+            ps.setObject(4, link.parentId());
+            ps.setObject(5, link.familyId());
+            ps.setString(6, RecipientStatus.OPEN.name());
+            ps.setTimestamp(7, Timestamp.from(base.plusNanos(1000L * sequence.getAndIncrement())));
+        });
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(c -> Math.max(c, 0)).sum();
+    }
+}
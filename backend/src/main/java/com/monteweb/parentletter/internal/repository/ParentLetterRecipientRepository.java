@@ -7,11 +7,13 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ParentLetterRecipientRepository extends JpaRepository<ParentLetterRecipient, UUID> {
+public interface ParentLetterRecipientRepository extends JpaRepository<ParentLetterRecipient, UUID>,
+        ParentLetterRecipientBulkRepository {
 
     List<ParentLetterRecipient> findByLetterIdOrderByCreatedAt(UUID letterId);
 
@@ -28,6 +30,11 @@ public interface ParentLetterRecipientRepository extends JpaRepository<ParentLet
 
     long countByLetterId(UUID letterId);
 
+    @Query("SELECT new com.monteweb.parentletter.internal.repository.LetterRecipientCounts(" +
+           "r.letterId, COUNT(r), SUM(CASE WHEN r.status = com.monteweb.parentletter.RecipientStatus.CONFIRMED THEN 1L ELSE 0L END)) " +
+           "FROM ParentLetterRecipient r WHERE r.letterId IN :letterIds GROUP BY r.letterId")
+    List<LetterRecipientCounts> countByLetterIdIn(@Param("letterIds") Collection<UUID> letterIds);
+
     /**
      * Count recipient rows for a given parent where status is NOT the given status.
      * Used for counting pending (non-confirmed) letters for a parent.
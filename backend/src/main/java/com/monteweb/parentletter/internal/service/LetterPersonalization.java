@@ -0,0 +1,16 @@
+package com.monteweb.parentletter.internal.service;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The template variables of one recipient's letter, resolved exactly as for the
+ * single-recipient PDF (placeholder to value, in replacement order).
+ */
+public record LetterPersonalization(
+        UUID recipientId,
+        String studentName,
+        String parentName,
+        Map<String, String> variables
+) {
+}
@@ -2,60 +2,120 @@ package com.monteweb.parentletter.internal.service;
 
 import com.monteweb.parentletter.ParentLetterDetailInfo;
 import com.monteweb.parentletter.RecipientStatus;
+import com.monteweb.shared.config.TaskExecutorConfig;
 import com.monteweb.shared.util.PdfService;
+import org.commonmark.node.Code;
 import org.commonmark.node.Node;
+import org.commonmark.node.Text;
 import org.commonmark.parser.Parser;
+import org.commonmark.renderer.NodeRenderer;
+import org.commonmark.renderer.html.HtmlNodeRendererContext;
 import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.html.HtmlWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 @Service
 @ConditionalOnProperty(prefix = "monteweb.modules", name = "parentletter.enabled", havingValue = "true")
 public class ParentLetterPdfService {
 
+    private static final String LETTER_STYLE =
+            "body{font-family:sans-serif;font-size:12pt;margin:2cm;line-height:1.6}"
+            + ".meta{margin-bottom:1cm;color:#666;font-size:10pt}"
+            + "h1{font-size:16pt}h2{font-size:14pt}h3{font-size:12pt}"
+            + "table{width:100%;border-collapse:collapse}"
+            + "th,td{border:1px solid #ccc;padding:4pt 8pt;text-align:left}"
+            + "th{background:#f5f5f5}"
+            + ".letter{page-break-before:always}.letter:first-child{page-break-before:auto}";
+
     private final PdfService pdfService;
     private final Parser markdownParser = Parser.builder().build();
-    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder().build();
     private static final DateTimeFormatter DATE_FMT =
             DateTimeFormatter.ofPattern("dd.MM.yyyy").withZone(ZoneId.of("Europe/Berlin"));
 
-    public ParentLetterPdfService(PdfService pdfService) {
+    /** Layout is CPU-bound; the parallel pool is sized to the available cores. */
+    private final AsyncTaskExecutor renderPool;
+    /** Two PDFs per render thread, so every thread has the next letter ready. */
+    private final int maxInFlight;
+
+    public ParentLetterPdfService(PdfService pdfService,
+                                  @Qualifier(TaskExecutorConfig.PARALLEL_TASKS) AsyncTaskExecutor renderPool) {
         this.pdfService = pdfService;
+        this.renderPool = renderPool;
+        int threads = renderPool instanceof ThreadPoolTaskExecutor pool
+                ? pool.getMaxPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+        this.maxInFlight = threads * 2;
     }
 
-    public byte[] generateLetterPdf(ParentLetterDetailInfo letter, String resolvedContent) {
-        var sb = new StringBuilder();
-        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
-        sb.append("<!DOCTYPE html PUBLIC \"-//W3C//DTD XHTML 1.0 Strict//EN\" ");
-        sb.append("\"http://www.w3.org/TR/xhtml1/DTD/xhtml1-strict.dtd\">");
-        sb.append("<html xmlns=\"http://www.w3.org/1999/xhtml\"><head>");
-        sb.append("<style>");
-        sb.append("body{font-family:sans-serif;font-size:12pt;margin:2cm;line-height:1.6}");
-        sb.append(".meta{margin-bottom:1cm;color:#666;font-size:10pt}");
-        sb.append("h1{font-size:16pt}h2{font-size:14pt}h3{font-size:12pt}");
-        sb.append("table{width:100%;border-collapse:collapse}");
-        sb.append("th,td{border:1px solid #ccc;padding:4pt 8pt;text-align:left}");
-        sb.append("th{background:#f5f5f5}");
-        sb.append("</style></head><body>");
+    /**
+     * Renders the letter with its template variables substituted (placeholder to value;
+     * empty to keep the placeholders).
+     */
+    public byte[] generateLetterPdf(ParentLetterDetailInfo letter, Map<String, String> variables) {
+        return renderLetter(letter, parseTemplate(letter), variables);
+    }
 
-        sb.append("<div class=\"meta\">");
-        sb.append("<div>").append(escapeXml(letter.roomName())).append("</div>");
-        sb.append("<div>").append(escapeXml(letter.creatorName())).append("</div>");
-        if (letter.sendDate() != null) {
-            sb.append("<div>Datum: ").append(DATE_FMT.format(letter.sendDate())).append("</div>");
+    /**
+     * Writes one personalized PDF per recipient into a ZIP archive. The template is parsed
+     * once; letters are rendered in parallel on the render pool, but at most two PDFs per
+     * render thread are held in memory at a time. Entries are written in recipient order.
+     */
+    public void writeLettersZip(ParentLetterDetailInfo letter, List<LetterPersonalization> recipients,
+                                OutputStream out) throws IOException {
+        Node template = parseTemplate(letter);
+        var pending = new ArrayDeque<Future<byte[]>>();
+        var zip = new ZipOutputStream(out);
+        // PDFs are compressed already
+        zip.setLevel(Deflater.BEST_SPEED);
+        try {
+            int next = 0;
+            for (int i = 0; i < recipients.size(); i++) {
+                while (next < recipients.size() && pending.size() < maxInFlight) {
+                    var recipient = recipients.get(next++);
+                    pending.add(renderPool.submit(() -> renderLetter(letter, template, recipient.variables())));
+                }
+                byte[] pdf = await(pending.poll());
+                zip.putNextEntry(new ZipEntry(entryName(i + 1, recipients.get(i))));
+                zip.write(pdf);
+                zip.closeEntry();
+            }
+            zip.finish();
+        } finally {
+            pending.forEach(f -> f.cancel(true));
         }
-        sb.append("</div>");
-
-        sb.append("<h1>").append(escapeXml(letter.title())).append("</h1>");
-
-        Node doc = markdownParser.parse(resolvedContent);
-        sb.append(htmlRenderer.render(doc));
+    }
 
+    /**
+     * Writes all personalized letters as a single PDF with one letter per page break.
+     * The template is parsed once, and the combined document is laid out once and
+     * streamed straight to {@code out}.
+     */
+    public void writeMergedPdf(ParentLetterDetailInfo letter, List<LetterPersonalization> recipients,
+                               OutputStream out) {
+        Node template = parseTemplate(letter);
+        var sb = new StringBuilder();
+        appendDocumentStart(sb);
+        for (var recipient : recipients) {
+            appendLetter(sb, letter, renderMarkdown(template, recipient.variables()));
+        }
         sb.append("</body></html>");
-        return pdfService.renderHtmlToPdf(sb.toString());
+        pdfService.renderHtmlToPdf(sb.toString(), out);
     }
 
     public byte[] generateTrackingPdf(ParentLetterDetailInfo letter) {
@@ -122,6 +182,113 @@ public class ParentLetterPdfService {
         return pdfService.renderHtmlToPdf(sb.toString());
     }
 
+    // ---- Helpers ----
+
+    private Node parseTemplate(ParentLetterDetailInfo letter) {
+        return markdownParser.parse(letter.content() != null ? letter.content() : "");
+    }
+
+    private byte[] renderLetter(ParentLetterDetailInfo letter, Node template, Map<String, String> variables) {
+        var sb = new StringBuilder();
+        appendDocumentStart(sb);
+        appendLetter(sb, letter, renderMarkdown(template, variables));
+        sb.append("</body></html>");
+        return pdfService.renderHtmlToPdf(sb.toString());
+    }
+
+    /**
+     * Renders the parsed template with the variables substituted into its text. The tree
+     * is only read, so one template can be rendered by several threads at once.
+     */
+    private static String renderMarkdown(Node template, Map<String, String> variables) {
+        return HtmlRenderer.builder()
+                .nodeRendererFactory(context -> new VariableRenderer(context, variables))
+                .build()
+                .render(template);
+    }
+
+    /**
+     * Renders text and inline code like the default renderer, with the placeholders
+     * replaced in the same order as {@code ParentLetterService.resolveVariables}. Values are
+     * escaped as text and never read as Markdown.
+     */
+    private static final class VariableRenderer implements NodeRenderer {
+
+        private final HtmlNodeRendererContext context;
+        private final HtmlWriter html;
+        private final Map<String, String> variables;
+
+        VariableRenderer(HtmlNodeRendererContext context, Map<String, String> variables) {
+            this.context = context;
+            this.html = context.getWriter();
+            this.variables = variables;
+        }
+
+        @Override
+        public Set<Class<? extends Node>> getNodeTypes() {
+            return Set.of(Text.class, Code.class);
+        }
+
+        @Override
+        public void render(Node node) {
+            if (node instanceof Text text) {
+                html.text(substitute(text.getLiteral()));
+            } else if (node instanceof Code code) {
+                html.tag("code", context.extendAttributes(code, "code", Map.of()));
+                html.text(substitute(code.getLiteral()));
+                html.tag("/code");
+            }
+        }
+
+        private String substitute(String literal) {
+            String result = literal;
+            for (var variable : variables.entrySet()) {
+                result = result.replace(variable.getKey(), variable.getValue());
+            }
+            return result;
+        }
+    }
+
+    private static void appendDocumentStart(StringBuilder sb) {
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+        sb.append("<!DOCTYPE html PUBLIC \"-//W3C//DTD XHTML 1.0 Strict//EN\" ");
+        sb.append("\"http://www.w3.org/TR/xhtml1/DTD/xhtml1-strict.dtd\">");
+        sb.append("<html xmlns=\"http://www.w3.org/1999/xhtml\"><head>");
+        sb.append("<style>").append(LETTER_STYLE).append("</style></head><body>");
+    }
+
+    private static void appendLetter(StringBuilder sb, ParentLetterDetailInfo letter, String bodyHtml) {
+        sb.append("<div class=\"letter\">");
+        sb.append("<div class=\"meta\">");
+        sb.append("<div>").append(escapeXml(letter.roomName())).append("</div>");
+        sb.append("<div>").append(escapeXml(letter.creatorName())).append("</div>");
+        if (letter.sendDate() != null) {
+            sb.append("<div>Datum: ").append(DATE_FMT.format(letter.sendDate())).append("</div>");
+        }
+        sb.append("</div>");
+        sb.append("<h1>").append(escapeXml(letter.title())).append("</h1>");
+        sb.append(bodyHtml);
+        sb.append("</div>");
+    }
+
+    private static String entryName(int index, LetterPersonalization recipient) {
+        String name = (recipient.studentName() + "-" + recipient.parentName())
+                .replaceAll("[^a-zA-Z0-9\\-]", "_");
+        return String.format("%03d-%s.pdf", index, name);
+    }
+
+    private static byte[] await(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("PDF batch rendering interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new RuntimeException("PDF generation failed", e.getCause());
+        }
+    }
+
     private static String escapeXml(String s) {
         if (s == null) return "";
         return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
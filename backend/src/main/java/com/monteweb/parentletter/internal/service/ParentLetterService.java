@@ -10,6 +10,7 @@ import com.monteweb.parentletter.internal.model.ParentLetterAttachment;
 import com.monteweb.parentletter.internal.model.ParentLetterConfig;
 import com.monteweb.parentletter.internal.model.ParentLetterRecipient;
 import com.monteweb.parentletter.internal.repository.ParentLetterAttachmentRepository;
+import com.monteweb.parentletter.internal.repository.LetterRecipientCounts;
 import com.monteweb.parentletter.internal.repository.ParentLetterConfigRepository;
 import com.monteweb.parentletter.internal.repository.ParentLetterRecipientRepository;
 import com.monteweb.parentletter.internal.repository.ParentLetterRepository;
@@ -87,9 +88,7 @@ public class ParentLetterService implements ParentLetterModuleApi {
     @Override
     @Transactional(readOnly = true)
     public List<ParentLetterInfo> getLettersForRoom(UUID roomId) {
-        return letterRepository.findByRoomIdOrderByCreatedAtDesc(roomId).stream()
-                .map(this::toLetterInfo)
-                .toList();
+        return toLetterInfos(letterRepository.findByRoomIdOrderByCreatedAtDesc(roomId));
     }
 
     @Override
@@ -257,8 +256,9 @@ public class ParentLetterService implements ParentLetterModuleApi {
 
     @Transactional(readOnly = true)
     public Page<ParentLetterInfo> getMyLetters(UUID userId, Pageable pageable) {
-        return letterRepository.findByCreatedByOrderByCreatedAtDesc(userId, pageable)
-                .map(this::toLetterInfo);
+        var page = letterRepository.findByCreatedByOrderByCreatedAtDesc(userId, pageable);
+        var infos = toLetterInfos(page.getContent()).iterator();
+        return page.map(letter -> infos.next());
     }
 
     @Transactional(readOnly = true)
@@ -447,23 +447,65 @@ public class ParentLetterService implements ParentLetterModuleApi {
 
     // ---- PDF helpers ----
 
+    /**
+     * Template variables of the letter for one student, as used for the single-recipient
+     * PDF. Without a student, no variables are resolved.
+     */
     @Transactional(readOnly = true)
-    public String getResolvedContent(UUID letterId, UUID studentId, UUID userId) {
-        var letter = letterRepository.findById(letterId)
+    public Map<String, String> getTemplateVariables(UUID letterId, UUID studentId, UUID userId) {
+        letterRepository.findById(letterId)
                 .orElseThrow(() -> new ResourceNotFoundException("ParentLetter", letterId));
-        if (studentId != null) {
-            var recipient = recipientRepository.findByLetterIdAndStudentId(letterId, studentId)
-                    .stream().findFirst()
-                    .orElseThrow(() -> new ResourceNotFoundException("Recipient not found for student " + studentId));
-            var student = userModuleApi.findById(recipient.getStudentId()).orElse(null);
-            var parent = userModuleApi.findById(recipient.getParentId()).orElse(null);
-            var family = familyModuleApi.findByUserId(recipient.getStudentId()).stream()
-                    .filter(f -> f.id().equals(recipient.getFamilyId()))
-                    .findFirst().orElse(null);
-            var teacher = userModuleApi.findById(userId).orElse(null);
-            return resolveVariables(letter.getContent(), student, family, parent, teacher);
+        if (studentId == null) {
+            return Map.of();
+        }
+        var recipient = recipientRepository.findByLetterIdAndStudentId(letterId, studentId)
+                .stream().findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Recipient not found for student " + studentId));
+        var student = userModuleApi.findById(recipient.getStudentId()).orElse(null);
+        var parent = userModuleApi.findById(recipient.getParentId()).orElse(null);
+        var family = familyModuleApi.findByUserId(recipient.getStudentId()).stream()
+                .filter(f -> f.id().equals(recipient.getFamilyId()))
+                .findFirst().orElse(null);
+        var teacher = userModuleApi.findById(userId).orElse(null);
+        return templateVariables(student, family, parent, teacher);
+    }
+
+    /**
+     * Template variables for every recipient of a letter, with bulk lookups.
+     * Used for the batch PDF export; {@code userId} is the teacher printing the letters.
+     */
+    @Transactional(readOnly = true)
+    public List<LetterPersonalization> getPersonalizations(UUID letterId, UUID userId) {
+        letterRepository.findById(letterId)
+                .orElseThrow(() -> new ResourceNotFoundException("ParentLetter", letterId));
+        var recipients = recipientRepository.findByLetterIdOrderByCreatedAt(letterId);
+
+        var userIds = new HashSet<UUID>();
+        userIds.add(userId);
+        for (var recipient : recipients) {
+            userIds.add(recipient.getStudentId());
+            userIds.add(recipient.getParentId());
         }
-        return letter.getContent();
+        Map<UUID, UserInfo> users = new HashMap<>();
+        for (var user : userModuleApi.findByIds(new ArrayList<>(userIds))) {
+            users.put(user.id(), user);
+        }
+
+        var familyIds = recipients.stream().map(ParentLetterRecipient::getFamilyId)
+                .filter(Objects::nonNull).distinct().toList();
+        Map<UUID, FamilyInfo> families = familyIds.isEmpty() ? Map.of() : familyModuleApi.findByIds(familyIds);
+
+        var teacher = users.get(userId);
+        return recipients.stream().map(recipient -> {
+            var student = users.get(recipient.getStudentId());
+            var parent = users.get(recipient.getParentId());
+            return new LetterPersonalization(
+                    recipient.getId(),
+                    student != null ? student.firstName() + " " + student.lastName() : "Unknown",
+                    parent != null ? parent.displayName() : "Unknown",
+                    templateVariables(student, families.get(recipient.getFamilyId()), parent, teacher)
+            );
+        }).toList();
     }
 
     // ---- Stats ----
@@ -674,28 +716,14 @@ public class ParentLetterService implements ParentLetterModuleApi {
                     .toList();
         }
 
+        // One query for all student -> family -> parent links, one batch insert for the recipients
+        var studentOrder = new HashMap<UUID, Integer>();
         for (UUID studentId : targetStudentIds) {
-            var families = familyModuleApi.findByUserId(studentId);
-            for (var family : families) {
-                var parentMembers = family.members().stream()
-                        .filter(m -> "PARENT".equals(m.role()))
-                        .toList();
-                for (var parentMember : parentMembers) {
-                    // Avoid duplicates (unique constraint on letter_id + parent_id + student_id)
-                    var existing = recipientRepository.findByLetterIdAndParentIdAndStudentId(
-                            letter.getId(), parentMember.userId(), studentId);
-                    if (existing.isEmpty()) {
-                        var recipient = new ParentLetterRecipient();
-                        recipient.setLetter(letter);
-                        recipient.setStudentId(studentId);
-                        recipient.setParentId(parentMember.userId());
-                        recipient.setFamilyId(family.id());
-                        recipient.setStatus(RecipientStatus.OPEN);
-                        recipientRepository.save(recipient);
-                    }
-                }
-            }
+            studentOrder.putIfAbsent(studentId, studentOrder.size());
         }
+        var links = new ArrayList<>(familyModuleApi.findParentLinks(studentOrder.keySet()));
+        links.sort(Comparator.comparing(link -> studentOrder.get(link.memberId())));
+        recipientRepository.insertIgnoringDuplicates(letter.getId(), links);
     }
 
     private void sendNotificationsToRecipients(ParentLetter letter, UUID senderId) {
@@ -752,13 +780,25 @@ public class ParentLetterService implements ParentLetterModuleApi {
     public String resolveVariables(String content, UserInfo student, FamilyInfo family,
                                    UserInfo parent, UserInfo teacher) {
         if (content == null) return "";
-        return content
-                .replace("{Familie}", family != null ? family.name() : "")
-                .replace("{NameKind}", student != null ? student.firstName() : "")
-                .replace("{Anrede}", parent != null
-                        ? "Sehr geehrte/r " + parent.displayName()
-                        : "Sehr geehrte Eltern")
-                .replace("{LehrerName}", teacher != null ? teacher.displayName() : "");
+        String resolved = content;
+        for (var variable : templateVariables(student, family, parent, teacher).entrySet()) {
+            resolved = resolved.replace(variable.getKey(), variable.getValue());
+        }
+        return resolved;
+    }
+
+    /**
+     * Placeholder -> value mapping used by {@link #resolveVariables}, in replacement order.
+     */
+    Map<String, String> templateVariables(UserInfo student, FamilyInfo family, UserInfo parent, UserInfo teacher) {
+        var variables = new LinkedHashMap<String, String>();
+        variables.put("{Familie}", family != null ? family.name() : "");
+        variables.put("{NameKind}", student != null ? student.firstName() : "");
+        variables.put("{Anrede}", parent != null
+                ? "Sehr geehrte/r " + parent.displayName()
+                : "Sehr geehrte Eltern");
+        variables.put("{LehrerName}", teacher != null ? teacher.displayName() : "");
+        return variables;
     }
 
     // ---- Mappers ----
@@ -777,6 +817,45 @@ public class ParentLetterService implements ParentLetterModuleApi {
                 .map(r -> r.name())
                 .orElse("Unknown");
 
+        return buildLetterInfo(letter, roomName, creatorName, total, confirmed);
+    }
+
+    /**
+     * List variant of {@link #toLetterInfo(ParentLetter)}: recipient counts, creators and
+     * room names are loaded with one query per kind for all letters.
+     */
+    private List<ParentLetterInfo> toLetterInfos(List<ParentLetter> letters) {
+        if (letters.isEmpty()) return List.of();
+
+        var counts = new HashMap<UUID, LetterRecipientCounts>();
+        for (var row : recipientRepository.countByLetterIdIn(letters.stream().map(ParentLetter::getId).toList())) {
+            counts.put(row.letterId(), row);
+        }
+
+        var creatorIds = letters.stream().map(ParentLetter::getCreatedBy).filter(Objects::nonNull).distinct().toList();
+        var creatorNames = new HashMap<UUID, String>();
+        if (!creatorIds.isEmpty()) {
+            for (var user : userModuleApi.findByIds(creatorIds)) {
+                creatorNames.put(user.id(), user.firstName() + " " + user.lastName());
+            }
+        }
+
+        var roomIds = letters.stream().map(ParentLetter::getRoomId).filter(Objects::nonNull).distinct().toList();
+        Map<UUID, String> roomNames = roomIds.isEmpty() ? Map.of() : roomModuleApi.findNamesByIds(roomIds);
+
+        return letters.stream()
+                .map(letter -> {
+                    var c = counts.getOrDefault(letter.getId(), new LetterRecipientCounts(letter.getId(), 0L, 0L));
+                    return buildLetterInfo(letter,
+                            roomNames.getOrDefault(letter.getRoomId(), "Unknown"),
+                            creatorNames.getOrDefault(letter.getCreatedBy(), "Unknown"),
+                            c.total(), c.confirmed());
+                })
+                .toList();
+    }
+
+    private ParentLetterInfo buildLetterInfo(ParentLetter letter, String roomName, String creatorName,
+                                             long total, long confirmed) {
         return new ParentLetterInfo(
                 letter.getId(),
                 letter.getTitle(),
@@ -808,10 +887,7 @@ public class ParentLetterService implements ParentLetterModuleApi {
                 .map(r -> r.name())
                 .orElse("Unknown");
 
-        var recipients = recipientRepository.findByLetterIdOrderByCreatedAt(letter.getId())
-                .stream()
-                .map(this::toRecipientInfo)
-                .toList();
+        var recipients = toRecipientInfos(recipientRepository.findByLetterIdOrderByCreatedAt(letter.getId()));
 
         return new ParentLetterDetailInfo(
                 letter.getId(),
@@ -855,6 +931,51 @@ public class ParentLetterService implements ParentLetterModuleApi {
                         .orElse("Unknown")
                 : null;
 
+        return buildRecipientInfo(recipient, studentName, parentName, familyName, confirmedByName);
+    }
+
+    /**
+     * List variant of {@link #toRecipientInfo(ParentLetterRecipient)}: students, parents,
+     * confirming users and family names are resolved with one bulk call each.
+     */
+    private List<ParentLetterRecipientInfo> toRecipientInfos(List<ParentLetterRecipient> recipients) {
+        if (recipients.isEmpty()) return List.of();
+
+        var userIds = new LinkedHashSet<UUID>();
+        for (var r : recipients) {
+            userIds.add(r.getStudentId());
+            userIds.add(r.getParentId());
+            if (r.getConfirmedBy() != null) userIds.add(r.getConfirmedBy());
+        }
+        userIds.remove(null);
+        var users = new HashMap<UUID, UserInfo>();
+        for (var user : userModuleApi.findByIds(new ArrayList<>(userIds))) {
+            users.put(user.id(), user);
+        }
+
+        var familyIds = recipients.stream().map(ParentLetterRecipient::getFamilyId)
+                .filter(Objects::nonNull).distinct().toList();
+        Map<UUID, String> familyNames = familyIds.isEmpty() ? Map.of() : familyModuleApi.findNamesByIds(familyIds);
+
+        return recipients.stream()
+                .map(r -> {
+                    var student = users.get(r.getStudentId());
+                    var parent = users.get(r.getParentId());
+                    String confirmedByName = r.getConfirmedBy() != null
+                            ? Optional.ofNullable(users.get(r.getConfirmedBy())).map(UserInfo::displayName).orElse("Unknown")
+                            : null;
+                    return buildRecipientInfo(r,
+                            student != null ? student.firstName() + " " + student.lastName() : "Unknown",
+                            parent != null ? parent.displayName() : "Unknown",
+                            familyNames.getOrDefault(r.getFamilyId(), "Unknown"),
+                            confirmedByName);
+                })
+                .toList();
+    }
+
+    private ParentLetterRecipientInfo buildRecipientInfo(ParentLetterRecipient recipient, String studentName,
+                                                         String parentName, String familyName,
+                                                         String confirmedByName) {
         return new ParentLetterRecipientInfo(
                 recipient.getId(),
                 recipient.getStudentId(),
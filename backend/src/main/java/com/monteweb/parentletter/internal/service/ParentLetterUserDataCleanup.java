@@ -1,14 +1,15 @@
 package com.monteweb.parentletter.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up parent letter data when a user account is deleted.
  * - Anonymizes letters created by the deleted user (nullifies createdBy).
@@ -16,21 +17,25 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules", name = "parentletter.enabled", havingValue = "true")
-public class ParentLetterDeletionListener {
+public class ParentLetterUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(ParentLetterDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(ParentLetterUserDataCleanup.class);
 
     private final ParentLetterService parentLetterService;
 
-    public ParentLetterDeletionListener(ParentLetterService parentLetterService) {
+    public ParentLetterUserDataCleanup(ParentLetterService parentLetterService) {
         this.parentLetterService = parentLetterService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "parentletter";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up parent letter data for deleted user {}", event.userId());
-        parentLetterService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up parent letter data for {} deleted users", userIds.size());
+        userIds.forEach(parentLetterService::cleanupUserData);
     }
 }
@@ -2,7 +2,11 @@ package com.monteweb.profilefields.internal.repository;
 
 import com.monteweb.profilefields.internal.model.ProfileFieldValue;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +17,8 @@ public interface ProfileFieldValueRepository extends JpaRepository<ProfileFieldV
     void deleteByFieldId(UUID fieldId);
 
     void deleteByUserId(UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM ProfileFieldValue v WHERE v.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
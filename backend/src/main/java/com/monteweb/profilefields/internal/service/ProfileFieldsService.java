@@ -179,6 +179,12 @@ public class ProfileFieldsService implements ProfileFieldsModuleApi {
         log.info("Cleaned up profile field values for deleted user {}", userId);
     }
 
+    @Transactional
+    public void cleanupUserData(Collection<UUID> userIds) {
+        int deleted = valueRepo.deleteByUserIdIn(userIds);
+        log.info("Cleaned up {} profile field values for {} deleted users", deleted, userIds.size());
+    }
+
     // ---- Helpers ----
 
     private ProfileFieldDefinition requireDefinition(UUID id) {
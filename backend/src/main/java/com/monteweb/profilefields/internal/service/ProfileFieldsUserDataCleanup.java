@@ -1,34 +1,39 @@
 package com.monteweb.profilefields.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up custom profile field values when a user account is deleted.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.profilefields", name = "enabled", havingValue = "true")
-public class ProfileFieldsDeletionListener {
+public class ProfileFieldsUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(ProfileFieldsDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(ProfileFieldsUserDataCleanup.class);
 
     private final ProfileFieldsService profileFieldsService;
 
-    public ProfileFieldsDeletionListener(ProfileFieldsService profileFieldsService) {
+    public ProfileFieldsUserDataCleanup(ProfileFieldsService profileFieldsService) {
         this.profileFieldsService = profileFieldsService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "profileFields";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up profile fields for deleted user {}", event.userId());
-        profileFieldsService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up profile fields for {} deleted users", userIds.size());
+        profileFieldsService.cleanupUserData(userIds);
     }
 }
@@ -0,0 +1,13 @@
+package com.monteweb.room;
+
+import java.util.UUID;
+
+/**
+ * Public API: Event published when a room is about to be deleted, inside the deleting
+ * transaction. Listeners still see the room's rows, which the database removes by
+ * cascade right after, and can queue the room's stored objects for removal.
+ */
+public record RoomDeletedEvent(
+        UUID roomId
+) {
+}
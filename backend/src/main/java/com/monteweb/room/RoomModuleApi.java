@@ -1,5 +1,8 @@
 package com.monteweb.room;
 
+import com.monteweb.shared.RequestMemoized;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,22 +14,40 @@ import java.util.UUID;
  */
 public interface RoomModuleApi {
 
+    @RequestMemoized
     Optional<RoomInfo> findById(UUID roomId);
 
+    /**
+     * Bulk variant of {@link #findById}. Unknown IDs are absent from the map.
+     */
+    @RequestMemoized
+    Map<UUID, RoomInfo> findByIds(Collection<UUID> roomIds);
+
+    /**
+     * Room names only, without loading members. Unknown IDs are absent from the map.
+     */
+    @RequestMemoized
+    Map<UUID, String> findNamesByIds(Collection<UUID> roomIds);
+
+    @RequestMemoized
     List<RoomInfo> findByUserId(UUID userId);
 
+    @RequestMemoized
     boolean isUserInRoom(UUID userId, UUID roomId);
 
+    @RequestMemoized
     Optional<RoomRole> getUserRoleInRoom(UUID userId, UUID roomId);
 
     /**
      * Returns all member user IDs of a room.
      */
+    @RequestMemoized
     List<UUID> getMemberUserIds(UUID roomId);
 
     /**
      * Returns room IDs that the user has muted (feed posts from these rooms should be hidden).
      */
+    @RequestMemoized
     List<UUID> getMutedRoomIds(UUID userId);
 
     /**
@@ -3,7 +3,11 @@ package com.monteweb.room.internal.repository;
 import com.monteweb.room.internal.model.RoomJoinRequest;
 import com.monteweb.room.internal.model.RoomJoinRequestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +20,8 @@ public interface RoomJoinRequestRepository extends JpaRepository<RoomJoinRequest
     boolean existsByRoomIdAndUserIdAndStatus(UUID roomId, UUID userId, RoomJoinRequestStatus status);
 
     void deleteByUserId(UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM RoomJoinRequest r WHERE r.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
@@ -4,7 +4,11 @@ import com.monteweb.room.RoomRole;
 import com.monteweb.room.internal.model.RoomMember;
 import com.monteweb.room.internal.model.RoomMemberId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,4 +26,11 @@ public interface RoomMemberRepository extends JpaRepository<RoomMember, RoomMemb
     List<RoomMember> findByIdUserId(UUID userId);
 
     void deleteByIdUserId(UUID userId);
+
+    @Query("SELECT DISTINCT m.id.roomId FROM RoomMember m WHERE m.id.userId IN :userIds")
+    List<UUID> findRoomIdsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @Query("DELETE FROM RoomMember m WHERE m.id.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
@@ -2,6 +2,7 @@ package com.monteweb.room.internal.repository;
 
 import com.monteweb.room.internal.model.Room;
 import com.monteweb.room.internal.model.RoomType;
+import com.monteweb.shared.dto.NamedRef;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +19,12 @@ public interface RoomRepository extends JpaRepository<Room, UUID> {
     @Query("SELECT r FROM Room r JOIN r.members m WHERE m.userId = :userId AND r.archived = false")
     List<Room> findByMemberUserId(UUID userId);
 
+    @Query("SELECT DISTINCT r FROM Room r LEFT JOIN FETCH r.members WHERE r.id IN :ids")
+    List<Room> findWithMembersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.monteweb.shared.dto.NamedRef(r.id, r.name) FROM Room r WHERE r.id IN :ids")
+    List<NamedRef> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
+
     Page<Room> findByArchivedFalse(Pageable pageable);
 
     Page<Room> findBySectionIdAndArchivedFalse(UUID sectionId, Pageable pageable);
@@ -2,8 +2,11 @@ package com.monteweb.room.internal.repository;
 
 import com.monteweb.room.internal.model.RoomSubscription;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,4 +21,8 @@ public interface RoomSubscriptionRepository extends JpaRepository<RoomSubscripti
     boolean existsByUserIdAndRoomIdAndFeedMuted(UUID userId, UUID roomId, boolean feedMuted);
 
     void deleteByUserId(UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM RoomSubscription s WHERE s.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
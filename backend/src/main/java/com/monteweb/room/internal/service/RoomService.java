@@ -9,8 +9,11 @@ import com.monteweb.room.internal.repository.RoomMemberRepository;
 import com.monteweb.room.internal.repository.RoomRepository;
 import com.monteweb.room.internal.repository.RoomSubscriptionRepository;
 import com.monteweb.messaging.MessagingModuleApi;
+import com.monteweb.shared.dto.NamedRef;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.util.TwoTierCache;
+import com.monteweb.shared.util.TwoTierCacheManager;
 import com.monteweb.family.FamilyInfo;
 import com.monteweb.family.FamilyModuleApi;
 import com.monteweb.user.UserInfo;
@@ -26,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +49,7 @@ public class RoomService implements RoomModuleApi {
     private final ApplicationEventPublisher eventPublisher;
     private final RoomChatChannelRepository chatChannelRepository;
     private final MessagingModuleApi messagingModuleApi;
+    private final TwoTierCache<RoomInfo> roomCache;
 
     public RoomService(RoomRepository roomRepository, RoomMemberRepository memberRepository,
                        RoomJoinRequestRepository joinRequestRepository,
@@ -52,7 +57,8 @@ public class RoomService implements RoomModuleApi {
                        UserModuleApi userModuleApi,
                        FamilyModuleApi familyModuleApi, ApplicationEventPublisher eventPublisher,
                        @Autowired(required = false) RoomChatChannelRepository chatChannelRepository,
-                       @Autowired(required = false) MessagingModuleApi messagingModuleApi) {
+                       @Autowired(required = false) MessagingModuleApi messagingModuleApi,
+                       TwoTierCacheManager cacheManager) {
         this.roomRepository = roomRepository;
         this.memberRepository = memberRepository;
         this.joinRequestRepository = joinRequestRepository;
@@ -62,13 +68,32 @@ public class RoomService implements RoomModuleApi {
         this.eventPublisher = eventPublisher;
         this.chatChannelRepository = chatChannelRepository;
         this.messagingModuleApi = messagingModuleApi;
+        this.roomCache = cacheManager.getCache("rooms", RoomInfo.class);
     }
 
     // --- Public API (RoomModuleApi) ---
 
     @Override
     public Optional<RoomInfo> findById(UUID roomId) {
-        return roomRepository.findById(roomId).map(this::toRoomInfo);
+        return roomCache.get(roomId, id -> roomRepository.findById(id).map(this::toRoomInfo));
+    }
+
+    @Override
+    public Map<UUID, RoomInfo> findByIds(Collection<UUID> roomIds) {
+        if (roomIds.isEmpty()) return Map.of();
+        return roomCache.getAll(roomIds, missing -> {
+            var rooms = new HashMap<UUID, RoomInfo>();
+            for (var room : roomRepository.findWithMembersByIdIn(missing)) {
+                rooms.put(room.getId(), toRoomInfo(room));
+            }
+            return rooms;
+        });
+    }
+
+    @Override
+    public Map<UUID, String> findNamesByIds(Collection<UUID> roomIds) {
+        if (roomIds.isEmpty()) return Map.of();
+        return NamedRef.toMap(roomRepository.findNamesByIdIn(roomIds));
     }
 
     @Override
@@ -156,12 +181,12 @@ public class RoomService implements RoomModuleApi {
         room.setCreatedBy(createdBy);
         room.setSettings(RoomSettings.defaults());
 
-        room = roomRepository.save(room);
+        room = saveRoom(room);
 
         // Creator becomes LEADER
         var member = new RoomMember(room, createdBy, RoomRole.LEADER);
         room.getMembers().add(member);
-        room = roomRepository.save(room);
+        room = saveRoom(room);
 
         eventPublisher.publishEvent(new RoomCreatedEvent(
                 room.getId(), room.getName(), room.getType().name(), createdBy));
@@ -187,12 +212,12 @@ public class RoomService implements RoomModuleApi {
         room.setExpiresAt(expiresAt);
         room.setSettings(RoomSettings.defaults());
 
-        room = roomRepository.save(room);
+        room = saveRoom(room);
 
         // Creator becomes LEADER (regardless of their role - anyone can lead interest rooms)
         var member = new RoomMember(room, createdBy, RoomRole.LEADER);
         room.getMembers().add(member);
-        room = roomRepository.save(room);
+        room = saveRoom(room);
 
         return toRoomInfo(room);
     }
@@ -206,14 +231,14 @@ public class RoomService implements RoomModuleApi {
         if (publicDescription != null) room.setPublicDescription(publicDescription);
         if (type != null) room.setType(type);
         room.setSectionId(sectionId);
-        return toRoomInfo(roomRepository.save(room));
+        return toRoomInfo(saveRoom(room));
     }
 
     @Transactional
     public void updateAvatarUrl(UUID roomId, String avatarUrl) {
         var room = findEntityById(roomId);
         room.setAvatarUrl(avatarUrl);
-        roomRepository.save(room);
+        saveRoom(room);
     }
 
     @Transactional
@@ -223,21 +248,21 @@ public class RoomService implements RoomModuleApi {
         if (tags != null) room.setTags(tags.toArray(new String[0]));
         if (joinPolicy != null) room.setJoinPolicyEnum(joinPolicy);
         if (expiresAt != null) room.setExpiresAt(expiresAt);
-        return toRoomInfo(roomRepository.save(room));
+        return toRoomInfo(saveRoom(room));
     }
 
     @Transactional
     public RoomInfo updateSettings(UUID roomId, RoomSettings settings) {
         var room = findEntityById(roomId);
         room.setSettings(settings);
-        return toRoomInfo(roomRepository.save(room));
+        return toRoomInfo(saveRoom(room));
     }
 
     @Transactional
     public void archive(UUID roomId) {
         var room = findEntityById(roomId);
         room.setArchived(true);
-        roomRepository.save(room);
+        saveRoom(room);
     }
 
     @Transactional
@@ -246,13 +271,15 @@ public class RoomService implements RoomModuleApi {
         boolean newState = !room.isArchived();
         room.setArchived(newState);
         room.setArchiveAt(newState ? Instant.now() : null);
-        return toRoomInfo(roomRepository.save(room));
+        return toRoomInfo(saveRoom(room));
     }
 
     @Transactional
     public void delete(UUID roomId) {
         var room = findEntityById(roomId);
+        eventPublisher.publishEvent(new RoomDeletedEvent(roomId));
         roomRepository.delete(room);
+        roomCache.evict(roomId);
     }
 
     public Page<RoomInfo> findAllIncludingArchived(Pageable pageable) {
@@ -269,7 +296,7 @@ public class RoomService implements RoomModuleApi {
         RoomRole effectiveRole = resolveEffectiveRole(room, userId, role);
         var member = new RoomMember(room, userId, effectiveRole);
         room.getMembers().add(member);
-        roomRepository.save(room);
+        saveRoom(room);
         syncChatParticipantAdd(roomId, userId);
     }
 
@@ -277,7 +304,7 @@ public class RoomService implements RoomModuleApi {
     public void removeMember(UUID roomId, UUID userId) {
         var room = findEntityById(roomId);
         room.getMembers().removeIf(m -> m.getUserId().equals(userId));
-        roomRepository.save(room);
+        saveRoom(room);
         syncChatParticipantRemove(roomId, userId);
     }
 
@@ -305,7 +332,7 @@ public class RoomService implements RoomModuleApi {
             added++;
         }
         if (added > 0) {
-            roomRepository.save(room);
+            saveRoom(room);
             // Sync all newly added members to chat conversations
             for (var member : family.members()) {
                 syncChatParticipantAdd(roomId, member.userId());
@@ -332,7 +359,7 @@ public class RoomService implements RoomModuleApi {
         RoomRole effectiveRole = resolveEffectiveRole(room, userId, RoomRole.MEMBER);
         var member = new RoomMember(room, userId, effectiveRole);
         room.getMembers().add(member);
-        roomRepository.save(room);
+        saveRoom(room);
         syncChatParticipantAdd(roomId, userId);
     }
 
@@ -354,7 +381,7 @@ public class RoomService implements RoomModuleApi {
         }
         var room = findEntityById(roomId);
         room.getMembers().removeIf(m -> m.getUserId().equals(userId));
-        roomRepository.save(room);
+        saveRoom(room);
         syncChatParticipantRemove(roomId, userId);
     }
 
@@ -383,6 +410,7 @@ public class RoomService implements RoomModuleApi {
         }
         if (!expired.isEmpty()) {
             roomRepository.saveAll(expired);
+            expired.forEach(room -> roomCache.evict(room.getId()));
         }
     }
 
@@ -452,7 +480,7 @@ public class RoomService implements RoomModuleApi {
             RoomRole effectiveRole = resolveEffectiveRole(room, request.getUserId(), RoomRole.MEMBER);
             var member = new RoomMember(room, request.getUserId(), effectiveRole);
             room.getMembers().add(member);
-            roomRepository.save(room);
+            saveRoom(room);
         }
 
         eventPublisher.publishEvent(new RoomJoinRequestResolvedEvent(
@@ -532,6 +560,15 @@ public class RoomService implements RoomModuleApi {
                 .orElseThrow(() -> new ResourceNotFoundException("Room", roomId));
     }
 
+    /**
+     * Room writes go through here so cached {@link RoomInfo}s (including the member count)
+     * are dropped on every node.
+     */
+    private Room saveRoom(Room room) {
+        roomCache.evict(room.getId());
+        return roomRepository.save(room);
+    }
+
     private RoomInfo toRoomInfo(Room room) {
         return new RoomInfo(
                 room.getId(),
@@ -555,7 +592,7 @@ public class RoomService implements RoomModuleApi {
         var room = findEntityById(roomId);
         String shortId = roomId.toString().substring(0, 8);
         room.setJitsiRoomName("monteweb-room-" + shortId);
-        roomRepository.save(room);
+        saveRoom(room);
         return toRoomInfo(room);
     }
 
@@ -589,7 +626,7 @@ public class RoomService implements RoomModuleApi {
                 for (var membership : allMemberships) {
                     var room = findEntityById(membership.getId().getRoomId());
                     room.getMembers().removeIf(m -> m.getUserId().equals(memberId));
-                    roomRepository.save(room);
+                    saveRoom(room);
                     syncChatParticipantRemove(membership.getId().getRoomId(), memberId);
                 }
                 // Also remove family parents from all rooms and deactivate families
@@ -601,7 +638,7 @@ public class RoomService implements RoomModuleApi {
                             for (var pm : parentMemberships) {
                                 var room = findEntityById(pm.getId().getRoomId());
                                 room.getMembers().removeIf(m -> m.getUserId().equals(fm.userId()));
-                                roomRepository.save(room);
+                                saveRoom(room);
                                 syncChatParticipantRemove(pm.getId().getRoomId(), fm.userId());
                             }
                         }
@@ -646,11 +683,11 @@ public class RoomService implements RoomModuleApi {
                         }
                     }
                 }
-                roomRepository.save(targetRoom);
+                saveRoom(targetRoom);
             }
             migrated++;
         }
-        roomRepository.save(sourceRoom);
+        saveRoom(sourceRoom);
         return migrated;
     }
 
@@ -677,11 +714,20 @@ public class RoomService implements RoomModuleApi {
      */
     @Transactional
     public void cleanupUserData(UUID userId) {
+        memberRepository.findByIdUserId(userId).forEach(m -> roomCache.evict(m.getId().getRoomId()));
         joinRequestRepository.deleteByUserId(userId);
         subscriptionRepository.deleteByUserId(userId);
         memberRepository.deleteByIdUserId(userId);
     }
 
+    @Transactional
+    public void cleanupUserData(Collection<UUID> userIds) {
+        memberRepository.findRoomIdsByUserIdIn(userIds).forEach(roomCache::evict);
+        joinRequestRepository.deleteByUserIdIn(userIds);
+        subscriptionRepository.deleteByUserIdIn(userIds);
+        memberRepository.deleteByUserIdIn(userIds);
+    }
+
     /**
      * DSGVO: Export all room data for a user.
      */
@@ -1,33 +1,38 @@
 package com.monteweb.room.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up room data when a user account is deleted.
  * Removes room memberships and join requests.
  */
 @Component
-public class RoomDeletionListener {
+public class RoomUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(RoomDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(RoomUserDataCleanup.class);
 
     private final RoomService roomService;
 
-    public RoomDeletionListener(RoomService roomService) {
+    public RoomUserDataCleanup(RoomService roomService) {
         this.roomService = roomService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "rooms";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up room data for deleted user {}", event.userId());
-        roomService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up room data for {} deleted users", userIds.size());
+        roomService.cleanupUserData(userIds);
     }
 }
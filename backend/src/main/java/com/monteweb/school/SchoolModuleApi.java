@@ -1,6 +1,8 @@
 package com.monteweb.school;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,6 +13,16 @@ public interface SchoolModuleApi {
 
     Optional<SchoolSectionInfo> findById(UUID id);
 
+    /**
+     * Bulk variant of {@link #findById}. Unknown IDs are absent from the map.
+     */
+    Map<UUID, SchoolSectionInfo> findByIds(Collection<UUID> ids);
+
+    /**
+     * Section names only. Unknown IDs are absent from the map.
+     */
+    Map<UUID, String> findNamesByIds(Collection<UUID> ids);
+
     Optional<SchoolSectionInfo> findBySlug(String slug);
 
     List<SchoolSectionInfo> findAllActive();
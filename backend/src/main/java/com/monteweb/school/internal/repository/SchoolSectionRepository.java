@@ -1,8 +1,12 @@
 package com.monteweb.school.internal.repository;
 
 import com.monteweb.school.internal.model.SchoolSection;
+import com.monteweb.shared.dto.NamedRef;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,4 +18,7 @@ public interface SchoolSectionRepository extends JpaRepository<SchoolSection, UU
     boolean existsBySlug(String slug);
 
     List<SchoolSection> findByActiveTrueOrderBySortOrderAsc();
+
+    @Query("SELECT new com.monteweb.shared.dto.NamedRef(s.id, s.name) FROM SchoolSection s WHERE s.id IN :ids")
+    List<NamedRef> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -4,13 +4,17 @@ import com.monteweb.school.SchoolModuleApi;
 import com.monteweb.school.SchoolSectionInfo;
 import com.monteweb.school.internal.model.SchoolSection;
 import com.monteweb.school.internal.repository.SchoolSectionRepository;
+import com.monteweb.shared.dto.NamedRef;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,6 +33,22 @@ public class SchoolSectionService implements SchoolModuleApi {
         return repository.findById(id).map(this::toInfo);
     }
 
+    @Override
+    public Map<UUID, SchoolSectionInfo> findByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) return Map.of();
+        var sections = new HashMap<UUID, SchoolSectionInfo>();
+        for (var section : repository.findAllById(ids)) {
+            sections.put(section.getId(), toInfo(section));
+        }
+        return sections;
+    }
+
+    @Override
+    public Map<UUID, String> findNamesByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) return Map.of();
+        return NamedRef.toMap(repository.findNamesByIdIn(ids));
+    }
+
     @Override
     public Optional<SchoolSectionInfo> findBySlug(String slug) {
         return repository.findBySlug(slug).map(this::toInfo);
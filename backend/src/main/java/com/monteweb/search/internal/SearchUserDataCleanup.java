@@ -1,36 +1,41 @@
 package com.monteweb.search.internal;
 
 import com.monteweb.search.internal.service.SolrIndexingService;
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Cleans up Solr index entries when a user account is deleted.
  * Removes the user document from the Solr index.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.solr", name = "enabled", havingValue = "true")
-public class SearchDeletionListener {
+public class SearchUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(SearchDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(SearchUserDataCleanup.class);
 
     private final SolrIndexingService searchService;
 
-    public SearchDeletionListener(SolrIndexingService searchService) {
+    public SearchUserDataCleanup(SolrIndexingService searchService) {
         this.searchService = searchService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "search";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Cleaning up Solr index for deleted user {}", event.userId());
-        searchService.deleteUserDocuments(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Cleaning up Solr index for {} deleted users", userIds.size());
+        userIds.forEach(searchService::deleteUserDocuments);
     }
 }
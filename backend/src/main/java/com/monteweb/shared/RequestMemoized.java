@@ -0,0 +1,22 @@
+package com.monteweb.shared;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a side-effect free module API read whose result may be reused for the rest
+ * of the current HTTP request. Put it on the interface method; the implementing bean
+ * is proxied automatically.
+ * <p>
+ * Any other call through that bean that is not {@code @Transactional(readOnly = true)}
+ * counts as a write and drops the bean's memoized results for the request.
+ * Do not use it for secrets or for results that callers are expected to mutate.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestMemoized {
+}
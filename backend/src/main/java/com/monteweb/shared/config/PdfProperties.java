@@ -0,0 +1,33 @@
+package com.monteweb.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limits and caches of the shared PDF renderer ({@code com.monteweb.shared.util.PdfService}).
+ *
+ * @param maxConcurrentRenders renders allowed at the same time, further requests queue (0 = CPU cores)
+ * @param queueTimeout         how long a request waits for a free render slot
+ * @param fontDir              directory with additional .ttf fonts, loaded once at startup (optional)
+ * @param diskCacheDir         directory for rendered documents keyed by content hash (optional, disabled if empty)
+ * @param diskCacheTtl         how long cached documents are kept
+ */
+@ConfigurationProperties(prefix = "monteweb.pdf")
+public record PdfProperties(
+        int maxConcurrentRenders,
+        Duration queueTimeout,
+        String fontDir,
+        String diskCacheDir,
+        Duration diskCacheTtl
+) {
+    public PdfProperties {
+        if (maxConcurrentRenders <= 0) maxConcurrentRenders = Runtime.getRuntime().availableProcessors();
+        if (queueTimeout == null) queueTimeout = Duration.ofSeconds(30);
+        if (diskCacheTtl == null) diskCacheTtl = Duration.ofHours(24);
+    }
+
+    public static PdfProperties defaults() {
+        return new PdfProperties(0, null, null, null, null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.monteweb.shared.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the data source so every statement is counted and timed, whether it comes
+ * from Hibernate or {@code JdbcTemplate}. The numbers are published per controller
+ * method by {@link QueryCountingFilter}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "monteweb.query-counting.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountingConfig {
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
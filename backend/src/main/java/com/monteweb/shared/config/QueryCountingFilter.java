@@ -0,0 +1,87 @@
+package com.monteweb.shared.config;
+
+import com.monteweb.shared.util.RequestQueryStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements and JDBC time of every request and publishes them per
+ * controller method ({@code monteweb.http.sql.statements}, {@code monteweb.http.sql.time}).
+ * Requests above the configured thresholds are logged with their most repeated statement.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "monteweb.query-counting.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountingFilter.class);
+    private static final int MAX_LOGGED_SQL_LENGTH = 500;
+
+    private final QueryCountingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountingFilter(QueryCountingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var stats = RequestQueryStats.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            stats.stop();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return;
+        }
+        String handlerName = handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+
+        DistributionSummary.builder("monteweb.http.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("handler", handlerName)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.count());
+        Timer.builder("monteweb.http.sql.time")
+                .description("Time spent executing JDBC statements per request")
+                .tag("handler", handlerName)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.jdbcTime());
+
+        var mostRepeated = stats.mostRepeated();
+        int repeats = mostRepeated.map(e -> e.getValue()).orElse(0);
+        if (stats.count() > properties.warnThreshold() || repeats >= properties.repeatThreshold()) {
+            String sql = mostRepeated.map(e -> e.getKey()).orElse("");
+            if (sql.length() > MAX_LOGGED_SQL_LENGTH) {
+                sql = sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+            }
+            log.warn("{} {} ({}) ran {} SQL statements in {} ms; repeated {}x: {}",
+                    request.getMethod(), request.getRequestURI(), handlerName,
+                    stats.count(), stats.jdbcTime().toMillis(), repeats, sql);
+        }
+    }
+}
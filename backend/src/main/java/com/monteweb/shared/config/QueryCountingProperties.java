@@ -0,0 +1,20 @@
+package com.monteweb.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request SQL statement counting. Switched off with {@code monteweb.query-counting.enabled=false}.
+ *
+ * @param warnThreshold    log a warning when a request runs more statements than this
+ * @param repeatThreshold  log a warning when one statement runs this often in a request (N+1)
+ */
+@ConfigurationProperties(prefix = "monteweb.query-counting")
+public record QueryCountingProperties(
+        int warnThreshold,
+        int repeatThreshold
+) {
+    public QueryCountingProperties {
+        if (warnThreshold <= 0) warnThreshold = 50;
+        if (repeatThreshold <= 0) repeatThreshold = 10;
+    }
+}
@@ -0,0 +1,67 @@
+package com.monteweb.shared.config;
+
+import com.monteweb.shared.RequestMemoized;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+/**
+ * Proxies every service that implements a module API with {@link RequestMemoized} reads
+ * (user, room, admin) so repeated lookups within one request hit the database once.
+ * Disable with {@code monteweb.request-memo.enabled=false}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "monteweb.request-memo.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestMemoConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requestMemoAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return advisor(meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * The memoizing advisor; {@code meterRegistry} may be {@code null}.
+     */
+    public static Advisor advisor(MeterRegistry meterRegistry) {
+        var pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+            }
+        };
+        pointcut.setClassFilter(RequestMemoConfig::hasMemoizedApi);
+
+        var advisor = new DefaultPointcutAdvisor(pointcut,
+                new RequestMemoInterceptor(meterRegistry));
+        // Outside the transaction interceptor: a hit must not open a transaction
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 100);
+        return advisor;
+    }
+
+    private static boolean hasMemoizedApi(Class<?> targetClass) {
+        if (!AnnotatedElementUtils.hasAnnotation(targetClass, Service.class)) {
+            return false;
+        }
+        return ClassUtils.getAllInterfacesForClassAsSet(targetClass).stream()
+                .filter(type -> type.getName().startsWith("com.monteweb."))
+                .flatMap(type -> Arrays.stream(type.getMethods()))
+                .anyMatch(method -> AnnotationUtils.getAnnotation(method, RequestMemoized.class) != null);
+    }
+}
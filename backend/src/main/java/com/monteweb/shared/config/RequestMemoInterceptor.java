@@ -0,0 +1,177 @@
+package com.monteweb.shared.config;
+
+import com.monteweb.shared.RequestMemoized;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes {@link RequestMemoized} reads for the duration of an HTTP request and drops
+ * them again when a write goes through the same bean. Outside of a request (scheduled
+ * jobs, async listeners, STOMP) every call goes straight to the target.
+ */
+class RequestMemoInterceptor implements MethodInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMemoInterceptor.class);
+    private static final String ATTRIBUTE = RequestMemoInterceptor.class.getName() + ".MEMO";
+
+    private enum Kind { MEMOIZED, READ, WRITE }
+
+    private final Map<Method, Kind> kinds = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary hitsPerRequest;
+
+    RequestMemoInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.hitsPerRequest = meterRegistry != null
+                ? DistributionSummary.builder("monteweb.request.memo.hits.per.request")
+                    .description("Module API reads answered from the request memo, per request")
+                    .register(meterRegistry)
+                : null;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var memo = currentMemo();
+        if (memo == null) {
+            return invocation.proceed();
+        }
+
+        var targetClass = invocation.getThis() != null
+                ? ClassUtils.getUserClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        var kind = kinds.computeIfAbsent(AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass),
+                method -> classify(method, targetClass));
+        String group = targetClass.getSimpleName();
+
+        switch (kind) {
+            case READ -> {
+                return invocation.proceed();
+            }
+            case WRITE -> {
+                try {
+                    return invocation.proceed();
+                } finally {
+                    memo.invalidate(group);
+                }
+            }
+            default -> {
+                var key = new Key(invocation.getMethod(), Arrays.asList(invocation.getArguments()));
+                var cached = memo.get(group, key);
+                if (cached != null) {
+                    count(group, "hit");
+                    return copyOf(cached.value());
+                }
+                count(group, "miss");
+                Object result = invocation.proceed();
+                memo.put(group, key, copyOf(result));
+                return result;
+            }
+        }
+    }
+
+    private Memo currentMemo() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        var memo = (Memo) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            String uri = attributes instanceof ServletRequestAttributes servlet
+                    ? servlet.getRequest().getMethod() + " " + servlet.getRequest().getRequestURI()
+                    : "request";
+            memo = new Memo(uri);
+            attributes.setAttribute(ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+            var created = memo;
+            attributes.registerDestructionCallback(ATTRIBUTE, created::report, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    private Kind classify(Method method, Class<?> targetClass) {
+        if (AnnotationUtils.findAnnotation(method, RequestMemoized.class) != null) {
+            return Kind.MEMOIZED;
+        }
+        var tx = AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+        if (tx == null) {
+            tx = AnnotatedElementUtils.findMergedAnnotation(targetClass, Transactional.class);
+        }
+        return tx != null && tx.readOnly() ? Kind.READ : Kind.WRITE;
+    }
+
+    private void count(String group, String result) {
+        if (meterRegistry != null) {
+            Counter.builder("monteweb.request.memo")
+                    .tag("api", group)
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * Callers may modify returned collections, so every caller gets its own copy.
+     */
+    private static Object copyOf(Object value) {
+        if (value instanceof List<?> list) return new ArrayList<>(list);
+        if (value instanceof Set<?> set) return new LinkedHashSet<>(set);
+        if (value instanceof Map<?, ?> map) return new LinkedHashMap<>(map);
+        return value;
+    }
+
+    private record Key(Method method, List<Object> args) {
+    }
+
+    private record Cached(Object value) {
+    }
+
+    private final class Memo {
+        private final String request;
+        private final Map<String, Map<Key, Cached>> entries = new HashMap<>();
+        private int hits;
+        private int misses;
+
+        Memo(String request) {
+            this.request = request;
+        }
+
+        synchronized Cached get(String group, Key key) {
+            var cached = entries.getOrDefault(group, Map.of()).get(key);
+            if (cached != null) hits++;
+            else misses++;
+            return cached;
+        }
+
+        synchronized void put(String group, Key key, Object value) {
+            entries.computeIfAbsent(group, g -> new HashMap<>()).put(key, new Cached(value));
+        }
+
+        synchronized void invalidate(String group) {
+            entries.remove(group);
+        }
+
+        void report() {
+            if (hits + misses == 0) return;
+            if (hitsPerRequest != null) {
+                hitsPerRequest.record(hits);
+            }
+            log.debug("Request memo for {}: {} hits, {} misses", request, hits, misses);
+        }
+    }
+}
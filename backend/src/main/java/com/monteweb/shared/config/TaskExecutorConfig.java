@@ -0,0 +1,53 @@
+package com.monteweb.shared.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Thread pools for background work, sized in one place and shut down with the context.
+ * <p>
+ * Long-running jobs (imports, exports, storage scans) run on {@link #BACKGROUND_JOBS}; the
+ * work they fan out (module exports, deletion batches, PDF rendering, password hashing)
+ * runs on {@link #PARALLEL_TASKS}. Keeping the two apart means a job waiting for its own
+ * tasks never holds the threads those tasks need.
+ * <p>
+ * {@code @Async} keeps using Boot's {@code applicationTaskExecutor}
+ * ({@code spring.task.execution.mode: force}).
+ */
+@Configuration
+public class TaskExecutorConfig {
+
+    public static final String BACKGROUND_JOBS = "backgroundJobExecutor";
+    public static final String PARALLEL_TASKS = "parallelTaskExecutor";
+
+    @Bean(BACKGROUND_JOBS)
+    public ThreadPoolTaskExecutor backgroundJobExecutor(
+            @Value("${monteweb.executors.background-jobs.threads:2}") int threads,
+            @Value("${monteweb.executors.background-jobs.queue-capacity:100}") int queueCapacity) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("background-job-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    /**
+     * Defaults to the number of cores, capped at 8 so parallel database work stays well
+     * within the connection pool.
+     */
+    @Bean(PARALLEL_TASKS)
+    public ThreadPoolTaskExecutor parallelTaskExecutor(
+            @Value("${monteweb.executors.parallel-tasks.threads:0}") int threads) {
+        int size = threads > 0 ? threads : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setThreadNamePrefix("parallel-task-");
+        executor.setDaemon(true);
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.monteweb.shared.config;
+
+import com.monteweb.shared.util.TwoTierCacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes this node to the cache eviction broadcasts of the other nodes.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "monteweb.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class TwoTierCacheConfig {
+
+    @Bean
+    RedisMessageListenerContainer cacheEvictionListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                 TwoTierCacheManager cacheManager) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,32 @@
+package com.monteweb.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Local + Redis cache for identity reads (users, rooms).
+ *
+ * @param enabled      when false every read goes to the database
+ * @param localMaxSize entries kept per cache on each node
+ * @param localTtl     lifetime of a local entry; bounds staleness if an eviction broadcast is lost
+ * @param redisTtl     lifetime of an entry in Redis
+ */
+@ConfigurationProperties(prefix = "monteweb.cache")
+public record TwoTierCacheProperties(
+        Boolean enabled,
+        int localMaxSize,
+        Duration localTtl,
+        Duration redisTtl
+) {
+    public TwoTierCacheProperties {
+        if (enabled == null) enabled = true;
+        if (localMaxSize <= 0) localMaxSize = 10_000;
+        if (localTtl == null) localTtl = Duration.ofMinutes(5);
+        if (redisTtl == null) redisTtl = Duration.ofMinutes(30);
+    }
+
+    public static TwoTierCacheProperties disabled() {
+        return new TwoTierCacheProperties(false, 0, null, null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.monteweb.shared.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. Pass {@code nextCursor} back to get the page
+ * after this one; it is {@code null} on the last page.
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean last
+) {
+    public static <T> CursorPageResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorPageResponse<>(content, nextCursor, nextCursor == null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.monteweb.shared.dto;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Id/name projection used by the bulk "names only" lookups of the module APIs.
+ */
+public record NamedRef(UUID id, String name) {
+
+    public static Map<UUID, String> toMap(Collection<NamedRef> refs) {
+        var map = new HashMap<UUID, String>(refs.size() * 2);
+        for (var ref : refs) {
+            map.put(ref.id(), ref.name());
+        }
+        return map;
+    }
+}
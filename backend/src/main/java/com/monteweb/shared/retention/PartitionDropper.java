@@ -0,0 +1,18 @@
+package com.monteweb.shared.retention;
+
+import java.time.Instant;
+
+/**
+ * Drops the partitions of a range-partitioned table that lie entirely before a cutoff,
+ * so the {@link RetentionEngine} only has to delete rows of the partition the cutoff falls into.
+ */
+@FunctionalInterface
+public interface PartitionDropper {
+
+    /**
+     * Called outside a transaction, so implementations may detach partitions concurrently.
+     *
+     * @return the number of partitions dropped
+     */
+    int dropPartitionsBefore(Instant cutoff);
+}
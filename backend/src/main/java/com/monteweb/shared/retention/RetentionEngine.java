@@ -0,0 +1,198 @@
+package com.monteweb.shared.retention;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Purges rows past their retention in small chunks instead of one bulk DELETE per table.
+ * <p>
+ * Each chunk locks up to {@code chunk-size} expired rows in keyset order (skipping rows
+ * other transactions hold), deletes them and commits, so locks are held for one chunk at
+ * a time and the WAL is written in small pieces. The engine pauses between chunks to let
+ * replication and autovacuum keep up, and stops once the run's time budget is used; the
+ * next run picks up where it stopped.
+ * <p>
+ * For partitioned tables, partitions that are expired as a whole are dropped first; the
+ * chunks then only cover the partition the cutoff falls into.
+ */
+@Component
+public class RetentionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(RetentionEngine.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RetentionPolicyRegistry registry;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Duration timeBudget;
+    private final Duration lockTimeout;
+
+    public RetentionEngine(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           RetentionPolicyRegistry registry,
+                           MeterRegistry meterRegistry,
+                           @Value("${monteweb.retention.chunk-size:1000}") int chunkSize,
+                           @Value("${monteweb.retention.pause:100ms}") Duration pause,
+                           @Value("${monteweb.retention.time-budget:30m}") Duration timeBudget,
+                           @Value("${monteweb.retention.lock-timeout:2s}") Duration lockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.registry = registry;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.timeBudget = timeBudget;
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * DSGVO: Purges every registered policy, one after another, within the time budget.
+     */
+    @Scheduled(cron = "${monteweb.retention.cron:0 30 4 * * *}")
+    public List<RetentionRun> purgeAll() {
+        Instant deadline = Instant.now().plus(timeBudget);
+        List<RetentionRun> runs = new ArrayList<>();
+        for (var policy : registry.policies()) {
+            if (Instant.now().isAfter(deadline)) {
+                log.info("Retention time budget of {} used up, {} is left for the next run", timeBudget, policy.name());
+                continue;
+            }
+            runs.add(purge(policy, deadline));
+        }
+        return runs;
+    }
+
+    /**
+     * Purges one policy within the time budget.
+     */
+    public RetentionRun purge(RetentionPolicy policy) {
+        return purge(policy, Instant.now().plus(timeBudget));
+    }
+
+    private RetentionRun purge(RetentionPolicy policy, Instant deadline) {
+        Counter purgedCounter = meterRegistry.counter("monteweb.retention.rows.purged", "policy", policy.name());
+        Timer chunkTimer = Timer.builder("monteweb.retention.chunk")
+                .tag("policy", policy.name())
+                .register(meterRegistry);
+
+        long purged = 0;
+        int partitionsDropped = 0;
+        int chunks = 0;
+        long maxChunkNanos = 0;
+        boolean completed = false;
+        Object[] cursor = null;
+        try {
+            if (policy.partitions() != null) {
+                partitionsDropped = policy.partitions().dropPartitionsBefore(policy.cutoff());
+                meterRegistry.counter("monteweb.retention.partitions.dropped", "policy", policy.name())
+                        .increment(partitionsDropped);
+            }
+            while (true) {
+                long start = System.nanoTime();
+                Chunk chunk = deleteChunk(policy, cursor);
+                long took = System.nanoTime() - start;
+                chunkTimer.record(took, TimeUnit.NANOSECONDS);
+                maxChunkNanos = Math.max(maxChunkNanos, took);
+                chunks++;
+                purged += chunk.purged();
+                purgedCounter.increment(chunk.purged());
+
+                if (chunk.scanned() < chunkSize) {
+                    completed = true;
+                    break;
+                }
+                cursor = new Object[]{chunk.lastTime(), chunk.lastKey()};
+                if (Instant.now().isAfter(deadline)) break;
+                if (!pause.isZero()) Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Retention policy {} stopped after {} rows: {}", policy.name(), purged, e.getMessage());
+        }
+
+        var run = new RetentionRun(policy.name(), purged, partitionsDropped, chunks,
+                TimeUnit.NANOSECONDS.toMillis(maxChunkNanos), completed);
+        if (purged > 0 || partitionsDropped > 0 || !completed) {
+            log.info("Retention {}: dropped {} partitions, purged {} rows in {} chunks (slowest {} ms){}", policy.name(),
+                    partitionsDropped, purged, chunks, run.maxChunkMillis(), completed ? "" : ", continuing next run");
+        }
+        return run;
+    }
+
+    /**
+     * Locks and deletes the next chunk after {@code cursor} in its own transaction.
+     */
+    private Chunk deleteChunk(RetentionPolicy policy, Object[] cursor) {
+        String sql = chunkSql(policy, cursor != null);
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.from(policy.cutoff()));
+        if (cursor != null) {
+            args.add(cursor[0]);
+            args.add(cursor[1]);
+        }
+        args.add(chunkSize);
+        return transactionTemplate.execute(status -> {
+            // Wait briefly for a row lock rather than queueing behind a long transaction
+            jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeout.toMillis());
+            return jdbcTemplate.queryForObject(sql, (rs, i) -> new Chunk(
+                    rs.getInt("scanned"), rs.getInt("purged"),
+                    rs.getObject("last_time"), rs.getObject("last_key")), args.toArray());
+        });
+    }
+
+    static String chunkSql(RetentionPolicy policy, boolean withCursor) {
+        String table = policy.table();
+        String time = policy.timeColumn();
+        String key = policy.keyColumn();
+        StringBuilder where = new StringBuilder(time).append(" < ?");
+        if (policy.filter() != null) {
+            where.append(" AND (").append(policy.filter()).append(")");
+        }
+        if (withCursor) {
+            where.append(" AND (").append(time).append(", ").append(key).append(") > (?, ?)");
+        }
+        // Joining on the time column too lets a partitioned table look each row up in one partition
+        return """
+                WITH chunk AS (
+                    SELECT %2$s AS t, %3$s AS k FROM %1$s
+                    WHERE %4$s
+                    ORDER BY %2$s, %3$s
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                ),
+                deleted AS (
+                    DELETE FROM %1$s USING chunk WHERE %1$s.%2$s = chunk.t AND %1$s.%3$s = chunk.k
+                    RETURNING 1
+                ),
+                tail AS (
+                    SELECT t, k FROM chunk ORDER BY t DESC, k DESC LIMIT 1
+                )
+                SELECT (SELECT count(*) FROM chunk) AS scanned,
+                       (SELECT count(*) FROM deleted) AS purged,
+                       tail.t AS last_time, tail.k AS last_key
+                FROM (SELECT 1) AS one LEFT JOIN tail ON true
+                """.formatted(table, time, key, where);
+    }
+
+    private record Chunk(int scanned, int purged, Object lastTime, Object lastKey) {
+    }
+}
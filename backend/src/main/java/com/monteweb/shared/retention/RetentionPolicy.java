@@ -0,0 +1,56 @@
+package com.monteweb.shared.retention;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Rows of {@code table} whose {@code timeColumn} lies before {@code cutoff} (and which match
+ * the optional SQL {@code filter}) are purged by the {@link RetentionEngine}.
+ * <p>
+ * The engine walks the table in {@code (timeColumn, keyColumn)} order, so an index on
+ * those two columns keeps every chunk a short range scan. For a table partitioned by
+ * {@code timeColumn}, {@code partitions} first drops the partitions that are expired as a whole.
+ *
+ * @param name       stable name, used in logs and as the metrics tag
+ * @param keyColumn  unique key of the table, the tie-breaker of the keyset order
+ * @param filter     additional SQL condition without parameters, or {@code null}
+ * @param partitions drops expired partitions before rows are deleted, or {@code null}
+ */
+public record RetentionPolicy(
+        String name,
+        String table,
+        String timeColumn,
+        String keyColumn,
+        String filter,
+        Instant cutoff,
+        PartitionDropper partitions
+) {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    public RetentionPolicy {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(cutoff, "cutoff");
+        for (String identifier : new String[]{table, timeColumn, keyColumn}) {
+            if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+                throw new IllegalArgumentException("Invalid identifier in retention policy " + name + ": " + identifier);
+            }
+        }
+    }
+
+    /** Rows of {@code table} created before {@code cutoff}, keyed by {@code id}. */
+    public static RetentionPolicy olderThan(String name, String table, String timeColumn, Instant cutoff) {
+        return new RetentionPolicy(name, table, timeColumn, "id", null, cutoff, null);
+    }
+
+    /** The same policy, limited to rows matching {@code filter}. */
+    public RetentionPolicy where(String filter) {
+        return new RetentionPolicy(name, table, timeColumn, keyColumn, filter, cutoff, partitions);
+    }
+
+    /** The same policy on a table partitioned by {@code timeColumn}. */
+    public RetentionPolicy droppingPartitions(PartitionDropper partitions) {
+        return new RetentionPolicy(name, table, timeColumn, keyColumn, filter, cutoff, partitions);
+    }
+}
@@ -0,0 +1,12 @@
+package com.monteweb.shared.retention;
+
+import java.util.List;
+
+/**
+ * Implemented by each module that purges old rows, to declare its retention policies.
+ * Called at the start of every run, so cutoffs can follow settings that change at runtime.
+ */
+public interface RetentionPolicyProvider {
+
+    List<RetentionPolicy> retentionPolicies();
+}
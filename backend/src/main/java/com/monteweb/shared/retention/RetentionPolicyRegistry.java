@@ -0,0 +1,40 @@
+package com.monteweb.shared.retention;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the retention policies of all modules.
+ */
+@Component
+public class RetentionPolicyRegistry {
+
+    private final List<RetentionPolicyProvider> providers;
+
+    public RetentionPolicyRegistry(List<RetentionPolicyProvider> providers) {
+        this.providers = providers;
+    }
+
+    /**
+     * The current policies of every module.
+     *
+     * @throws IllegalStateException if two policies share a name
+     */
+    public List<RetentionPolicy> policies() {
+        List<RetentionPolicy> policies = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (var provider : providers) {
+            for (var policy : provider.retentionPolicies()) {
+                if (!names.add(policy.name())) {
+                    throw new IllegalStateException("Duplicate retention policy: " + policy.name());
+                }
+                policies.add(policy);
+            }
+        }
+        return policies;
+    }
+}
@@ -0,0 +1,19 @@
+package com.monteweb.shared.retention;
+
+/**
+ * Outcome of purging one policy.
+ *
+ * @param partitionsDropped whole partitions dropped before rows were deleted
+ * @param completed         {@code false} when the run stopped at its time budget or on an
+ *                          error; the remaining rows are purged by the next run
+ * @param maxChunkMillis    duration of the slowest chunk, i.e. the longest time row locks were held
+ */
+public record RetentionRun(
+        String policy,
+        long rowsPurged,
+        int partitionsDropped,
+        int chunks,
+        long maxChunkMillis,
+        boolean completed
+) {
+}
@@ -0,0 +1,2 @@
+@org.springframework.modulith.NamedInterface("shared-retention")
+package com.monteweb.shared.retention;
@@ -0,0 +1,63 @@
+package com.monteweb.shared.storage;
+
+import io.minio.MinioClient;
+import io.minio.RemoveObjectsArgs;
+import io.minio.messages.DeleteObject;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Removes objects with the S3 multi-object delete, up to {@link #BATCH_SIZE} keys per
+ * request, instead of one {@code removeObject} round trip per key.
+ */
+@Component
+public class BulkObjectDeleter {
+
+    /** The most keys S3 accepts in one multi-object delete. */
+    public static final int BATCH_SIZE = 1000;
+    /** S3 reports missing keys as deleted, but some gateways answer with this code. */
+    private static final String NO_SUCH_KEY = "NoSuchKey";
+
+    private final MinioClient minioClient;
+
+    public BulkObjectDeleter(MinioClient minioClient) {
+        this.minioClient = minioClient;
+    }
+
+    /**
+     * Removes the given objects from {@code bucket}.
+     *
+     * @return the error message for each key that could not be removed; empty when all were
+     */
+    public Map<String, String> deleteAll(String bucket, List<String> objectKeys) {
+        Map<String, String> failed = new HashMap<>();
+        for (int from = 0; from < objectKeys.size(); from += BATCH_SIZE) {
+            var batch = objectKeys.subList(from, Math.min(from + BATCH_SIZE, objectKeys.size()));
+            deleteBatch(bucket, batch, failed);
+        }
+        return failed;
+    }
+
+    private void deleteBatch(String bucket, List<String> keys, Map<String, String> failed) {
+        try {
+            // The results are lazy: the request is sent while iterating them
+            var results = minioClient.removeObjects(RemoveObjectsArgs.builder()
+                    .bucket(bucket)
+                    .objects(keys.stream().map(DeleteObject::new).toList())
+                    .build());
+            for (var result : results) {
+                var error = result.get();
+                if (!NO_SUCH_KEY.equals(error.code())) {
+                    failed.put(error.objectName(), error.code() + ": " + error.message());
+                }
+            }
+        } catch (Exception e) {
+            // The request itself failed, so none of its keys are known to be gone
+            String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+            keys.forEach(key -> failed.put(key, message));
+        }
+    }
+}
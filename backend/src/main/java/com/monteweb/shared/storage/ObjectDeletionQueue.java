@@ -0,0 +1,119 @@
+package com.monteweb.shared.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Durable queue of storage objects waiting to be removed.
+ * <p>
+ * Modules call {@link #enqueue} in the transaction that deletes the rows owning the
+ * objects: the keys are committed (or rolled back) together with those rows, and
+ * {@link ObjectDeletionWorker} removes the objects afterwards in bulk. Nothing is lost
+ * when MinIO is down or the application restarts in between; entries just wait for
+ * the next run.
+ */
+@Component
+public class ObjectDeletionQueue {
+
+    /**
+     * Entries with this many failed attempts are kept for inspection but not retried. Also
+     * the predicate of the partial index in V127; change both together.
+     */
+    public static final int MAX_ATTEMPTS = 10;
+    private static final Duration MAX_BACKOFF = Duration.ofHours(6);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String bucket;
+
+    public ObjectDeletionQueue(JdbcTemplate jdbcTemplate,
+                               @Value("${monteweb.storage.bucket}") String bucket) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bucket = bucket;
+    }
+
+    /**
+     * Queues objects of the storage bucket for removal; {@code null} keys are skipped.
+     */
+    public void enqueue(Collection<String> objectKeys) {
+        List<Object[]> rows = objectKeys.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(key -> new Object[]{bucket, key})
+                .toList();
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate("INSERT INTO object_deletion_queue (bucket, object_key) VALUES (?, ?)", rows);
+    }
+
+    public void enqueue(String... objectKeys) {
+        enqueue(Arrays.asList(objectKeys));
+    }
+
+    /**
+     * Locks up to {@code limit} entries that are due, skipping entries another instance
+     * is working on. Must run inside a transaction, which holds the locks.
+     * <p>
+     * The attempt limit is a literal in the SQL, not a parameter, so the planner can match
+     * it against the predicate of the partial index {@code idx_object_deletion_queue_due}.
+     */
+    List<Entry> claimDue(int limit) {
+        return jdbcTemplate.query("""
+                        SELECT id, bucket, object_key, attempts FROM object_deletion_queue
+                        WHERE next_attempt_at <= now() AND attempts < %d
+                        ORDER BY next_attempt_at, id
+                        LIMIT ?
+                        FOR UPDATE SKIP LOCKED
+                        """.formatted(MAX_ATTEMPTS),
+                (rs, i) -> new Entry(rs.getLong("id"), rs.getString("bucket"),
+                        rs.getString("object_key"), rs.getInt("attempts")),
+                limit);
+    }
+
+    void remove(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.update("DELETE FROM object_deletion_queue WHERE id = ANY(?)",
+                (Object) ids.toArray(Long[]::new));
+    }
+
+    /**
+     * Records failed removals and schedules their retry with exponential backoff.
+     *
+     * @param errors error message per failed entry
+     */
+    void reschedule(Map<Entry, String> errors, Instant now) {
+        if (errors.isEmpty()) return;
+        List<Object[]> rows = errors.entrySet().stream()
+                .map(e -> new Object[]{truncate(e.getValue()),
+                        Timestamp.from(now.plus(backoff(e.getKey().attempts() + 1))), e.getKey().id()})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                UPDATE object_deletion_queue
+                SET attempts = attempts + 1, last_error = ?, next_attempt_at = ?
+                WHERE id = ?
+                """, rows);
+    }
+
+    /** One minute after the first failure, doubling up to six hours. */
+    static Duration backoff(int attempts) {
+        Duration delay = Duration.ofMinutes(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) return null;
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    record Entry(long id, String bucket, String objectKey, int attempts) {
+    }
+}
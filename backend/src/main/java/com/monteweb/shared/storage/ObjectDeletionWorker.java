@@ -0,0 +1,92 @@
+package com.monteweb.shared.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the {@link ObjectDeletionQueue}: claims due entries in batches, removes their
+ * objects with one multi-object delete per bucket and batch, drops the entries that
+ * succeeded and reschedules the others with backoff.
+ * <p>
+ * Each batch runs in its own short transaction holding {@code SKIP LOCKED} row locks,
+ * so several instances can drain the queue side by side without removing a key twice.
+ */
+@Component
+public class ObjectDeletionWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ObjectDeletionWorker.class);
+    /** Bounds a single run, so a huge backlog does not keep the scheduler thread busy. */
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final ObjectDeletionQueue queue;
+    private final BulkObjectDeleter deleter;
+    private final TransactionTemplate transactionTemplate;
+
+    public ObjectDeletionWorker(ObjectDeletionQueue queue, BulkObjectDeleter deleter,
+                                PlatformTransactionManager transactionManager) {
+        this.queue = queue;
+        this.deleter = deleter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelay = 30_000, initialDelay = 30_000)
+    public void drain() {
+        int removed = 0;
+        int failed = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            var outcome = transactionTemplate.execute(status -> processBatch());
+            if (outcome == null || outcome.claimed() == 0) break;
+            removed += outcome.removed();
+            failed += outcome.failed();
+            if (outcome.claimed() < BulkObjectDeleter.BATCH_SIZE) break;
+        }
+        if (removed > 0 || failed > 0) {
+            log.info("Object deletion queue: removed {} objects, {} failed and will be retried", removed, failed);
+        }
+    }
+
+    /**
+     * Claims and processes one batch of due entries. Runs inside a transaction.
+     */
+    BatchOutcome processBatch() {
+        var entries = queue.claimDue(BulkObjectDeleter.BATCH_SIZE);
+        if (entries.isEmpty()) return new BatchOutcome(0, 0, 0);
+
+        List<Long> done = new ArrayList<>();
+        Map<ObjectDeletionQueue.Entry, String> errors = new HashMap<>();
+        var byBucket = entries.stream().collect(Collectors.groupingBy(ObjectDeletionQueue.Entry::bucket));
+        byBucket.forEach((bucket, bucketEntries) -> {
+            var failures = deleter.deleteAll(bucket, bucketEntries.stream()
+                    .map(ObjectDeletionQueue.Entry::objectKey).distinct().toList());
+            for (var entry : bucketEntries) {
+                String error = failures.get(entry.objectKey());
+                if (error == null) {
+                    done.add(entry.id());
+                } else {
+                    errors.put(entry, error);
+                    if (entry.attempts() + 1 >= ObjectDeletionQueue.MAX_ATTEMPTS) {
+                        log.warn("Giving up on removing {}/{} after {} attempts: {}",
+                                bucket, entry.objectKey(), entry.attempts() + 1, error);
+                    }
+                }
+            }
+        });
+        queue.remove(done);
+        queue.reschedule(errors, Instant.now());
+        return new BatchOutcome(entries.size(), done.size(), errors.size());
+    }
+
+    record BatchOutcome(int claimed, int removed, int failed) {
+    }
+}
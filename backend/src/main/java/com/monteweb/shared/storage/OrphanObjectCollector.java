@@ -0,0 +1,299 @@
+package com.monteweb.shared.storage;
+
+import com.monteweb.shared.config.TaskExecutorConfig;
+import com.monteweb.shared.exception.BusinessException;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.messages.Item;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Finds objects in the storage bucket that no row references any more and deletes them.
+ * <p>
+ * A run streams the bucket listing under each {@link StorageReferenceProvider#listingPrefix()}
+ * page by page and checks the keys in batches against their owning module. Objects younger
+ * than the grace period are skipped, since uploads are stored before their row commits.
+ * Unreferenced objects are quarantined in {@code storage_orphans}; one that is still
+ * unreferenced in a later run, after the quarantine period, goes to the
+ * {@link ObjectDeletionQueue}. An object that becomes referenced again, or disappears,
+ * simply leaves quarantine.
+ */
+@Component
+public class OrphanObjectCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanObjectCollector.class);
+
+    /** Keys checked against the owning modules per query. */
+    public static final int BATCH_SIZE = 1000;
+    private static final int REPORT_RUNS = 20;
+    /** A run still RUNNING after this long was interrupted by a restart. */
+    private static final Duration STALE_RUN = Duration.ofHours(6);
+
+    private final MinioClient minioClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectDeletionQueue deletionQueue;
+    private final List<StorageReferenceProvider> providers;
+    private final TransactionTemplate transactionTemplate;
+    private final String bucket;
+    private final Duration gracePeriod;
+    private final Duration quarantinePeriod;
+    private final AsyncTaskExecutor runner;
+
+    public OrphanObjectCollector(MinioClient minioClient,
+                                 JdbcTemplate jdbcTemplate,
+                                 ObjectDeletionQueue deletionQueue,
+                                 List<StorageReferenceProvider> providers,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${monteweb.storage.bucket}") String bucket,
+                                 @Value("${monteweb.storage.gc.grace-period:24h}") Duration gracePeriod,
+                                 @Value("${monteweb.storage.gc.quarantine-period:7d}") Duration quarantinePeriod,
+                                 @Qualifier(TaskExecutorConfig.BACKGROUND_JOBS) AsyncTaskExecutor runner) {
+        this.minioClient = minioClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.deletionQueue = deletionQueue;
+        this.providers = providers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bucket = bucket;
+        this.gracePeriod = gracePeriod;
+        this.quarantinePeriod = quarantinePeriod;
+        this.runner = runner;
+    }
+
+    @Scheduled(cron = "${monteweb.storage.gc.cron:0 15 5 * * *}")
+    public void collectScheduled() {
+        try {
+            collect();
+        } catch (BusinessException e) {
+            log.info("Skipping storage garbage collection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Starts a run in the background and returns it right away; poll {@link #getReport}.
+     *
+     * @throws BusinessException if a run is already in progress, or the background queue is full
+     */
+    public StorageGcRun start() {
+        UUID runId = createRun();
+        try {
+            runner.execute(() -> execute(runId));
+        } catch (TaskRejectedException e) {
+            log.warn("Storage garbage collection {} rejected: background job queue is full", runId);
+            jdbcTemplate.update("""
+                    UPDATE storage_gc_runs SET status = 'FAILED', error_message = 'Rejected', finished_at = now()
+                    WHERE id = ?
+                    """, runId);
+            throw new BusinessException("Too many background jobs, try again later");
+        }
+        return findRun(runId);
+    }
+
+    /**
+     * Runs a collection in the calling thread.
+     *
+     * @throws BusinessException if a run is already in progress
+     */
+    public StorageGcRun collect() {
+        UUID runId = createRun();
+        execute(runId);
+        return findRun(runId);
+    }
+
+    public StorageGcReport getReport() {
+        var runs = jdbcTemplate.query("SELECT * FROM storage_gc_runs ORDER BY started_at DESC LIMIT ?",
+                (rs, i) -> new StorageGcRun(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("status"),
+                        rs.getLong("objects_scanned"),
+                        rs.getLong("bytes_scanned"),
+                        rs.getInt("orphans_quarantined"),
+                        rs.getInt("orphans_deleted"),
+                        rs.getLong("bytes_reclaimed"),
+                        rs.getString("error_message"),
+                        rs.getTimestamp("started_at").toInstant(),
+                        rs.getTimestamp("finished_at") != null ? rs.getTimestamp("finished_at").toInstant() : null),
+                REPORT_RUNS);
+        return jdbcTemplate.queryForObject("""
+                        SELECT (SELECT count(*) FROM storage_orphans),
+                               (SELECT COALESCE(sum(size_bytes), 0) FROM storage_orphans),
+                               (SELECT COALESCE(sum(bytes_reclaimed), 0) FROM storage_gc_runs)
+                        """,
+                (rs, i) -> new StorageGcReport(runs, rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+    }
+
+    private UUID createRun() {
+        jdbcTemplate.update("""
+                UPDATE storage_gc_runs SET status = 'FAILED', error_message = 'Interrupted', finished_at = now()
+                WHERE status = 'RUNNING' AND started_at < ?
+                """, Timestamp.from(Instant.now().minus(STALE_RUN)));
+        try {
+            return jdbcTemplate.queryForObject(
+                    "INSERT INTO storage_gc_runs (status) VALUES ('RUNNING') RETURNING id", UUID.class);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException("Storage garbage collection is already running");
+        }
+    }
+
+    private StorageGcRun findRun(UUID runId) {
+        return getReport().recentRuns().stream()
+                .filter(run -> run.id().equals(runId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void execute(UUID runId) {
+        // Postgres keeps microseconds, and quarantine rows are matched against this instant
+        Instant runStart = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        var stats = new RunStats();
+        try {
+            Map<String, List<StorageReferenceProvider>> byPrefix = new LinkedHashMap<>();
+            for (var provider : providers) {
+                byPrefix.computeIfAbsent(provider.listingPrefix(), p -> new ArrayList<>()).add(provider);
+            }
+            for (var entry : byPrefix.entrySet()) {
+                scanPrefix(entry.getKey(), entry.getValue(), runStart, stats);
+                updateProgress(runId, stats);
+            }
+            transactionTemplate.executeWithoutResult(status -> finishQuarantine(runStart, stats));
+            jdbcTemplate.update("""
+                    UPDATE storage_gc_runs
+                    SET status = 'COMPLETED', objects_scanned = ?, bytes_scanned = ?, orphans_quarantined = ?,
+                        orphans_deleted = ?, bytes_reclaimed = ?, finished_at = now()
+                    WHERE id = ?
+                    """, stats.objectsScanned, stats.bytesScanned, stats.quarantined, stats.deleted,
+                    stats.bytesReclaimed, runId);
+            log.info("Storage garbage collection: scanned {} objects, {} in quarantine, deleted {} ({} bytes)",
+                    stats.objectsScanned, stats.quarantined, stats.deleted, stats.bytesReclaimed);
+        } catch (Exception e) {
+            // Quarantine is left as it is: an incomplete listing proves nothing about the objects
+            log.error("Storage garbage collection failed", e);
+            String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+            jdbcTemplate.update("""
+                    UPDATE storage_gc_runs
+                    SET status = 'FAILED', objects_scanned = ?, bytes_scanned = ?, error_message = ?, finished_at = now()
+                    WHERE id = ?
+                    """, stats.objectsScanned, stats.bytesScanned,
+                    message.length() > 1000 ? message.substring(0, 1000) : message, runId);
+        }
+    }
+
+    /**
+     * Streams the listing under one prefix and quarantines unreferenced keys batch by batch.
+     * The client fetches the listing lazily, a page of up to 1000 keys at a time.
+     */
+    private void scanPrefix(String prefix, List<StorageReferenceProvider> owners, Instant runStart,
+                            RunStats stats) throws Exception {
+        Instant newest = runStart.minus(gracePeriod);
+        List<Item> batch = new ArrayList<>(BATCH_SIZE);
+        var listing = minioClient.listObjects(ListObjectsArgs.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .recursive(true)
+                .maxKeys(BATCH_SIZE)
+                .build());
+        for (var result : listing) {
+            Item item = result.get();
+            if (item.isDir()) continue;
+            stats.objectsScanned++;
+            stats.bytesScanned += item.size();
+            if (item.lastModified().toInstant().isAfter(newest)) continue;
+            batch.add(item);
+            if (batch.size() == BATCH_SIZE) {
+                quarantineUnreferenced(batch, owners, runStart);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            quarantineUnreferenced(batch, owners, runStart);
+        }
+    }
+
+    private void quarantineUnreferenced(List<Item> batch, List<StorageReferenceProvider> owners, Instant runStart) {
+        Map<StorageReferenceProvider, List<String>> keysByOwner = new LinkedHashMap<>();
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        for (var item : batch) {
+            String key = item.objectName();
+            owners.stream().filter(p -> p.owns(key)).findFirst().ifPresent(owner -> {
+                keysByOwner.computeIfAbsent(owner, p -> new ArrayList<>()).add(key);
+                sizes.put(key, item.size());
+            });
+        }
+        Set<String> referenced = new HashSet<>();
+        keysByOwner.forEach((owner, keys) -> referenced.addAll(owner.findReferenced(keys)));
+
+        Timestamp seen = Timestamp.from(runStart);
+        List<Object[]> orphans = sizes.entrySet().stream()
+                .filter(e -> !referenced.contains(e.getKey()))
+                .map(e -> new Object[]{bucket, e.getKey(), e.getValue(), seen, seen})
+                .toList();
+        if (orphans.isEmpty()) return;
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO storage_orphans (bucket, object_key, size_bytes, detected_at, last_seen_at)
+                VALUES (?, ?, ?, ?, ?)
+                ON CONFLICT (bucket, object_key)
+                DO UPDATE SET size_bytes = EXCLUDED.size_bytes, last_seen_at = EXCLUDED.last_seen_at
+                """, orphans);
+    }
+
+    /**
+     * Releases quarantined objects this run no longer saw as orphans, and hands those that
+     * were quarantined by an earlier run and are past the quarantine period to the deletion
+     * queue, in the same transaction.
+     */
+    private void finishQuarantine(Instant runStart, RunStats stats) {
+        Timestamp start = Timestamp.from(runStart);
+        jdbcTemplate.update("DELETE FROM storage_orphans WHERE bucket = ? AND last_seen_at < ?", bucket, start);
+
+        List<String> expired = new ArrayList<>();
+        jdbcTemplate.query("""
+                        DELETE FROM storage_orphans
+                        WHERE bucket = ? AND detected_at < ? AND detected_at <= ?
+                        RETURNING object_key, size_bytes
+                        """,
+                rs -> {
+                    expired.add(rs.getString("object_key"));
+                    stats.bytesReclaimed += rs.getLong("size_bytes");
+                },
+                bucket, start, Timestamp.from(runStart.minus(quarantinePeriod)));
+        deletionQueue.enqueue(expired);
+        stats.deleted = expired.size();
+        stats.quarantined = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM storage_orphans WHERE bucket = ?", Integer.class, bucket);
+    }
+
+    private void updateProgress(UUID runId, RunStats stats) {
+        jdbcTemplate.update("UPDATE storage_gc_runs SET objects_scanned = ?, bytes_scanned = ? WHERE id = ?",
+                stats.objectsScanned, stats.bytesScanned, runId);
+    }
+
+    private static final class RunStats {
+        long objectsScanned;
+        long bytesScanned;
+        int quarantined;
+        int deleted;
+        long bytesReclaimed;
+    }
+}
@@ -0,0 +1,15 @@
+package com.monteweb.shared.storage;
+
+import java.util.List;
+
+/**
+ * Admin report of the storage garbage collector: recent runs, what sits in quarantine
+ * right now and the bytes reclaimed over all runs.
+ */
+public record StorageGcReport(
+        List<StorageGcRun> recentRuns,
+        long quarantinedObjects,
+        long quarantinedBytes,
+        long totalBytesReclaimed
+) {
+}
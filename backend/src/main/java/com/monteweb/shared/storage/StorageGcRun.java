@@ -0,0 +1,23 @@
+package com.monteweb.shared.storage;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One run of the {@link OrphanObjectCollector}. {@code orphansQuarantined} counts the
+ * objects left in quarantine after the run, {@code orphansDeleted} and
+ * {@code bytesReclaimed} those the run handed to the deletion queue.
+ */
+public record StorageGcRun(
+        UUID id,
+        String status,
+        long objectsScanned,
+        long bytesScanned,
+        int orphansQuarantined,
+        int orphansDeleted,
+        long bytesReclaimed,
+        String errorMessage,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
@@ -0,0 +1,42 @@
+package com.monteweb.shared.storage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implemented by each module that stores objects, so the {@link OrphanObjectCollector}
+ * can tell which keys in the bucket are still in use, and the DSGVO export can include
+ * the files a user uploaded.
+ * <p>
+ * A module owns the keys it creates. Keys that no provider owns are never collected,
+ * so a module without a provider cannot lose objects to the collector.
+ */
+public interface StorageReferenceProvider {
+
+    /**
+     * Key prefix under which this module's objects are listed, e.g. {@code "fundgrube/"}.
+     * Several providers may share a prefix and tell their keys apart by {@link #owns}.
+     */
+    String listingPrefix();
+
+    /** Whether a key under {@link #listingPrefix()} was created by this module. */
+    default boolean owns(String objectKey) {
+        return true;
+    }
+
+    /**
+     * The subset of {@code objectKeys} (all owned by this module) that a row still points at.
+     * Called with batches of up to {@link OrphanObjectCollector#BATCH_SIZE} keys.
+     */
+    Set<String> findReferenced(Collection<String> objectKeys);
+
+    /**
+     * Originals the user uploaded to this module, for the DSGVO data export. Thumbnails
+     * and other derived objects are left out.
+     */
+    default List<StoredObject> findUploadedBy(UUID userId) {
+        return List.of();
+    }
+}
@@ -0,0 +1,10 @@
+package com.monteweb.shared.storage;
+
+/**
+ * An object in the storage bucket with the file name its uploader gave it.
+ */
+public record StoredObject(
+        String objectKey,
+        String fileName
+) {
+}
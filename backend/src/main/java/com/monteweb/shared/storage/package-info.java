@@ -0,0 +1,2 @@
+@org.springframework.modulith.NamedInterface("shared-storage")
+package com.monteweb.shared.storage;
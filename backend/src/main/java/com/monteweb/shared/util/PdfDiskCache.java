@@ -0,0 +1,108 @@
+package com.monteweb.shared.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * On-disk cache of rendered PDFs keyed by the SHA-256 of the source HTML.
+ * Entries are written to a temp file and moved into place atomically, so
+ * concurrent readers never see partial documents.
+ */
+final class PdfDiskCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfDiskCache.class);
+
+    @FunctionalInterface
+    interface Renderer {
+        void render(OutputStream out) throws Exception;
+    }
+
+    private final Path dir;
+    private final Duration ttl;
+
+    PdfDiskCache(Path dir, Duration ttl) throws IOException {
+        this.dir = Files.createDirectories(dir);
+        this.ttl = ttl;
+    }
+
+    static String key(String html) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(html.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Copies the cached document to {@code out}.
+     *
+     * @return false if there is no entry for the key
+     */
+    boolean copyTo(String key, OutputStream out) throws IOException {
+        try {
+            Files.copy(dir.resolve(key + ".pdf"), out);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Renders into a new cache entry and copies it to {@code out}. The document is copied
+     * from the temp file before it is moved into place, so eviction of the entry cannot
+     * race with the response.
+     */
+    void renderAndCopy(String key, Renderer renderer, OutputStream out) throws Exception {
+        Path target = dir.resolve(key + ".pdf");
+        Path tmp = Files.createTempFile(dir, key, ".tmp");
+        try {
+            try (var os = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                renderer.render(os);
+            }
+            Files.copy(tmp, out);
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.debug("Could not cache rendered PDF {}: {}", key, e.getMessage());
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Deletes entries (and abandoned temp files) older than the TTL.
+     *
+     * @return number of deleted files
+     */
+    int evictExpired() {
+        Instant cutoff = Instant.now().minus(ttl);
+        int deleted = 0;
+        try (var files = Files.list(dir)) {
+            for (var file : (Iterable<Path>) files::iterator) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.debug("Could not evict cached PDF {}: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to scan PDF cache directory {}: {}", dir, e.getMessage());
+        }
+        return deleted;
+    }
+}
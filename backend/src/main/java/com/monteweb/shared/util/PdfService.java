@@ -1,17 +1,74 @@
 package com.monteweb.shared.util;
 
+import com.monteweb.shared.config.PdfProperties;
+import com.monteweb.shared.exception.BusinessException;
+import com.openhtmltopdf.extend.FSCacheEx;
+import com.openhtmltopdf.extend.FSCacheValue;
+import com.openhtmltopdf.extend.impl.FSDefaultCacheStore;
+import com.openhtmltopdf.outputdevice.helper.BaseRendererBuilder.FontStyle;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.fontbox.ttf.TTFParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Shared HTML-to-PDF renderer. Renders are limited to
+ * {@link PdfProperties#maxConcurrentRenders()} at a time (further requests queue up to
+ * {@link PdfProperties#queueTimeout()}), fonts from {@link PdfProperties#fontDir()} are
+ * loaded once and their metrics are shared across renders, and rendered documents can
+ * optionally be cached on disk by content hash.
+ */
 @Service
 public class PdfService {
 
     private static final Logger log = LoggerFactory.getLogger(PdfService.class);
 
+    private final Semaphore renderSlots;
+    private final PdfProperties properties;
+    private final List<PreloadedFont> fonts;
+    private final FSCacheEx<String, FSCacheValue> fontMetricsCache = new FSDefaultCacheStore();
+    private final PdfDiskCache diskCache;
+
+    private final AtomicInteger activeRenders = new AtomicInteger();
+    private final AtomicInteger queuedRenders = new AtomicInteger();
+    private final Timer renderTimer;
+    private final Timer queueTimer;
+    private final Counter rejectedRenders;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public PdfService(PdfProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.renderSlots = new Semaphore(properties.maxConcurrentRenders(), true);
+        this.fonts = loadFonts(properties.fontDir());
+        this.diskCache = createDiskCache(properties);
+
+        meterRegistry.gauge("monteweb.pdf.renders.active", activeRenders);
+        meterRegistry.gauge("monteweb.pdf.renders.queued", queuedRenders);
+        this.renderTimer = Timer.builder("monteweb.pdf.render").register(meterRegistry);
+        this.queueTimer = Timer.builder("monteweb.pdf.queue.wait").register(meterRegistry);
+        this.rejectedRenders = meterRegistry.counter("monteweb.pdf.renders.rejected");
+        this.cacheHits = meterRegistry.counter("monteweb.pdf.cache", "result", "hit");
+        this.cacheMisses = meterRegistry.counter("monteweb.pdf.cache", "result", "miss");
+    }
+
     /**
      * Renders an HTML string to PDF bytes.
      *
@@ -19,23 +76,143 @@ public class PdfService {
      * @return PDF as byte array
      */
     public byte[] renderHtmlToPdf(String html) {
-        try (var os = new ByteArrayOutputStream()) {
+        var os = new ByteArrayOutputStream();
+        renderHtmlToPdf(html, os);
+        return os.toByteArray();
+    }
+
+    /**
+     * Renders an HTML string to PDF directly into the given stream. The stream is not closed.
+     *
+     * @param html well-formed XHTML content
+     * @param out  target stream, e.g. a response body
+     */
+    public void renderHtmlToPdf(String html, OutputStream out) {
+        try {
+            if (diskCache == null) {
+                renderLimited(html, out);
+                return;
+            }
+            String key = PdfDiskCache.key(html);
+            if (diskCache.copyTo(key, out)) {
+                cacheHits.increment();
+                return;
+            }
+            cacheMisses.increment();
+            diskCache.renderAndCopy(key, os -> renderLimited(html, os), out);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to generate PDF: {}", e.getMessage(), e);
+            throw new RuntimeException("PDF generation failed", e);
+        }
+    }
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void evictExpiredCacheEntries() {
+        if (diskCache == null) return;
+        int deleted = diskCache.evictExpired();
+        if (deleted > 0) {
+            log.info("Evicted {} expired PDFs from the disk cache", deleted);
+        }
+    }
+
+    private void renderLimited(String html, OutputStream out) throws Exception {
+        acquireRenderSlot();
+        activeRenders.incrementAndGet();
+        long start = System.nanoTime();
+        try {
             var builder = new PdfRendererBuilder();
             builder.useFastMode();
+            builder.useCacheStore(PdfRendererBuilder.CacheStore.PDF_FONT_METRICS, fontMetricsCache);
+            for (var font : fonts) {
+                builder.useFont(font::open, font.family(), font.weight(), font.style(), true);
+            }
             builder.withHtmlContent(html, "/");
-            builder.toStream(os);
+            builder.toStream(out);
             builder.run();
-            return os.toByteArray();
-        } catch (Exception e) {
-            log.error("Failed to generate PDF: {}", e.getMessage(), e);
-            throw new RuntimeException("PDF generation failed", e);
+        } finally {
+            renderTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            activeRenders.decrementAndGet();
+            renderSlots.release();
+        }
+    }
+
+    private void acquireRenderSlot() throws InterruptedException {
+        queuedRenders.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            if (!renderSlots.tryAcquire(properties.queueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                rejectedRenders.increment();
+                throw new BusinessException("PDF export is busy, please try again later");
+            }
+        } finally {
+            queueTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            queuedRenders.decrementAndGet();
+        }
+    }
+
+    private static PdfDiskCache createDiskCache(PdfProperties properties) {
+        if (properties.diskCacheDir() == null || properties.diskCacheDir().isBlank()) return null;
+        try {
+            return new PdfDiskCache(Path.of(properties.diskCacheDir()), properties.diskCacheTtl());
+        } catch (IOException e) {
+            log.warn("PDF disk cache disabled, cannot use {}: {}", properties.diskCacheDir(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<PreloadedFont> loadFonts(String fontDir) {
+        if (fontDir == null || fontDir.isBlank()) return List.of();
+        var fonts = new ArrayList<PreloadedFont>();
+        try (var files = Files.list(Path.of(fontDir))) {
+            for (var file : (Iterable<Path>) files.filter(f -> f.toString().toLowerCase().endsWith(".ttf")).sorted()::iterator) {
+                byte[] bytes = Files.readAllBytes(file);
+                try (var ttf = new TTFParser().parse(new ByteArrayInputStream(bytes))) {
+                    var os2 = ttf.getOS2Windows();
+                    fonts.add(new PreloadedFont(
+                            bytes,
+                            ttf.getNaming().getFontFamily(),
+                            os2 != null ? os2.getWeightClass() : 400,
+                            os2 != null && (os2.getFsSelection() & 1) != 0 ? FontStyle.ITALIC : FontStyle.NORMAL));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not load PDF fonts from {}: {}", fontDir, e.getMessage());
+        }
+        log.info("Loaded {} PDF fonts", fonts.size());
+        return List.copyOf(fonts);
+    }
+
+    private record PreloadedFont(byte[] bytes, String family, int weight, FontStyle style) {
+        ByteArrayInputStream open() {
+            return new ByteArrayInputStream(bytes);
         }
     }
 
     /**
      * Generates an hours report PDF from structured data.
      */
-    public byte[] generateHoursReport(String schoolName, java.util.List<HoursReportRow> rows) {
+    public byte[] generateHoursReport(String schoolName, List<HoursReportRow> rows) {
+        return renderHtmlToPdf(hoursReportHtml(schoolName, rows));
+    }
+
+    public void generateHoursReport(String schoolName, List<HoursReportRow> rows, OutputStream out) {
+        renderHtmlToPdf(hoursReportHtml(schoolName, rows), out);
+    }
+
+    /**
+     * Generates a QR code page PDF for cleaning slots.
+     */
+    public byte[] generateCleaningQrCodes(String configTitle, List<QrCodeEntry> entries) {
+        return renderHtmlToPdf(cleaningQrCodesHtml(configTitle, entries));
+    }
+
+    public void generateCleaningQrCodes(String configTitle, List<QrCodeEntry> entries, OutputStream out) {
+        renderHtmlToPdf(cleaningQrCodesHtml(configTitle, entries), out);
+    }
+
+    private String hoursReportHtml(String schoolName, List<HoursReportRow> rows) {
         var sb = new StringBuilder();
         sb.append("""
                 <?xml version="1.0" encoding="UTF-8"?>
@@ -75,13 +252,10 @@ public class PdfService {
         sb.append("<p class=\"footer\">Generiert am ").append(java.time.LocalDate.now()).append("</p>\n");
         sb.append("</body></html>");
 
-        return renderHtmlToPdf(sb.toString());
+        return sb.toString();
     }
 
-    /**
-     * Generates a QR code page PDF for cleaning slots.
-     */
-    public byte[] generateCleaningQrCodes(String configTitle, java.util.List<QrCodeEntry> entries) {
+    private String cleaningQrCodesHtml(String configTitle, List<QrCodeEntry> entries) {
         var sb = new StringBuilder();
         sb.append("""
                 <?xml version="1.0" encoding="UTF-8"?>
@@ -111,7 +285,7 @@ public class PdfService {
 
         sb.append("</body></html>");
 
-        return renderHtmlToPdf(sb.toString());
+        return sb.toString();
     }
 
     private String escapeXml(String input) {
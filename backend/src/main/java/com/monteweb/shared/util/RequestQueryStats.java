@@ -0,0 +1,84 @@
+package com.monteweb.shared.util;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * SQL statements executed by the current thread while a scope is open. Scopes nest:
+ * a statement is counted in every open scope, so a test can measure a single call
+ * while the request filter measures the whole request.
+ * <p>
+ * Fed by {@code StatementCountingDataSource}, so Hibernate and {@code JdbcTemplate}
+ * statements are both seen.
+ */
+public final class RequestQueryStats {
+
+    /** Cap on distinct statements kept per scope (long-running batch jobs). */
+    private static final int MAX_DISTINCT_STATEMENTS = 500;
+
+    private static final ThreadLocal<Deque<RequestQueryStats>> ACTIVE = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final Map<String, Integer> statements = new HashMap<>();
+    private int count;
+    private long jdbcNanos;
+
+    private RequestQueryStats() {
+    }
+
+    /**
+     * Opens a new scope on the current thread. Must be closed with {@link #stop()}.
+     */
+    public static RequestQueryStats start() {
+        var stats = new RequestQueryStats();
+        ACTIVE.get().push(stats);
+        return stats;
+    }
+
+    public void stop() {
+        var active = ACTIVE.get();
+        active.remove(this);
+        if (active.isEmpty()) {
+            ACTIVE.remove();
+        }
+    }
+
+    public static void recordStatement(String sql) {
+        var active = ACTIVE.get();
+        if (active.isEmpty()) {
+            ACTIVE.remove();
+            return;
+        }
+        for (var stats : active) {
+            stats.count++;
+            if (stats.statements.size() < MAX_DISTINCT_STATEMENTS || stats.statements.containsKey(sql)) {
+                stats.statements.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    public static void recordJdbcTime(long nanos) {
+        var active = ACTIVE.get();
+        if (active.isEmpty()) {
+            ACTIVE.remove();
+            return;
+        }
+        for (var stats : active) {
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public Duration jdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    /**
+     * The statement executed most often in this scope, with its execution count.
+     */
+    public Optional<Map.Entry<String, Integer>> mostRepeated() {
+        return statements.entrySet().stream().max(Map.Entry.comparingByValue());
+    }
+}
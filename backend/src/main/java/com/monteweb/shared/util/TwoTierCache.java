@@ -0,0 +1,255 @@
+package com.monteweb.shared.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Read-through cache for small, frequently read projections keyed by ID: a bounded
+ * LRU on each node in front of Redis, in front of the database.
+ * <p>
+ * Owners must call {@link #evict} whenever the underlying row changes. Evictions are
+ * applied immediately and again after the surrounding transaction commits, and are
+ * broadcast to the other nodes. Absent rows are not cached. Redis failures fall back
+ * to the database.
+ * <p>
+ * Created through {@link TwoTierCacheManager}.
+ */
+public class TwoTierCache<V> {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCache.class);
+
+    private final String name;
+    private final Class<V> type;
+    private final boolean enabled;
+    private final int maxSize;
+    private final Duration localTtl;
+    private final Duration redisTtl;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final TwoTierCacheManager manager;
+    private final Map<UUID, LocalEntry<V>> local;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    TwoTierCache(String name, Class<V> type, boolean enabled, int maxSize, Duration localTtl, Duration redisTtl,
+                 StringRedisTemplate redis, ObjectMapper objectMapper, TwoTierCacheManager manager,
+                 MeterRegistry meterRegistry) {
+        this.name = name;
+        this.type = type;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.localTtl = localTtl;
+        this.redisTtl = redisTtl;
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.manager = manager;
+        this.local = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, LocalEntry<V>> eldest) {
+                return size() > TwoTierCache.this.maxSize;
+            }
+        };
+
+        this.localHits = counter(meterRegistry, "local");
+        this.redisHits = counter(meterRegistry, "redis");
+        this.misses = counter(meterRegistry, "miss");
+        Gauge.builder("monteweb.cache.hit.ratio", this, TwoTierCache::hitRatio)
+                .description("Share of reads answered by the local or Redis tier")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("monteweb.cache.size", this, TwoTierCache::localSize)
+                .description("Entries in the local tier")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Optional<V> get(UUID id, Function<UUID, Optional<V>> loader) {
+        if (!enabled || id == null) {
+            return loader.apply(id);
+        }
+        var cached = getLocal(id);
+        if (cached != null) {
+            localHits.increment();
+            return Optional.of(cached);
+        }
+        cached = getRedis(id);
+        if (cached != null) {
+            redisHits.increment();
+            putLocal(id, cached);
+            return Optional.of(cached);
+        }
+        misses.increment();
+        var loaded = loader.apply(id);
+        loaded.ifPresent(value -> put(id, value));
+        return loaded;
+    }
+
+    /**
+     * Bulk read: local tier, then one Redis MGET, then one loader call for the rest.
+     * Unknown IDs are absent from the result.
+     */
+    public Map<UUID, V> getAll(Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, V>> loader) {
+        if (!enabled) {
+            return loader.apply(ids);
+        }
+        var result = new HashMap<UUID, V>();
+        var missing = new ArrayList<UUID>();
+        for (var id : new LinkedHashSet<>(ids)) {
+            var cached = getLocal(id);
+            if (cached != null) {
+                localHits.increment();
+                result.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) return result;
+
+        var fromRedis = getRedis(missing);
+        for (var entry : fromRedis.entrySet()) {
+            redisHits.increment();
+            putLocal(entry.getKey(), entry.getValue());
+            result.put(entry.getKey(), entry.getValue());
+        }
+        missing.removeAll(fromRedis.keySet());
+        if (missing.isEmpty()) return result;
+
+        misses.increment(missing.size());
+        var loaded = loader.apply(missing);
+        for (var entry : loaded.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Drops the entry on all nodes, now and once more after the current transaction commits.
+     */
+    public void evict(UUID id) {
+        if (!enabled || id == null) return;
+        evictEverywhere(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictEverywhere(id);
+                }
+            });
+        }
+    }
+
+    double hitRatio() {
+        double hits = localHits.count() + redisHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    synchronized int localSize() {
+        return local.size();
+    }
+
+    // Called by the manager for eviction messages from other nodes
+
+    synchronized void evictLocal(UUID id) {
+        local.remove(id);
+    }
+
+    private void evictEverywhere(UUID id) {
+        evictLocal(id);
+        if (redis != null) {
+            try {
+                redis.delete(redisKey(id.toString()));
+            } catch (RuntimeException e) {
+                log.debug("Redis evict {}:{} failed: {}", name, id, e.getMessage());
+            }
+        }
+        manager.broadcast(name, id);
+    }
+
+    private void put(UUID id, V value) {
+        putLocal(id, value);
+        if (redis != null) {
+            try {
+                redis.opsForValue().set(redisKey(id.toString()), objectMapper.writeValueAsString(value), redisTtl);
+            } catch (RuntimeException e) {
+                log.debug("Redis put {}:{} failed: {}", name, id, e.getMessage());
+            }
+        }
+    }
+
+    private synchronized V getLocal(UUID id) {
+        var entry = local.get(id);
+        if (entry == null) return null;
+        if (entry.expiresAt() < System.nanoTime()) {
+            local.remove(id);
+            return null;
+        }
+        return entry.value();
+    }
+
+    private synchronized void putLocal(UUID id, V value) {
+        local.put(id, new LocalEntry<>(value, System.nanoTime() + localTtl.toNanos()));
+    }
+
+    private V getRedis(UUID id) {
+        if (redis == null) return null;
+        try {
+            var json = redis.opsForValue().get(redisKey(id.toString()));
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (RuntimeException e) {
+            log.debug("Redis get {}:{} failed: {}", name, id, e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<UUID, V> getRedis(List<UUID> ids) {
+        if (redis == null) return Map.of();
+        try {
+            var values = redis.opsForValue().multiGet(ids.stream().map(id -> redisKey(id.toString())).toList());
+            if (values == null) return Map.of();
+            var result = new HashMap<UUID, V>();
+            for (int i = 0; i < ids.size(); i++) {
+                var json = values.get(i);
+                if (json != null) {
+                    result.put(ids.get(i), objectMapper.readValue(json, type));
+                }
+            }
+            return result;
+        } catch (RuntimeException e) {
+            log.debug("Redis multi-get {} failed: {}", name, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private String redisKey(String id) {
+        return "cache:" + name + ":" + id;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("monteweb.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record LocalEntry<V>(V value, long expiresAt) {
+    }
+}
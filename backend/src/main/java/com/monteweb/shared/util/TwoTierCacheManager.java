@@ -0,0 +1,82 @@
+package com.monteweb.shared.util;
+
+import com.monteweb.shared.config.TwoTierCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the {@link TwoTierCache}s and keeps their local tiers consistent across nodes:
+ * every eviction is published on {@link #CHANNEL} as {@code node|cache|id}, and messages
+ * from other nodes are applied to the local tier.
+ */
+@Component
+public class TwoTierCacheManager implements MessageListener {
+
+    public static final String CHANNEL = "monteweb:cache:evict";
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    private final TwoTierCacheProperties properties;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache<?>> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(TwoTierCacheProperties properties, StringRedisTemplate redis,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * A manager whose caches always call the loader. For unit tests.
+     */
+    public static TwoTierCacheManager disabled() {
+        return new TwoTierCacheManager(TwoTierCacheProperties.disabled(), null, null, new SimpleMeterRegistry());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> TwoTierCache<V> getCache(String name, Class<V> type) {
+        return (TwoTierCache<V>) caches.computeIfAbsent(name, n -> new TwoTierCache<>(
+                n, type, properties.enabled(), properties.localMaxSize(), properties.localTtl(),
+                properties.redisTtl(), redis, objectMapper, this, meterRegistry));
+    }
+
+    void broadcast(String cache, UUID id) {
+        if (redis == null) return;
+        try {
+            redis.convertAndSend(CHANNEL, nodeId + "|" + cache + "|" + id);
+        } catch (RuntimeException e) {
+            log.debug("Cache eviction broadcast for {} failed: {}", cache, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        var parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || parts[0].equals(nodeId)) return;
+
+        var cache = caches.get(parts[1]);
+        if (cache == null) return;
+        try {
+            cache.evictLocal(UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache eviction message for {}", parts[1]);
+        }
+    }
+}
@@ -48,7 +48,7 @@ public class TaskController {
             @PathVariable UUID taskId,
             @Valid @RequestBody MoveTaskRequest request) {
         UUID userId = SecurityUtils.requireCurrentUserId();
-        return ApiResponse.ok(taskService.moveTask(taskId, userId, request.columnId(), request.position()));
+        return ApiResponse.ok(taskService.moveTask(taskId, userId, request));
     }
 
     @DeleteMapping("/{taskId}")
@@ -4,8 +4,13 @@ import jakarta.validation.constraints.NotNull;
 
 import java.util.UUID;
 
+/**
+ * Moves a task into a column, directly after {@code previousTaskId} and/or directly
+ * before {@code nextTaskId}. Without either neighbour the task goes to the bottom.
+ */
 public record MoveTaskRequest(
         @NotNull UUID columnId,
-        @NotNull Integer position
+        UUID previousTaskId,
+        UUID nextTaskId
 ) {
 }
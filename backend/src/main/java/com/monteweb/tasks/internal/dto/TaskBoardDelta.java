@@ -0,0 +1,56 @@
+package com.monteweb.tasks.internal.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A change to a room's task board, pushed to {@code /topic/rooms/{roomId}/tasks} once the
+ * transaction has committed. Open boards apply it in place; only {@link Type#BOARD}
+ * asks them to reload.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskBoardDelta(
+        @JsonIgnore UUID roomId,
+        Type type,
+        UUID taskId,
+        UUID columnId,
+        String rank,
+        TaskResponse task,
+        Map<UUID, String> ranks
+) {
+
+    public enum Type {
+        /** A task was created or edited; carries the full task */
+        SAVED,
+        /** A task changed column or rank */
+        MOVED,
+        DELETED,
+        /** A column's ranks were rebalanced; carries the new rank of every task in it */
+        RERANKED,
+        /** Columns were added, renamed or removed */
+        BOARD
+    }
+
+    public static TaskBoardDelta saved(UUID roomId, TaskResponse task) {
+        return new TaskBoardDelta(roomId, Type.SAVED, task.id(), null, null, task, null);
+    }
+
+    public static TaskBoardDelta moved(UUID roomId, UUID taskId, UUID columnId, String rank) {
+        return new TaskBoardDelta(roomId, Type.MOVED, taskId, columnId, rank, null, null);
+    }
+
+    public static TaskBoardDelta deleted(UUID roomId, UUID taskId) {
+        return new TaskBoardDelta(roomId, Type.DELETED, taskId, null, null, null, null);
+    }
+
+    public static TaskBoardDelta reranked(UUID roomId, UUID columnId, Map<UUID, String> ranks) {
+        return new TaskBoardDelta(roomId, Type.RERANKED, null, columnId, null, null, ranks);
+    }
+
+    public static TaskBoardDelta board(UUID roomId) {
+        return new TaskBoardDelta(roomId, Type.BOARD, null, null, null, null, null);
+    }
+}
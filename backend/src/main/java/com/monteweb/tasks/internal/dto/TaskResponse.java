@@ -15,7 +15,7 @@ public record TaskResponse(
         UUID createdBy,
         String createdByName,
         LocalDate dueDate,
-        int position,
+        String rank,
         Instant createdAt,
         List<ChecklistItemResponse> checklistItems,
         int checklistTotal,
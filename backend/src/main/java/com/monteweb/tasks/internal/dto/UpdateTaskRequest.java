@@ -10,7 +10,6 @@ public record UpdateTaskRequest(
         String description,
         UUID assigneeId,
         LocalDate dueDate,
-        UUID columnId,
-        Integer position
+        UUID columnId
 ) {
 }
@@ -41,8 +41,9 @@ public class Task {
     @Column(name = "due_date")
     private LocalDate dueDate;
 
-    @Column(nullable = false)
-    private Integer position;
+    /** Fractional rank within the column, see {@code TaskRank} */
+    @Column(name = "sort_rank", nullable = false)
+    private String sortRank;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
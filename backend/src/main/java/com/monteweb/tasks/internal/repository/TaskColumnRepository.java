@@ -1,10 +1,15 @@
 package com.monteweb.tasks.internal.repository;
 
 import com.monteweb.tasks.internal.model.TaskColumn;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -13,4 +18,11 @@ public interface TaskColumnRepository extends JpaRepository<TaskColumn, UUID> {
     List<TaskColumn> findByBoardIdOrderByPosition(UUID boardId);
 
     int countByBoardId(UUID boardId);
+
+    /**
+     * Loads a column and locks it, which serialises rank changes within the column.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM TaskColumn c WHERE c.id = :id")
+    Optional<TaskColumn> findByIdForUpdate(@Param("id") UUID id);
 }
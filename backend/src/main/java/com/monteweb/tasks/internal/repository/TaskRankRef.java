@@ -0,0 +1,9 @@
+package com.monteweb.tasks.internal.repository;
+
+import java.util.UUID;
+
+/**
+ * Where a task sits on its board, for placing another task next to it.
+ */
+public record TaskRankRef(UUID id, UUID columnId, String rank) {
+}
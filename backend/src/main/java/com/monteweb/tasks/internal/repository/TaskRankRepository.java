@@ -0,0 +1,15 @@
+package com.monteweb.tasks.internal.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based rank writes that bypass the per-entity update path.
+ */
+public interface TaskRankRepository {
+
+    /**
+     * Sets {@code ranks[i]} on {@code taskIds.get(i)}, as a single JDBC batch.
+     */
+    void updateRanks(List<UUID> taskIds, String[] ranks);
+}
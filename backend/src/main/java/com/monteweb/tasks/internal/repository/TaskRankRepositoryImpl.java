@@ -0,0 +1,34 @@
+package com.monteweb.tasks.internal.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+class TaskRankRepositoryImpl implements TaskRankRepository {
+
+    private static final String UPDATE_SQL = "UPDATE tasks SET sort_rank = ? WHERE id = ?";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    TaskRankRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void updateRanks(List<UUID> taskIds, String[] ranks) {
+        if (taskIds.size() != ranks.length) {
+            throw new IllegalArgumentException("Expected one rank per task");
+        }
+        var rows = new Object[taskIds.size()][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{ranks[i], taskIds.get(i)};
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, List.of(rows), BATCH_SIZE, (ps, row) -> {
+            ps.setString(1, (String) row[0]);
+            ps.setObject(2, row[1]);
+        });
+    }
+}
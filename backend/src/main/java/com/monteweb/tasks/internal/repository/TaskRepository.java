@@ -7,15 +7,39 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRankRepository {
 
     List<Task> findByBoardId(UUID boardId);
 
-    List<Task> findByColumnIdOrderByPosition(UUID columnId);
+    @Query("""
+            SELECT new com.monteweb.tasks.internal.repository.TaskRankRef(t.id, t.columnId, t.sortRank)
+            FROM Task t WHERE t.id IN :ids
+            """)
+    List<TaskRankRef> findRanksByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT MAX(t.sortRank) FROM Task t WHERE t.columnId = :columnId")
+    Optional<String> findLastRank(@Param("columnId") UUID columnId);
+
+    @Query("""
+            SELECT MAX(t.sortRank) FROM Task t
+            WHERE t.columnId = :columnId AND t.sortRank < :rank
+            """)
+    Optional<String> findRankBefore(@Param("columnId") UUID columnId, @Param("rank") String rank);
+
+    @Query("""
+            SELECT MIN(t.sortRank) FROM Task t
+            WHERE t.columnId = :columnId AND t.sortRank > :rank
+            """)
+    Optional<String> findRankAfter(@Param("columnId") UUID columnId, @Param("rank") String rank);
+
+    @Query("SELECT t.id FROM Task t WHERE t.columnId = :columnId ORDER BY t.sortRank, t.id")
+    List<UUID> findIdsByColumnIdInRankOrder(@Param("columnId") UUID columnId);
 
     List<Task> findByAssigneeId(UUID assigneeId);
 
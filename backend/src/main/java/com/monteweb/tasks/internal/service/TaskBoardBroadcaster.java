@@ -0,0 +1,27 @@
+package com.monteweb.tasks.internal.service;
+
+import com.monteweb.tasks.internal.dto.TaskBoardDelta;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Pushes board changes to subscribers of {@code /topic/rooms/{roomId}/tasks} once the
+ * changing transaction has committed.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules", name = "tasks.enabled", havingValue = "true")
+public class TaskBoardBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public TaskBoardBroadcaster(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(TaskBoardDelta delta) {
+        messagingTemplate.convertAndSend("/topic/rooms/" + delta.roomId() + "/tasks", delta);
+    }
+}
@@ -0,0 +1,115 @@
+package com.monteweb.tasks.internal.service;
+
+/**
+ * Fractional rank keys for ordering tasks within a column, in the spirit of LexoRank.
+ * <p>
+ * A key is a base-36 fraction written without the leading {@code 0.} ({@code "i"} is
+ * 18/36), using the digits {@code 0-9a-z}. Keys never end in {@code 0}, so comparing
+ * them as strings (byte order, {@code COLLATE "C"} in the database) is the same as
+ * comparing the fractions, and there is always room for a key between two others or
+ * before the first one. Placing a task between its new neighbours therefore only
+ * writes the moved task; keys get a little longer when the same gap is split again
+ * and again, until {@link #spread} hands out short, evenly spaced keys for a column.
+ */
+public final class TaskRank {
+
+    /** Keys longer than this trigger a rebalance of their column. */
+    public static final int REBALANCE_LENGTH = 24;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private TaskRank() {
+    }
+
+    /**
+     * A key strictly between {@code before} and {@code after}; either may be {@code null}
+     * for the start or the end of the column.
+     *
+     * @throws IllegalArgumentException if a key is malformed or {@code before >= after}
+     */
+    public static String between(String before, String after) {
+        String a = before == null ? "" : validate(before);
+        String b = after == null ? null : validate(after);
+        if (b != null && a.compareTo(b) >= 0) {
+            throw new IllegalArgumentException("Rank " + before + " is not before " + after);
+        }
+
+        var key = new StringBuilder();
+        // Copy the common prefix, reading missing digits of a as 0
+        if (b != null) {
+            int n = 0;
+            while (n < b.length() && digitAt(a, n) == digit(b.charAt(n))) n++;
+            key.append(b, 0, n);
+            a = n < a.length() ? a.substring(n) : "";
+            b = b.substring(n);
+        }
+        while (true) {
+            int low = digitAt(a, 0);
+            int high = b != null ? digit(b.charAt(0)) : BASE;
+            if (high - low > 1) {
+                return key.append(DIGITS.charAt((low + high) / 2)).toString();
+            }
+            if (b != null && b.length() > 1) {
+                // b's first digit alone is above a and below b
+                return key.append(b.charAt(0)).toString();
+            }
+            // No digit fits here: keep a's digit and find a key above the rest of a
+            key.append(DIGITS.charAt(low));
+            a = a.length() > 1 ? a.substring(1) : "";
+            b = null;
+        }
+    }
+
+    /**
+     * {@code count} evenly spaced keys in ascending order, as short as the count allows
+     * while leaving room for a few dozen inserts into every gap.
+     */
+    public static String[] spread(int count) {
+        int length = 1;
+        long slots = BASE;
+        while (slots < (count + 1L) * BASE) {
+            length++;
+            slots *= BASE;
+        }
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            long value = slots * (i + 1) / (count + 1);
+            var key = new char[length];
+            for (int d = length - 1; d >= 0; d--) {
+                key[d] = DIGITS.charAt((int) (value % BASE));
+                value /= BASE;
+            }
+            int end = length;
+            while (key[end - 1] == '0') end--;
+            keys[i] = new String(key, 0, end);
+        }
+        return keys;
+    }
+
+    public static boolean needsRebalance(String key) {
+        return key.length() > REBALANCE_LENGTH;
+    }
+
+    private static String validate(String key) {
+        if (key.isEmpty() || key.charAt(key.length() - 1) == '0') {
+            throw new IllegalArgumentException("Malformed task rank: " + key);
+        }
+        for (int i = 0; i < key.length(); i++) {
+            digit(key.charAt(i));
+        }
+        return key;
+    }
+
+    private static int digitAt(String key, int index) {
+        return index < key.length() ? digit(key.charAt(index)) : 0;
+    }
+
+    private static int digit(char c) {
+        int d = DIGITS.indexOf(c);
+        if (d < 0) {
+            throw new IllegalArgumentException("Malformed task rank digit: " + c);
+        }
+        return d;
+    }
+}
@@ -0,0 +1,73 @@
+package com.monteweb.tasks.internal.service;
+
+import com.monteweb.tasks.internal.dto.TaskBoardDelta;
+import com.monteweb.tasks.internal.repository.TaskColumnRepository;
+import com.monteweb.tasks.internal.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hands out short, evenly spaced rank keys for a column once a move or insert produced a
+ * key longer than {@link TaskRank#REBALANCE_LENGTH}. Runs after the triggering
+ * transaction has committed, under the same column lock as moves, and tells open boards
+ * the new ranks.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules", name = "tasks.enabled", havingValue = "true")
+public class TaskRankRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRankRebalancer.class);
+
+    /** Published by {@link TaskService} when a column's keys have grown too long. */
+    public record Request(UUID roomId, UUID columnId) {
+    }
+
+    private final TaskColumnRepository columnRepo;
+    private final TaskRepository taskRepo;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskRankRebalancer(TaskColumnRepository columnRepo, TaskRepository taskRepo,
+                              ApplicationEventPublisher eventPublisher) {
+        this.columnRepo = columnRepo;
+        this.taskRepo = taskRepo;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onRebalanceRequested(Request request) {
+        rebalance(request.roomId(), request.columnId());
+    }
+
+    /**
+     * Rewrites the ranks of all tasks in a column, keeping their order.
+     */
+    @Transactional
+    public void rebalance(UUID roomId, UUID columnId) {
+        if (columnRepo.findByIdForUpdate(columnId).isEmpty()) {
+            return;
+        }
+        var taskIds = taskRepo.findIdsByColumnIdInRankOrder(columnId);
+        String[] ranks = TaskRank.spread(taskIds.size());
+        taskRepo.updateRanks(taskIds, ranks);
+
+        Map<UUID, String> newRanks = new LinkedHashMap<>();
+        for (int i = 0; i < ranks.length; i++) {
+            newRanks.put(taskIds.get(i), ranks[i]);
+        }
+        eventPublisher.publishEvent(TaskBoardDelta.reranked(roomId, columnId, newRanks));
+        log.info("Rebalanced ranks of {} tasks in column {}", taskIds.size(), columnId);
+    }
+}
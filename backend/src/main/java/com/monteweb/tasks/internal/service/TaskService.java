@@ -118,7 +118,7 @@ public class TaskService implements TasksModuleApi {
                             t.getCreatedBy(),
                             userNames.getOrDefault(t.getCreatedBy(), "Unbekannt"),
                             t.getDueDate(),
-                            t.getPosition(),
+                            t.getSortRank(),
                             t.getCreatedAt(),
                             itemResponses,
                             total,
@@ -137,16 +137,8 @@ public class TaskService implements TasksModuleApi {
         requireRoomMembership(userId, roomId);
         var board = getOrCreateBoard(roomId);
 
-        // Verify column belongs to this board
-        var column = columnRepo.findById(request.columnId())
-                .orElseThrow(() -> new ResourceNotFoundException("Column not found"));
-        if (!column.getBoardId().equals(board.getId())) {
-            throw new BadRequestException("Column does not belong to this board");
-        }
-
-        // Position: append to end of column
-        int maxPosition = taskRepo.findByColumnIdOrderByPosition(request.columnId())
-                .stream().mapToInt(Task::getPosition).max().orElse(-1);
+        requireBoardColumnForUpdate(request.columnId(), board.getId());
+        String rank = appendRank(request.columnId());
 
         var task = new Task();
         task.setBoardId(board.getId());
@@ -156,11 +148,12 @@ public class TaskService implements TasksModuleApi {
         task.setAssigneeId(request.assigneeId());
         task.setCreatedBy(userId);
         task.setDueDate(request.dueDate());
-        task.setPosition(maxPosition + 1);
+        task.setSortRank(rank);
         taskRepo.save(task);
 
         publishTaskSaved(task, board.getRoomId());
-        return toResponse(task);
+        requestRebalanceIfNeeded(board.getRoomId(), task);
+        return publishBoardDelta(task, board.getRoomId());
     }
 
     @Transactional
@@ -174,38 +167,41 @@ public class TaskService implements TasksModuleApi {
         if (request.description() != null) task.setDescription(request.description());
         if (request.assigneeId() != null) task.setAssigneeId(request.assigneeId());
         if (request.dueDate() != null) task.setDueDate(request.dueDate());
-        if (request.columnId() != null) {
-            var column = columnRepo.findById(request.columnId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Column not found"));
-            if (!column.getBoardId().equals(board.getId())) {
-                throw new BadRequestException("Column does not belong to this board");
-            }
+        if (request.columnId() != null && !request.columnId().equals(task.getColumnId())) {
+            // A task changing column through an edit goes to the bottom of it
+            requireBoardColumnForUpdate(request.columnId(), board.getId());
             task.setColumnId(request.columnId());
+            task.setSortRank(appendRank(request.columnId()));
         }
-        if (request.position() != null) task.setPosition(request.position());
 
         taskRepo.save(task);
         publishTaskSaved(task, board.getRoomId());
-        return toResponse(task);
+        requestRebalanceIfNeeded(board.getRoomId(), task);
+        return publishBoardDelta(task, board.getRoomId());
     }
 
+    /**
+     * Moves a task next to the given neighbours. Only the moved task is written: it gets a
+     * rank key between those of its new neighbours, and the column is rebalanced in the
+     * background once keys grow too long.
+     */
     @Transactional
-    public TaskResponse moveTask(UUID taskId, UUID userId, UUID columnId, int position) {
+    public TaskResponse moveTask(UUID taskId, UUID userId, MoveTaskRequest request) {
         var task = requireTask(taskId);
         var board = boardRepo.findById(task.getBoardId())
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found"));
         requireRoomMembership(userId, board.getRoomId());
 
-        var column = columnRepo.findById(columnId)
-                .orElseThrow(() -> new ResourceNotFoundException("Column not found"));
-        if (!column.getBoardId().equals(board.getId())) {
-            throw new BadRequestException("Column does not belong to this board");
-        }
+        UUID columnId = request.columnId();
+        requireBoardColumnForUpdate(columnId, board.getId());
+        String rank = rankBetween(taskId, columnId, request.previousTaskId(), request.nextTaskId());
 
         task.setColumnId(columnId);
-        task.setPosition(position);
+        task.setSortRank(rank);
         taskRepo.save(task);
 
+        eventPublisher.publishEvent(TaskBoardDelta.moved(board.getRoomId(), taskId, columnId, rank));
+        requestRebalanceIfNeeded(board.getRoomId(), task);
         return toResponse(task);
     }
 
@@ -218,6 +214,7 @@ public class TaskService implements TasksModuleApi {
         UUID deletedTaskId = task.getId();
         taskRepo.delete(task);
         eventPublisher.publishEvent(new TaskDeletedEvent(deletedTaskId));
+        eventPublisher.publishEvent(TaskBoardDelta.deleted(board.getRoomId(), deletedTaskId));
     }
 
     // ---- Checklist ----
@@ -238,6 +235,7 @@ public class TaskService implements TasksModuleApi {
         item.setChecked(false);
         item.setPosition(maxPosition + 1);
         checklistRepo.save(item);
+        publishBoardDelta(task, board.getRoomId());
 
         return new ChecklistItemResponse(item.getId(), item.getTitle(), item.isChecked(), item.getPosition());
     }
@@ -253,6 +251,7 @@ public class TaskService implements TasksModuleApi {
 
         item.setChecked(!item.isChecked());
         checklistRepo.save(item);
+        publishBoardDelta(task, board.getRoomId());
 
         return new ChecklistItemResponse(item.getId(), item.getTitle(), item.isChecked(), item.getPosition());
     }
@@ -267,6 +266,7 @@ public class TaskService implements TasksModuleApi {
         requireRoomMembership(userId, board.getRoomId());
 
         checklistRepo.delete(item);
+        publishBoardDelta(task, board.getRoomId());
     }
 
     // ---- Columns ----
@@ -284,6 +284,7 @@ public class TaskService implements TasksModuleApi {
         col.setName(request.name());
         col.setPosition(maxPosition + 1);
         columnRepo.save(col);
+        eventPublisher.publishEvent(TaskBoardDelta.board(roomId));
 
         return new TaskColumnResponse(col.getId(), col.getName(), col.getPosition());
     }
@@ -299,6 +300,7 @@ public class TaskService implements TasksModuleApi {
         if (request.name() != null && !request.name().isBlank()) column.setName(request.name());
         if (request.position() != null) column.setPosition(request.position());
         columnRepo.save(column);
+        eventPublisher.publishEvent(TaskBoardDelta.board(board.getRoomId()));
 
         return new TaskColumnResponse(column.getId(), column.getName(), column.getPosition());
     }
@@ -324,6 +326,7 @@ public class TaskService implements TasksModuleApi {
         }
 
         columnRepo.delete(column);
+        eventPublisher.publishEvent(TaskBoardDelta.board(board.getRoomId()));
     }
 
     // ---- Re-indexing ----
@@ -379,6 +382,62 @@ public class TaskService implements TasksModuleApi {
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found: " + taskId));
     }
 
+    private void requireBoardColumnForUpdate(UUID columnId, UUID boardId) {
+        var column = columnRepo.findByIdForUpdate(columnId)
+                .orElseThrow(() -> new ResourceNotFoundException("Column not found"));
+        if (!column.getBoardId().equals(boardId)) {
+            throw new BadRequestException("Column does not belong to this board");
+        }
+    }
+
+    private String appendRank(UUID columnId) {
+        return TaskRank.between(taskRepo.findLastRank(columnId).orElse(null), null);
+    }
+
+    /**
+     * A rank directly after {@code previousTaskId} and/or directly before
+     * {@code nextTaskId} in the column, or at its end without either.
+     */
+    private String rankBetween(UUID taskId, UUID columnId, UUID previousTaskId, UUID nextTaskId) {
+        if (taskId.equals(previousTaskId) || taskId.equals(nextTaskId)) {
+            throw new BadRequestException("A task cannot be its own neighbour");
+        }
+        if (previousTaskId == null && nextTaskId == null) {
+            return appendRank(columnId);
+        }
+
+        var neighbourIds = new ArrayList<UUID>(2);
+        if (previousTaskId != null) neighbourIds.add(previousTaskId);
+        if (nextTaskId != null) neighbourIds.add(nextTaskId);
+        Map<UUID, String> ranks = new HashMap<>();
+        for (var ref : taskRepo.findRanksByIdIn(neighbourIds)) {
+            if (!ref.columnId().equals(columnId)) {
+                throw new BadRequestException("Neighbour task is not in the target column");
+            }
+            ranks.put(ref.id(), ref.rank());
+        }
+        if (ranks.size() != neighbourIds.size()) {
+            throw new ResourceNotFoundException("Neighbour task not found");
+        }
+
+        String before = previousTaskId != null ? ranks.get(previousTaskId) : null;
+        String after = nextTaskId != null ? ranks.get(nextTaskId) : null;
+        if (after == null) {
+            after = taskRepo.findRankAfter(columnId, before).orElse(null);
+        } else if (before == null) {
+            before = taskRepo.findRankBefore(columnId, after).orElse(null);
+        } else if (before.compareTo(after) >= 0) {
+            throw new BadRequestException("Previous task must come before the next task");
+        }
+        return TaskRank.between(before, after);
+    }
+
+    private void requestRebalanceIfNeeded(UUID roomId, Task task) {
+        if (TaskRank.needsRebalance(task.getSortRank())) {
+            eventPublisher.publishEvent(new TaskRankRebalancer.Request(roomId, task.getColumnId()));
+        }
+    }
+
     private boolean isSuperAdmin(UUID userId) {
         return userModule.findById(userId)
                 .map(u -> u.role() == UserRole.SUPERADMIN || u.role() == UserRole.SECTION_ADMIN)
@@ -415,7 +474,7 @@ public class TaskService implements TasksModuleApi {
                 task.getCreatedBy(),
                 createdByName,
                 task.getDueDate(),
-                task.getPosition(),
+                task.getSortRank(),
                 task.getCreatedAt(),
                 itemResponses,
                 total,
@@ -423,6 +482,12 @@ public class TaskService implements TasksModuleApi {
         );
     }
 
+    private TaskResponse publishBoardDelta(Task task, UUID roomId) {
+        var response = toResponse(task);
+        eventPublisher.publishEvent(TaskBoardDelta.saved(roomId, response));
+        return response;
+    }
+
     private void publishTaskSaved(Task task, UUID roomId) {
         String assigneeName = task.getAssigneeId() != null
                 ? userModule.findById(task.getAssigneeId()).map(UserInfo::displayName).orElse(null)
@@ -1,34 +1,39 @@
 package com.monteweb.tasks.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Anonymizes task data when a user account is deleted.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.tasks", name = "enabled", havingValue = "true")
-public class TasksDeletionListener {
+public class TasksUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(TasksDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(TasksUserDataCleanup.class);
 
     private final TaskService taskService;
 
-    public TasksDeletionListener(TaskService taskService) {
+    public TasksUserDataCleanup(TaskService taskService) {
         this.taskService = taskService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "tasks";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Anonymizing tasks for deleted user {}", event.userId());
-        taskService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Anonymizing tasks for {} deleted users", userIds.size());
+        userIds.forEach(taskService::cleanupUserData);
     }
 }
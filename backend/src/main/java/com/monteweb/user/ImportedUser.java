@@ -0,0 +1,17 @@
+package com.monteweb.user;
+
+import java.util.UUID;
+
+/**
+ * Public API: A user to be created by a bulk import. The ID is assigned by the caller
+ * so family memberships can be written in the same run.
+ */
+public record ImportedUser(
+        UUID id,
+        String email,
+        String passwordHash,
+        String firstName,
+        String lastName,
+        UserRole role
+) {
+}
@@ -0,0 +1,21 @@
+package com.monteweb.user;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Public API: Implemented by each module that holds personal data, so the user deletion
+ * pipeline can remove it once an account has been anonymized.
+ * <p>
+ * The pipeline calls {@link #cleanupUsers} with batches of users and records per module
+ * which users are done. A batch interrupted by a crash or failure is repeated, so
+ * implementations must be idempotent.
+ */
+public interface UserDataCleanup {
+
+    /** Stable name of the module, recorded in the deletion progress table. */
+    String module();
+
+    /** Removes or anonymizes the module's data of the given deleted users in one transaction. */
+    void cleanupUsers(Collection<UUID> userIds);
+}
@@ -1,11 +1,14 @@
 package com.monteweb.user;
 
+import com.monteweb.shared.RequestMemoized;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -14,12 +17,20 @@ import java.util.UUID;
  */
 public interface UserModuleApi {
 
+    @RequestMemoized
     Optional<UserInfo> findById(UUID id);
 
+    @RequestMemoized
     Optional<UserInfo> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
+    /**
+     * Returns those of the given lower-case emails that already belong to a user, in one
+     * query. Used by CSV import to validate a whole file at once.
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
     /**
      * Search users by display name or email. Used by the messaging module for user picker.
      */
@@ -32,6 +43,14 @@ public interface UserModuleApi {
      */
     UserInfo createUser(String email, String passwordHash, String firstName, String lastName, String phone, UserRole role);
 
+    /**
+     * Creates active users that must change their password on first login, as one JDBC
+     * batch. Users whose email already exists are skipped. Used by CSV import.
+     *
+     * @return IDs of the users actually created
+     */
+    Set<UUID> createImportedUsers(List<ImportedUser> users);
+
     /**
      * Returns the hashed password for authentication purposes.
      * Only intended for use by the auth module.
@@ -73,6 +92,7 @@ public interface UserModuleApi {
     /**
      * Finds multiple users by their IDs. Returns only the ones that exist.
      */
+    @RequestMemoized
     List<UserInfo> findByIds(List<UUID> ids);
 
     /**
@@ -6,22 +6,30 @@ import com.monteweb.auth.TokenResponse;
 import com.monteweb.shared.dto.ApiResponse;
 import com.monteweb.shared.dto.PageResponse;
 import com.monteweb.shared.util.AvatarUtils;
+import com.monteweb.shared.util.FileDownloadUtils;
 import com.monteweb.shared.util.SecurityUtils;
 import com.monteweb.user.UserInfo;
 import com.monteweb.user.UserRole;
+import com.monteweb.user.internal.dto.DataExportJobInfo;
 import com.monteweb.user.internal.dto.SwitchRoleRequest;
 import com.monteweb.user.internal.dto.UpdateDigestRequest;
 import com.monteweb.user.internal.dto.UpdateProfileRequest;
+import com.monteweb.user.internal.service.DataExportService;
 import com.monteweb.user.internal.service.UserService;
 import com.monteweb.shared.exception.ResourceNotFoundException;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -34,11 +42,14 @@ public class UserController {
     private final UserService userService;
     private final AuthModuleApi authModuleApi;
     private final AdminModuleApi adminModuleApi;
+    private final DataExportService dataExportService;
 
-    public UserController(UserService userService, AuthModuleApi authModuleApi, AdminModuleApi adminModuleApi) {
+    public UserController(UserService userService, AuthModuleApi authModuleApi, AdminModuleApi adminModuleApi,
+                          DataExportService dataExportService) {
         this.userService = userService;
         this.authModuleApi = authModuleApi;
         this.adminModuleApi = adminModuleApi;
+        this.dataExportService = dataExportService;
     }
 
     @GetMapping("/me")
@@ -166,6 +177,34 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.ok(data));
     }
 
+    /**
+     * DSGVO: Start a ZIP export of all personal data, including uploaded files.
+     * Returns the running export if one is already in progress.
+     */
+    @PostMapping("/me/data-export/jobs")
+    public ResponseEntity<ApiResponse<DataExportJobInfo>> startDataExport() {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        var job = dataExportService.start(userId, userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.ok(job));
+    }
+
+    @GetMapping("/me/data-export/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<DataExportJobInfo>> getDataExport(@PathVariable UUID jobId) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.ok(dataExportService.getJob(jobId, userId)));
+    }
+
+    @GetMapping("/me/data-export/jobs/{jobId}/download")
+    public ResponseEntity<InputStreamResource> downloadDataExport(@PathVariable UUID jobId) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        var stream = dataExportService.openDownload(jobId, userId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, FileDownloadUtils.buildContentDisposition(
+                        "attachment", "monteweb-datenexport-" + LocalDate.now() + ".zip"))
+                .body(new InputStreamResource(stream));
+    }
+
     /**
      * DSGVO: Request account deletion with 14-day grace period.
      */
@@ -0,0 +1,21 @@
+package com.monteweb.user.internal.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * State of a background DSGVO export. The archive can be downloaded once the status is
+ * COMPLETED, until {@code expiresAt}.
+ */
+public record DataExportJobInfo(
+        UUID id,
+        String status,
+        int totalSteps,
+        int completedSteps,
+        Long archiveSize,
+        String errorMessage,
+        Instant createdAt,
+        Instant finishedAt,
+        Instant expiresAt
+) {
+}
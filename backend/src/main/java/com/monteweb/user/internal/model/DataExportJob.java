@@ -0,0 +1,61 @@
+package com.monteweb.user.internal.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "data_export_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class DataExportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "requested_by")
+    private UUID requestedBy;
+
+    /** QUEUED, RUNNING, COMPLETED, FAILED or EXPIRED */
+    @Column(nullable = false, length = 20)
+    private String status = "QUEUED";
+
+    /** Module exports plus uploaded files; grows once the files are known */
+    @Column(name = "total_steps", nullable = false)
+    private int totalSteps;
+
+    @Column(name = "completed_steps", nullable = false)
+    private int completedSteps;
+
+    @Column(name = "archive_key", length = 500)
+    private String archiveKey;
+
+    @Column(name = "archive_size")
+    private Long archiveSize;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+}
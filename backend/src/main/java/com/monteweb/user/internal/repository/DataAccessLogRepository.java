@@ -5,7 +5,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.time.Instant;
 import java.util.UUID;
 
 public interface DataAccessLogRepository extends JpaRepository<DataAccessLog, UUID> {
@@ -13,6 +12,4 @@ public interface DataAccessLogRepository extends JpaRepository<DataAccessLog, UU
     Page<DataAccessLog> findByTargetUserIdOrderByCreatedAtDesc(UUID targetUserId, Pageable pageable);
 
     Page<DataAccessLog> findAllByOrderByCreatedAtDesc(Pageable pageable);
-
-    void deleteByCreatedAtBefore(Instant cutoff);
 }
@@ -0,0 +1,38 @@
+package com.monteweb.user.internal.repository;
+
+import com.monteweb.user.internal.model.DataExportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface DataExportJobRepository extends JpaRepository<DataExportJob, UUID> {
+
+    Optional<DataExportJob> findFirstByUserIdAndStatusInOrderByCreatedAtDesc(UUID userId, Collection<String> statuses);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE DataExportJob j SET j.totalSteps = :totalSteps, j.completedSteps = :completedSteps WHERE j.id = :id")
+    void updateProgress(@Param("id") UUID id, @Param("totalSteps") int totalSteps,
+                        @Param("completedSteps") int completedSteps);
+
+    @Query("SELECT j FROM DataExportJob j WHERE j.archiveKey IS NOT NULL AND j.expiresAt < :now")
+    List<DataExportJob> findExpiredArchives(@Param("now") Instant now);
+
+    @Query("SELECT j.archiveKey FROM DataExportJob j WHERE j.archiveKey IN :keys")
+    List<String> findReferencedKeys(@Param("keys") Collection<String> keys);
+
+    List<DataExportJob> findByStatusInAndCreatedAtBefore(Collection<String> statuses, Instant cutoff);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DataExportJob j WHERE j.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") Instant cutoff);
+}
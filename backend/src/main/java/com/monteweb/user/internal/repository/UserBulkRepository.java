@@ -0,0 +1,21 @@
+package com.monteweb.user.internal.repository;
+
+import com.monteweb.user.ImportedUser;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based user writes that bypass the per-entity persist path.
+ */
+public interface UserBulkRepository {
+
+    /**
+     * Inserts active users that must change their password on first login, as a single
+     * JDBC batch. Rows whose email already exists are skipped.
+     *
+     * @return IDs of the users actually inserted
+     */
+    Set<UUID> insertImportedUsers(List<ImportedUser> users);
+}
@@ -0,0 +1,57 @@
+package com.monteweb.user.internal.repository;
+
+import com.monteweb.user.ImportedUser;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+class UserBulkRepositoryImpl implements UserBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (id, email, password_hash, first_name, last_name, display_name, role,
+                               is_active, email_verified, force_password_change, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, true, false, true, ?, ?)
+            ON CONFLICT (email) DO NOTHING
+            """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    UserBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Set<UUID> insertImportedUsers(List<ImportedUser> users) {
+        if (users.isEmpty()) return Set.of();
+
+        Timestamp now = Timestamp.from(Instant.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, users, BATCH_SIZE, (ps, user) -> {
+            ps.setObject(1, user.id());
+            ps.setString(2, user.email().toLowerCase().trim());
+            ps.setString(3, user.passwordHash());
+            ps.setString(4, user.firstName());
+            ps.setString(5, user.lastName());
+            ps.setString(6, user.firstName() + " " + user.lastName());
+            ps.setString(7, user.role().name());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+
+        var inserted = new HashSet<UUID>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0) inserted.add(users.get(index).id());
+                index++;
+            }
+        }
+        return inserted;
+    }
+}
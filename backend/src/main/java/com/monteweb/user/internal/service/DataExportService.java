@@ -0,0 +1,422 @@
+package com.monteweb.user.internal.service;
+
+import com.monteweb.notification.NotificationModuleApi;
+import com.monteweb.notification.NotificationType;
+import com.monteweb.shared.config.TaskExecutorConfig;
+import com.monteweb.shared.exception.BusinessException;
+import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
+import com.monteweb.shared.storage.StorageReferenceProvider;
+import com.monteweb.shared.storage.StoredObject;
+import com.monteweb.user.internal.dto.DataExportJobInfo;
+import com.monteweb.user.internal.model.DataExportJob;
+import com.monteweb.user.internal.repository.DataExportJobRepository;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * DSGVO export as a background job: the profile, every module's data and the user's
+ * uploaded files are written into one ZIP archive, which the user downloads once it is
+ * ready.
+ * <p>
+ * Module exports run in parallel and are streamed into the archive as they complete;
+ * uploaded files are copied from object storage entry by entry, so neither the module
+ * data nor the files are held in memory as a whole. The archive is staged in a temporary
+ * file and then uploaded to object storage, where it is kept for {@link #ARCHIVE_LIFETIME}.
+ */
+@Service
+public class DataExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(DataExportService.class);
+    private static final List<String> ACTIVE_STATUSES = List.of("QUEUED", "RUNNING");
+    private static final Duration ARCHIVE_LIFETIME = Duration.ofDays(7);
+    /** A job still queued or running after this long was lost to a restart. */
+    private static final Duration STALE_AFTER = Duration.ofHours(6);
+    private static final Duration JOB_RETENTION = Duration.ofDays(30);
+
+    private final DataExportJobRepository jobRepository;
+    private final UserService userService;
+    private final List<StorageReferenceProvider> storageProviders;
+    private final MinioClient minioClient;
+    private final String bucket;
+    private final ObjectMapper objectMapper;
+    private final NotificationModuleApi notificationModuleApi;
+    private final ObjectDeletionQueue deletionQueue;
+
+    private final AsyncTaskExecutor jobRunner;
+    /** Module exports are mostly database round trips, so several run side by side. */
+    private final AsyncTaskExecutor modulePool;
+
+    public DataExportService(DataExportJobRepository jobRepository,
+                             UserService userService,
+                             List<StorageReferenceProvider> storageProviders,
+                             MinioClient minioClient,
+                             @Value("${monteweb.storage.bucket}") String bucket,
+                             ObjectMapper objectMapper,
+                             @Lazy NotificationModuleApi notificationModuleApi,
+                             ObjectDeletionQueue deletionQueue,
+                             @Qualifier(TaskExecutorConfig.BACKGROUND_JOBS) AsyncTaskExecutor jobRunner,
+                             @Qualifier(TaskExecutorConfig.PARALLEL_TASKS) AsyncTaskExecutor modulePool) {
+        this.jobRepository = jobRepository;
+        this.userService = userService;
+        this.storageProviders = storageProviders;
+        this.minioClient = minioClient;
+        this.bucket = bucket;
+        this.objectMapper = objectMapper;
+        this.notificationModuleApi = notificationModuleApi;
+        this.deletionQueue = deletionQueue;
+        this.jobRunner = jobRunner;
+        this.modulePool = modulePool;
+    }
+
+    /**
+     * Starts an export of the user's data in the background. While an export of the user
+     * is still queued or running, that job is returned instead of starting another one.
+     */
+    public DataExportJobInfo start(UUID userId, UUID requestedBy) {
+        var active = jobRepository.findFirstByUserIdAndStatusInOrderByCreatedAtDesc(userId, ACTIVE_STATUSES)
+                .filter(job -> job.getCreatedAt().isAfter(Instant.now().minus(STALE_AFTER)));
+        if (active.isPresent()) {
+            return toJobInfo(active.get());
+        }
+
+        var job = new DataExportJob();
+        job.setUserId(userId);
+        job.setRequestedBy(requestedBy);
+        // Profile and modules; uploaded files are added once they are known
+        job.setTotalSteps(1 + userService.moduleExports(userId).size());
+        job = jobRepository.save(job);
+
+        // Taken before the job starts, so the caller always sees it as queued
+        var info = toJobInfo(job);
+        UUID jobId = job.getId();
+        try {
+            jobRunner.execute(() -> runJob(jobId));
+        } catch (TaskRejectedException e) {
+            log.warn("Data export {} rejected: background job queue is full", jobId);
+            job.setStatus("FAILED");
+            job.setErrorMessage("Rejected");
+            job.setFinishedAt(Instant.now());
+            jobRepository.save(job);
+            throw new BusinessException("Zu viele laufende Hintergrundaufgaben, bitte später erneut versuchen");
+        }
+        return info;
+    }
+
+    public DataExportJobInfo getJob(UUID jobId, UUID userId) {
+        return toJobInfo(findOwnJob(jobId, userId));
+    }
+
+    /**
+     * Opens the finished archive for download. The caller closes the stream.
+     */
+    public InputStream openDownload(UUID jobId, UUID userId) {
+        var job = findOwnJob(jobId, userId);
+        if (!"COMPLETED".equals(job.getStatus()) || job.getArchiveKey() == null) {
+            throw new BusinessException("Der Datenexport ist noch nicht fertig");
+        }
+        if (job.getExpiresAt() != null && job.getExpiresAt().isBefore(Instant.now())) {
+            throw new BusinessException("Der Datenexport ist abgelaufen");
+        }
+        try {
+            return minioClient.getObject(GetObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(job.getArchiveKey())
+                    .build());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to open data export archive", e);
+        }
+    }
+
+    /**
+     * Removes expired archives, fails jobs lost to a restart and forgets old jobs.
+     */
+    @Scheduled(cron = "0 50 3 * * *")
+    public void cleanup() {
+        Instant now = Instant.now();
+        var expired = jobRepository.findExpiredArchives(now);
+        if (!expired.isEmpty()) {
+            deletionQueue.enqueue(expired.stream().map(DataExportJob::getArchiveKey).toList());
+            expired.forEach(job -> {
+                job.setStatus("EXPIRED");
+                job.setArchiveKey(null);
+            });
+            jobRepository.saveAll(expired);
+            log.info("Expired {} data export archives", expired.size());
+        }
+
+        for (var job : jobRepository.findByStatusInAndCreatedAtBefore(ACTIVE_STATUSES, now.minus(STALE_AFTER))) {
+            job.setStatus("FAILED");
+            job.setErrorMessage("Interrupted");
+            job.setFinishedAt(now);
+            jobRepository.save(job);
+        }
+
+        int deleted = jobRepository.deleteByCreatedAtBefore(now.minus(JOB_RETENTION));
+        if (deleted > 0) {
+            log.info("Deleted {} data export jobs older than {} days", deleted, JOB_RETENTION.toDays());
+        }
+    }
+
+    private void runJob(UUID jobId) {
+        var job = jobRepository.findById(jobId).orElseThrow();
+        job.setStatus("RUNNING");
+        jobRepository.save(job);
+
+        UUID userId = job.getUserId();
+        Path archive = null;
+        String archiveKey = null;
+        long archiveSize = 0;
+        int totalSteps = job.getTotalSteps();
+        String errorMessage = null;
+        try {
+            archive = Files.createTempFile("data-export-", ".zip");
+            totalSteps = writeArchive(jobId, userId, totalSteps, archive);
+            archiveSize = Files.size(archive);
+            archiveKey = "exports/" + userId + "/" + jobId + ".zip";
+            try (InputStream in = Files.newInputStream(archive)) {
+                minioClient.putObject(PutObjectArgs.builder()
+                        .bucket(bucket)
+                        .object(archiveKey)
+                        .stream(in, archiveSize, -1)
+                        .contentType("application/zip")
+                        .build());
+            }
+            log.info("Data export {} for user {} finished: {} bytes", jobId, userId, archiveSize);
+        } catch (Exception e) {
+            log.error("Data export {} failed", jobId, e);
+            archiveKey = null;
+            errorMessage = e.getMessage() != null && e.getMessage().length() > 1000
+                    ? e.getMessage().substring(0, 1000) : e.getMessage();
+        } finally {
+            if (archive != null) {
+                try {
+                    Files.deleteIfExists(archive);
+                } catch (IOException e) {
+                    log.warn("Could not delete temporary export archive {}", archive);
+                }
+            }
+        }
+
+        job = jobRepository.findById(jobId).orElseThrow();
+        job.setStatus(archiveKey != null ? "COMPLETED" : "FAILED");
+        job.setArchiveKey(archiveKey);
+        job.setErrorMessage(errorMessage);
+        job.setFinishedAt(Instant.now());
+        if (archiveKey != null) {
+            job.setArchiveSize(archiveSize);
+            job.setTotalSteps(totalSteps);
+            job.setCompletedSteps(totalSteps);
+            job.setExpiresAt(job.getFinishedAt().plus(ARCHIVE_LIFETIME));
+        }
+        jobRepository.save(job);
+
+        if (archiveKey != null) {
+            userService.logDataAccess(job.getRequestedBy() != null ? job.getRequestedBy() : userId, userId,
+                    "DATA_EXPORT", "Data export archive created");
+            notifyReady(userId, jobId);
+        }
+    }
+
+    /**
+     * @return the number of steps, including the uploaded files
+     */
+    private int writeArchive(UUID jobId, UUID userId, int totalSteps, Path archive) throws Exception {
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        List<String> skippedModules = new ArrayList<>();
+        List<String> missingFiles = new ArrayList<>();
+        int completed = 0;
+
+        try (var zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            writeJson(zip, "profile.json", userService.exportProfile(userId));
+            jobRepository.updateProgress(jobId, totalSteps, ++completed);
+
+            // Modules: run in parallel, written in the order they complete
+            var modules = userService.moduleExports(userId);
+            var completion = new ExecutorCompletionService<ModuleResult>(modulePool);
+            for (var module : modules) {
+                completion.submit(() -> exportModule(module));
+            }
+            for (int i = 0; i < modules.size(); i++) {
+                ModuleResult result;
+                try {
+                    result = completion.take().get();
+                } catch (ExecutionException e) {
+                    // A required module failed, so the export would be incomplete
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+                if (result.data() != null) {
+                    writeJson(zip, "modules/" + result.name() + ".json", result.data());
+                } else {
+                    skippedModules.add(result.name());
+                }
+                jobRepository.updateProgress(jobId, totalSteps, ++completed);
+            }
+
+            // Uploaded files, streamed from object storage one at a time
+            var files = uploadedFiles(userId);
+            totalSteps += files.size();
+            jobRepository.updateProgress(jobId, totalSteps, completed);
+            Set<String> entryNames = new HashSet<>();
+            for (var file : files) {
+                String entryName = uniqueEntryName(entryNames, file);
+                try (GetObjectResponse in = minioClient.getObject(GetObjectArgs.builder()
+                        .bucket(bucket)
+                        .object(file.objectKey())
+                        .build())) {
+                    zip.putNextEntry(new ZipEntry(entryName));
+                    in.transferTo(zip);
+                    zip.closeEntry();
+                } catch (Exception e) {
+                    log.warn("Data export {}: could not copy {}: {}", jobId, file.objectKey(), e.getMessage());
+                    missingFiles.add(file.objectKey());
+                }
+                jobRepository.updateProgress(jobId, totalSteps, ++completed);
+            }
+
+            manifest.put("userId", userId);
+            manifest.put("exportedAt", Instant.now());
+            manifest.put("files", files.size() - missingFiles.size());
+            manifest.put("skippedModules", skippedModules);
+            manifest.put("missingFiles", missingFiles);
+            writeJson(zip, "manifest.json", manifest);
+        }
+        return totalSteps;
+    }
+
+    private ModuleResult exportModule(ModuleExport module) {
+        try {
+            return new ModuleResult(module.name(), module.exporter().get());
+        } catch (NoSuchBeanDefinitionException e) {
+            // Module is disabled
+            return new ModuleResult(module.name(), null);
+        } catch (RuntimeException e) {
+            if (!module.optional()) throw e;
+            log.warn("Failed to export module '{}': {}", module.name(), e.getMessage());
+            return new ModuleResult(module.name(), null);
+        }
+    }
+
+    private List<StoredObject> uploadedFiles(UUID userId) {
+        List<StoredObject> files = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (var provider : storageProviders) {
+            for (var file : provider.findUploadedBy(userId)) {
+                if (file.objectKey() != null && seen.add(file.objectKey())) {
+                    files.add(file);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Places each file under the folder of its storage key, keeping the original name
+     * where possible and numbering duplicates.
+     */
+    static String uniqueEntryName(Set<String> taken, StoredObject file) {
+        String key = file.objectKey();
+        int slash = key.lastIndexOf('/');
+        String folder = slash > 0 ? key.substring(0, slash) : "";
+        String name = sanitize(file.fileName() != null ? file.fileName() : key.substring(slash + 1));
+        String base = "files/" + (folder.isEmpty() ? "" : folder + "/");
+
+        String candidate = base + name;
+        int dot = name.lastIndexOf('.');
+        String stem = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        for (int n = 2; !taken.add(candidate); n++) {
+            candidate = base + stem + " (" + n + ")" + extension;
+        }
+        return candidate;
+    }
+
+    private static String sanitize(String fileName) {
+        String name = fileName.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").strip();
+        if (name.isEmpty() || name.equals(".") || name.equals("..")) return "datei";
+        return name.length() > 200 ? name.substring(0, 200) : name;
+    }
+
+    private void writeJson(ZipOutputStream zip, String entryName, Object value) throws IOException {
+        zip.putNextEntry(new ZipEntry(entryName));
+        // Jackson closes the target after writing; the ZIP stream has to stay open
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(new NonClosingOutputStream(zip), value);
+        zip.closeEntry();
+    }
+
+    private void notifyReady(UUID userId, UUID jobId) {
+        try {
+            notificationModuleApi.sendNotification(userId, NotificationType.SYSTEM,
+                    "Datenexport bereit",
+                    "Ihr Datenexport steht im Profil " + ARCHIVE_LIFETIME.toDays() + " Tage lang zum Download bereit.",
+                    "/profile", "DATA_EXPORT", jobId);
+        } catch (Exception e) {
+            log.warn("Could not notify user {} about data export {}: {}", userId, jobId, e.getMessage());
+        }
+    }
+
+    private DataExportJob findOwnJob(UUID jobId, UUID userId) {
+        return jobRepository.findById(jobId)
+                .filter(job -> job.getUserId().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("DataExportJob", jobId));
+    }
+
+    private DataExportJobInfo toJobInfo(DataExportJob job) {
+        return new DataExportJobInfo(job.getId(), job.getStatus(), job.getTotalSteps(), job.getCompletedSteps(),
+                job.getArchiveSize(), job.getErrorMessage(), job.getCreatedAt(), job.getFinishedAt(),
+                job.getExpiresAt());
+    }
+
+    private record ModuleResult(String name, Map<String, Object> data) {
+    }
+
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.monteweb.user.internal.service;
+
+import com.monteweb.shared.storage.StorageReferenceProvider;
+import com.monteweb.user.internal.repository.DataExportJobRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * DSGVO export archives, stored under {@code exports/{userId}/}. Archives of deleted
+ * users lose their job row and are collected as orphans.
+ */
+@Component
+public class DataExportStorageReferences implements StorageReferenceProvider {
+
+    private final DataExportJobRepository jobRepository;
+
+    public DataExportStorageReferences(DataExportJobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    @Override
+    public String listingPrefix() {
+        return "exports/";
+    }
+
+    @Override
+    public Set<String> findReferenced(Collection<String> objectKeys) {
+        return new HashSet<>(jobRepository.findReferencedKeys(objectKeys));
+    }
+}
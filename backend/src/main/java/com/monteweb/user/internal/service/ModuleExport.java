@@ -0,0 +1,15 @@
+package com.monteweb.user.internal.service;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * One module's part of a DSGVO export. Optional modules may be disabled, in which case
+ * their exporter throws and the module is left out.
+ */
+public record ModuleExport(
+        String name,
+        boolean optional,
+        Supplier<Map<String, Object>> exporter
+) {
+}
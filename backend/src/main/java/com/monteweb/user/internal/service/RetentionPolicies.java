@@ -0,0 +1,42 @@
+package com.monteweb.user.internal.service;
+
+import com.monteweb.admin.AdminModuleApi;
+import com.monteweb.notification.NotificationModuleApi;
+import com.monteweb.shared.retention.RetentionPolicy;
+import com.monteweb.shared.retention.RetentionPolicyProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * DSGVO: Retention policies that follow the tenant's retention settings, for data
+ * access logs (default 1095 days) and notifications (default 90 days).
+ */
+@Component
+public class RetentionPolicies implements RetentionPolicyProvider {
+
+    private final AdminModuleApi adminModuleApi;
+    private final NotificationModuleApi notificationModuleApi;
+
+    public RetentionPolicies(AdminModuleApi adminModuleApi, NotificationModuleApi notificationModuleApi) {
+        this.adminModuleApi = adminModuleApi;
+        this.notificationModuleApi = notificationModuleApi;
+    }
+
+    @Override
+    public List<RetentionPolicy> retentionPolicies() {
+        var config = adminModuleApi.getTenantConfig();
+        int notificationDays = config.dataRetentionDaysNotifications() != null
+                ? config.dataRetentionDaysNotifications() : 90;
+        int auditDays = config.dataRetentionDaysAudit() != null
+                ? config.dataRetentionDaysAudit() : 1095;
+
+        Instant now = Instant.now();
+        return List.of(
+                RetentionPolicy.olderThan("data-access-log", "data_access_log", "created_at",
+                        now.minus(auditDays, ChronoUnit.DAYS)),
+                notificationModuleApi.retentionPolicy(now.minus(notificationDays, ChronoUnit.DAYS)));
+    }
+}
@@ -0,0 +1,224 @@
+package com.monteweb.user.internal.service;
+
+import com.monteweb.shared.config.TaskExecutorConfig;
+import com.monteweb.user.UserDataCleanup;
+import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.internal.model.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DSGVO: Deletes accounts in batches and tracks every module's cleanup per user in
+ * {@link UserDeletionProgress}, so a crash or a failing module loses no work.
+ * <p>
+ * Due users are anonymized a batch at a time, in the transaction that records their
+ * pending steps. Batches of enrolled users are then processed in parallel, one per pool
+ * thread at a time: each {@link UserDataCleanup} runs once per batch, in a transaction
+ * that also marks its steps done. When a batch fails in a module, its users are retried one by one so a
+ * single broken account does not hold back the others.
+ */
+@Component
+public class UserDeletionPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(UserDeletionPipeline.class);
+    static final int BATCH_SIZE = 50;
+    static final int MAX_ATTEMPTS = 5;
+    /** Bounds a single run; the rest waits for the next run. */
+    private static final int MAX_USERS_PER_RUN = 5_000;
+    private static final String REASON = "Scheduled deletion after grace period";
+
+    private final UserService userService;
+    private final UserDeletionProgress progress;
+    private final List<UserDataCleanup> cleanups;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final AsyncTaskExecutor batchPool;
+    /** One batch per pool thread; the rest are submitted as those finish. */
+    private final int maxInFlight;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong failedSteps = new AtomicLong();
+    private final Counter completedUsers;
+
+    public UserDeletionPipeline(UserService userService,
+                                UserDeletionProgress progress,
+                                List<UserDataCleanup> cleanups,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry,
+                                @Qualifier(TaskExecutorConfig.PARALLEL_TASKS) AsyncTaskExecutor batchPool) {
+        this.userService = userService;
+        this.progress = progress;
+        this.cleanups = cleanups;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.batchPool = batchPool;
+        this.maxInFlight = batchPool instanceof ThreadPoolTaskExecutor pool
+                ? pool.getMaxPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+        meterRegistry.gauge("monteweb.user.deletion.backlog", backlog);
+        meterRegistry.gauge("monteweb.user.deletion.steps.failed", failedSteps);
+        this.completedUsers = meterRegistry.counter("monteweb.user.deletion.completed");
+    }
+
+    /**
+     * Anonymizes users whose grace period has passed and processes every enrolled user.
+     */
+    public void run() {
+        runExclusively(true);
+    }
+
+    /**
+     * Processes users enrolled by an earlier, interrupted or partly failed run.
+     */
+    public void resume() {
+        runExclusively(false);
+    }
+
+    private void runExclusively(boolean enrollDueUsers) {
+        if (!runLock.tryLock()) {
+            log.debug("User deletion pipeline is already running");
+            return;
+        }
+        try {
+            if (enrollDueUsers) {
+                enrollDueUsers();
+            }
+            processPending();
+        } finally {
+            backlog.set(progress.countPendingUsers());
+            failedSteps.set(progress.countFailedSteps());
+            runLock.unlock();
+        }
+    }
+
+    void enrollDueUsers() {
+        var userIds = userService.findUsersScheduledForDeletion().stream().map(User::getId).toList();
+        if (userIds.isEmpty()) return;
+        log.info("Anonymizing {} users scheduled for deletion", userIds.size());
+        var modules = cleanups.stream().map(UserDataCleanup::module).toList();
+        for (var batch : partition(userIds, BATCH_SIZE)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    batch.forEach(userId -> userService.anonymizeAccount(userId, REASON));
+                    progress.enroll(batch, modules);
+                });
+            } catch (RuntimeException e) {
+                log.error("Failed to anonymize {} users scheduled for deletion: {}", batch.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    void processPending() {
+        int skipped = progress.skipModulesOtherThan(cleanups.stream().map(UserDataCleanup::module).toList());
+        if (skipped > 0) {
+            log.info("Skipped {} deletion steps of modules that are no longer enabled", skipped);
+        }
+        var userIds = progress.findUsersWithPendingSteps(MAX_USERS_PER_RUN);
+        if (userIds.isEmpty()) return;
+
+        var batches = partition(userIds, BATCH_SIZE);
+        var pending = new ArrayDeque<Future<Integer>>();
+        int next = 0;
+        int completed = 0;
+        try {
+            while (next < batches.size() || !pending.isEmpty()) {
+                while (next < batches.size() && pending.size() < maxInFlight) {
+                    var batch = batches.get(next++);
+                    pending.add(batchPool.submit(() -> processBatch(batch)));
+                }
+                try {
+                    completed += pending.poll().get();
+                } catch (ExecutionException e) {
+                    log.error("User deletion batch failed", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.forEach(result -> result.cancel(true));
+        }
+        log.info("User deletion pipeline: {} of {} users completed", completed, userIds.size());
+    }
+
+    /**
+     * Runs every module's cleanup for one batch of users.
+     *
+     * @return the number of users whose deletion completed
+     */
+    int processBatch(List<UUID> userIds) {
+        for (var cleanup : cleanups) {
+            runStep(cleanup, userIds);
+        }
+        var completed = transactionTemplate.execute(status -> progress.removeCompleted(userIds));
+        if (completed == null) return 0;
+        for (UUID userId : completed) {
+            eventPublisher.publishEvent(new UserDeletionExecutedEvent(userId));
+        }
+        completedUsers.increment(completed.size());
+        return completed.size();
+    }
+
+    private void runStep(UserDataCleanup cleanup, List<UUID> userIds) {
+        long start = System.nanoTime();
+        RuntimeException failure = null;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                var claimed = progress.claimPending(cleanup.module(), userIds);
+                if (claimed.isEmpty()) return;
+                cleanup.cleanupUsers(claimed);
+                progress.markDone(cleanup.module(), claimed);
+            });
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        Timer.builder("monteweb.user.deletion.step")
+                .tag("module", cleanup.module())
+                .tag("outcome", failure == null ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (failure == null) return;
+
+        if (userIds.size() > 1) {
+            log.warn("Deletion step '{}' failed for a batch of {} users, retrying one by one: {}",
+                    cleanup.module(), userIds.size(), failure.getMessage());
+            userIds.forEach(userId -> runStep(cleanup, List.of(userId)));
+        } else {
+            log.error("Deletion step '{}' failed for user {}: {}", cleanup.module(), userIds.getFirst(),
+                    failure.getMessage(), failure);
+            String error = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+            transactionTemplate.executeWithoutResult(status ->
+                    progress.markFailed(cleanup.module(), userIds, error, MAX_ATTEMPTS));
+        }
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            batches.add(List.copyOf(items.subList(from, Math.min(from + size, items.size()))));
+        }
+        return batches;
+    }
+}
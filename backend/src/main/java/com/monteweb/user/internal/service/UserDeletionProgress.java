@@ -0,0 +1,129 @@
+package com.monteweb.user.internal.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Per-user, per-module progress of account deletions ({@code user_deletion_steps}).
+ * <p>
+ * A step is PENDING until the module's cleanup commits, then DONE. Failed steps stay
+ * PENDING with a growing attempt count and turn FAILED once they run out of attempts;
+ * steps of modules that are no longer enabled are SKIPPED. A user's rows are removed
+ * once every step has finished.
+ */
+@Component
+public class UserDeletionProgress {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserDeletionProgress(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records a PENDING step per user and module. Users enrolled before keep their progress.
+     */
+    public void enroll(Collection<UUID> userIds, Collection<String> modules) {
+        List<Object[]> rows = userIds.stream()
+                .flatMap(userId -> modules.stream().map(module -> new Object[]{userId, module}))
+                .toList();
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_deletion_steps (user_id, module) VALUES (?, ?)
+                ON CONFLICT (user_id, module) DO NOTHING
+                """, rows);
+    }
+
+    /** Users with at least one pending step, oldest enrollment first. */
+    public List<UUID> findUsersWithPendingSteps(int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT user_id FROM user_deletion_steps
+                WHERE status = 'PENDING'
+                GROUP BY user_id
+                ORDER BY min(created_at), user_id
+                LIMIT ?
+                """, UUID.class, limit);
+    }
+
+    /**
+     * Locks the pending steps of {@code module} for the given users, skipping steps another
+     * instance is working on. Must run inside a transaction, which holds the locks.
+     */
+    public List<UUID> claimPending(String module, Collection<UUID> userIds) {
+        return jdbcTemplate.queryForList("""
+                SELECT user_id FROM user_deletion_steps
+                WHERE module = ? AND user_id = ANY(?) AND status = 'PENDING'
+                FOR UPDATE SKIP LOCKED
+                """, UUID.class, module, userIds.toArray(UUID[]::new));
+    }
+
+    public void markDone(String module, Collection<UUID> userIds) {
+        jdbcTemplate.update("""
+                UPDATE user_deletion_steps SET status = 'DONE', finished_at = now()
+                WHERE module = ? AND user_id = ANY(?) AND status = 'PENDING'
+                """, module, userIds.toArray(UUID[]::new));
+    }
+
+    /**
+     * Counts a failed attempt; the step is retried by a later run until it has failed
+     * {@code maxAttempts} times.
+     */
+    public void markFailed(String module, Collection<UUID> userIds, String error, int maxAttempts) {
+        jdbcTemplate.update("""
+                UPDATE user_deletion_steps
+                SET attempts = attempts + 1,
+                    last_error = ?,
+                    status = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE 'PENDING' END
+                WHERE module = ? AND user_id = ANY(?) AND status = 'PENDING'
+                """, truncate(error), maxAttempts, module, userIds.toArray(UUID[]::new));
+    }
+
+    /** Marks pending steps of modules that are no longer enabled as SKIPPED. */
+    public int skipModulesOtherThan(Collection<String> modules) {
+        return jdbcTemplate.update("""
+                UPDATE user_deletion_steps SET status = 'SKIPPED', finished_at = now()
+                WHERE status = 'PENDING' AND module <> ALL(?)
+                """, (Object) modules.toArray(String[]::new));
+    }
+
+    /**
+     * Removes the rows of those users whose steps have all finished.
+     *
+     * @return the users that were completed
+     */
+    public Set<UUID> removeCompleted(Collection<UUID> userIds) {
+        UUID[] ids = userIds.toArray(UUID[]::new);
+        return new HashSet<>(jdbcTemplate.queryForList("""
+                DELETE FROM user_deletion_steps
+                WHERE user_id = ANY(?)
+                  AND user_id NOT IN (SELECT user_id FROM user_deletion_steps
+                                      WHERE user_id = ANY(?) AND status IN ('PENDING', 'FAILED'))
+                RETURNING user_id
+                """, UUID.class, ids, ids));
+    }
+
+    public long countPendingUsers() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(DISTINCT user_id) FROM user_deletion_steps WHERE status = 'PENDING'", Long.class);
+        return count != null ? count : 0;
+    }
+
+    public long countFailedSteps() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM user_deletion_steps WHERE status = 'FAILED'", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) return null;
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
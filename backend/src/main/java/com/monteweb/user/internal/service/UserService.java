@@ -17,6 +17,8 @@ import com.monteweb.room.RoomModuleApi;
 import com.monteweb.tasks.TasksModuleApi;
 import com.monteweb.wiki.WikiModuleApi;
 import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.util.TwoTierCache;
+import com.monteweb.shared.util.TwoTierCacheManager;
 import com.monteweb.user.*;
 import com.monteweb.user.internal.model.DataAccessLog;
 import com.monteweb.user.internal.model.User;
@@ -37,12 +39,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class UserService implements UserModuleApi {
 
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
+    private static final int EMAIL_LOOKUP_CHUNK = 10_000;
 
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
@@ -69,6 +73,7 @@ public class UserService implements UserModuleApi {
     private final WikiModuleApi wikiModuleApi;
     private final ProfileFieldsModuleApi profileFieldsModuleApi;
     private final NotificationModuleApi notificationModuleApi;
+    private final TwoTierCache<UserInfo> userCache;
 
     public UserService(UserRepository userRepository,
                        ApplicationEventPublisher eventPublisher,
@@ -90,7 +95,8 @@ public class UserService implements UserModuleApi {
                        @Lazy @Autowired(required = false) TasksModuleApi tasksModuleApi,
                        @Lazy @Autowired(required = false) WikiModuleApi wikiModuleApi,
                        @Lazy @Autowired(required = false) ProfileFieldsModuleApi profileFieldsModuleApi,
-                       @Lazy @Autowired(required = false) NotificationModuleApi notificationModuleApi) {
+                       @Lazy @Autowired(required = false) NotificationModuleApi notificationModuleApi,
+                       TwoTierCacheManager cacheManager) {
         this.userRepository = userRepository;
         this.eventPublisher = eventPublisher;
         this.dataAccessLogRepository = dataAccessLogRepository;
@@ -112,11 +118,12 @@ public class UserService implements UserModuleApi {
         this.wikiModuleApi = wikiModuleApi;
         this.profileFieldsModuleApi = profileFieldsModuleApi;
         this.notificationModuleApi = notificationModuleApi;
+        this.userCache = cacheManager.getCache("users", UserInfo.class);
     }
 
     @Override
     public Optional<UserInfo> findById(UUID id) {
-        return userRepository.findById(id).map(this::toUserInfo);
+        return userCache.get(id, key -> userRepository.findById(key).map(this::toUserInfo));
     }
 
     public Optional<UserInfo> findById(UUID id, UserRole callerRole) {
@@ -133,6 +140,26 @@ public class UserService implements UserModuleApi {
         return userRepository.existsByEmail(email);
     }
 
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) return Set.of();
+        // One query per 10,000 emails keeps the statement under PostgreSQL's bind-parameter limit
+        var distinct = List.copyOf(new LinkedHashSet<>(emails));
+        var existing = new HashSet<String>();
+        for (int i = 0; i < distinct.size(); i += EMAIL_LOOKUP_CHUNK) {
+            existing.addAll(userRepository.findEmailsIn(
+                    distinct.subList(i, Math.min(i + EMAIL_LOOKUP_CHUNK, distinct.size()))));
+        }
+        return existing;
+    }
+
+    @Override
+    @Transactional
+    public Set<UUID> createImportedUsers(List<ImportedUser> users) {
+        // Fresh IDs, so there is nothing to evict from the user cache
+        return userRepository.insertImportedUsers(users);
+    }
+
     @Override
     @Transactional
     public UserInfo createUser(String email, String passwordHash, String firstName, String lastName, String phone, UserRole role) {
@@ -145,7 +172,7 @@ public class UserService implements UserModuleApi {
         user.setRole(role);
         user.setDisplayName(firstName + " " + lastName);
 
-        user = userRepository.save(user);
+        user = saveUser(user);
 
         eventPublisher.publishEvent(new UserRegisteredEvent(
                 user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(), user.getRole()
@@ -164,7 +191,7 @@ public class UserService implements UserModuleApi {
     public void updateLastLogin(UUID userId) {
         userRepository.findById(userId).ifPresent(user -> {
             user.setLastLoginAt(Instant.now());
-            userRepository.save(user);
+            saveUser(user);
         });
     }
 
@@ -224,7 +251,7 @@ public class UserService implements UserModuleApi {
     public UserInfo updateAvatarUrl(UUID userId, String avatarUrl) {
         var user = findEntityById(userId);
         user.setAvatarUrl(avatarUrl);
-        return toUserInfo(userRepository.save(user));
+        return toUserInfo(saveUser(user));
     }
 
     @Override
@@ -235,7 +262,7 @@ public class UserService implements UserModuleApi {
         if (lastName != null) user.setLastName(lastName);
         if (phone != null) user.setPhone(phone);
         user.setDisplayName(user.getFirstName() + " " + user.getLastName());
-        return toUserInfo(userRepository.save(user));
+        return toUserInfo(saveUser(user));
     }
 
     public String getDigestFrequency(UUID userId) {
@@ -249,7 +276,7 @@ public class UserService implements UserModuleApi {
         var user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         user.setDigestFrequency(frequency);
-        userRepository.save(user);
+        saveUser(user);
     }
 
     @Override
@@ -257,7 +284,7 @@ public class UserService implements UserModuleApi {
     public void updatePasswordHash(UUID userId, String passwordHash) {
         var user = findEntityById(userId);
         user.setPasswordHash(passwordHash);
-        userRepository.save(user);
+        saveUser(user);
     }
 
     @Override
@@ -279,7 +306,7 @@ public class UserService implements UserModuleApi {
         user.setOidcProvider(oidcProvider);
         user.setOidcSubject(oidcSubject);
         user.setEmailVerified(true); // OIDC provider already verified email
-        user = userRepository.save(user);
+        user = saveUser(user);
 
         eventPublisher.publishEvent(new UserRegisteredEvent(
                 user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(), user.getRole()
@@ -294,7 +321,7 @@ public class UserService implements UserModuleApi {
         var user = findEntityById(userId);
         user.setOidcProvider(oidcProvider);
         user.setOidcSubject(oidcSubject);
-        userRepository.save(user);
+        saveUser(user);
     }
 
     @Transactional
@@ -310,7 +337,7 @@ public class UserService implements UserModuleApi {
         if (lastName != null) user.setLastName(lastName);
         if (phone != null) user.setPhone(phone);
         user.setDisplayName(user.getFirstName() + " " + user.getLastName());
-        return toUserInfo(userRepository.save(user));
+        return toUserInfo(saveUser(user));
     }
 
     @Transactional
@@ -320,7 +347,7 @@ public class UserService implements UserModuleApi {
         if (!roles.contains(role)) {
             roles.add(role);
             user.setSpecialRoles(roles.toArray(new String[0]));
-            userRepository.save(user);
+            saveUser(user);
         }
         return toUserInfo(user);
     }
@@ -331,7 +358,7 @@ public class UserService implements UserModuleApi {
         var roles = new java.util.ArrayList<>(java.util.Arrays.asList(user.getSpecialRoles() != null ? user.getSpecialRoles() : new String[0]));
         roles.remove(role);
         user.setSpecialRoles(roles.toArray(new String[0]));
-        return toUserInfo(userRepository.save(user));
+        return toUserInfo(saveUser(user));
     }
 
     public List<UserInfo> findBySpecialRoleContaining(String rolePrefix) {
@@ -343,16 +370,16 @@ public class UserService implements UserModuleApi {
     @Override
     public List<UserInfo> findByIds(List<UUID> ids) {
         if (ids == null || ids.isEmpty()) return List.of();
-        return userRepository.findAllById(ids).stream()
-                .map(this::toUserInfo)
-                .toList();
+        var users = userCache.getAll(ids, missing -> userRepository.findAllById(missing).stream()
+                .collect(Collectors.toMap(User::getId, this::toUserInfo)));
+        return ids.stream().distinct().map(users::get).filter(Objects::nonNull).toList();
     }
 
     @Transactional
     public UserInfo updateRole(UUID userId, UserRole role) {
         var user = findEntityById(userId);
         user.setRole(role);
-        return toUserInfo(userRepository.save(user));
+        return toUserInfo(saveUser(user));
     }
 
     @Override
@@ -360,7 +387,7 @@ public class UserService implements UserModuleApi {
     public UserInfo setActive(UUID userId, boolean active) {
         var user = findEntityById(userId);
         user.setActive(active);
-        return toUserInfo(userRepository.save(user));
+        return toUserInfo(saveUser(user));
     }
 
     @Override
@@ -368,17 +395,35 @@ public class UserService implements UserModuleApi {
     public void setForcePasswordChange(UUID userId, boolean force) {
         var user = findEntityById(userId);
         user.setForcePasswordChange(force);
-        userRepository.save(user);
+        saveUser(user);
     }
 
     /**
      * DSGVO: Export all personal data for a user, aggregated from all modules.
      */
     public Map<String, Object> exportUserData(UUID userId) {
-        var user = findEntityById(userId);
         Map<String, Object> data = new LinkedHashMap<>();
+        data.put("profile", exportProfile(userId));
+        for (var module : moduleExports(userId)) {
+            if (module.optional()) {
+                safeExportModule(data, module.name(), module.exporter());
+            } else {
+                data.put(module.name(), module.exporter().get());
+            }
+        }
+        data.put("exportedAt", Instant.now());
+
+        // Log data access for DSGVO audit
+        logDataAccess(userId, userId, "DATA_EXPORT", "User exported their personal data");
 
-        // User profile data
+        return data;
+    }
+
+    /**
+     * DSGVO: The user's profile data, the first part of every export.
+     */
+    public Map<String, Object> exportProfile(UUID userId) {
+        var user = findEntityById(userId);
         Map<String, Object> profile = new LinkedHashMap<>();
         profile.put("id", user.getId());
         profile.put("email", user.getEmail());
@@ -389,40 +434,35 @@ public class UserService implements UserModuleApi {
         profile.put("role", user.getRole());
         profile.put("createdAt", user.getCreatedAt());
         profile.put("lastLoginAt", user.getLastLoginAt());
-        data.put("profile", profile);
-
-        // Always-present modules
-        data.put("feed", feedModuleApi.exportUserData(userId));
-        data.put("rooms", roomModuleApi.exportUserData(userId));
-        data.put("families", familyModuleApi.exportUserData(userId));
-
-        // Optional modules — @Lazy proxies are non-null even when beans are absent,
-        // so catch NoSuchBeanDefinitionException for disabled modules.
-        safeExportModule(data, "messaging", () -> messagingModuleApi.exportUserData(userId));
-        safeExportModule(data, "calendar", () -> calendarModuleApi.exportUserData(userId));
-        safeExportModule(data, "jobboard", () -> jobboardModuleApi.exportUserData(userId));
-        safeExportModule(data, "cleaning", () -> cleaningModuleApi.exportUserData(userId));
-        safeExportModule(data, "forms", () -> formsModuleApi.exportUserData(userId));
-        safeExportModule(data, "fotobox", () -> fotoboxModuleApi.exportUserData(userId));
-        safeExportModule(data, "fundgrube", () -> fundgrubeModuleApi.exportUserData(userId));
-        safeExportModule(data, "files", () -> filesModuleApi.exportUserData(userId));
-        safeExportModule(data, "bookmarks", () -> bookmarkModuleApi.exportUserData(userId));
-        safeExportModule(data, "tasks", () -> tasksModuleApi.exportUserData(userId));
-        safeExportModule(data, "wiki", () -> wikiModuleApi.exportUserData(userId));
-        safeExportModule(data, "profileFields", () -> profileFieldsModuleApi.exportUserData(userId));
-        safeExportModule(data, "notifications", () -> notificationModuleApi.exportUserData(userId));
-
-        data.put("exportedAt", Instant.now());
-
-        // Log data access for DSGVO audit
-        logDataAccess(userId, userId, "DATA_EXPORT", "User exported their personal data");
-
-        return data;
+        return profile;
     }
 
     /**
-     * DSGVO: Log data access for audit trail (Art. 15 DSGVO).
+     * DSGVO: The module exports for a user, in export order. Nothing runs until an
+     * exporter is called.
      */
+    public List<ModuleExport> moduleExports(UUID userId) {
+        // Optional modules — @Lazy proxies are non-null even when beans are absent,
+        // so their exporters throw NoSuchBeanDefinitionException for disabled modules.
+        return List.of(
+                new ModuleExport("feed", false, () -> feedModuleApi.exportUserData(userId)),
+                new ModuleExport("rooms", false, () -> roomModuleApi.exportUserData(userId)),
+                new ModuleExport("families", false, () -> familyModuleApi.exportUserData(userId)),
+                new ModuleExport("messaging", true, () -> messagingModuleApi.exportUserData(userId)),
+                new ModuleExport("calendar", true, () -> calendarModuleApi.exportUserData(userId)),
+                new ModuleExport("jobboard", true, () -> jobboardModuleApi.exportUserData(userId)),
+                new ModuleExport("cleaning", true, () -> cleaningModuleApi.exportUserData(userId)),
+                new ModuleExport("forms", true, () -> formsModuleApi.exportUserData(userId)),
+                new ModuleExport("fotobox", true, () -> fotoboxModuleApi.exportUserData(userId)),
+                new ModuleExport("fundgrube", true, () -> fundgrubeModuleApi.exportUserData(userId)),
+                new ModuleExport("files", true, () -> filesModuleApi.exportUserData(userId)),
+                new ModuleExport("bookmarks", true, () -> bookmarkModuleApi.exportUserData(userId)),
+                new ModuleExport("tasks", true, () -> tasksModuleApi.exportUserData(userId)),
+                new ModuleExport("wiki", true, () -> wikiModuleApi.exportUserData(userId)),
+                new ModuleExport("profileFields", true, () -> profileFieldsModuleApi.exportUserData(userId)),
+                new ModuleExport("notifications", true, () -> notificationModuleApi.exportUserData(userId)));
+    }
+
     private void safeExportModule(Map<String, Object> data, String key, java.util.function.Supplier<Map<String, Object>> exporter) {
         try {
             data.put(key, exporter.get());
@@ -431,6 +471,9 @@ public class UserService implements UserModuleApi {
         }
     }
 
+    /**
+     * DSGVO: Log data access for audit trail (Art. 15 DSGVO).
+     */
     @Transactional
     public void logDataAccess(UUID accessedBy, UUID targetUserId, String action, String details) {
         var log = new DataAccessLog();
@@ -454,7 +497,7 @@ public class UserService implements UserModuleApi {
         var scheduledAt = now.plus(14, ChronoUnit.DAYS);
         user.setDeletionRequestedAt(now);
         user.setScheduledDeletionAt(scheduledAt);
-        userRepository.save(user);
+        saveUser(user);
         eventPublisher.publishEvent(new UserDeletionRequestedEvent(userId, scheduledAt));
     }
 
@@ -469,15 +512,16 @@ public class UserService implements UserModuleApi {
         }
         user.setDeletionRequestedAt(null);
         user.setScheduledDeletionAt(null);
-        userRepository.save(user);
+        saveUser(user);
         eventPublisher.publishEvent(new UserDeletionCancelledEvent(userId));
     }
 
     /**
-     * DSGVO: Anonymize a user account and publish deletion event for cross-module cleanup.
+     * DSGVO: Anonymize a user account. The modules' data is cleaned up afterwards by the
+     * {@link UserDeletionPipeline}.
      */
     @Transactional
-    public void anonymizeAndDelete(UUID userId, String reason) {
+    public void anonymizeAccount(UUID userId, String reason) {
         var user = findEntityById(userId);
         user.setEmail(UUID.randomUUID() + "@deleted.local");
         user.setFirstName("Geloeschter");
@@ -493,8 +537,7 @@ public class UserService implements UserModuleApi {
         user.setScheduledDeletionAt(null);
         user.setOidcProvider(null);
         user.setOidcSubject(null);
-        userRepository.save(user);
-        eventPublisher.publishEvent(new UserDeletionExecutedEvent(userId));
+        saveUser(user);
     }
 
     /**
@@ -515,7 +558,7 @@ public class UserService implements UserModuleApi {
             throw new com.monteweb.shared.exception.BusinessException("Role not in assigned roles");
         }
         user.setRole(newRole);
-        return toUserInfo(userRepository.save(user));
+        return toUserInfo(saveUser(user));
     }
 
     @Transactional
@@ -536,7 +579,7 @@ public class UserService implements UserModuleApi {
         if (!roles.contains(user.getRole().name()) && !roles.isEmpty()) {
             user.setRole(UserRole.valueOf(roles.iterator().next()));
         }
-        return toUserInfo(userRepository.save(user));
+        return toUserInfo(saveUser(user));
     }
 
     // --- TOTP / 2FA ---
@@ -560,7 +603,7 @@ public class UserService implements UserModuleApi {
     public void setTotpSecret(UUID userId, String secret) {
         var user = findEntityById(userId);
         user.setTotpSecret(secret);
-        userRepository.save(user);
+        saveUser(user);
     }
 
     @Override
@@ -569,7 +612,7 @@ public class UserService implements UserModuleApi {
         var user = findEntityById(userId);
         user.setTotpEnabled(true);
         user.setTotpRecoveryCodes(recoveryCodes);
-        userRepository.save(user);
+        saveUser(user);
     }
 
     @Override
@@ -579,7 +622,7 @@ public class UserService implements UserModuleApi {
         user.setTotpEnabled(false);
         user.setTotpSecret(null);
         user.setTotpRecoveryCodes(null);
-        userRepository.save(user);
+        saveUser(user);
     }
 
     @Override
@@ -594,7 +637,7 @@ public class UserService implements UserModuleApi {
     public void setTotpRecoveryCodes(UUID userId, String[] codes) {
         var user = findEntityById(userId);
         user.setTotpRecoveryCodes(codes);
-        userRepository.save(user);
+        saveUser(user);
     }
 
     // --- Consent ---
@@ -637,7 +680,7 @@ public class UserService implements UserModuleApi {
     public void updateDigestSentAt(UUID userId, Instant sentAt) {
         userRepository.findById(userId).ifPresent(u -> {
             u.setDigestLastSentAt(sentAt);
-            userRepository.save(u);
+            saveUser(u);
         });
     }
 
@@ -651,7 +694,15 @@ public class UserService implements UserModuleApi {
     public void updateDarkMode(UUID userId, String darkMode) {
         var user = findEntityById(userId);
         user.setDarkMode(darkMode);
-        userRepository.save(user);
+        saveUser(user);
+    }
+
+    /**
+     * All user writes go through here so cached {@link UserInfo}s are dropped on every node.
+     */
+    private User saveUser(User user) {
+        userCache.evict(user.getId());
+        return userRepository.save(user);
     }
 
     private UserInfo toUserInfo(User user) {
@@ -60,6 +60,14 @@ public class WikiController {
         return ApiResponse.ok(null);
     }
 
+    @GetMapping("/pages/{pageId}/subtree")
+    public ApiResponse<List<WikiPageSummary>> getSubtree(
+            @PathVariable UUID roomId,
+            @PathVariable UUID pageId) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        return ApiResponse.ok(wikiService.getSubtree(roomId, pageId, userId));
+    }
+
     @GetMapping("/pages/{pageId}/versions")
     public ApiResponse<List<WikiPageVersionResponse>> getVersions(
             @PathVariable UUID roomId,
@@ -16,6 +16,7 @@ public record WikiPageResponse(
         UUID lastEditedBy,
         String lastEditedByName,
         List<WikiPageSummary> children,
+        List<WikiPageSummary> breadcrumbs,
         Instant createdAt,
         Instant updatedAt
 ) {
@@ -25,6 +25,13 @@ public class WikiPage {
     @Column(name = "parent_id")
     private UUID parentId;
 
+    /** 0 for root pages. Never updated through the entity; see WikiPageRepository. */
+    @Column(nullable = false, updatable = false)
+    private int depth;
+
+    @Column(name = "child_count", nullable = false, updatable = false)
+    private int childCount;
+
     @Column(nullable = false, length = 255)
     private String title;
 
@@ -0,0 +1,44 @@
+package com.monteweb.wiki.internal.model;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * One ancestor/descendant pair of the wiki page tree, including each page with itself
+ * at depth 0. Maintained by {@link com.monteweb.wiki.internal.repository.WikiPageRepository}
+ * whenever pages are created or deleted.
+ */
+@Entity
+@Table(name = "wiki_page_closure")
+@IdClass(WikiPageClosure.WikiPageClosureId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class WikiPageClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private UUID ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private UUID descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class WikiPageClosureId implements Serializable {
+        private UUID ancestorId;
+        private UUID descendantId;
+    }
+}
@@ -8,6 +8,10 @@ import lombok.Setter;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * One saved state of a wiki page. Snapshots hold the full content; every other version
+ * holds a {@link com.monteweb.wiki.internal.service.WikiDelta} against the version before it.
+ */
 @Entity
 @Table(name = "wiki_page_versions")
 @Getter
@@ -22,9 +26,21 @@ public class WikiPageVersion {
     @Column(name = "page_id", nullable = false)
     private UUID pageId;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    /** 1-based position in the page's history */
+    @Column(name = "version_number", nullable = false)
+    private int versionNumber;
+
+    @Column(name = "is_snapshot", nullable = false)
+    private boolean snapshot;
+
+    /** Full content, for snapshots only */
+    @Column(columnDefinition = "TEXT")
     private String content;
 
+    /** Changes against the previous version, for non-snapshots only */
+    @Column(columnDefinition = "TEXT")
+    private String delta;
+
     @Column(nullable = false, length = 255)
     private String title;
 
@@ -0,0 +1,18 @@
+package com.monteweb.wiki.internal.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A wiki page's place in the tree, without its content.
+ */
+public record WikiPageNode(
+        UUID id,
+        String title,
+        String slug,
+        UUID parentId,
+        int depth,
+        int childCount,
+        Instant updatedAt
+) {
+}
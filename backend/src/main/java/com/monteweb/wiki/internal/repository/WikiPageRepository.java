@@ -1,12 +1,15 @@
 package com.monteweb.wiki.internal.repository;
 
 import com.monteweb.wiki.internal.model.WikiPage;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,23 +17,132 @@ import java.util.UUID;
 @Repository
 public interface WikiPageRepository extends JpaRepository<WikiPage, UUID> {
 
-    List<WikiPage> findByRoomIdOrderByTitleAsc(UUID roomId);
+    @Query("""
+            SELECT new com.monteweb.wiki.internal.repository.WikiPageNode(
+                p.id, p.title, p.slug, p.parentId, p.depth, p.childCount, p.updatedAt)
+            FROM WikiPage p
+            WHERE p.roomId = :roomId
+            ORDER BY p.title
+            """)
+    List<WikiPageNode> findNodesByRoomId(@Param("roomId") UUID roomId);
+
+    @Query("""
+            SELECT new com.monteweb.wiki.internal.repository.WikiPageNode(
+                p.id, p.title, p.slug, p.parentId, p.depth, p.childCount, p.updatedAt)
+            FROM WikiPage p
+            WHERE p.parentId = :parentId
+            ORDER BY p.title
+            """)
+    List<WikiPageNode> findChildNodes(@Param("parentId") UUID parentId);
+
+    @Query("""
+            SELECT new com.monteweb.wiki.internal.repository.WikiPageNode(
+                p.id, p.title, p.slug, p.parentId, p.depth, p.childCount, p.updatedAt)
+            FROM WikiPage p
+            WHERE p.id IN :ids
+            """)
+    List<WikiPageNode> findNodesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * The ancestors of a page, root first.
+     */
+    @Query("""
+            SELECT new com.monteweb.wiki.internal.repository.WikiPageNode(
+                p.id, p.title, p.slug, p.parentId, p.depth, p.childCount, p.updatedAt)
+            FROM WikiPageClosure c JOIN WikiPage p ON p.id = c.ancestorId
+            WHERE c.descendantId = :pageId AND c.depth > 0
+            ORDER BY c.depth DESC
+            """)
+    List<WikiPageNode> findAncestorNodes(@Param("pageId") UUID pageId);
+
+    /**
+     * All pages below a page, level by level.
+     */
+    @Query("""
+            SELECT new com.monteweb.wiki.internal.repository.WikiPageNode(
+                p.id, p.title, p.slug, p.parentId, p.depth, p.childCount, p.updatedAt)
+            FROM WikiPageClosure c JOIN WikiPage p ON p.id = c.descendantId
+            WHERE c.ancestorId = :pageId AND c.depth > 0
+            ORDER BY c.depth, p.title
+            """)
+    List<WikiPageNode> findSubtreeNodes(@Param("pageId") UUID pageId);
+
+    /**
+     * Full-text search over title and content, plus substring matches on the title,
+     * best matches first. {@code titlePattern} is an ILIKE pattern escaped with backslashes.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT p.id FROM wiki_pages p
+            WHERE p.room_id = :roomId
+              AND (p.search_vector @@ websearch_to_tsquery('german', :query)
+                   OR p.title ILIKE :titlePattern ESCAPE '\\')
+            ORDER BY ts_rank(p.search_vector, websearch_to_tsquery('german', :query)) DESC, p.title
+            LIMIT :limit
+            """)
+    List<UUID> searchIds(@Param("roomId") UUID roomId, @Param("query") String query,
+                         @Param("titlePattern") String titlePattern, @Param("limit") int limit);
+
+    // ---- Closure maintenance (depth and child_count are only written here) ----
+
+    /**
+     * Links a new page to itself and to every ancestor of its parent.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO wiki_page_closure (ancestor_id, descendant_id, depth)
+            SELECT CAST(:pageId AS uuid), CAST(:pageId AS uuid), 0
+            UNION ALL
+            SELECT c.ancestor_id, CAST(:pageId AS uuid), c.depth + 1
+            FROM wiki_page_closure c
+            WHERE c.descendant_id = CAST(:parentId AS uuid)
+            """)
+    void insertClosure(@Param("pageId") UUID pageId, @Param("parentId") UUID parentId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE wiki_pages SET child_count = child_count + :delta WHERE id = :pageId")
+    void adjustChildCount(@Param("pageId") UUID pageId, @Param("delta") int delta);
+
+    /**
+     * Before a page is deleted: its subtree moves up by {@code levels}, as its children
+     * become root pages.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE wiki_pages SET depth = depth - :levels
+            WHERE id IN (SELECT descendant_id FROM wiki_page_closure WHERE ancestor_id = :pageId AND depth > 0)
+            """)
+    void shiftSubtreeDepth(@Param("pageId") UUID pageId, @Param("levels") int levels);
+
+    /**
+     * Before a page is deleted: unlinks its subtree from the page and its ancestors. The
+     * links within the subtree stay.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            DELETE FROM wiki_page_closure
+            WHERE descendant_id IN (SELECT descendant_id FROM wiki_page_closure WHERE ancestor_id = :pageId AND depth > 0)
+              AND ancestor_id IN (SELECT ancestor_id FROM wiki_page_closure WHERE descendant_id = :pageId)
+            """)
+    void detachSubtree(@Param("pageId") UUID pageId);
+
+    /**
+     * Finds a page with a pessimistic write lock, so that concurrent edits append to its
+     * version history one after the other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM WikiPage p WHERE p.id = :id")
+    Optional<WikiPage> findByIdForUpdate(@Param("id") UUID id);
 
     Optional<WikiPage> findByRoomIdAndSlug(UUID roomId, String slug);
 
     List<WikiPage> findByRoomIdAndParentIdIsNullOrderByTitleAsc(UUID roomId);
 
-    List<WikiPage> findByParentIdOrderByTitleAsc(UUID parentId);
-
     boolean existsByRoomIdAndSlug(UUID roomId, String slug);
 
     List<WikiPage> findByCreatedBy(UUID userId);
 
     List<WikiPage> findByLastEditedBy(UUID userId);
 
-    @Query("SELECT p FROM WikiPage p WHERE p.roomId = :roomId AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(p.content) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<WikiPage> searchByRoomIdAndQuery(UUID roomId, String query);
-
     @Modifying
     @Query("UPDATE WikiPage w SET w.createdBy = null WHERE w.createdBy = :userId")
     void anonymizeCreator(@Param("userId") UUID userId);
@@ -0,0 +1,16 @@
+package com.monteweb.wiki.internal.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A wiki page version without its body, for history listings.
+ */
+public record WikiPageVersionHeader(
+        UUID id,
+        int versionNumber,
+        String title,
+        UUID editedBy,
+        Instant createdAt
+) {
+}
@@ -13,7 +13,40 @@ import java.util.UUID;
 @Repository
 public interface WikiPageVersionRepository extends JpaRepository<WikiPageVersion, UUID> {
 
-    List<WikiPageVersion> findByPageIdOrderByCreatedAtDesc(UUID pageId);
+    @Query("""
+            SELECT new com.monteweb.wiki.internal.repository.WikiPageVersionHeader(
+                v.id, v.versionNumber, v.title, v.editedBy, v.createdAt)
+            FROM WikiPageVersion v
+            WHERE v.pageId = :pageId
+            ORDER BY v.versionNumber DESC
+            """)
+    List<WikiPageVersionHeader> findHeadersByPageId(@Param("pageId") UUID pageId);
+
+    /**
+     * The versions needed to rebuild {@code versionNumber}: the nearest snapshot at or
+     * before it and every delta up to it, in order.
+     */
+    @Query("""
+            SELECT v FROM WikiPageVersion v
+            WHERE v.pageId = :pageId
+              AND v.versionNumber <= :versionNumber
+              AND v.versionNumber >= (
+                  SELECT MAX(s.versionNumber) FROM WikiPageVersion s
+                  WHERE s.pageId = :pageId AND s.snapshot = true AND s.versionNumber <= :versionNumber)
+            ORDER BY v.versionNumber
+            """)
+    List<WikiPageVersion> findReplayChain(@Param("pageId") UUID pageId, @Param("versionNumber") int versionNumber);
+
+    @Query("""
+            SELECT new com.monteweb.wiki.internal.repository.WikiVersionChainTail(
+                MAX(v.versionNumber), MIN(v.versionNumber), SUM(LENGTH(v.delta)))
+            FROM WikiPageVersion v
+            WHERE v.pageId = :pageId
+              AND v.versionNumber >= (
+                  SELECT MAX(s.versionNumber) FROM WikiPageVersion s
+                  WHERE s.pageId = :pageId AND s.snapshot = true)
+            """)
+    WikiVersionChainTail findChainTail(@Param("pageId") UUID pageId);
 
     List<WikiPageVersion> findByEditedBy(UUID userId);
 
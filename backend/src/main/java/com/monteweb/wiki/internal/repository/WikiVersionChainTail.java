@@ -0,0 +1,15 @@
+package com.monteweb.wiki.internal.repository;
+
+/**
+ * The versions of a page from its latest snapshot on: the latest version number, the
+ * snapshot's version number and the total length of the deltas after it. All zero for
+ * a page without versions.
+ */
+public record WikiVersionChainTail(int latestVersion, int snapshotVersion, long deltaChars) {
+
+    public WikiVersionChainTail(Integer latestVersion, Integer snapshotVersion, Long deltaChars) {
+        this(latestVersion != null ? latestVersion : 0,
+                snapshotVersion != null ? snapshotVersion : 0,
+                deltaChars != null ? deltaChars : 0L);
+    }
+}
@@ -0,0 +1,265 @@
+package com.monteweb.wiki.internal.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Line-based diff between two versions of a wiki page, encoded as a compact string.
+ * <p>
+ * A delta is a sequence of operations on the base text, counted in characters:
+ * {@code =n;} copies the next n characters, {@code -n;} skips them, and {@code +n:text}
+ * inserts the n characters that follow. Lines are matched with Myers' algorithm after
+ * trimming the common head and tail; if the edit distance gets too large the changed
+ * middle is replaced as a whole, which keeps diffing cheap on rewrites.
+ * <p>
+ * The format is persisted in {@code wiki_page_versions.delta} and must stay stable.
+ */
+public final class WikiDelta {
+
+    /** Beyond this many line edits the middle is replaced as a whole. */
+    private static final int MAX_EDIT_DISTANCE = 1_000;
+
+    private static final byte EQUAL = 0;
+    private static final byte DELETE = 1;
+    private static final byte INSERT = 2;
+
+    private WikiDelta() {
+    }
+
+    /**
+     * Encodes the changes that turn {@code base} into {@code target}.
+     */
+    public static String diff(String base, String target) {
+        String[] a = lines(base);
+        String[] b = lines(target);
+
+        int head = 0;
+        while (head < a.length && head < b.length && a[head].equals(b[head])) head++;
+        int tail = 0;
+        while (tail < a.length - head && tail < b.length - head
+                && a[a.length - 1 - tail].equals(b[b.length - 1 - tail])) tail++;
+
+        String[] midA = Arrays.copyOfRange(a, head, a.length - tail);
+        String[] midB = Arrays.copyOfRange(b, head, b.length - tail);
+
+        var out = new Encoder(a, b);
+        out.equal(head);
+        byte[] script = editScript(midA, midB);
+        if (script == null) {
+            out.delete(midA.length);
+            out.insert(midB.length);
+        } else {
+            for (byte op : script) {
+                switch (op) {
+                    case EQUAL -> out.equal(1);
+                    case DELETE -> out.delete(1);
+                    default -> out.insert(1);
+                }
+            }
+        }
+        out.equal(tail);
+        return out.finish();
+    }
+
+    /**
+     * Applies a delta produced by {@link #diff} to the text it was computed against.
+     *
+     * @throws IllegalArgumentException if the delta is malformed or does not fit the base
+     */
+    public static String apply(String base, String delta) {
+        var out = new StringBuilder(base.length() + delta.length());
+        int pos = 0;
+        int i = 0;
+        try {
+            while (i < delta.length()) {
+                char op = delta.charAt(i++);
+                int end = i;
+                while (Character.isDigit(delta.charAt(end))) end++;
+                int n = Integer.parseInt(delta, i, end, 10);
+                char separator = delta.charAt(end);
+                i = end + 1;
+                switch (op) {
+                    case '=' -> {
+                        requireSeparator(separator, ';');
+                        out.append(base, pos, pos + n);
+                        pos += n;
+                    }
+                    case '-' -> {
+                        requireSeparator(separator, ';');
+                        pos += n;
+                    }
+                    case '+' -> {
+                        requireSeparator(separator, ':');
+                        out.append(delta, i, i + n);
+                        i += n;
+                    }
+                    default -> throw new IllegalArgumentException("Unknown delta operation: " + op);
+                }
+            }
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed wiki delta", e);
+        }
+        if (pos != base.length()) {
+            throw new IllegalArgumentException("Wiki delta does not match its base text");
+        }
+        return out.toString();
+    }
+
+    private static void requireSeparator(char actual, char expected) {
+        if (actual != expected) {
+            throw new IllegalArgumentException("Malformed wiki delta");
+        }
+    }
+
+    /**
+     * Splits into lines that keep their terminators, so that joining them restores the text.
+     */
+    static String[] lines(String text) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines.toArray(String[]::new);
+    }
+
+    /**
+     * Shortest edit script from {@code a} to {@code b} (Myers), or {@code null} if it
+     * needs more than {@link #MAX_EDIT_DISTANCE} edits.
+     */
+    private static byte[] editScript(String[] a, String[] b) {
+        int n = a.length;
+        int m = b.length;
+        if (n == 0 || m == 0) {
+            byte[] script = new byte[n + m];
+            Arrays.fill(script, n == 0 ? INSERT : DELETE);
+            return script;
+        }
+
+        int max = Math.min(n + m, MAX_EDIT_DISTANCE);
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        // trace.get(d) holds v[-d-1 .. d+1] as it was before step d
+        List<int[]> trace = new ArrayList<>();
+        for (int d = 0; d <= max; d++) {
+            trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[x].equals(b[y])) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(trace, d, n, m);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static byte[] backtrack(List<int[]> trace, int distance, int n, int m) {
+        byte[] reversed = new byte[n + m];
+        int length = 0;
+        int x = n;
+        int y = m;
+        for (int d = distance; d >= 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int prevK = (k == -d || (k != d && v[k - 1 + d + 1] < v[k + 1 + d + 1])) ? k + 1 : k - 1;
+            int prevX = v[prevK + d + 1];
+            int prevY = prevX - prevK;
+            while (x > prevX && y > prevY) {
+                reversed[length++] = EQUAL;
+                x--;
+                y--;
+            }
+            if (d > 0) {
+                reversed[length++] = x == prevX ? INSERT : DELETE;
+            }
+            x = prevX;
+            y = prevY;
+        }
+        byte[] script = new byte[length];
+        for (int i = 0; i < length; i++) {
+            script[i] = reversed[length - 1 - i];
+        }
+        return script;
+    }
+
+    /**
+     * Turns per-line operations into run-length encoded character operations.
+     */
+    private static final class Encoder {
+        private final String[] a;
+        private final String[] b;
+        private final StringBuilder out = new StringBuilder();
+        private final StringBuilder pendingInsert = new StringBuilder();
+        private int posA;
+        private int posB;
+        private char pendingOp;
+        private int pendingChars;
+
+        Encoder(String[] a, String[] b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        void equal(int count) {
+            for (int i = 0; i < count; i++) {
+                add('=', a[posA++].length());
+                posB++;
+            }
+        }
+
+        void delete(int count) {
+            for (int i = 0; i < count; i++) {
+                add('-', a[posA++].length());
+            }
+        }
+
+        void insert(int count) {
+            for (int i = 0; i < count; i++) {
+                String line = b[posB++];
+                add('+', line.length());
+                pendingInsert.append(line);
+            }
+        }
+
+        private void add(char op, int chars) {
+            if (op != pendingOp) {
+                flush();
+                pendingOp = op;
+            }
+            pendingChars += chars;
+        }
+
+        private void flush() {
+            if (pendingChars > 0) {
+                out.append(pendingOp).append(pendingChars);
+                if (pendingOp == '+') {
+                    out.append(':').append(pendingInsert);
+                } else {
+                    out.append(';');
+                }
+            }
+            pendingInsert.setLength(0);
+            pendingChars = 0;
+        }
+
+        String finish() {
+            flush();
+            return out.toString();
+        }
+    }
+}
@@ -12,7 +12,7 @@ import com.monteweb.wiki.WikiPageDeletedEvent;
 import com.monteweb.wiki.WikiPageSavedEvent;
 import com.monteweb.wiki.internal.dto.*;
 import com.monteweb.wiki.internal.model.WikiPage;
-import com.monteweb.wiki.internal.model.WikiPageVersion;
+import com.monteweb.wiki.internal.repository.WikiPageNode;
 import com.monteweb.wiki.internal.repository.WikiPageRepository;
 import com.monteweb.wiki.internal.repository.WikiPageVersionRepository;
 import lombok.RequiredArgsConstructor;
@@ -34,34 +34,19 @@ public class WikiService implements WikiModuleApi {
 
     private final WikiPageRepository pageRepo;
     private final WikiPageVersionRepository versionRepo;
+    private final WikiVersionStore versionStore;
     private final UserModuleApi userModule;
     private final RoomModuleApi roomModule;
     private final ApplicationEventPublisher eventPublisher;
 
     private static final Pattern NON_SLUG = Pattern.compile("[^a-z0-9-]");
     private static final Pattern MULTI_DASH = Pattern.compile("-{2,}");
+    private static final int SEARCH_LIMIT = 100;
 
     // ---- Page Tree ----
 
     public List<WikiPageSummary> getPageTree(UUID roomId) {
-        var pages = pageRepo.findByRoomIdOrderByTitleAsc(roomId);
-        // Build set of IDs that have children
-        Set<UUID> parentIds = new HashSet<>();
-        for (var page : pages) {
-            if (page.getParentId() != null) {
-                parentIds.add(page.getParentId());
-            }
-        }
-        return pages.stream()
-                .map(p -> new WikiPageSummary(
-                        p.getId(),
-                        p.getTitle(),
-                        p.getSlug(),
-                        p.getParentId(),
-                        parentIds.contains(p.getId()),
-                        p.getUpdatedAt()
-                ))
-                .toList();
+        return toSummaries(pageRepo.findNodesByRoomId(roomId));
     }
 
     // ---- Get Page ----
@@ -70,25 +55,8 @@ public class WikiService implements WikiModuleApi {
         var page = pageRepo.findByRoomIdAndSlug(roomId, slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Wiki page not found: " + slug));
 
-        var children = pageRepo.findByParentIdOrderByTitleAsc(page.getId());
-        Set<UUID> grandparentIds = new HashSet<>();
-        for (var child : children) {
-            // check if child has children
-            if (!pageRepo.findByParentIdOrderByTitleAsc(child.getId()).isEmpty()) {
-                grandparentIds.add(child.getId());
-            }
-        }
-
-        var childSummaries = children.stream()
-                .map(c -> new WikiPageSummary(
-                        c.getId(),
-                        c.getTitle(),
-                        c.getSlug(),
-                        c.getParentId(),
-                        grandparentIds.contains(c.getId()),
-                        c.getUpdatedAt()
-                ))
-                .toList();
+        var childSummaries = toSummaries(pageRepo.findChildNodes(page.getId()));
+        var breadcrumbs = page.getDepth() > 0 ? toSummaries(pageRepo.findAncestorNodes(page.getId())) : List.<WikiPageSummary>of();
 
         // Resolve user names
         Set<UUID> userIds = new HashSet<>();
@@ -108,6 +76,7 @@ public class WikiService implements WikiModuleApi {
                 page.getLastEditedBy(),
                 page.getLastEditedBy() != null ? userNames.getOrDefault(page.getLastEditedBy(), "Unbekannt") : null,
                 childSummaries,
+                breadcrumbs,
                 page.getCreatedAt(),
                 page.getUpdatedAt()
         );
@@ -120,8 +89,9 @@ public class WikiService implements WikiModuleApi {
         requireRoomMembership(userId, roomId);
 
         // Validate parent if specified
+        WikiPage parent = null;
         if (request.parentId() != null) {
-            var parent = pageRepo.findById(request.parentId())
+            parent = pageRepo.findById(request.parentId())
                     .orElseThrow(() -> new ResourceNotFoundException("Parent page not found"));
             if (!parent.getRoomId().equals(roomId)) {
                 throw new BadRequestException("Parent page does not belong to this room");
@@ -133,20 +103,21 @@ public class WikiService implements WikiModuleApi {
         var page = new WikiPage();
         page.setRoomId(roomId);
         page.setParentId(request.parentId());
+        page.setDepth(parent != null ? parent.getDepth() + 1 : 0);
         page.setTitle(request.title().trim());
         page.setSlug(slug);
         page.setContent(request.content() != null ? request.content() : "");
         page.setCreatedBy(userId);
         page.setLastEditedBy(userId);
-        pageRepo.save(page);
+        pageRepo.saveAndFlush(page);
+
+        pageRepo.insertClosure(page.getId(), page.getParentId());
+        if (parent != null) {
+            pageRepo.adjustChildCount(parent.getId(), 1);
+        }
+        var breadcrumbs = parent != null ? toSummaries(pageRepo.findAncestorNodes(page.getId())) : List.<WikiPageSummary>of();
 
-        // Create initial version
-        var version = new WikiPageVersion();
-        version.setPageId(page.getId());
-        version.setTitle(page.getTitle());
-        version.setContent(page.getContent());
-        version.setEditedBy(userId);
-        versionRepo.save(version);
+        versionStore.append(page.getId(), null, page.getTitle(), page.getContent(), userId);
 
         String userName = userModule.findById(userId).map(UserInfo::displayName).orElse("Unbekannt");
 
@@ -165,6 +136,7 @@ public class WikiService implements WikiModuleApi {
                 page.getLastEditedBy(),
                 userName,
                 List.of(),
+                breadcrumbs,
                 page.getCreatedAt(),
                 page.getUpdatedAt()
         );
@@ -174,21 +146,18 @@ public class WikiService implements WikiModuleApi {
 
     @Transactional
     public WikiPageResponse updatePage(UUID pageId, UUID userId, UpdatePageRequest request) {
-        var page = requirePage(pageId);
+        var page = pageRepo.findByIdForUpdate(pageId)
+                .orElseThrow(() -> new ResourceNotFoundException("Wiki page not found: " + pageId));
         requireRoomMembership(userId, page.getRoomId());
 
+        // The page holds the content of its latest version, the base for the new delta
+        String previousContent = page.getContent();
         page.setTitle(request.title().trim());
         page.setContent(request.content());
         page.setLastEditedBy(userId);
         pageRepo.save(page);
 
-        // Create new version
-        var version = new WikiPageVersion();
-        version.setPageId(page.getId());
-        version.setTitle(page.getTitle());
-        version.setContent(page.getContent());
-        version.setEditedBy(userId);
-        versionRepo.save(version);
+        versionStore.append(page.getId(), previousContent, page.getTitle(), page.getContent(), userId);
 
         eventPublisher.publishEvent(new WikiPageSavedEvent(
                 page.getId(), page.getRoomId(), page.getTitle(), page.getContent(), page.getSlug()));
@@ -203,31 +172,40 @@ public class WikiService implements WikiModuleApi {
         var page = requirePage(pageId);
         requireRoomMembership(userId, page.getRoomId());
 
-        // Children become root pages (parent_id set to NULL by ON DELETE SET NULL)
+        // Children become root pages (parent_id set to NULL by ON DELETE SET NULL), so the
+        // subtree moves up and loses its links to this page and its ancestors
         UUID deletedPageId = page.getId();
+        pageRepo.shiftSubtreeDepth(deletedPageId, page.getDepth() + 1);
+        pageRepo.detachSubtree(deletedPageId);
+        if (page.getParentId() != null) {
+            pageRepo.adjustChildCount(page.getParentId(), -1);
+        }
         pageRepo.delete(page);
         eventPublisher.publishEvent(new WikiPageDeletedEvent(deletedPageId));
     }
 
     // ---- Version History ----
 
+    /**
+     * Lists the history of a page without version contents; see {@link #getVersion}.
+     */
     public List<WikiPageVersionResponse> getVersions(UUID pageId) {
-        var versions = versionRepo.findByPageIdOrderByCreatedAtDesc(pageId);
+        var versions = versionRepo.findHeadersByPageId(pageId);
 
         Set<UUID> userIds = new HashSet<>();
         for (var v : versions) {
-            userIds.add(v.getEditedBy());
+            if (v.editedBy() != null) userIds.add(v.editedBy());
         }
         Map<UUID, String> userNames = resolveUserNames(userIds);
 
         return versions.stream()
                 .map(v -> new WikiPageVersionResponse(
-                        v.getId(),
-                        v.getTitle(),
-                        v.getContent(),
-                        v.getEditedBy(),
-                        userNames.getOrDefault(v.getEditedBy(), "Unbekannt"),
-                        v.getCreatedAt()
+                        v.id(),
+                        v.title(),
+                        null,
+                        v.editedBy(),
+                        userNames.getOrDefault(v.editedBy(), "Unbekannt"),
+                        v.createdAt()
                 ))
                 .toList();
     }
@@ -242,7 +220,7 @@ public class WikiService implements WikiModuleApi {
         return new WikiPageVersionResponse(
                 version.getId(),
                 version.getTitle(),
-                version.getContent(),
+                versionStore.contentOf(version),
                 version.getEditedBy(),
                 userName,
                 version.getCreatedAt()
@@ -255,27 +233,33 @@ public class WikiService implements WikiModuleApi {
         if (query == null || query.trim().isEmpty()) {
             return List.of();
         }
-        var pages = pageRepo.searchByRoomIdAndQuery(roomId, query.trim());
-
-        // Build parent ID set for hasChildren
-        var allPages = pageRepo.findByRoomIdOrderByTitleAsc(roomId);
-        Set<UUID> parentIds = new HashSet<>();
-        for (var p : allPages) {
-            if (p.getParentId() != null) {
-                parentIds.add(p.getParentId());
-            }
+        String q = query.trim();
+        String titlePattern = "%" + q.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        var ids = pageRepo.searchIds(roomId, q, titlePattern, SEARCH_LIMIT);
+        if (ids.isEmpty()) {
+            return List.of();
         }
 
-        return pages.stream()
-                .map(p -> new WikiPageSummary(
-                        p.getId(),
-                        p.getTitle(),
-                        p.getSlug(),
-                        p.getParentId(),
-                        parentIds.contains(p.getId()),
-                        p.getUpdatedAt()
-                ))
-                .toList();
+        // Keep the ranking of the search query
+        Map<UUID, WikiPageNode> nodes = new HashMap<>();
+        for (var node : pageRepo.findNodesByIdIn(ids)) {
+            nodes.put(node.id(), node);
+        }
+        return toSummaries(ids.stream().map(nodes::get).filter(Objects::nonNull).toList());
+    }
+
+    // ---- Subtree ----
+
+    /**
+     * All pages below a page, level by level and by title within a level.
+     */
+    public List<WikiPageSummary> getSubtree(UUID roomId, UUID pageId, UUID userId) {
+        var page = requirePage(pageId);
+        if (!page.getRoomId().equals(roomId)) {
+            throw new ResourceNotFoundException("Wiki page not found: " + pageId);
+        }
+        requireRoomMembership(userId, roomId);
+        return toSummaries(pageRepo.findSubtreeNodes(pageId));
     }
 
     // ---- Re-indexing ----
@@ -337,6 +321,12 @@ public class WikiService implements WikiModuleApi {
 
     // ---- Helpers ----
 
+    private List<WikiPageSummary> toSummaries(List<WikiPageNode> nodes) {
+        return nodes.stream()
+                .map(n -> new WikiPageSummary(n.id(), n.title(), n.slug(), n.parentId(), n.childCount() > 0, n.updatedAt()))
+                .toList();
+    }
+
     private WikiPage requirePage(UUID pageId) {
         return pageRepo.findById(pageId)
                 .orElseThrow(() -> new ResourceNotFoundException("Wiki page not found: " + pageId));
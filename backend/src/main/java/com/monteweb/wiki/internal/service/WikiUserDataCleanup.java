@@ -1,34 +1,39 @@
 package com.monteweb.wiki.internal.service;
 
-import com.monteweb.user.UserDeletionExecutedEvent;
+import com.monteweb.user.UserDataCleanup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.UUID;
+
 /**
  * DSGVO: Anonymizes wiki data when a user account is deleted.
  */
 @Component
 @ConditionalOnProperty(prefix = "monteweb.modules.wiki", name = "enabled", havingValue = "true")
-public class WikiDeletionListener {
+public class WikiUserDataCleanup implements UserDataCleanup {
 
-    private static final Logger log = LoggerFactory.getLogger(WikiDeletionListener.class);
+    private static final Logger log = LoggerFactory.getLogger(WikiUserDataCleanup.class);
 
     private final WikiService wikiService;
 
-    public WikiDeletionListener(WikiService wikiService) {
+    public WikiUserDataCleanup(WikiService wikiService) {
         this.wikiService = wikiService;
     }
 
-    @Async
-    @EventListener
+    @Override
+    public String module() {
+        return "wiki";
+    }
+
+    @Override
     @Transactional
-    public void onUserDeletion(UserDeletionExecutedEvent event) {
-        log.info("Anonymizing wiki data for deleted user {}", event.userId());
-        wikiService.cleanupUserData(event.userId());
+    public void cleanupUsers(Collection<UUID> userIds) {
+        log.info("Anonymizing wiki data for {} deleted users", userIds.size());
+        userIds.forEach(wikiService::cleanupUserData);
     }
 }
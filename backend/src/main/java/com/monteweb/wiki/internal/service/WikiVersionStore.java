@@ -0,0 +1,89 @@
+package com.monteweb.wiki.internal.service;
+
+import com.monteweb.wiki.internal.model.WikiPageVersion;
+import com.monteweb.wiki.internal.repository.WikiPageVersionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Stores wiki page history as periodic full snapshots with a {@link WikiDelta} against
+ * the previous version for every edit in between.
+ * <p>
+ * A new snapshot is written after {@link #SNAPSHOT_INTERVAL} versions, or earlier once
+ * the deltas since the last snapshot add up to more than the page itself. Rebuilding a
+ * version therefore replays at most {@code SNAPSHOT_INTERVAL - 1} deltas, and never
+ * reads more delta text than a full copy would take.
+ */
+@Component
+@ConditionalOnProperty(prefix = "monteweb.modules", name = "wiki.enabled", havingValue = "true")
+public class WikiVersionStore {
+
+    public static final int SNAPSHOT_INTERVAL = 50;
+
+    private final WikiPageVersionRepository versionRepo;
+
+    public WikiVersionStore(WikiPageVersionRepository versionRepo) {
+        this.versionRepo = versionRepo;
+    }
+
+    /**
+     * Whether the next version should be stored as a snapshot rather than a delta.
+     *
+     * @param deltasSinceSnapshot versions stored as deltas since the last snapshot
+     * @param deltaCharsSinceSnapshot total length of those deltas
+     */
+    public static boolean needsSnapshot(int deltasSinceSnapshot, long deltaCharsSinceSnapshot,
+                                        int deltaLength, int contentLength) {
+        return deltasSinceSnapshot + 1 >= SNAPSHOT_INTERVAL
+                || deltaCharsSinceSnapshot + deltaLength > contentLength;
+    }
+
+    /**
+     * Appends a version to the page's history. The caller holds the page lock, and
+     * {@code previousContent} is the content of the latest version ({@code null} for a
+     * new page).
+     */
+    public WikiPageVersion append(UUID pageId, String previousContent, String title, String content,
+                                  UUID editedBy) {
+        var tail = versionRepo.findChainTail(pageId);
+
+        var version = new WikiPageVersion();
+        version.setPageId(pageId);
+        version.setVersionNumber(tail.latestVersion() + 1);
+        version.setTitle(title);
+        version.setEditedBy(editedBy);
+
+        String delta = tail.latestVersion() > 0 && previousContent != null
+                ? WikiDelta.diff(previousContent, content)
+                : null;
+        if (delta == null || needsSnapshot(tail.latestVersion() - tail.snapshotVersion(), tail.deltaChars(),
+                delta.length(), content.length())) {
+            version.setSnapshot(true);
+            version.setContent(content);
+        } else {
+            version.setDelta(delta);
+        }
+        return versionRepo.save(version);
+    }
+
+    /**
+     * Rebuilds the content of a version from its nearest snapshot.
+     */
+    public String contentOf(WikiPageVersion version) {
+        if (version.isSnapshot()) {
+            return version.getContent();
+        }
+        var chain = versionRepo.findReplayChain(version.getPageId(), version.getVersionNumber());
+        if (chain.isEmpty() || !chain.getFirst().isSnapshot()
+                || chain.getLast().getVersionNumber() != version.getVersionNumber()) {
+            throw new IllegalStateException("Broken version chain for wiki page " + version.getPageId());
+        }
+        String content = chain.getFirst().getContent();
+        for (var step : chain.subList(1, chain.size())) {
+            content = WikiDelta.apply(content, step.getDelta());
+        }
+        return content;
+    }
+}
@@ -0,0 +1,312 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * V123: Converts existing wiki histories, stored as full copies by V122, to snapshots
+ * and deltas. Pages are streamed one at a time, so only two versions are held in memory.
+ * <p>
+ * The next edit of a page is stored as a delta against the page's current content, so
+ * that content must be the latest version. Where it is not (pages edited before their
+ * history was kept), it is first added as a new version.
+ * <p>
+ * The delta encoding and snapshot placement are copied from {@code WikiDelta} and
+ * {@code WikiVersionStore} as they were when this migration was written, so later
+ * changes to the application code cannot change what this migration does.
+ */
+public class V123__Compact_wiki_version_history extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int SNAPSHOT_INTERVAL = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (var statement = connection.prepareStatement("""
+                INSERT INTO wiki_page_versions (page_id, version_number, is_snapshot, content, title, edited_by, created_at)
+                SELECT p.id, latest.version_number + 1, TRUE, p.content, p.title, p.last_edited_by, now()
+                FROM wiki_pages p
+                JOIN LATERAL (SELECT v.version_number, v.content FROM wiki_page_versions v
+                              WHERE v.page_id = p.id
+                              ORDER BY v.version_number DESC LIMIT 1) latest ON TRUE
+                WHERE latest.content IS DISTINCT FROM p.content
+                """)) {
+            statement.executeUpdate();
+        }
+
+        List<UUID> pageIds = new ArrayList<>();
+        try (var statement = connection.prepareStatement(
+                "SELECT page_id FROM wiki_page_versions GROUP BY page_id HAVING COUNT(*) > 1");
+             var rows = statement.executeQuery()) {
+            while (rows.next()) {
+                pageIds.add(rows.getObject(1, UUID.class));
+            }
+        }
+
+        try (var update = connection.prepareStatement(
+                "UPDATE wiki_page_versions SET is_snapshot = FALSE, content = NULL, delta = ? WHERE id = ?")) {
+            for (UUID pageId : pageIds) {
+                compactPage(connection, update, pageId);
+            }
+        }
+    }
+
+    private void compactPage(Connection connection, PreparedStatement update, UUID pageId) throws SQLException {
+        try (var select = connection.prepareStatement(
+                "SELECT id, content FROM wiki_page_versions WHERE page_id = ? ORDER BY version_number")) {
+            select.setObject(1, pageId);
+            select.setFetchSize(100);
+            try (var rows = select.executeQuery()) {
+                String previous = null;
+                int deltasSinceSnapshot = 0;
+                long deltaCharsSinceSnapshot = 0;
+                int pending = 0;
+                while (rows.next()) {
+                    UUID id = rows.getObject(1, UUID.class);
+                    String content = rows.getString(2);
+                    if (previous != null) {
+                        String delta = Delta.diff(previous, content);
+                        if (needsSnapshot(deltasSinceSnapshot, deltaCharsSinceSnapshot,
+                                delta.length(), content.length())) {
+                            deltasSinceSnapshot = 0;
+                            deltaCharsSinceSnapshot = 0;
+                        } else {
+                            update.setString(1, delta);
+                            update.setObject(2, id);
+                            update.addBatch();
+                            deltasSinceSnapshot++;
+                            deltaCharsSinceSnapshot += delta.length();
+                            if (++pending == BATCH_SIZE) {
+                                update.executeBatch();
+                                pending = 0;
+                            }
+                        }
+                    }
+                    previous = content;
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                }
+            }
+        }
+    }
+
+    private static boolean needsSnapshot(int deltasSinceSnapshot, long deltaCharsSinceSnapshot,
+                                         int deltaLength, int contentLength) {
+        return deltasSinceSnapshot + 1 >= SNAPSHOT_INTERVAL
+                || deltaCharsSinceSnapshot + deltaLength > contentLength;
+    }
+
+    /**
+     * Line-based diff in the delta format of {@code wiki_page_versions.delta}: {@code =n;}
+     * copies, {@code -n;} skips and {@code +n:text} inserts n characters of the base text.
+     */
+    private static final class Delta {
+
+        /** Beyond this many line edits the middle is replaced as a whole. */
+        private static final int MAX_EDIT_DISTANCE = 1_000;
+
+        private static final byte EQUAL = 0;
+        private static final byte DELETE = 1;
+        private static final byte INSERT = 2;
+
+        private Delta() {
+        }
+
+        /**
+         * Encodes the changes that turn {@code base} into {@code target}.
+         */
+        static String diff(String base, String target) {
+            String[] a = lines(base);
+            String[] b = lines(target);
+
+            int head = 0;
+            while (head < a.length && head < b.length && a[head].equals(b[head])) head++;
+            int tail = 0;
+            while (tail < a.length - head && tail < b.length - head
+                    && a[a.length - 1 - tail].equals(b[b.length - 1 - tail])) tail++;
+
+            String[] midA = Arrays.copyOfRange(a, head, a.length - tail);
+            String[] midB = Arrays.copyOfRange(b, head, b.length - tail);
+
+            var out = new Encoder(a, b);
+            out.equal(head);
+            byte[] script = editScript(midA, midB);
+            if (script == null) {
+                out.delete(midA.length);
+                out.insert(midB.length);
+            } else {
+                for (byte op : script) {
+                    switch (op) {
+                        case EQUAL -> out.equal(1);
+                        case DELETE -> out.delete(1);
+                        default -> out.insert(1);
+                    }
+                }
+            }
+            out.equal(tail);
+            return out.finish();
+        }
+
+        /**
+         * Splits into lines that keep their terminators, so that joining them restores the text.
+         */
+        private static String[] lines(String text) {
+            List<String> lines = new ArrayList<>();
+            int start = 0;
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '\n') {
+                    lines.add(text.substring(start, i + 1));
+                    start = i + 1;
+                }
+            }
+            if (start < text.length()) {
+                lines.add(text.substring(start));
+            }
+            return lines.toArray(String[]::new);
+        }
+
+        /**
+         * Shortest edit script from {@code a} to {@code b} (Myers), or {@code null} if it
+         * needs more than {@link #MAX_EDIT_DISTANCE} edits.
+         */
+        private static byte[] editScript(String[] a, String[] b) {
+            int n = a.length;
+            int m = b.length;
+            if (n == 0 || m == 0) {
+                byte[] script = new byte[n + m];
+                Arrays.fill(script, n == 0 ? INSERT : DELETE);
+                return script;
+            }
+
+            int max = Math.min(n + m, MAX_EDIT_DISTANCE);
+            int offset = max + 1;
+            int[] v = new int[2 * max + 3];
+            // trace.get(d) holds v[-d-1 .. d+1] as it was before step d
+            List<int[]> trace = new ArrayList<>();
+            for (int d = 0; d <= max; d++) {
+                trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+                for (int k = -d; k <= d; k += 2) {
+                    int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                            ? v[offset + k + 1]
+                            : v[offset + k - 1] + 1;
+                    int y = x - k;
+                    while (x < n && y < m && a[x].equals(b[y])) {
+                        x++;
+                        y++;
+                    }
+                    v[offset + k] = x;
+                    if (x >= n && y >= m) {
+                        return backtrack(trace, d, n, m);
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static byte[] backtrack(List<int[]> trace, int distance, int n, int m) {
+            byte[] reversed = new byte[n + m];
+            int length = 0;
+            int x = n;
+            int y = m;
+            for (int d = distance; d >= 0; d--) {
+                int[] v = trace.get(d);
+                int k = x - y;
+                int prevK = (k == -d || (k != d && v[k - 1 + d + 1] < v[k + 1 + d + 1])) ? k + 1 : k - 1;
+                int prevX = v[prevK + d + 1];
+                int prevY = prevX - prevK;
+                while (x > prevX && y > prevY) {
+                    reversed[length++] = EQUAL;
+                    x--;
+                    y--;
+                }
+                if (d > 0) {
+                    reversed[length++] = x == prevX ? INSERT : DELETE;
+                }
+                x = prevX;
+                y = prevY;
+            }
+            byte[] script = new byte[length];
+            for (int i = 0; i < length; i++) {
+                script[i] = reversed[length - 1 - i];
+            }
+            return script;
+        }
+
+        /**
+         * Turns per-line operations into run-length encoded character operations.
+         */
+        private static final class Encoder {
+            private final String[] a;
+            private final String[] b;
+            private final StringBuilder out = new StringBuilder();
+            private final StringBuilder pendingInsert = new StringBuilder();
+            private int posA;
+            private int posB;
+            private char pendingOp;
+            private int pendingChars;
+
+            Encoder(String[] a, String[] b) {
+                this.a = a;
+                this.b = b;
+            }
+
+            void equal(int count) {
+                for (int i = 0; i < count; i++) {
+                    add('=', a[posA++].length());
+                    posB++;
+                }
+            }
+
+            void delete(int count) {
+                for (int i = 0; i < count; i++) {
+                    add('-', a[posA++].length());
+                }
+            }
+
+            void insert(int count) {
+                for (int i = 0; i < count; i++) {
+                    String line = b[posB++];
+                    add('+', line.length());
+                    pendingInsert.append(line);
+                }
+            }
+
+            private void add(char op, int chars) {
+                if (op != pendingOp) {
+                    flush();
+                    pendingOp = op;
+                }
+                pendingChars += chars;
+            }
+
+            private void flush() {
+                if (pendingChars > 0) {
+                    out.append(pendingOp).append(pendingChars);
+                    if (pendingOp == '+') {
+                        out.append(':').append(pendingInsert);
+                    } else {
+                        out.append(';');
+                    }
+                }
+                pendingInsert.setLength(0);
+                pendingChars = 0;
+            }
+
+            String finish() {
+                flush();
+                return out.toString();
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+-- V117: Incrementally maintained per-question result aggregates for forms
+CREATE TABLE form_question_aggregates (
+    question_id       UUID PRIMARY KEY REFERENCES form_questions(id) ON DELETE CASCADE,
+    form_id           UUID NOT NULL REFERENCES forms(id) ON DELETE CASCADE,
+    answer_count      INT NOT NULL DEFAULT 0,
+    option_counts     JSONB NOT NULL DEFAULT '{}'::jsonb,
+    rating_sum        BIGINT NOT NULL DEFAULT 0,
+    rating_count      INT NOT NULL DEFAULT 0,
+    rating_histogram  JSONB NOT NULL DEFAULT '{}'::jsonb,
+    yes_count         INT NOT NULL DEFAULT 0,
+    no_count          INT NOT NULL DEFAULT 0,
+    updated_at        TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_form_question_aggregates_form ON form_question_aggregates(form_id);
+
+-- Backfill aggregates for all existing questions from the raw answers
+INSERT INTO form_question_aggregates
+    (question_id, form_id, answer_count, option_counts, rating_sum, rating_count, rating_histogram, yes_count, no_count)
+SELECT q.id,
+       q.form_id,
+       COUNT(a.id),
+       COALESCE((SELECT jsonb_object_agg(o.opt, o.cnt)
+                 FROM (SELECT opt, COUNT(*) AS cnt
+                       FROM form_answers oa, jsonb_array_elements_text(oa.answer_options) AS opt
+                       WHERE oa.question_id = q.id
+                         AND q.type IN ('SINGLE_CHOICE', 'MULTIPLE_CHOICE')
+                         AND jsonb_typeof(oa.answer_options) = 'array'
+                       GROUP BY opt) o), '{}'::jsonb),
+       COALESCE(SUM(a.answer_rating) FILTER (WHERE q.type = 'RATING'), 0),
+       COUNT(a.answer_rating) FILTER (WHERE q.type = 'RATING'),
+       COALESCE((SELECT jsonb_object_agg(r.rating::text, r.cnt)
+                 FROM (SELECT ra.answer_rating AS rating, COUNT(*) AS cnt
+                       FROM form_answers ra
+                       WHERE ra.question_id = q.id
+                         AND q.type = 'RATING'
+                         AND ra.answer_rating IS NOT NULL
+                       GROUP BY ra.answer_rating) r), '{}'::jsonb),
+       COUNT(a.id) FILTER (WHERE q.type = 'YES_NO' AND lower(a.answer_text) = 'yes'),
+       COUNT(a.id) FILTER (WHERE q.type = 'YES_NO' AND lower(a.answer_text) = 'no')
+FROM form_questions q
+LEFT JOIN form_answers a ON a.question_id = q.id
+GROUP BY q.id, q.form_id, q.type;
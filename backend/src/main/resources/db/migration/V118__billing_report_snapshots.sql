@@ -0,0 +1,21 @@
+-- V118: Range index for the grouped billing aggregation and immutable report snapshots
+
+-- Billing reports sum confirmed, completed assignments of all families by confirmation date
+CREATE INDEX idx_job_assignments_confirmed_range
+    ON job_assignments (confirmed_at, family_id)
+    WHERE status = 'COMPLETED' AND confirmed = true;
+
+-- The report of a closed period is frozen when it is closed and must never change afterwards
+CREATE OR REPLACE FUNCTION billing_periods_protect_snapshot() RETURNS trigger AS $$
+BEGIN
+    IF OLD.status = 'CLOSED'
+       AND (NEW.report_data IS DISTINCT FROM OLD.report_data OR NEW.status <> 'CLOSED') THEN
+        RAISE EXCEPTION 'Report snapshot of closed billing period % is immutable', OLD.id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_billing_periods_protect_snapshot
+    BEFORE UPDATE ON billing_periods
+    FOR EACH ROW EXECUTE FUNCTION billing_periods_protect_snapshot();
@@ -0,0 +1,10 @@
+-- V119: Maintained count of non-cancelled assignments per job, read by the job board instead of a COUNT per job
+ALTER TABLE jobs ADD COLUMN active_assignee_count INT NOT NULL DEFAULT 0;
+
+UPDATE jobs j
+SET active_assignee_count = c.cnt
+FROM (SELECT job_id, COUNT(*) AS cnt
+      FROM job_assignments
+      WHERE status <> 'CANCELLED'
+      GROUP BY job_id) c
+WHERE c.job_id = j.id;
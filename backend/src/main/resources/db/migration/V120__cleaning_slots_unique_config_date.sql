@@ -0,0 +1,48 @@
+-- V120: At most one slot per config and date, so slot generation can insert with ON CONFLICT DO NOTHING.
+-- Duplicates are merged first: per config and date, the slot to keep is the non-cancelled one with the
+-- most registrations (then the oldest). Registrations of the other duplicates move onto it; a user
+-- registered more than once keeps the registration carrying the most work history (checked out,
+-- confirmed, minutes recorded), then the one on the kept slot, then their oldest one.
+CREATE TEMP TABLE cleaning_slot_merge AS
+SELECT id AS duplicate_id, keep_id
+FROM (
+    SELECT s.id,
+           first_value(s.id) OVER (
+               PARTITION BY s.config_id, s.slot_date
+               ORDER BY s.cancelled,
+                        (SELECT count(*) FROM cleaning_registrations r WHERE r.slot_id = s.id) DESC,
+                        s.created_at, s.id) AS keep_id
+    FROM cleaning_slots s
+) ranked
+WHERE id <> keep_id;
+
+DELETE FROM cleaning_registrations r
+USING (
+    SELECT r.id,
+           row_number() OVER (
+               PARTITION BY coalesce(m.keep_id, r.slot_id), r.user_id
+               ORDER BY r.checked_out DESC, r.confirmed DESC, (r.actual_minutes IS NOT NULL) DESC,
+                        (m.keep_id IS NULL) DESC, r.created_at, r.id) AS n
+    FROM cleaning_registrations r
+    LEFT JOIN cleaning_slot_merge m ON m.duplicate_id = r.slot_id
+    WHERE r.slot_id IN (SELECT duplicate_id FROM cleaning_slot_merge)
+       OR r.slot_id IN (SELECT keep_id FROM cleaning_slot_merge)
+) conflicting
+WHERE r.id = conflicting.id
+  AND conflicting.n > 1;
+
+UPDATE cleaning_registrations r
+SET slot_id = m.keep_id
+FROM cleaning_slot_merge m
+WHERE r.slot_id = m.duplicate_id;
+
+DELETE FROM cleaning_slots s
+USING cleaning_slot_merge m
+WHERE s.id = m.duplicate_id;
+
+DROP TABLE cleaning_slot_merge;
+
+CREATE UNIQUE INDEX idx_cleaning_slots_config_date ON cleaning_slots (config_id, slot_date);
+
+-- Covered by the unique index
+DROP INDEX IF EXISTS idx_cleaning_slots_config;
@@ -0,0 +1,15 @@
+-- V121: Background CSV user imports, polled by the admin UI for progress and result
+CREATE TABLE csv_import_jobs (
+    id              UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    status          VARCHAR(20) NOT NULL DEFAULT 'QUEUED',
+    dry_run         BOOLEAN NOT NULL DEFAULT false,
+    total_rows      INTEGER NOT NULL DEFAULT 0,
+    processed_rows  INTEGER NOT NULL DEFAULT 0,
+    result          JSONB,
+    error_message   VARCHAR(1000),
+    created_by      UUID REFERENCES users(id) ON DELETE SET NULL,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    finished_at     TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_csv_import_jobs_created ON csv_import_jobs (created_at);
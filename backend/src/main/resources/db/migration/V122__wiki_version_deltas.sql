@@ -0,0 +1,23 @@
+-- V122: Wiki history as periodic full snapshots with a delta against the previous version
+-- for every edit in between. Existing versions start out as snapshots; V123 converts
+-- them to deltas.
+ALTER TABLE wiki_page_versions ADD COLUMN version_number INT;
+ALTER TABLE wiki_page_versions ADD COLUMN is_snapshot BOOLEAN NOT NULL DEFAULT TRUE;
+ALTER TABLE wiki_page_versions ADD COLUMN delta TEXT;
+ALTER TABLE wiki_page_versions ALTER COLUMN content DROP NOT NULL;
+
+UPDATE wiki_page_versions v
+SET version_number = numbered.rn
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY page_id ORDER BY created_at, id) AS rn
+      FROM wiki_page_versions) numbered
+WHERE v.id = numbered.id;
+
+ALTER TABLE wiki_page_versions ALTER COLUMN version_number SET NOT NULL;
+ALTER TABLE wiki_page_versions ALTER COLUMN is_snapshot DROP DEFAULT;
+ALTER TABLE wiki_page_versions ADD CONSTRAINT chk_wiki_versions_body CHECK (
+    (is_snapshot AND content IS NOT NULL AND delta IS NULL)
+    OR (NOT is_snapshot AND content IS NULL AND delta IS NOT NULL));
+
+-- Replaces idx_wiki_versions_page; serves history listings and replay chains
+CREATE UNIQUE INDEX idx_wiki_versions_page_number ON wiki_page_versions(page_id, version_number);
+DROP INDEX IF EXISTS idx_wiki_versions_page;
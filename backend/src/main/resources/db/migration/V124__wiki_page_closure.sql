@@ -0,0 +1,44 @@
+-- V124: Wiki page tree as a closure table, with depth and child count on each page,
+-- plus indexes for room-scoped search.
+CREATE TABLE wiki_page_closure (
+    ancestor_id   UUID NOT NULL REFERENCES wiki_pages(id) ON DELETE CASCADE,
+    descendant_id UUID NOT NULL REFERENCES wiki_pages(id) ON DELETE CASCADE,
+    depth         INT  NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+-- Breadcrumbs: all ancestors of a page
+CREATE INDEX idx_wiki_closure_descendant ON wiki_page_closure(descendant_id, depth);
+
+ALTER TABLE wiki_pages ADD COLUMN depth INT NOT NULL DEFAULT 0;
+ALTER TABLE wiki_pages ADD COLUMN child_count INT NOT NULL DEFAULT 0;
+
+INSERT INTO wiki_page_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth FROM wiki_pages
+    UNION ALL
+    SELECT p.ancestor_id, c.id, p.depth + 1
+    FROM paths p
+    JOIN wiki_pages c ON c.parent_id = p.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM paths;
+
+UPDATE wiki_pages w
+SET depth = d.depth
+FROM (SELECT descendant_id, MAX(depth) AS depth FROM wiki_page_closure GROUP BY descendant_id) d
+WHERE w.id = d.descendant_id;
+
+UPDATE wiki_pages w
+SET child_count = c.children
+FROM (SELECT parent_id, COUNT(*) AS children FROM wiki_pages WHERE parent_id IS NOT NULL GROUP BY parent_id) c
+WHERE w.id = c.parent_id;
+
+-- Search: full text over title and content, trigram matching on the title
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE wiki_pages ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('german', coalesce(title, '')), 'A')
+    || setweight(to_tsvector('german', coalesce(content, '')), 'B')) STORED;
+
+CREATE INDEX idx_wiki_pages_search ON wiki_pages USING GIN (search_vector);
+CREATE INDEX idx_wiki_pages_title_trgm ON wiki_pages USING GIN (title gin_trgm_ops);
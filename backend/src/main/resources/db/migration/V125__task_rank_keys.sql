@@ -0,0 +1,16 @@
+-- V125: Order tasks by fractional rank keys instead of integer positions, so that a move
+-- only writes the moved task. Keys compare in byte order (see TaskRank); existing tasks
+-- get fixed-width keys in their current order, which the rebalancer shortens later.
+ALTER TABLE tasks ADD COLUMN sort_rank VARCHAR(255) COLLATE "C";
+
+UPDATE tasks t
+SET sort_rank = lpad(numbered.rn::text, 6, '0') || 'i'
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY column_id ORDER BY position, created_at, id) AS rn
+      FROM tasks) numbered
+WHERE t.id = numbered.id;
+
+ALTER TABLE tasks ALTER COLUMN sort_rank SET NOT NULL;
+ALTER TABLE tasks DROP COLUMN position;
+
+DROP INDEX IF EXISTS idx_tasks_column_id;
+CREATE INDEX idx_tasks_column_rank ON tasks(column_id, sort_rank);
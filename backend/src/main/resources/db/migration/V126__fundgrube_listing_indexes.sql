@@ -0,0 +1,10 @@
+-- V126: Indexes for the keyset-paginated Fundgrube listing. Pages continue after the
+-- (created_at, id) of the last item, and the free-text filter matches title and
+-- description with ILIKE, which trigram indexes can serve.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP INDEX IF EXISTS idx_fundgrube_items_created;
+CREATE INDEX idx_fundgrube_items_created ON fundgrube_items (created_at DESC, id DESC);
+
+CREATE INDEX idx_fundgrube_items_title_trgm ON fundgrube_items USING gin (title gin_trgm_ops);
+CREATE INDEX idx_fundgrube_items_description_trgm ON fundgrube_items USING gin (description gin_trgm_ops);
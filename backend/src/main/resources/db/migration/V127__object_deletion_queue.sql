@@ -0,0 +1,14 @@
+-- V127: Durable queue of MinIO objects to remove. Callers enqueue keys in the transaction
+-- that deletes the owning rows; ObjectDeletionWorker removes them in bulk and retries failures.
+CREATE TABLE object_deletion_queue (
+    id              BIGSERIAL PRIMARY KEY,
+    bucket          VARCHAR(255) NOT NULL,
+    object_key      VARCHAR(1024) NOT NULL,
+    attempts        INTEGER NOT NULL DEFAULT 0,
+    last_error      VARCHAR(1000),
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+-- Entries that ran out of attempts stay for inspection but are never claimed again
+CREATE INDEX idx_object_deletion_queue_due ON object_deletion_queue (next_attempt_at, id) WHERE attempts < 10;
@@ -0,0 +1,39 @@
+-- V128: Garbage collection of storage objects no module references any more.
+-- Orphans are quarantined on first sight and deleted only if still unreferenced after the
+-- quarantine period; every run records what it scanned and reclaimed for the admin report.
+CREATE TABLE storage_orphans (
+    bucket          VARCHAR(255) NOT NULL,
+    object_key      VARCHAR(1024) NOT NULL,
+    size_bytes      BIGINT NOT NULL,
+    detected_at     TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    last_seen_at    TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    PRIMARY KEY (bucket, object_key)
+);
+
+CREATE TABLE storage_gc_runs (
+    id                  UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    status              VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    objects_scanned     BIGINT NOT NULL DEFAULT 0,
+    bytes_scanned       BIGINT NOT NULL DEFAULT 0,
+    orphans_quarantined INTEGER NOT NULL DEFAULT 0,
+    orphans_deleted     INTEGER NOT NULL DEFAULT 0,
+    bytes_reclaimed     BIGINT NOT NULL DEFAULT 0,
+    error_message       VARCHAR(1000),
+    started_at          TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    finished_at         TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_storage_gc_runs_started ON storage_gc_runs (started_at DESC);
+-- At most one run at a time, across instances
+CREATE UNIQUE INDEX idx_storage_gc_runs_running ON storage_gc_runs (status) WHERE status = 'RUNNING';
+
+-- Reference lookups check batches of listed keys against the owning tables
+CREATE INDEX IF NOT EXISTS idx_room_files_storage_path ON room_files (storage_path);
+CREATE INDEX IF NOT EXISTS idx_fotobox_images_storage_path ON fotobox_images (storage_path);
+CREATE INDEX IF NOT EXISTS idx_fotobox_images_thumbnail_path ON fotobox_images (thumbnail_path);
+CREATE INDEX IF NOT EXISTS idx_message_images_storage_path ON message_images (storage_path);
+CREATE INDEX IF NOT EXISTS idx_message_images_thumbnail_path ON message_images (thumbnail_path);
+CREATE INDEX IF NOT EXISTS idx_message_attachments_storage_path ON message_attachments (storage_path);
+CREATE INDEX IF NOT EXISTS idx_fundgrube_images_storage_path ON fundgrube_images (storage_path);
+CREATE INDEX IF NOT EXISTS idx_fundgrube_images_thumbnail_path ON fundgrube_images (thumbnail_path);
+CREATE INDEX IF NOT EXISTS idx_feed_post_attachments_file_url ON feed_post_attachments (file_url);
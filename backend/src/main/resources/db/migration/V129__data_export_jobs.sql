@@ -0,0 +1,19 @@
+-- V129: DSGVO data exports as background jobs. The finished ZIP archive lives in object
+-- storage under archive_key until expires_at.
+CREATE TABLE data_export_jobs (
+    id              UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id         UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    requested_by    UUID REFERENCES users(id) ON DELETE SET NULL,
+    status          VARCHAR(20) NOT NULL DEFAULT 'QUEUED',
+    total_steps     INTEGER NOT NULL DEFAULT 0,
+    completed_steps INTEGER NOT NULL DEFAULT 0,
+    archive_key     VARCHAR(500),
+    archive_size    BIGINT,
+    error_message   VARCHAR(1000),
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    finished_at     TIMESTAMP WITH TIME ZONE,
+    expires_at      TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_data_export_jobs_user ON data_export_jobs (user_id, created_at DESC);
+CREATE INDEX idx_data_export_jobs_expires ON data_export_jobs (expires_at) WHERE archive_key IS NOT NULL;
@@ -0,0 +1,15 @@
+-- V130: Per-user, per-module progress of account deletions. A user's rows are written
+-- in the transaction that anonymizes the account, each module's row is marked DONE in
+-- the transaction that cleans up its data, so an interrupted run resumes where it stopped.
+CREATE TABLE user_deletion_steps (
+    user_id     UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    module      VARCHAR(50) NOT NULL,
+    status      VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts    INTEGER NOT NULL DEFAULT 0,
+    last_error  VARCHAR(1000),
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    finished_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (user_id, module)
+);
+
+CREATE INDEX idx_user_deletion_steps_pending ON user_deletion_steps (module, user_id) WHERE status = 'PENDING';
@@ -0,0 +1,10 @@
+-- V131: The retention engine purges in (time, id) keyset order; these indexes make each
+-- chunk a short range scan. They replace the single-column time indexes, which the
+-- composite indexes cover.
+DROP INDEX IF EXISTS idx_notifications_created;
+CREATE INDEX idx_notifications_created_id ON notifications (created_at, id);
+
+CREATE INDEX idx_data_access_log_created_id ON data_access_log (created_at, id);
+
+DROP INDEX IF EXISTS idx_error_reports_last_seen;
+CREATE INDEX idx_error_reports_last_seen_id ON error_reports (last_seen_at, id);
@@ -0,0 +1,54 @@
+-- V132: Range-partition notifications by month (UTC)
+-- Partitions are named notifications_yYYYYmMM; NotificationPartitions creates the coming
+-- months and drops months that are past retention as a whole.
+
+ALTER TABLE notifications RENAME TO notifications_heap;
+ALTER TABLE notifications_heap RENAME CONSTRAINT notifications_pkey TO notifications_heap_pkey;
+
+-- The partition key has to be part of the primary key
+CREATE TABLE notifications (
+    id              UUID NOT NULL DEFAULT gen_random_uuid(),
+    user_id         UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    type            VARCHAR(50) NOT NULL,
+    title           VARCHAR(300) NOT NULL,
+    message         TEXT,
+    link            VARCHAR(500),
+    reference_type  VARCHAR(50),
+    reference_id    UUID,
+    is_read         BOOLEAN NOT NULL DEFAULT false,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- One partition per month from the oldest notification up to three months ahead
+DO $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month',
+            COALESCE((SELECT min(created_at) FROM notifications_heap), now()) AT TIME ZONE 'UTC');
+    last_month  TIMESTAMP := date_trunc('month',
+            GREATEST((SELECT max(created_at) FROM notifications_heap), now()) AT TIME ZONE 'UTC') + INTERVAL '3 months';
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+                       'notifications_y' || to_char(month_start, 'YYYY') || 'm' || to_char(month_start, 'MM'),
+                       month_start AT TIME ZONE 'UTC',
+                       (month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO notifications (id, user_id, type, title, message, link, reference_type, reference_id, is_read, created_at)
+SELECT id, user_id, type, title, message, link, reference_type, reference_id, is_read, created_at
+FROM notifications_heap;
+
+DROP TABLE notifications_heap;
+
+-- Created on the parent, so every partition (including future ones) gets them
+-- Newest notifications of a user: an ordered scan per partition, merged by the LIMIT
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at DESC);
+-- Unread badge and "mark all as read"
+CREATE INDEX idx_notifications_user_unread ON notifications (user_id) WHERE is_read = false;
+-- Keyset walk of the retention engine within the partition the cutoff falls into
+CREATE INDEX idx_notifications_created_id ON notifications (created_at, id);
+
+ANALYZE notifications;
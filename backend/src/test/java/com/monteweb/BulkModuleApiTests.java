@@ -0,0 +1,71 @@
+package com.monteweb;
+
+import com.monteweb.calendar.CalendarModuleApi;
+import com.monteweb.family.FamilyModuleApi;
+import com.monteweb.feed.FeedModuleApi;
+import com.monteweb.forms.FormsModuleApi;
+import com.monteweb.room.RoomModuleApi;
+import com.monteweb.school.SchoolModuleApi;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.methods;
+
+/**
+ * Guards the bulk lookup surface of the module APIs and keeps list mappers from
+ * falling back to per-row cross-module lookups.
+ */
+class BulkModuleApiTests {
+
+    private static JavaClasses classes;
+
+    @BeforeAll
+    static void importClasses() {
+        classes = new ClassFileImporter()
+                .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+                .importPackages("com.monteweb");
+    }
+
+    @Test
+    void bulkLookupsReturnMapsKeyedById() {
+        methods()
+                .that().areDeclaredInClassesThat().belongToAnyOf(
+                        RoomModuleApi.class, CalendarModuleApi.class, FamilyModuleApi.class,
+                        SchoolModuleApi.class, FeedModuleApi.class, FormsModuleApi.class)
+                .and().haveNameMatching("find\\w*ByIds")
+                .should().haveRawReturnType(Map.class)
+                .check(classes);
+    }
+
+    @Test
+    void listMappersDoNotLookUpSingleEntitiesOfOtherModules() {
+        methods()
+                .that().haveNameMatching("to\\w+Infos")
+                .and().areDeclaredInClassesThat().resideInAPackage("com.monteweb..internal.service..")
+                .should(notCallSingleLookupsOfOtherModules())
+                .check(classes);
+    }
+
+    private static ArchCondition<JavaMethod> notCallSingleLookupsOfOtherModules() {
+        return new ArchCondition<>("not call findById on another module's API") {
+            @Override
+            public void check(JavaMethod method, ConditionEvents events) {
+                for (var call : method.getMethodCallsFromSelf()) {
+                    var target = call.getTargetOwner();
+                    if (call.getName().equals("findById") && target.getSimpleName().endsWith("ModuleApi")) {
+                        events.add(SimpleConditionEvent.violated(method, call.getDescription()));
+                    }
+                }
+            }
+        };
+    }
+}
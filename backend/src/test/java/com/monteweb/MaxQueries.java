@@ -0,0 +1,20 @@
+package com.monteweb;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when it runs more than {@link #value()} SQL statements (through Hibernate).
+ * For a single call inside a test use {@link QueryCountExtension#assertMaxQueries}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface MaxQueries {
+
+    int value();
+}
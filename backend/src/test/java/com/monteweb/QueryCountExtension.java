@@ -0,0 +1,57 @@
+package com.monteweb;
+
+import com.monteweb.shared.util.RequestQueryStats;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Counts the SQL statements of a test method annotated with {@link MaxQueries}.
+ * Requires {@code monteweb.query-counting.enabled} (the default).
+ */
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryCountExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put("stats", RequestQueryStats.start());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        var stats = context.getStore(NAMESPACE).remove("stats", RequestQueryStats.class);
+        if (stats == null) return;
+        stats.stop();
+
+        AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+                .ifPresent(max -> check(stats, max.value(), context.getDisplayName()));
+    }
+
+    /**
+     * Runs {@code call} and fails if it executed more than {@code max} SQL statements.
+     */
+    public static void assertMaxQueries(int max, Executable call) throws Throwable {
+        var stats = RequestQueryStats.start();
+        try {
+            call.execute();
+        } finally {
+            stats.stop();
+        }
+        check(stats, max, "call");
+    }
+
+    private static void check(RequestQueryStats stats, int max, String what) {
+        if (stats.count() > max) {
+            var repeated = stats.mostRepeated()
+                    .map(e -> e.getValue() + "x " + e.getKey())
+                    .orElse("");
+            fail(what + " ran " + stats.count() + " SQL statements, expected at most " + max
+                    + ". Most repeated: " + repeated);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.monteweb.admin;
+
+import com.monteweb.admin.internal.model.CsvImportJob;
+import com.monteweb.admin.internal.repository.CsvImportJobRepository;
+import com.monteweb.admin.internal.service.CsvImportService;
+import com.monteweb.family.FamilyMemberAssignment;
+import com.monteweb.family.FamilyModuleApi;
+import com.monteweb.shared.exception.BusinessException;
+import com.monteweb.user.ImportedUser;
+import com.monteweb.user.UserModuleApi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the staged CSV import pipeline: validation with one lookup per
+ * kind, dry runs on the same path, and chunked batch writes.
+ */
+@ExtendWith(MockitoExtension.class)
+class CsvImportServiceTest {
+
+    @Mock private UserModuleApi userModuleApi;
+    @Mock private FamilyModuleApi familyModuleApi;
+    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private CsvImportJobRepository jobRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private CsvImportService service;
+
+    private static final UUID EXISTING_FAMILY_ID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new CsvImportService(userModuleApi, familyModuleApi, passwordEncoder,
+                jobRepository, transactionManager, new JsonMapper(),
+                new SimpleAsyncTaskExecutor(), new SimpleAsyncTaskExecutor());
+    }
+
+    private List<String[]> sampleRows() {
+        return List.of(
+                row("anna@schule.de;Anna;Neu;PARENT;Familie Neu;PARENT;"),
+                row("ben@schule.de;Ben;Neu;STUDENT;familie neu;CHILD;"),
+                row("clara@schule.de;Clara;Alt;PARENT;Familie Alt;PARENT;"),
+                row("dora@schule.de;Dora;Lehrer;TEACHER;;;"),
+                row("vorhanden@schule.de;Vera;Vorhanden;PARENT;;;"),
+                row("anna@schule.de;Anna;Doppelt;PARENT;;;"),
+                row("emil@schule.de;Emil;Falsch;JANITOR;;;"));
+    }
+
+    private static String[] row(String line) {
+        return line.split(";", -1);
+    }
+
+    private void stubLookups() {
+        when(userModuleApi.findExistingEmails(any())).thenReturn(Set.of("vorhanden@schule.de"));
+        when(familyModuleApi.findIdsByNamesIgnoreCase(any())).thenReturn(Map.of("familie alt", EXISTING_FAMILY_ID));
+    }
+
+    @Test
+    void dryRunValidatesWholeFileWithOneLookupPerKindAndWritesNothing() {
+        stubLookups();
+        var progress = new ArrayList<Integer>();
+
+        var result = service.runImport(sampleRows(), true, progress::add);
+
+        assertThat(result.totalRows()).isEqualTo(7);
+        assertThat(result.usersCreated()).isEqualTo(4);
+        assertThat(result.familiesCreated()).isEqualTo(1);
+        assertThat(result.errors()).extracting(e -> e.row() + ":" + e.message()).containsExactly(
+                "6:E-Mail existiert bereits: vorhanden@schule.de",
+                "7:Doppelte E-Mail in der CSV-Datei: anna@schule.de",
+                "8:Ungültige Rolle: JANITOR (erlaubt: PARENT, STUDENT, TEACHER, SECTION_ADMIN)");
+        assertThat(progress).last().isEqualTo(7);
+
+        verify(userModuleApi).findExistingEmails(any());
+        verify(familyModuleApi).findIdsByNamesIgnoreCase(any());
+        verify(userModuleApi, never()).createImportedUsers(anyList());
+        verifyNoInteractions(passwordEncoder, transactionManager);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCreatesFamiliesUsersAndMembershipsInBatches() {
+        stubLookups();
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        when(userModuleApi.createImportedUsers(anyList())).thenAnswer(inv -> ((List<ImportedUser>) inv.getArgument(0))
+                .stream().map(ImportedUser::id).collect(Collectors.toSet()));
+
+        var result = service.runImport(sampleRows(), false, processed -> { });
+
+        var families = ArgumentCaptor.forClass(Map.class);
+        verify(familyModuleApi).adminCreateFamilies(families.capture());
+        assertThat(families.getValue().values()).containsExactly("Familie Neu");
+        UUID newFamilyId = (UUID) families.getValue().keySet().iterator().next();
+
+        var users = ArgumentCaptor.forClass(List.class);
+        verify(userModuleApi).createImportedUsers(users.capture());
+        assertThat((List<ImportedUser>) users.getValue()).extracting(ImportedUser::email)
+                .containsExactly("anna@schule.de", "ben@schule.de", "clara@schule.de", "dora@schule.de");
+        assertThat((List<ImportedUser>) users.getValue()).allMatch(u -> u.passwordHash().equals("hash"));
+
+        var members = ArgumentCaptor.forClass(List.class);
+        verify(familyModuleApi).adminAddMembers(members.capture());
+        assertThat((List<FamilyMemberAssignment>) members.getValue())
+                .extracting(m -> m.familyId() + ":" + m.role())
+                .containsExactly(newFamilyId + ":PARENT", newFamilyId + ":CHILD", EXISTING_FAMILY_ID + ":PARENT");
+
+        assertThat(result.usersCreated()).isEqualTo(4);
+        assertThat(result.familiesCreated()).isEqualTo(1);
+        assertThat(result.errorsCount()).isEqualTo(3);
+        verify(passwordEncoder, times(4)).encode(anyString());
+    }
+
+    @Test
+    void usersRegisteredSinceValidationAreReportedAsErrors() {
+        when(userModuleApi.findExistingEmails(any())).thenReturn(Set.of());
+        when(familyModuleApi.findIdsByNamesIgnoreCase(any())).thenReturn(Map.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        when(userModuleApi.createImportedUsers(anyList())).thenReturn(Set.of());
+
+        var result = service.runImport(List.<String[]>of(row("anna@schule.de;Anna;Neu;PARENT;Familie Neu;PARENT;")),
+                false, processed -> { });
+
+        assertThat(result.usersCreated()).isZero();
+        assertThat(result.errors()).extracting(e -> e.message())
+                .containsExactly("E-Mail existiert bereits: anna@schule.de");
+        verify(familyModuleApi).adminAddMembers(List.of());
+    }
+
+    @Test
+    void largeImportIsWrittenInChunksWithProgress() {
+        when(userModuleApi.findExistingEmails(any())).thenReturn(Set.of());
+        when(familyModuleApi.findIdsByNamesIgnoreCase(any())).thenReturn(Map.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        when(userModuleApi.createImportedUsers(anyList())).thenReturn(Set.of());
+        var rows = new ArrayList<String[]>();
+        for (int i = 0; i < 450; i++) {
+            rows.add(row("user" + i + "@schule.de;Vor" + i + ";Nach;PARENT;;;"));
+        }
+        var progress = new ArrayList<Integer>();
+
+        service.runImport(rows, false, progress::add);
+
+        verify(userModuleApi, times(3)).createImportedUsers(anyList());
+        verify(familyModuleApi, times(3)).adminCreateFamilies(anyMap());
+        verify(userModuleApi).findExistingEmails(any());
+        assertThat(progress).containsExactly(0, 200, 400, 450);
+    }
+
+    @Test
+    void jobsLeftActiveByARestartAreFailedAfterTheTimeout() {
+        when(jobRepository.failActiveJobsCreatedBefore(any(), anyString(), any())).thenReturn(2);
+
+        service.failStaleJobs();
+
+        var cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(jobRepository).failActiveJobsCreatedBefore(cutoff.capture(), anyString(), any());
+        assertThat(cutoff.getValue()).isBefore(Instant.now().minus(Duration.ofMinutes(59)));
+    }
+
+    @Test
+    void rejectedImportIsMarkedFailed() {
+        var busyRunner = mock(AsyncTaskExecutor.class);
+        when(busyRunner.submit(any(Runnable.class))).thenThrow(new TaskRejectedException("queue full"));
+        service = new CsvImportService(userModuleApi, familyModuleApi, passwordEncoder,
+                jobRepository, transactionManager, new JsonMapper(), busyRunner, new SimpleAsyncTaskExecutor());
+        when(jobRepository.save(any())).thenAnswer(inv -> {
+            CsvImportJob job = inv.getArgument(0);
+            if (job.getId() == null) job.setId(UUID.randomUUID());
+            return job;
+        });
+        var file = new MockMultipartFile("file", "import.csv", "text/csv",
+                "email;firstName;lastName;role\nanna@schule.de;Anna;Neu;PARENT\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> service.startImport(file, false)).isInstanceOf(BusinessException.class);
+
+        var saved = ArgumentCaptor.forClass(CsvImportJob.class);
+        verify(jobRepository, times(2)).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo("FAILED");
+        assertThat(saved.getValue().getErrorMessage()).isNotBlank();
+        assertThat(saved.getValue().getFinishedAt()).isNotNull();
+    }
+}
@@ -0,0 +1,134 @@
+package com.monteweb.auth;
+
+import com.monteweb.auth.internal.config.JwtAuthenticationFilter;
+import com.monteweb.auth.internal.service.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "test-secret-that-is-at-least-256-bits-long-for-hmac";
+
+    private final UUID userId = UUID.randomUUID();
+    private final JwtService jwtService = new JwtService(SECRET, Duration.ofMinutes(15), 100);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void parseVerifiedReturnsClaimsOfValidToken() {
+        var token = jwtService.generateAccessToken(userId, "anna@example.com", "PARENT");
+
+        var claims = jwtService.parseVerified(token).orElseThrow();
+
+        assertEquals(userId.toString(), claims.getSubject());
+        assertEquals("PARENT", claims.get("role", String.class));
+        assertSame(claims, jwtService.parseVerified(token).orElseThrow());
+    }
+
+    @Test
+    void tamperedAndForeignTokensAreRejected() {
+        var token = jwtService.generateAccessToken(userId, "anna@example.com", "PARENT");
+        var foreign = new JwtService("another-secret-that-is-at-least-256-bits-long-hmac", Duration.ofMinutes(15), 100)
+                .generateAccessToken(userId, "anna@example.com", "SUPERADMIN");
+
+        assertTrue(jwtService.parseVerified(token.substring(0, token.length() - 2) + "xx").isEmpty());
+        assertTrue(jwtService.parseVerified(foreign).isEmpty());
+        assertTrue(jwtService.parseVerified("not-a-jwt").isEmpty());
+        assertTrue(jwtService.parseVerified(null).isEmpty());
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        var expired = Jwts.builder()
+                .subject(userId.toString())
+                .issuedAt(Date.from(Instant.now().minusSeconds(120)))
+                .expiration(Date.from(Instant.now().minusSeconds(60)))
+                .signWith(key)
+                .compact();
+
+        assertTrue(jwtService.parseVerified(expired).isEmpty());
+    }
+
+    @Test
+    void typedTokensOnlyPassTheirOwnCheck() {
+        var image = jwtService.generateImageToken(userId);
+        var temp = jwtService.generateTempToken(userId, "anna@example.com", "PARENT");
+
+        assertEquals(userId.toString(), jwtService.validateImageToken(image).orElseThrow());
+        assertTrue(jwtService.validateImageToken(temp).isEmpty());
+        assertTrue(jwtService.validateTempToken(temp).isPresent());
+        assertTrue(jwtService.validateTempToken(image).isEmpty());
+    }
+
+    @Test
+    void filterAuthenticatesAccessTokenButNotImageTokenOnApi() throws Exception {
+        var filter = new JwtAuthenticationFilter(jwtService);
+
+        filter.doFilter(request("/api/v1/feed", jwtService.generateAccessToken(userId, "anna@example.com", "PARENT")),
+                new MockHttpServletResponse(), new MockFilterChain());
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals(userId.toString(), authentication.getPrincipal());
+        assertEquals("ROLE_PARENT", authentication.getAuthorities().iterator().next().getAuthority());
+
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request("/api/v1/feed", jwtService.generateImageToken(userId)),
+                new MockHttpServletResponse(), new MockFilterChain());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        filter.doFilter(request("/api/v1/fotobox/images/" + UUID.randomUUID(), jwtService.generateImageToken(userId)),
+                new MockHttpServletResponse(), new MockFilterChain());
+        assertEquals(userId.toString(), SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    }
+
+    /**
+     * Filter throughput with the verified-claims cache off (every request verifies the
+     * token) and on. Run with {@code -Dbenchmarks=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkFilterThroughput() throws Exception {
+        int requests = 200_000;
+        for (int cacheSize : new int[]{0, 10_000}) {
+            var service = new JwtService(SECRET, Duration.ofMinutes(15), cacheSize);
+            var filter = new JwtAuthenticationFilter(service);
+            var token = service.generateAccessToken(userId, "anna@example.com", "PARENT");
+            for (int i = 0; i < 20_000; i++) {
+                filter.doFilter(request("/api/v1/fotobox/images/1", token), new MockHttpServletResponse(), new MockFilterChain());
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                filter.doFilter(request("/api/v1/fotobox/images/1", token), new MockHttpServletResponse(), new MockFilterChain());
+                SecurityContextHolder.clearContext();
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.printf("claims cache %s: %d requests in %d ms (%.0f requests/s)%n",
+                    cacheSize > 0 ? "on" : "off", requests, millis, requests * 1000.0 / Math.max(millis, 1));
+        }
+    }
+
+    private static MockHttpServletRequest request(String uri, String token) {
+        var request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
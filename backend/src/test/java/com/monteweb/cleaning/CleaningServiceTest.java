@@ -7,6 +7,7 @@ import com.monteweb.cleaning.internal.model.CleaningSlot;
 import com.monteweb.cleaning.internal.repository.CleaningConfigRepository;
 import com.monteweb.cleaning.internal.repository.CleaningRegistrationRepository;
 import com.monteweb.cleaning.internal.repository.CleaningSlotRepository;
+import com.monteweb.cleaning.internal.repository.ConfigLastSlotDate;
 import com.monteweb.cleaning.internal.service.CleaningService;
 import com.monteweb.cleaning.internal.service.QrTokenService;
 import com.monteweb.room.RoomModuleApi;
@@ -30,6 +31,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -161,22 +163,17 @@ class CleaningServiceTest {
             LocalDate to = LocalDate.of(2026, 3, 31);
 
             when(configRepository.findById(CONFIG_ID)).thenReturn(Optional.of(config));
-            when(slotRepository.findByConfigIdAndSlotDateBetween(CONFIG_ID, from, to))
-                    .thenReturn(List.of());
             when(qrTokenService.generateToken(any(UUID.class))).thenReturn("token-123");
-            when(slotRepository.saveAll(anyList())).thenAnswer(inv -> {
-                List<CleaningSlot> slots = inv.getArgument(0);
-                slots.forEach(s -> s.setId(UUID.randomUUID()));
-                return slots;
-            });
+            when(slotRepository.insertIgnoringDuplicates(anyList())).thenAnswer(inv -> inv.getArgument(0));
             mockSectionLookup();
-            when(registrationRepository.findBySlotId(any())).thenReturn(List.of());
 
             List<CleaningSlotInfo> result = service.generateSlots(CONFIG_ID, from, to);
 
             assertThat(result).hasSize(1);
             assertThat(result.get(0).slotDate()).isEqualTo(specificDate);
-            verify(slotRepository, times(2)).saveAll(anyList()); // initial save + QR regeneration
+            assertThat(result.get(0).configTitle()).isEqualTo(CONFIG_TITLE);
+            verify(slotRepository, never()).saveAll(anyList());
+            verifyNoInteractions(registrationRepository);
         }
 
         @Test
@@ -188,9 +185,7 @@ class CleaningServiceTest {
             LocalDate to = LocalDate.of(2026, 3, 31);
 
             when(configRepository.findById(CONFIG_ID)).thenReturn(Optional.of(config));
-            when(slotRepository.findByConfigIdAndSlotDateBetween(CONFIG_ID, from, to))
-                    .thenReturn(List.of());
-            when(slotRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+            when(slotRepository.insertIgnoringDuplicates(anyList())).thenAnswer(inv -> inv.getArgument(0));
 
             List<CleaningSlotInfo> result = service.generateSlots(CONFIG_ID, from, to);
 
@@ -198,51 +193,98 @@ class CleaningServiceTest {
         }
 
         @Test
-        @DisplayName("Recurring config generates slots only for matching dayOfWeek")
+        @DisplayName("Recurring config generates slots only for matching dayOfWeek, with QR tokens signed for their IDs")
         void generateSlots_recurringCorrectDays() {
             // Monday = 1
             CleaningConfig config = makeConfig(null, DayOfWeek.MONDAY.getValue());
-            // Mon 2 March - Sun 8 March 2026 => one Monday (2nd)
+            // Mon 2 March - Mon 16 March 2026 => three Mondays
             LocalDate from = LocalDate.of(2026, 3, 2);
-            LocalDate to = LocalDate.of(2026, 3, 8);
+            LocalDate to = LocalDate.of(2026, 3, 16);
 
             when(configRepository.findById(CONFIG_ID)).thenReturn(Optional.of(config));
-            when(slotRepository.findByConfigIdAndSlotDateBetween(CONFIG_ID, from, to))
-                    .thenReturn(List.of());
-            when(qrTokenService.generateToken(any(UUID.class))).thenReturn("token-456");
-            when(slotRepository.saveAll(anyList())).thenAnswer(inv -> {
-                List<CleaningSlot> slots = inv.getArgument(0);
-                slots.forEach(s -> s.setId(UUID.randomUUID()));
-                return slots;
-            });
+            when(qrTokenService.generateToken(any(UUID.class))).thenAnswer(inv -> "token-" + inv.getArgument(0));
+            when(slotRepository.insertIgnoringDuplicates(anyList())).thenAnswer(inv -> inv.getArgument(0));
             mockSectionLookup();
-            when(registrationRepository.findBySlotId(any())).thenReturn(List.of());
 
             List<CleaningSlotInfo> result = service.generateSlots(CONFIG_ID, from, to);
 
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).slotDate().getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+            assertThat(result).extracting(CleaningSlotInfo::slotDate).containsExactly(
+                    LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 16));
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<CleaningSlot>> captor = ArgumentCaptor.forClass(List.class);
+            verify(slotRepository).insertIgnoringDuplicates(captor.capture());
+            assertThat(captor.getValue()).allSatisfy(slot ->
+                    assertThat(slot.getQrToken()).isEqualTo("token-" + slot.getId()));
         }
 
         @Test
-        @DisplayName("Recurring config skips dates where a slot already exists (deduplication)")
+        @DisplayName("Dates that already have a slot are skipped by the insert (deduplication)")
         void generateSlots_deduplicationSkipsExisting() {
             CleaningConfig config = makeConfig(null, DayOfWeek.MONDAY.getValue());
             LocalDate from = LocalDate.of(2026, 3, 2);
             LocalDate to = LocalDate.of(2026, 3, 8);
 
-            // Monday March 2 already has a slot
-            CleaningSlot existingSlot = makeSlot(UUID.randomUUID(), LocalDate.of(2026, 3, 2), "OPEN");
-
             when(configRepository.findById(CONFIG_ID)).thenReturn(Optional.of(config));
-            when(slotRepository.findByConfigIdAndSlotDateBetween(CONFIG_ID, from, to))
-                    .thenReturn(List.of(existingSlot));
-            when(slotRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+            when(qrTokenService.generateToken(any(UUID.class))).thenReturn("token-789");
+            // Monday March 2 already has a slot, so nothing is inserted
+            when(slotRepository.insertIgnoringDuplicates(anyList())).thenReturn(List.of());
 
             List<CleaningSlotInfo> result = service.generateSlots(CONFIG_ID, from, to);
 
             assertThat(result).isEmpty();
         }
+
+        @Test
+        @DisplayName("Nightly run only generates the window after each config's latest slot")
+        void autoGenerateRecurringSlots_onlyAfterLastSlot() {
+            CleaningConfig config = makeConfig(null, LocalDate.now().getDayOfWeek().getValue());
+            LocalDate last = LocalDate.now().plusMonths(3).minusDays(10);
+
+            when(configRepository.findByActiveTrue()).thenReturn(List.of(config));
+            when(slotRepository.findLastSlotDates(List.of(CONFIG_ID)))
+                    .thenReturn(List.of(new ConfigLastSlotDate(CONFIG_ID, last)));
+            when(qrTokenService.generateToken(any(UUID.class))).thenReturn("token");
+            when(slotRepository.insertIgnoringDuplicates(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+            service.autoGenerateRecurringSlots();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<CleaningSlot>> captor = ArgumentCaptor.forClass(List.class);
+            verify(slotRepository).insertIgnoringDuplicates(captor.capture());
+            assertThat(captor.getValue()).hasSizeBetween(1, 2)
+                    .allSatisfy(slot -> assertThat(slot.getSlotDate()).isAfter(last));
+            verify(slotRepository, never()).findByConfigIdAndSlotDateBetween(any(), any(), any());
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  Slot Queries
+    // ═══════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("Slot Queries")
+    class SlotQueries {
+
+        @Test
+        @DisplayName("My slots are hydrated with one config, section and registration lookup")
+        void getMySlots_batchesLookups() {
+            CleaningSlot first = makeSlot(SLOT_ID, LocalDate.now().plusDays(1), "OPEN");
+            CleaningSlot second = makeSlot(UUID.randomUUID(), LocalDate.now().plusDays(8), "OPEN");
+            when(slotRepository.findUpcomingByRegisteredUserId(eq(USER_ID), any(LocalDate.class)))
+                    .thenReturn(List.of(first, second));
+            when(configRepository.findAllById(any())).thenReturn(List.of(makeConfig(null, 5)));
+            when(schoolModuleApi.findNamesByIds(any())).thenReturn(Map.of(SECTION_ID, SECTION_NAME));
+            when(registrationRepository.findBySlotIdIn(any()))
+                    .thenReturn(List.of(makeRegistration(SLOT_ID, USER_ID, false, false)));
+
+            List<CleaningSlotInfo> result = service.getMySlots(USER_ID);
+
+            assertThat(result).extracting(CleaningSlotInfo::configTitle).containsOnly(CONFIG_TITLE);
+            assertThat(result).extracting(CleaningSlotInfo::sectionName).containsOnly(SECTION_NAME);
+            assertThat(result).extracting(CleaningSlotInfo::currentRegistrations).containsExactly(1, 0);
+            verify(slotRepository, never()).findById(any());
+            verify(configRepository, never()).findById(any());
+        }
     }
 
     // ═══════════════════════════════════════════════════════════════════
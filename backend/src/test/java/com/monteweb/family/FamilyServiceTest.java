@@ -324,4 +324,51 @@ class FamilyServiceTest {
                     .hasMessageContaining("Not your invitation");
         }
     }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  Batch hydration
+    // ═══════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("Batch hydration")
+    class BatchHydration {
+
+        @Test
+        @DisplayName("findAll resolves all member names with one user lookup")
+        void findAll_resolvesNamesInOneLookup() {
+            var first = makeFamily(FAMILY_ID, "Familie A");
+            first.getMembers().add(new FamilyMember(first, USER_ID, FamilyMemberRole.PARENT));
+            var second = makeFamily(UUID.randomUUID(), "Familie B");
+            second.getMembers().add(new FamilyMember(second, OTHER_USER_ID, FamilyMemberRole.PARENT));
+            second.getMembers().add(new FamilyMember(second, USER_ID, FamilyMemberRole.PARENT));
+            when(familyRepository.findAllWithMembers()).thenReturn(List.of(first, second));
+            when(userModuleApi.findByIds(anyList())).thenReturn(List.of(makeUser(USER_ID, UserRole.PARENT)));
+
+            var families = service.findAll();
+
+            assertThat(families).hasSize(2);
+            assertThat(families.get(1).members())
+                    .extracting(FamilyInfo.FamilyMemberInfo::displayName)
+                    .containsExactly("Unknown", "Max Mustermann");
+            verify(userModuleApi).findByIds(List.of(USER_ID, OTHER_USER_ID));
+            verify(userModuleApi, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Paged findAll keeps page order and total")
+        void findAllPaged_keepsOrderAndTotal() {
+            var a = makeFamily(UUID.randomUUID(), "Familie A");
+            var b = makeFamily(UUID.randomUUID(), "Familie B");
+            var pageable = org.springframework.data.domain.PageRequest.of(0, 2);
+            when(familyRepository.findIds(any())).thenReturn(
+                    new org.springframework.data.domain.PageImpl<>(List.of(a.getId(), b.getId()), pageable, 5));
+            when(familyRepository.findWithMembersByIdIn(List.of(a.getId(), b.getId()))).thenReturn(List.of(b, a));
+
+            var page = service.findAll(pageable);
+
+            assertThat(page.getContent()).extracting(FamilyInfo::name).containsExactly("Familie A", "Familie B");
+            assertThat(page.getTotalElements()).isEqualTo(5);
+            assertThat(page.hasNext()).isTrue();
+        }
+    }
 }
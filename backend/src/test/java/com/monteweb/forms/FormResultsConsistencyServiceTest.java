@@ -0,0 +1,68 @@
+package com.monteweb.forms;
+
+import com.monteweb.forms.internal.model.Form;
+import com.monteweb.forms.internal.repository.FormQuestionRepository;
+import com.monteweb.forms.internal.repository.FormRepository;
+import com.monteweb.forms.internal.service.FormResultsAggregator;
+import com.monteweb.forms.internal.service.FormResultsConsistencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the nightly aggregate check: every published form is rebuilt in a
+ * transaction of its own, and a failing form does not stop the others.
+ */
+@ExtendWith(MockitoExtension.class)
+class FormResultsConsistencyServiceTest {
+
+    @Mock private FormRepository formRepository;
+    @Mock private FormQuestionRepository questionRepository;
+    @Mock private FormResultsAggregator resultsAggregator;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private FormResultsConsistencyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FormResultsConsistencyService(formRepository, questionRepository, resultsAggregator,
+                transactionManager);
+    }
+
+    private static Form form(UUID id) {
+        var form = new Form();
+        form.setId(id);
+        return form;
+    }
+
+    @Test
+    void rebuildsEachPublishedFormInItsOwnTransaction() {
+        UUID first = UUID.randomUUID();
+        UUID broken = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+        when(formRepository.findByStatus(FormStatus.PUBLISHED)).thenReturn(List.of(form(first), form(broken), form(last)));
+        when(questionRepository.findByFormIdOrderBySortOrder(any())).thenReturn(List.of());
+        when(resultsAggregator.rebuild(any(), anyList())).thenAnswer(inv -> {
+            if (broken.equals(inv.getArgument(0))) throw new IllegalStateException("Sperre");
+            return 0;
+        });
+
+        service.verifyPublishedForms();
+
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager).rollback(any());
+        verify(resultsAggregator).rebuild(eq(last), anyList());
+    }
+}
@@ -2,6 +2,7 @@ package com.monteweb.forms;
 
 import com.monteweb.forms.internal.model.*;
 import com.monteweb.forms.internal.repository.*;
+import com.monteweb.forms.internal.service.FormResultsAggregator;
 import com.monteweb.forms.internal.service.FormsService;
 import com.monteweb.room.RoomModuleApi;
 import com.monteweb.school.SchoolModuleApi;
@@ -31,6 +32,7 @@ class FormsServiceTest {
     @Mock private FormResponseRepository responseRepository;
     @Mock private FormAnswerRepository answerRepository;
     @Mock private FormResponseTrackingRepository trackingRepository;
+    @Mock private FormQuestionAggregateRepository aggregateRepository;
     @Mock private RoomModuleApi roomModule;
     @Mock private SchoolModuleApi schoolModule;
     @Mock private UserModuleApi userModule;
@@ -49,6 +51,7 @@ class FormsServiceTest {
         service = new FormsService(
                 formRepository, questionRepository, responseRepository,
                 answerRepository, trackingRepository,
+                new FormResultsAggregator(aggregateRepository, answerRepository, eventPublisher),
                 roomModule, schoolModule, userModule, eventPublisher
         );
     }
@@ -351,6 +354,73 @@ class FormsServiceTest {
             assertThat(result.yesCount()).isEqualTo(3);
             assertThat(result.noCount()).isEqualTo(1);
         }
+
+        @Test
+        @DisplayName("should read choice and rating results from aggregates without loading answers")
+        void getResults_readsAggregates() {
+            var form = makeForm(FormStatus.PUBLISHED, false, null);
+            when(formRepository.findById(FORM_ID)).thenReturn(Optional.of(form));
+            when(userModule.findById(USER_ID)).thenReturn(Optional.of(makeUser(USER_ID, UserRole.SUPERADMIN)));
+            stubToFormInfo(form);
+
+            var choice = makeQuestion(QUESTION_ID_1, QuestionType.SINGLE_CHOICE, "Favorite?", false);
+            var rating = makeQuestion(QUESTION_ID_2, QuestionType.RATING, "Rate us", false);
+            when(questionRepository.findByFormIdOrderBySortOrder(FORM_ID)).thenReturn(List.of(choice, rating));
+
+            var choiceAgg = new FormQuestionAggregate(QUESTION_ID_1, FORM_ID);
+            choiceAgg.setAnswerCount(3);
+            choiceAgg.setOptionCounts(Map.of("Option A", 2, "Option B", 1));
+            var ratingAgg = new FormQuestionAggregate(QUESTION_ID_2, FORM_ID);
+            ratingAgg.setAnswerCount(2);
+            ratingAgg.setRatingSum(9);
+            ratingAgg.setRatingCount(2);
+            ratingAgg.setRatingHistogram(Map.of("4", 1, "5", 1));
+            when(aggregateRepository.findByFormId(FORM_ID)).thenReturn(List.of(choiceAgg, ratingAgg));
+
+            var summary = service.getResults(FORM_ID, USER_ID);
+
+            assertThat(summary.results().get(0).optionCounts())
+                    .containsEntry("Option A", 2)
+                    .containsEntry("Option B", 1)
+                    .containsEntry("Option C", 0);
+            assertThat(summary.results().get(1).averageRating()).isEqualTo(4.5);
+            assertThat(summary.results().get(1).ratingDistribution())
+                    .containsEntry(4, 1)
+                    .containsEntry(5, 1);
+            verify(answerRepository, never()).findByQuestionId(any());
+        }
+
+        @Test
+        @DisplayName("should apply answer deltas to aggregates and publish live update on submit")
+        void submitResponse_appliesDeltas() {
+            var form = makeForm(FormStatus.PUBLISHED, false, null);
+            when(formRepository.findById(FORM_ID)).thenReturn(Optional.of(form));
+            when(responseRepository.existsByFormIdAndUserId(FORM_ID, USER_ID)).thenReturn(false);
+
+            var question = makeQuestion(QUESTION_ID_1, QuestionType.YES_NO, "Agree?", false);
+            when(questionRepository.findByFormIdOrderBySortOrder(FORM_ID)).thenReturn(List.of(question));
+            when(responseRepository.save(any(FormResponse.class))).thenAnswer(invocation -> {
+                FormResponse resp = invocation.getArgument(0);
+                resp.setId(RESPONSE_ID);
+                return resp;
+            });
+
+            var aggregate = new FormQuestionAggregate(QUESTION_ID_1, FORM_ID);
+            aggregate.setAnswerCount(1);
+            aggregate.setNoCount(1);
+            when(aggregateRepository.findByQuestionIdInForUpdate(any())).thenReturn(List.of(aggregate));
+            when(aggregateRepository.findByFormId(FORM_ID)).thenReturn(List.of(aggregate));
+            when(responseRepository.countByFormId(FORM_ID)).thenReturn(2);
+
+            service.submitResponse(FORM_ID, makeSubmitRequest(QUESTION_ID_1, "yes"), USER_ID);
+
+            assertThat(aggregate.getAnswerCount()).isEqualTo(2);
+            assertThat(aggregate.getYesCount()).isEqualTo(1);
+            assertThat(aggregate.getNoCount()).isEqualTo(1);
+            verify(aggregateRepository).insertIfAbsent(QUESTION_ID_1, FORM_ID);
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof FormResultsUpdatedEvent u
+                    && u.responseCount() == 2 && u.results().get(0).yesCount() == 1));
+        }
     }
 
     // ── Results Permissions ─────────────────────────────────────────────
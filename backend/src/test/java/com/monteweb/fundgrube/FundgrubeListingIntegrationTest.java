@@ -0,0 +1,156 @@
+package com.monteweb.fundgrube;
+
+import com.monteweb.TestContainerConfig;
+import com.monteweb.TestHelper;
+import com.monteweb.fundgrube.internal.service.FundgrubeService;
+import com.monteweb.shared.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.monteweb.QueryCountExtension.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The keyset-paginated Fundgrube listing on 5,000 seeded items: every page takes the
+ * same number of queries, whatever its size and position, and pages do not overlap.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestContainerConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FundgrubeListingIntegrationTest {
+
+    private static final int ITEMS = 5_000;
+    /** Listing query plus one batch each for users, sections and images */
+    private static final int QUERIES_PER_PAGE = 4;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private FundgrubeService fundgrubeService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private UUID sectionId;
+    private int itemsInSection;
+    private Instant newest;
+
+    @BeforeAll
+    void seedItems() throws Exception {
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            var register = TestHelper.registerAndGetResponse(mockMvc,
+                    "fundgrube-list-" + i + "@example.com", "Finder" + i, "Fundgrube");
+            users.add(UUID.fromString(register.path("data").path("userId").asString()));
+        }
+        List<UUID> sections = jdbcTemplate.queryForList("SELECT id FROM school_sections LIMIT 3", UUID.class);
+        sectionId = sections.getFirst();
+
+        // Seeded items are older than anything other tests create
+        newest = Instant.now().minus(30, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> images = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            UUID id = UUID.randomUUID();
+            // Pairs of items share a timestamp, so pages must break ties by ID
+            Timestamp createdAt = Timestamp.from(newest.minus(i / 2, ChronoUnit.MINUTES));
+            UUID section = i % 4 == 3 ? null : sections.get(i % sections.size());
+            if (sectionId.equals(section)) itemsInSection++;
+            UUID claimedBy = i % 10 == 0 ? users.get((i + 1) % users.size()) : null;
+            items.add(new Object[]{id, "Fundstück " + i + (i == 4_321 ? " Regenschirm" : ""), "Beschreibung " + i,
+                    section, users.get(i % users.size()), createdAt, createdAt, claimedBy});
+            for (int img = 0; img < i % 3; img++) {
+                images.add(new Object[]{UUID.randomUUID(), id, "fundgrube/" + id + "/" + img + ".jpg",
+                        "bild" + img + ".jpg", createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO fundgrube_items (id, title, description, section_id, created_by, created_at,
+                                             updated_at, claimed_by)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, items);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO fundgrube_images (id, item_id, storage_path, original_filename, content_type,
+                                              file_size, created_at)
+                VALUES (?, ?, ?, ?, 'image/jpeg', 1024, ?)
+                """, images);
+    }
+
+    @Test
+    void pagesTakeConstantQueriesAndHydrateEverything() throws Throwable {
+        assertMaxQueries(QUERIES_PER_PAGE, () -> {
+            var page = fundgrubeService.listItems(null, null, null, null, null, 24);
+            assertThat(page.content()).hasSize(24);
+            assertThat(page.nextCursor()).isNotNull();
+            assertThat(page.content()).allMatch(i -> i.createdByName().startsWith("Finder"));
+        });
+        assertMaxQueries(QUERIES_PER_PAGE, () -> {
+            var page = fundgrubeService.listItems(null, null, null, null, null, 100);
+            assertThat(page.content()).hasSize(100);
+            assertThat(page.content()).anyMatch(i -> i.images().size() == 2);
+            assertThat(page.content()).anyMatch(i -> i.claimedByName() != null);
+            assertThat(page.content()).filteredOn(i -> i.sectionId() != null)
+                    .allMatch(i -> i.sectionName() != null);
+        });
+    }
+
+    @Test
+    void walkingAllPagesOfASectionVisitsEachItemOnce() throws Throwable {
+        Set<UUID> seen = new HashSet<>();
+        String[] cursor = {null};
+        Instant[] previous = {Instant.MAX};
+        int pages = 0;
+        do {
+            assertMaxQueries(QUERIES_PER_PAGE, () -> {
+                var page = fundgrubeService.listItems(sectionId, null, null, null, cursor[0], 100);
+                for (var item : page.content()) {
+                    assertThat(item.sectionId()).isEqualTo(sectionId);
+                    assertThat(item.createdAt()).isBeforeOrEqualTo(previous[0]);
+                    assertThat(seen.add(item.id())).isTrue();
+                    previous[0] = item.createdAt();
+                }
+                cursor[0] = page.nextCursor();
+            });
+            pages++;
+        } while (cursor[0] != null);
+
+        assertThat(seen).hasSize(itemsInSection);
+        assertThat(pages).isEqualTo((itemsInSection + 99) / 100);
+    }
+
+    @Test
+    void textAndDateFiltersNarrowTheListing() throws Throwable {
+        assertMaxQueries(QUERIES_PER_PAGE, () -> assertThat(
+                fundgrubeService.listItems(null, null, null, "regenSCHIRM", null, 24).content())
+                .extracting(FundgrubeItemInfo::title).containsExactly("Fundstück 4321 Regenschirm"));
+
+        LocalDate day = newest.atZone(ZoneId.of("Europe/Berlin")).toLocalDate();
+        var page = fundgrubeService.listItems(null, day, day, "Fundstück", null, 100);
+        assertThat(page.content()).isNotEmpty().allMatch(i ->
+                i.createdAt().atZone(ZoneId.of("Europe/Berlin")).toLocalDate().equals(day));
+    }
+
+    @Test
+    void rejectsMalformedCursorAndOversizedPages() {
+        assertThatThrownBy(() -> fundgrubeService.listItems(null, null, null, null, "kein-cursor", 24))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> fundgrubeService.listItems(null, null, null, null, null, 500))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
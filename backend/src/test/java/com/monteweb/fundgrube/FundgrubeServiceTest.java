@@ -8,6 +8,7 @@ import com.monteweb.fundgrube.internal.service.FundgrubeService;
 import com.monteweb.school.SchoolModuleApi;
 import com.monteweb.school.SchoolSectionInfo;
 import com.monteweb.shared.exception.BadRequestException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import com.monteweb.user.UserInfo;
 import com.monteweb.user.UserModuleApi;
 import com.monteweb.user.UserRole;
@@ -34,6 +35,7 @@ class FundgrubeServiceTest {
     @Mock private FundgrubeImageRepository imageRepo;
     @Mock private UserModuleApi userModule;
     @Mock private SchoolModuleApi schoolModule;
+    @Mock private ObjectDeletionQueue deletionQueue;
 
     private FundgrubeService service;
 
@@ -46,7 +48,7 @@ class FundgrubeServiceTest {
     void setUp() {
         // Pass null for storageService — it is not used in claim tests, and the concrete class
         // cannot be mocked on Java 25 due to MinioClient module restrictions.
-        service = new FundgrubeService(itemRepo, imageRepo, null, userModule, schoolModule);
+        service = new FundgrubeService(itemRepo, imageRepo, null, deletionQueue, userModule, schoolModule);
     }
 
     // ── Helpers ──────────────────────────────────────────────────────────
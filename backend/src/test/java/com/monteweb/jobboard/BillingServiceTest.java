@@ -0,0 +1,141 @@
+package com.monteweb.jobboard;
+
+import com.monteweb.admin.AdminModuleApi;
+import com.monteweb.admin.TenantConfigInfo;
+import com.monteweb.cleaning.CleaningModuleApi;
+import com.monteweb.family.FamilyInfo;
+import com.monteweb.family.FamilyModuleApi;
+import com.monteweb.jobboard.internal.model.BillingPeriod;
+import com.monteweb.jobboard.internal.repository.BillingPeriodRepository;
+import com.monteweb.jobboard.internal.repository.FamilyHoursTotals;
+import com.monteweb.jobboard.internal.repository.JobAssignmentRepository;
+import com.monteweb.jobboard.internal.service.BillingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BillingServiceTest {
+
+    @Mock private BillingPeriodRepository billingPeriodRepository;
+    @Mock private JobAssignmentRepository assignmentRepository;
+    @Mock private FamilyModuleApi familyModuleApi;
+    @Mock private AdminModuleApi adminModuleApi;
+    @Mock private CleaningModuleApi cleaningModuleApi;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private BillingService service;
+
+    private static final UUID PERIOD_ID = UUID.randomUUID();
+    private static final UUID FAMILY_A = UUID.randomUUID();
+    private static final UUID FAMILY_B = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new BillingService(billingPeriodRepository, assignmentRepository,
+                familyModuleApi, adminModuleApi, cleaningModuleApi, objectMapper);
+    }
+
+    @Test
+    void getReport_activePeriod_aggregatesAllFamiliesWithGroupedQueries() {
+        var period = period("ACTIVE");
+        when(billingPeriodRepository.findById(PERIOD_ID)).thenReturn(Optional.of(period));
+        when(adminModuleApi.getTenantConfig()).thenReturn(makeTenantConfig(new BigDecimal("10"), new BigDecimal("2")));
+        when(assignmentRepository.sumConfirmedHoursPerFamilyInDateRange(any(), any())).thenReturn(List.of(
+                new FamilyHoursTotals(FAMILY_A, new BigDecimal("8"), new BigDecimal("1"))));
+        when(cleaningModuleApi.getCleaningHoursPerFamilyInRange(period.getStartDate(), period.getEndDate()))
+                .thenReturn(Map.of(FAMILY_A, new BigDecimal("1.50")));
+        when(familyModuleApi.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+                new FamilyInfo(FAMILY_A, "Familie A", null, false, true, false, false, List.of()),
+                new FamilyInfo(FAMILY_B, "Familie B", null, false, true, false, false, List.of()))));
+
+        var report = service.getReport(PERIOD_ID);
+
+        assertThat(report.families()).hasSize(2);
+        var a = report.families().stream().filter(f -> f.familyId().equals(FAMILY_A)).findFirst().orElseThrow();
+        assertThat(a.jobHours()).isEqualByComparingTo("8");
+        assertThat(a.cleaningHours()).isEqualByComparingTo("2.5");
+        assertThat(a.totalHours()).isEqualByComparingTo("10.5");
+        var b = report.families().stream().filter(f -> f.familyId().equals(FAMILY_B)).findFirst().orElseThrow();
+        assertThat(b.totalHours()).isEqualByComparingTo("0");
+        assertThat(b.trafficLight()).isEqualTo("RED");
+
+        verify(assignmentRepository, never()).sumConfirmedNormalHoursByFamilyIdAndDateRange(any(), any(), any());
+        verify(cleaningModuleApi, never()).getCleaningHoursForFamilyInRange(any(), any(), any());
+    }
+
+    @Test
+    void getReport_closedPeriod_readsSnapshotWithoutRecomputing() {
+        var active = period("ACTIVE");
+        when(billingPeriodRepository.findById(PERIOD_ID)).thenReturn(Optional.of(active));
+        when(adminModuleApi.getTenantConfig()).thenReturn(makeTenantConfig(new BigDecimal("10"), BigDecimal.ZERO));
+        when(assignmentRepository.sumConfirmedHoursPerFamilyInDateRange(any(), any())).thenReturn(List.of(
+                new FamilyHoursTotals(FAMILY_A, new BigDecimal("12"), BigDecimal.ZERO)));
+        when(familyModuleApi.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+                new FamilyInfo(FAMILY_A, "Familie A", null, false, true, false, false, List.of()))));
+        when(billingPeriodRepository.save(any(BillingPeriod.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        service.closePeriod(PERIOD_ID, UUID.randomUUID());
+        clearInvocations(assignmentRepository, familyModuleApi, cleaningModuleApi);
+
+        var report = service.getReport(PERIOD_ID);
+
+        assertThat(report.period().status()).isEqualTo("CLOSED");
+        assertThat(report.families()).singleElement()
+                .satisfies(f -> assertThat(f.totalHours()).isEqualByComparingTo("12"));
+        verifyNoInteractions(assignmentRepository, familyModuleApi, cleaningModuleApi);
+    }
+
+    private BillingPeriod period(String status) {
+        var period = new BillingPeriod();
+        period.setId(PERIOD_ID);
+        period.setName("Schuljahr 2025/2026");
+        period.setStartDate(LocalDate.of(2025, 9, 1));
+        period.setEndDate(LocalDate.of(2026, 8, 31));
+        period.setStatus(status);
+        return period;
+    }
+
+    private TenantConfigInfo makeTenantConfig(BigDecimal targetHours, BigDecimal targetCleaningHours) {
+        return new TenantConfigInfo(
+                UUID.randomUUID(), "Montessori Schule", null,
+                Map.of(), Map.of(),
+                targetHours, targetCleaningHours,
+                true, true, "BY", List.of(),
+                null, false, true,
+                true, "de", List.of("de", "en"), true,
+                null, null, null, null,
+                null, null, null, null,
+                null, null, null,
+                "DISABLED", null,
+                // LDAP fields (enabled via modules map)
+                null, null, null,
+                null, null, null, null,
+                "PARENT", false, false,
+                // Maintenance (enabled via modules)
+                null,
+                // ClamAV (enabled via modules)
+                null, 3310,
+                // Jitsi (enabled via modules)
+                null,
+                // WOPI (enabled via modules)
+                null,
+                // Family settings
+                false, false
+        );
+    }
+}
@@ -7,12 +7,14 @@ import com.monteweb.family.FamilyInfo;
 import com.monteweb.family.FamilyModuleApi;
 import com.monteweb.jobboard.internal.model.Job;
 import com.monteweb.jobboard.internal.model.JobAssignment;
+import com.monteweb.jobboard.internal.repository.FamilyHoursSums;
 import com.monteweb.jobboard.internal.repository.JobAssignmentRepository;
 import com.monteweb.jobboard.internal.repository.JobAttachmentRepository;
 import com.monteweb.jobboard.internal.repository.JobRepository;
 import com.monteweb.jobboard.internal.service.JobboardService;
 import com.monteweb.calendar.CalendarModuleApi;
 import com.monteweb.room.RoomModuleApi;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import com.monteweb.user.UserModuleApi;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +24,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -49,6 +53,7 @@ class JobboardServiceHoursTest {
     @Mock private CleaningModuleApi cleaningModuleApi;
     @Mock private CalendarModuleApi calendarModuleApi;
     @Mock private RoomModuleApi roomModuleApi;
+    @Mock private ObjectDeletionQueue deletionQueue;
     @Mock private com.monteweb.jobboard.internal.service.JobStorageService storageService;
 
     private JobboardService service;
@@ -62,7 +67,7 @@ class JobboardServiceHoursTest {
                 jobRepository, assignmentRepository, attachmentRepository,
                 userModuleApi, familyModuleApi, adminModuleApi,
                 eventPublisher, cleaningModuleApi, calendarModuleApi,
-                roomModuleApi, storageService
+                roomModuleApi, storageService, deletionQueue
         );
     }
 
@@ -438,7 +443,7 @@ class JobboardServiceHoursTest {
                     jobRepository, assignmentRepository, attachmentRepository,
                     userModuleApi, familyModuleApi, adminModuleApi,
                     eventPublisher, null, calendarModuleApi,
-                    roomModuleApi, null
+                    roomModuleApi, null, deletionQueue
             );
 
             when(familyModuleApi.findById(FAMILY_ID)).thenReturn(Optional.of(makeFamily(false)));
@@ -613,4 +618,43 @@ class JobboardServiceHoursTest {
             assertThat(hours.remainingHours()).isEqualByComparingTo("0");
         }
     }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  Gesamtbericht
+    // ═══════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("Gesamtbericht aller Familien")
+    class FamilyReport {
+
+        @Test
+        @DisplayName("Eine gruppierte Abfrage pro Seite, rote Familien zuerst")
+        void report_groupedQueryPerPage_redFirst() {
+            UUID redId = UUID.randomUUID();
+            UUID exemptId = UUID.randomUUID();
+            var green = makeFamily(false);
+            var red = new FamilyInfo(redId, "Familie Adler", null, false, true, false, false, List.of());
+            var exempt = new FamilyInfo(exemptId, "Familie Berg", null, true, true, false, false, List.of());
+            setupStandardMocks(new BigDecimal("10"), new BigDecimal("2"));
+            when(familyModuleApi.findAll(any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(red, exempt, green)));
+            when(cleaningModuleApi.getCleaningHoursPerFamilyInRange(any(), any()))
+                    .thenReturn(Map.of(FAMILY_ID, new BigDecimal("2")));
+            when(assignmentRepository.sumHoursPerFamily(List.of(redId, FAMILY_ID))).thenReturn(List.of(
+                    new FamilyHoursSums(FAMILY_ID, new BigDecimal("8"), new BigDecimal("1"), null)));
+
+            var report = service.getAllFamilyHoursReport();
+
+            assertThat(report).extracting(FamilyHoursInfo::familyId).containsExactly(redId, exemptId, FAMILY_ID);
+            assertThat(report.get(0).trafficLight()).isEqualTo("RED");
+            assertThat(report.get(0).totalHours()).isEqualByComparingTo("0");
+            assertThat(report.get(1).hoursExempt()).isTrue();
+            assertThat(report.get(2).totalHours()).isEqualByComparingTo("10");
+            assertThat(report.get(2).pendingHours()).isEqualByComparingTo("1");
+            assertThat(report.get(2).cleaningTrafficLight()).isEqualTo("GREEN");
+            verify(adminModuleApi, times(1)).getTenantConfig();
+            verify(assignmentRepository, never()).sumConfirmedNormalHoursByFamilyId(any());
+            verify(cleaningModuleApi, never()).getCleaningHoursForFamily(any());
+        }
+    }
 }
@@ -8,6 +8,7 @@ import com.monteweb.family.FamilyInfo;
 import com.monteweb.family.FamilyModuleApi;
 import com.monteweb.jobboard.internal.model.Job;
 import com.monteweb.jobboard.internal.model.JobAssignment;
+import com.monteweb.jobboard.internal.model.JobAttachment;
 import com.monteweb.jobboard.internal.repository.JobAssignmentRepository;
 import com.monteweb.jobboard.internal.repository.JobAttachmentRepository;
 import com.monteweb.jobboard.internal.repository.JobRepository;
@@ -16,6 +17,7 @@ import com.monteweb.jobboard.internal.service.JobboardService;
 import com.monteweb.room.RoomModuleApi;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ForbiddenException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import com.monteweb.user.UserInfo;
 import com.monteweb.user.UserModuleApi;
 import com.monteweb.user.UserRole;
@@ -24,6 +26,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -50,6 +54,7 @@ class JobboardServiceTest {
     @Mock private CleaningModuleApi cleaningModuleApi;
     @Mock private CalendarModuleApi calendarModuleApi;
     @Mock private RoomModuleApi roomModuleApi;
+    @Mock private ObjectDeletionQueue deletionQueue;
     @Mock private JobStorageService storageService;
 
     private JobboardService service;
@@ -65,7 +70,7 @@ class JobboardServiceTest {
                 jobRepository, assignmentRepository, attachmentRepository,
                 userModuleApi, familyModuleApi, adminModuleApi,
                 eventPublisher, cleaningModuleApi, calendarModuleApi,
-                roomModuleApi, storageService
+                roomModuleApi, storageService, deletionQueue
         );
     }
 
@@ -103,6 +108,13 @@ class JobboardServiceTest {
         return a;
     }
 
+    /** Stubs the lock sequence of cancel/reject: job id, then the locked job, then the locked assignment. */
+    private void stubLocked(JobAssignment assignment, Job job) {
+        when(assignmentRepository.findJobIdById(assignment.getId())).thenReturn(Optional.of(assignment.getJobId()));
+        when(jobRepository.findByIdForUpdate(assignment.getJobId())).thenReturn(Optional.of(job));
+        when(assignmentRepository.findByIdForUpdate(assignment.getId())).thenReturn(Optional.of(assignment));
+    }
+
     private FamilyInfo makeFamily(UUID id) {
         return new FamilyInfo(id, "Familie Mustermann", null, false, true, false, false, List.of());
     }
@@ -162,7 +174,7 @@ class JobboardServiceTest {
             when(jobRepository.findByIdForUpdate(JOB_ID)).thenReturn(Optional.of(job));
             when(userModuleApi.findById(USER_ID)).thenReturn(Optional.of(makeUser(USER_ID, UserRole.PARENT)));
             when(assignmentRepository.findByJobIdAndUserId(JOB_ID, USER_ID)).thenReturn(Optional.empty());
-            when(assignmentRepository.countByJobIdAndStatusNot(JOB_ID, AssignmentStatus.CANCELLED)).thenReturn(0L);
+            job.setActiveAssigneeCount(0);
             when(familyModuleApi.findByUserId(USER_ID)).thenReturn(List.of(makeFamily(FAMILY_ID)));
             when(assignmentRepository.save(any(JobAssignment.class))).thenAnswer(inv -> {
                 JobAssignment saved = inv.getArgument(0);
@@ -178,7 +190,9 @@ class JobboardServiceTest {
             assertThat(result.status()).isEqualTo(AssignmentStatus.ASSIGNED);
             assertThat(result.userId()).isEqualTo(USER_ID);
             assertThat(result.familyId()).isEqualTo(FAMILY_ID);
+            assertThat(job.getActiveAssigneeCount()).isEqualTo(1);
             verify(assignmentRepository).save(any(JobAssignment.class));
+            verify(assignmentRepository, never()).countByJobIdAndStatusNot(any(), any());
         }
 
         @Test
@@ -226,7 +240,7 @@ class JobboardServiceTest {
             when(jobRepository.findByIdForUpdate(JOB_ID)).thenReturn(Optional.of(job));
             when(userModuleApi.findById(USER_ID)).thenReturn(Optional.of(makeUser(USER_ID, UserRole.PARENT)));
             when(assignmentRepository.findByJobIdAndUserId(JOB_ID, USER_ID)).thenReturn(Optional.empty());
-            when(assignmentRepository.countByJobIdAndStatusNot(JOB_ID, AssignmentStatus.CANCELLED)).thenReturn(2L);
+            job.setActiveAssigneeCount(2);
 
             assertThatThrownBy(() -> service.applyForJob(JOB_ID, USER_ID))
                     .isInstanceOf(BusinessException.class)
@@ -241,7 +255,7 @@ class JobboardServiceTest {
             when(jobRepository.findByIdForUpdate(JOB_ID)).thenReturn(Optional.of(job));
             when(userModuleApi.findById(USER_ID)).thenReturn(Optional.of(makeUser(USER_ID, UserRole.PARENT)));
             when(assignmentRepository.findByJobIdAndUserId(JOB_ID, USER_ID)).thenReturn(Optional.of(cancelled));
-            when(assignmentRepository.countByJobIdAndStatusNot(JOB_ID, AssignmentStatus.CANCELLED)).thenReturn(0L);
+            job.setActiveAssigneeCount(0);
             when(assignmentRepository.save(any(JobAssignment.class))).thenAnswer(inv -> inv.getArgument(0));
             // toAssignmentInfo stubs
             stubToAssignmentInfoDeps(USER_ID, FAMILY_ID, JOB_ID);
@@ -267,7 +281,7 @@ class JobboardServiceTest {
             when(jobRepository.findByIdForUpdate(JOB_ID)).thenReturn(Optional.of(job));
             when(assignmentRepository.findByJobIdAndUserId(JOB_ID, USER_ID)).thenReturn(Optional.empty());
             // 1 existing assignee; max = 2; after this apply it becomes 2 → full
-            when(assignmentRepository.countByJobIdAndStatusNot(JOB_ID, AssignmentStatus.CANCELLED)).thenReturn(1L);
+            job.setActiveAssigneeCount(1);
             when(familyModuleApi.findByUserId(USER_ID)).thenReturn(List.of(makeFamily(FAMILY_ID)));
             when(assignmentRepository.save(any(JobAssignment.class))).thenAnswer(inv -> {
                 JobAssignment saved = inv.getArgument(0);
@@ -358,11 +372,10 @@ class JobboardServiceTest {
 
             var job = makeJob(JOB_ID, JobStatus.ASSIGNED, 2);
 
-            when(assignmentRepository.findById(ASSIGNMENT_ID)).thenReturn(Optional.of(assignment));
+            stubLocked(assignment, job);
             when(assignmentRepository.save(any(JobAssignment.class))).thenAnswer(inv -> inv.getArgument(0));
-            when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+            job.setActiveAssigneeCount(1);
             // After rejection: 0 active assignees < maxAssignees(2) → re-open
-            when(assignmentRepository.countByJobIdAndStatusNot(JOB_ID, AssignmentStatus.CANCELLED)).thenReturn(0L);
             when(jobRepository.save(any(Job.class))).thenAnswer(inv -> inv.getArgument(0));
 
             UUID rejecterId = UUID.randomUUID();
@@ -377,6 +390,7 @@ class JobboardServiceTest {
             ArgumentCaptor<Job> jCaptor = ArgumentCaptor.forClass(Job.class);
             verify(jobRepository).save(jCaptor.capture());
             assertThat(jCaptor.getValue().getStatus()).isEqualTo(JobStatus.OPEN);
+            assertThat(jCaptor.getValue().getActiveAssigneeCount()).isZero();
         }
 
         @Test
@@ -384,7 +398,7 @@ class JobboardServiceTest {
         void rejectAssignment_notCompletedThrows() {
             var assignment = makeAssignment(ASSIGNMENT_ID, JOB_ID, USER_ID, FAMILY_ID, AssignmentStatus.IN_PROGRESS);
 
-            when(assignmentRepository.findById(ASSIGNMENT_ID)).thenReturn(Optional.of(assignment));
+            stubLocked(assignment, makeJob(JOB_ID, JobStatus.ASSIGNED, 2));
 
             assertThatThrownBy(() -> service.rejectAssignment(ASSIGNMENT_ID, UUID.randomUUID()))
                     .isInstanceOf(BusinessException.class)
@@ -397,11 +411,138 @@ class JobboardServiceTest {
             var assignment = makeAssignment(ASSIGNMENT_ID, JOB_ID, USER_ID, FAMILY_ID, AssignmentStatus.COMPLETED);
             assignment.setConfirmed(true);
 
-            when(assignmentRepository.findById(ASSIGNMENT_ID)).thenReturn(Optional.of(assignment));
+            stubLocked(assignment, makeJob(JOB_ID, JobStatus.ASSIGNED, 2));
 
             assertThatThrownBy(() -> service.rejectAssignment(ASSIGNMENT_ID, UUID.randomUUID()))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("confirmed");
         }
+
+        @Test
+        @DisplayName("Gleichzeitig bereits storniert: Status wird unter der Sperre neu gelesen, kein zweiter Platz frei")
+        void rejectAssignment_alreadyCancelledUnderLockReleasesNoSlot() {
+            var assignment = makeAssignment(ASSIGNMENT_ID, JOB_ID, USER_ID, FAMILY_ID, AssignmentStatus.CANCELLED);
+
+            stubLocked(assignment, makeJob(JOB_ID, JobStatus.ASSIGNED, 2));
+
+            assertThatThrownBy(() -> service.rejectAssignment(ASSIGNMENT_ID, UUID.randomUUID()))
+                    .isInstanceOf(BusinessException.class);
+            verify(jobRepository, never()).save(any(Job.class));
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  Cancel Assignment
+    // ═══════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("Cancel Assignment")
+    class CancelAssignment {
+
+        @Test
+        @DisplayName("Abmeldung gibt den Platz frei und zaehlt herunter")
+        void cancelAssignment_releasesSlot() {
+            var assignment = makeAssignment(ASSIGNMENT_ID, JOB_ID, USER_ID, FAMILY_ID, AssignmentStatus.ASSIGNED);
+            var job = makeJob(JOB_ID, JobStatus.ASSIGNED, 2);
+            job.setActiveAssigneeCount(2);
+
+            stubLocked(assignment, job);
+
+            service.cancelAssignment(ASSIGNMENT_ID, USER_ID);
+
+            assertThat(assignment.getStatus()).isEqualTo(AssignmentStatus.CANCELLED);
+            assertThat(job.getActiveAssigneeCount()).isEqualTo(1);
+            assertThat(job.getStatus()).isEqualTo(JobStatus.PARTIALLY_ASSIGNED);
+            verify(jobRepository).save(job);
+        }
+
+        @Test
+        @DisplayName("Bereits abgemeldete Zuweisung aendert den Zaehler nicht")
+        void cancelAssignment_alreadyCancelledIsNoOp() {
+            var assignment = makeAssignment(ASSIGNMENT_ID, JOB_ID, USER_ID, FAMILY_ID, AssignmentStatus.CANCELLED);
+            var job = makeJob(JOB_ID, JobStatus.ASSIGNED, 2);
+            job.setActiveAssigneeCount(1);
+
+            stubLocked(assignment, job);
+
+            service.cancelAssignment(ASSIGNMENT_ID, USER_ID);
+
+            assertThat(job.getActiveAssigneeCount()).isEqualTo(1);
+            verify(jobRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Sperre auf Job und Zuweisung wird vor dem Lesen des Status genommen")
+        void cancelAssignment_locksJobBeforeReadingAssignment() {
+            var assignment = makeAssignment(ASSIGNMENT_ID, JOB_ID, USER_ID, FAMILY_ID, AssignmentStatus.ASSIGNED);
+            var job = makeJob(JOB_ID, JobStatus.ASSIGNED, 2);
+            job.setActiveAssigneeCount(2);
+
+            stubLocked(assignment, job);
+
+            service.cancelAssignment(ASSIGNMENT_ID, USER_ID);
+
+            var order = inOrder(jobRepository, assignmentRepository);
+            order.verify(jobRepository).findByIdForUpdate(JOB_ID);
+            order.verify(assignmentRepository).findByIdForUpdate(ASSIGNMENT_ID);
+            verify(assignmentRepository, never()).findById(any());
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  List Jobs
+    // ═══════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("List Jobs")
+    class ListJobs {
+
+        @Test
+        @DisplayName("Seite wird mit einer Anhang-Abfrage und ohne Zaehlabfragen befuellt")
+        void listJobs_hydratesPageInBatch() {
+            var first = makeJob(JOB_ID, JobStatus.OPEN, 3);
+            first.setActiveAssigneeCount(2);
+            var second = makeJob(UUID.randomUUID(), JobStatus.OPEN, 1);
+            var attachment = new JobAttachment();
+            attachment.setId(UUID.randomUUID());
+            attachment.setJobId(JOB_ID);
+            attachment.setOriginalFilename("plan.pdf");
+
+            when(jobRepository.findWithFilters(any(), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(new PageImpl<>(List.of(first, second)));
+            when(attachmentRepository.findByJobIdInOrderByCreatedAtAsc(List.of(JOB_ID, second.getId())))
+                    .thenReturn(List.of(attachment));
+
+            var page = service.listJobs(null, null, null, null, null, null, Pageable.unpaged());
+
+            assertThat(page.getContent()).extracting(JobInfo::currentAssignees).containsExactly(2, 0);
+            assertThat(page.getContent().get(0).attachments()).extracting(JobAttachmentInfo::originalFilename)
+                    .containsExactly("plan.pdf");
+            assertThat(page.getContent().get(1).attachments()).isEmpty();
+            verify(assignmentRepository, never()).countByJobIdAndStatusNot(any(), any());
+            verify(attachmentRepository, never()).findByJobIdOrderByCreatedAtAsc(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("User Data Cleanup")
+    class CleanupUserData {
+
+        @Test
+        @DisplayName("Ein Stapel geloeschter Nutzer wird mit einer Anweisung pro Tabelle bereinigt")
+        void cleanupUserData_batchIsSetBased() {
+            var userIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+            when(attachmentRepository.findStoragePathsByUploadedByIn(userIds)).thenReturn(List.of("jobs/a/plan.pdf"));
+            when(assignmentRepository.findJobIdsByUserIdIn(userIds)).thenReturn(List.of(JOB_ID));
+
+            service.cleanupUserData(userIds);
+
+            verify(deletionQueue).enqueue(List.of("jobs/a/plan.pdf"));
+            verify(attachmentRepository).deleteByUploadedByIn(userIds);
+            verify(jobRepository).clearCreatedByIn(userIds);
+            verify(assignmentRepository).deleteByUserIdIn(userIds);
+            verify(jobRepository).recountActiveAssignees(List.of(JOB_ID));
+            verifyNoInteractions(storageService);
+        }
     }
 }
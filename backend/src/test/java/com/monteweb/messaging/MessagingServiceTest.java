@@ -7,6 +7,7 @@ import com.monteweb.messaging.internal.repository.*;
 import com.monteweb.messaging.internal.service.MessagingService;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ForbiddenException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
 import com.monteweb.user.UserInfo;
 import com.monteweb.user.UserModuleApi;
 import com.monteweb.user.UserRole;
@@ -46,6 +47,7 @@ class MessagingServiceTest {
     @Mock private MessageChannel messageChannel;
     private SimpMessagingTemplate messagingTemplate;
     @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ObjectDeletionQueue deletionQueue;
 
     private MessagingService service;
 
@@ -63,7 +65,7 @@ class MessagingServiceTest {
                 messageRepository, messageImageRepository, messageAttachmentRepository,
                 messageReactionRepository, messagePollRepository, messagePollVoteRepository,
                 userModuleApi, adminModuleApi,
-                messagingTemplate, eventPublisher, null
+                messagingTemplate, eventPublisher, null, deletionQueue
         );
     }
 
@@ -404,4 +406,30 @@ class MessagingServiceTest {
                     .hasMessageContaining("not a participant");
         }
     }
+
+    @Nested
+    @DisplayName("User Data Cleanup")
+    class CleanupUserData {
+
+        @Test
+        @DisplayName("Ein Stapel geloeschter Nutzer wird mit einer Anweisung pro Tabelle bereinigt")
+        void cleanupUserData_batchIsSetBased() {
+            var userIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+            var image = new MessageImage();
+            image.setStoragePath("messages/a/bild.png");
+            image.setThumbnailPath("messages/a/thumb.png");
+            when(messageImageRepository.findBySenderIdIn(userIds)).thenReturn(List.of(image));
+            when(messageAttachmentRepository.findStoragePathsBySenderIdIn(userIds))
+                    .thenReturn(List.of("messages/a/brief.pdf"));
+
+            service.cleanupUserData(userIds);
+
+            verify(deletionQueue).enqueue(List.of("messages/a/bild.png", "messages/a/thumb.png", "messages/a/brief.pdf"));
+            verify(messageImageRepository).deleteBySenderIdIn(userIds);
+            verify(messageAttachmentRepository).deleteBySenderIdIn(userIds);
+            verify(messageRepository).anonymizeBySenderIdIn(userIds);
+            verify(participantRepository).deleteByUserIdIn(userIds);
+            verify(messageRepository, never()).findBySenderId(any());
+        }
+    }
 }
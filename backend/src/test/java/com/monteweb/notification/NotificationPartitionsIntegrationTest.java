@@ -0,0 +1,217 @@
+package com.monteweb.notification;
+
+import com.monteweb.TestContainerConfig;
+import com.monteweb.TestHelper;
+import com.monteweb.notification.internal.service.NotificationPartitions;
+import com.monteweb.shared.retention.RetentionEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Monthly partitions of {@code notifications}: future months exist ahead of time, retention
+ * drops whole expired months and deletes only the rows of the month the cutoff falls into,
+ * and time-bounded queries are pruned to the matching partitions.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestContainerConfig.class)
+class NotificationPartitionsIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private NotificationPartitions partitions;
+    @Autowired private NotificationModuleApi notificationModuleApi;
+    @Autowired private RetentionEngine retentionEngine;
+
+    private static String partitionName(YearMonth month) {
+        return "notifications_y%04dm%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+
+    private static Instant at(YearMonth month, int day) {
+        return month.atDay(day).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+    }
+
+    private UUID registerUser(String email) throws Exception {
+        TestHelper.registerAndGetToken(mockMvc, email, "Partition", "Test");
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", UUID.class, email);
+    }
+
+    private void insertNotifications(UUID userId, Instant createdAt, int count) {
+        jdbcTemplate.update("""
+                INSERT INTO notifications (user_id, type, title, created_at)
+                SELECT ?, 'SYSTEM', 'Hinweis ' || i, ? FROM generate_series(1, ?) AS i
+                """, userId, Timestamp.from(createdAt), count);
+    }
+
+    @Test
+    void currentAndComingMonthsArePartitioned() {
+        partitions.createFuturePartitions();
+
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= 3; i++) {
+            assertThat(exists(partitionName(current.plusMonths(i)))).isTrue();
+        }
+        assertThat(partitions.createPartition(current)).isFalse();
+    }
+
+    @Test
+    void retentionDropsExpiredMonthsAndPurgesTheCutoffMonthByRow() throws Exception {
+        UUID userId = registerUser("notif-partitions@example.com");
+        YearMonth expired = YearMonth.now(ZoneOffset.UTC).minusMonths(14);
+        YearMonth boundary = expired.plusMonths(1);
+        partitions.createPartition(expired);
+        partitions.createPartition(boundary);
+
+        insertNotifications(userId, at(expired, 5), 10);
+        insertNotifications(userId, at(boundary, 2), 10);
+        insertNotifications(userId, at(boundary, 20), 7);
+        insertNotifications(userId, Instant.now(), 3);
+
+        var run = retentionEngine.purge(notificationModuleApi.retentionPolicy(at(boundary, 10)));
+
+        assertThat(run.completed()).isTrue();
+        assertThat(run.partitionsDropped()).isGreaterThanOrEqualTo(1);
+        assertThat(exists(partitionName(expired))).isFalse();
+        assertThat(exists(partitionName(boundary))).isTrue();
+        assertThat(run.rowsPurged()).isGreaterThanOrEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM notifications WHERE user_id = ?", Integer.class, userId)).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM notifications WHERE user_id = ? AND created_at < ?", Integer.class,
+                userId, Timestamp.from(at(boundary, 10)))).isZero();
+    }
+
+    @Test
+    void timeBoundedQueriesOnlyScanMatchingPartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        partitions.createPartition(current.minusMonths(2));
+
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM notifications WHERE user_id = ? AND created_at > ? ORDER BY created_at DESC",
+                String.class, UUID.randomUUID(), Timestamp.from(at(current, 1))));
+
+        assertThat(plan).contains(partitionName(current));
+        assertThat(plan).doesNotContain(partitionName(current.minusMonths(2)));
+    }
+
+    /**
+     * Unread count and first list page for random users on ten million notifications,
+     * in the former single table (V009 indexes) and partitioned by month (V132 indexes),
+     * plus removing the oldest month by DELETE versus dropping its partition.
+     * Run with {@code -Dbenchmarks=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkSingleTableAgainstPartitions() {
+        int rows = 10_000_000;
+        int users = 20_000;
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        YearMonth oldest = current.minusMonths(12);
+
+        jdbcTemplate.execute("""
+                CREATE TABLE bench_heap (
+                    id UUID PRIMARY KEY, user_id UUID NOT NULL, type VARCHAR(50) NOT NULL,
+                    title VARCHAR(300) NOT NULL, message TEXT, link VARCHAR(500), reference_type VARCHAR(50),
+                    reference_id UUID, is_read BOOLEAN NOT NULL, created_at TIMESTAMP WITH TIME ZONE NOT NULL)
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE bench_partitioned (
+                    id UUID NOT NULL, user_id UUID NOT NULL, type VARCHAR(50) NOT NULL,
+                    title VARCHAR(300) NOT NULL, message TEXT, link VARCHAR(500), reference_type VARCHAR(50),
+                    reference_id UUID, is_read BOOLEAN NOT NULL, created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                    PRIMARY KEY (id, created_at)) PARTITION BY RANGE (created_at)
+                """);
+        for (var month = oldest; !month.isAfter(current.plusMonths(1)); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("CREATE TABLE bench_p%04d%02d PARTITION OF bench_partitioned FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(month.getYear(), month.getMonthValue(), at(month, 1), at(month.plusMonths(1), 1)));
+        }
+        try {
+            long start = System.nanoTime();
+            jdbcTemplate.update("""
+                    INSERT INTO bench_heap (id, user_id, type, title, is_read, created_at)
+                    SELECT gen_random_uuid(), md5((i % ?)::text)::uuid, 'SYSTEM', 'Hinweis ' || i,
+                           random() > 0.05, ?::timestamptz + random() * (now() - ?::timestamptz)
+                    FROM generate_series(1, ?) AS i
+                    """, users, Timestamp.from(at(oldest, 1)), Timestamp.from(at(oldest, 1)), rows);
+            jdbcTemplate.update("INSERT INTO bench_partitioned SELECT * FROM bench_heap");
+            jdbcTemplate.execute("CREATE INDEX ON bench_heap (user_id)");
+            jdbcTemplate.execute("CREATE INDEX ON bench_heap (user_id, is_read) WHERE is_read = false");
+            jdbcTemplate.execute("CREATE INDEX ON bench_heap (created_at DESC)");
+            jdbcTemplate.execute("CREATE INDEX ON bench_partitioned (user_id, created_at DESC)");
+            jdbcTemplate.execute("CREATE INDEX ON bench_partitioned (user_id) WHERE is_read = false");
+            jdbcTemplate.execute("CREATE INDEX ON bench_partitioned (created_at, id)");
+            jdbcTemplate.execute("VACUUM ANALYZE bench_heap");
+            jdbcTemplate.execute("VACUUM ANALYZE bench_partitioned");
+            System.out.printf("loaded %d notifications for %d users into both tables in %d s%n",
+                    rows, users, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+
+            var random = new Random(42);
+            List<UUID> sample = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                sample.add(jdbcTemplate.queryForObject("SELECT md5(?::text)::uuid", UUID.class, random.nextInt(users)));
+            }
+            for (String table : List.of("bench_heap", "bench_partitioned")) {
+                long[] unread = measure(sample, userId -> jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM " + table + " WHERE user_id = ? AND is_read = false", Long.class, userId));
+                long[] list = measure(sample, userId -> jdbcTemplate.queryForList(
+                        "SELECT * FROM " + table + " WHERE user_id = ? ORDER BY created_at DESC LIMIT 20", userId));
+                System.out.printf("%s: unread count p50 %.2f ms p95 %.2f ms, list page p50 %.2f ms p95 %.2f ms%n",
+                        table, percentile(unread, 50), percentile(unread, 95), percentile(list, 50), percentile(list, 95));
+            }
+
+            long deleteStart = System.nanoTime();
+            int deleted = jdbcTemplate.update("DELETE FROM bench_heap WHERE created_at < ?",
+                    Timestamp.from(at(oldest.plusMonths(1), 1)));
+            long deleteMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - deleteStart);
+            long dropStart = System.nanoTime();
+            String oldestPartition = "bench_p%04d%02d".formatted(oldest.getYear(), oldest.getMonthValue());
+            jdbcTemplate.execute("ALTER TABLE bench_partitioned DETACH PARTITION " + oldestPartition + " CONCURRENTLY");
+            jdbcTemplate.execute("DROP TABLE " + oldestPartition);
+            long dropMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - dropStart);
+            System.out.printf("oldest month (%d rows): DELETE %d ms, detach and drop %d ms%n", deleted, deleteMillis, dropMillis);
+        } finally {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS bench_heap");
+            jdbcTemplate.execute("DROP TABLE IF EXISTS bench_partitioned");
+        }
+    }
+
+    private static long[] measure(List<UUID> userIds, Consumer<UUID> query) {
+        userIds.forEach(query);
+        long[] nanos = new long[userIds.size()];
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            query.accept(userIds.get(i));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static double percentile(long[] sortedNanos, int percent) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, sortedNanos.length * percent / 100)] / 1_000_000.0;
+    }
+}
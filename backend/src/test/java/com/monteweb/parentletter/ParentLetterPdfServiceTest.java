@@ -0,0 +1,164 @@
+package com.monteweb.parentletter;
+
+import com.monteweb.parentletter.internal.service.LetterPersonalization;
+import com.monteweb.parentletter.internal.service.ParentLetterPdfService;
+import com.monteweb.shared.config.PdfProperties;
+import com.monteweb.shared.util.PdfService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParentLetterPdfServiceTest {
+
+    private final ParentLetterPdfService pdfService = new ParentLetterPdfService(
+            new PdfService(PdfProperties.defaults(), new SimpleMeterRegistry()), new SimpleAsyncTaskExecutor());
+
+    @Test
+    void writeLettersZip_shouldContainOnePdfPerRecipientInOrder() throws Exception {
+        var out = new ByteArrayOutputStream();
+        pdfService.writeLettersZip(letter(), recipients(5), out);
+
+        var names = new ArrayList<String>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+                byte[] pdf = zip.readAllBytes();
+                assertEquals("%PDF", new String(pdf, 0, 4));
+            }
+        }
+
+        assertEquals(5, names.size());
+        assertEquals("001-Kind_1-Eltern_1.pdf", names.get(0));
+        assertEquals("005-Kind_5-Eltern_5.pdf", names.get(4));
+    }
+
+    @Test
+    void writeMergedPdf_shouldStartEachLetterOnNewPage() throws Exception {
+        var out = new ByteArrayOutputStream();
+        pdfService.writeMergedPdf(letter(), recipients(3), out);
+
+        try (var doc = PDDocument.load(out.toByteArray())) {
+            assertEquals(3, doc.getNumberOfPages());
+            String text = new PDFTextStripper().getText(doc);
+            assertTrue(text.contains("Familie 1"));
+            assertTrue(text.contains("Familie 3"));
+        }
+    }
+
+    @Test
+    void writeMergedPdf_shouldEscapeVariableValues() throws Exception {
+        var variables = new LinkedHashMap<String, String>();
+        variables.put("{Familie}", "<Meier & Co>");
+        variables.put("{NameKind}", "Lea");
+        variables.put("{Anrede}", "Sehr geehrte Eltern");
+        variables.put("{LehrerName}", "");
+        var recipient = new LetterPersonalization(UUID.randomUUID(), "Lea Meier", "Eva Meier", variables);
+
+        var out = new ByteArrayOutputStream();
+        pdfService.writeMergedPdf(letter(), List.of(recipient), out);
+
+        try (var doc = PDDocument.load(out.toByteArray())) {
+            assertTrue(new PDFTextStripper().getText(doc).contains("<Meier & Co>"));
+        }
+    }
+
+    @Test
+    void writeLettersZip_shouldMatchSingleLetterPdf() throws Exception {
+        var letter = letter();
+        var recipient = recipients(1).getFirst();
+        var out = new ByteArrayOutputStream();
+        pdfService.writeLettersZip(letter, List.of(recipient), out);
+
+        byte[] fromZip;
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            zip.getNextEntry();
+            fromZip = zip.readAllBytes();
+        }
+        String zipText = text(fromZip);
+        assertEquals(text(pdfService.generateLetterPdf(letter, recipient.variables())), zipText);
+        assertTrue(zipText.contains("Sehr geehrte/r Eltern 1,"));
+        assertTrue(zipText.contains("Kind 1"));
+        assertTrue(zipText.contains("(Familie 1)"));
+        assertFalse(zipText.contains("{"));
+    }
+
+    @Test
+    void generateLetterPdf_shouldKeepPlaceholdersWithoutVariables() throws Exception {
+        assertTrue(text(pdfService.generateLetterPdf(letter(), Map.of())).contains("{NameKind}"));
+    }
+
+    private static String text(byte[] pdf) throws Exception {
+        try (var doc = PDDocument.load(pdf)) {
+            return new PDFTextStripper().getText(doc);
+        }
+    }
+
+    /**
+     * Throughput of the ZIP export for a class-sized and a school-sized letter.
+     * Run with {@code -Dbenchmarks=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkBatchRendering() throws Exception {
+        for (int count : new int[]{30, 300}) {
+            var recipients = recipients(count);
+            pdfService.writeLettersZip(letter(), recipients, OutputStream.nullOutputStream());
+
+            long start = System.nanoTime();
+            pdfService.writeLettersZip(letter(), recipients, OutputStream.nullOutputStream());
+            long zipMillis = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            pdfService.writeMergedPdf(letter(), recipients, OutputStream.nullOutputStream());
+            long mergedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            System.out.printf("%d letters: zip %d ms (%.1f letters/s), merged %d ms%n",
+                    count, zipMillis, count * 1000.0 / Math.max(zipMillis, 1), mergedMillis);
+        }
+    }
+
+    private static ParentLetterDetailInfo letter() {
+        return new ParentLetterDetailInfo(
+                UUID.randomUUID(), "Ausflug", """
+                        {Anrede},
+
+                        am Freitag fährt die Klasse von **{NameKind}** ({Familie}) in den Zoo.
+
+                        | Was | Wann |
+                        |-----|------|
+                        | Abfahrt | 8:00 |
+
+                        Viele Grüße, {LehrerName}
+                        """,
+                ParentLetterStatus.SENT, UUID.randomUUID(), "Sonnenklasse", UUID.randomUUID(), "Frau Lehrerin",
+                Instant.now(), null, 3, false, 0, 0, List.of(), Instant.now(), Instant.now());
+    }
+
+    private static List<LetterPersonalization> recipients(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> {
+            var variables = new LinkedHashMap<String, String>();
+            variables.put("{Familie}", "Familie " + i);
+            variables.put("{NameKind}", "Kind " + i);
+            variables.put("{Anrede}", "Sehr geehrte/r Eltern " + i);
+            variables.put("{LehrerName}", "Frau Lehrerin");
+            return new LetterPersonalization(UUID.randomUUID(), "Kind " + i, "Eltern " + i, variables);
+        }).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.monteweb.parentletter;
+
+import com.monteweb.TestContainerConfig;
+import com.monteweb.family.FamilyModuleApi;
+import com.monteweb.parentletter.internal.repository.ParentLetterRecipientRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Bulk recipient resolution against the database: one query finds every parent of the
+ * requested students, and writing the recipients again adds no duplicates.
+ */
+@SpringBootTest
+@Import(TestContainerConfig.class)
+@Transactional
+class ParentLetterRecipientsIntegrationTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private FamilyModuleApi familyModuleApi;
+    @Autowired private ParentLetterRecipientRepository recipientRepository;
+
+    private UUID user(String email, String role) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password_hash, first_name, last_name, role)
+                VALUES (?, ?, 'x', 'Test', ?, ?)
+                """, id, email, email, role);
+        return id;
+    }
+
+    private UUID family(String name) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO families (id, name) VALUES (?, ?)", id, name);
+        return id;
+    }
+
+    private void member(UUID familyId, UUID userId, String role) {
+        jdbcTemplate.update("INSERT INTO family_members (family_id, user_id, role) VALUES (?, ?, ?)",
+                familyId, userId, role);
+    }
+
+    @Test
+    void resolvesParentsOfAllStudentsAndIgnoresDuplicatesOnResend() {
+        UUID teacher = user("plr-teacher@example.com", "TEACHER");
+        UUID anna = user("plr-anna@example.com", "STUDENT");
+        UUID ben = user("plr-ben@example.com", "STUDENT");
+        UUID clara = user("plr-clara@example.com", "STUDENT");
+        UUID mother = user("plr-mother@example.com", "PARENT");
+        UUID father = user("plr-father@example.com", "PARENT");
+        UUID aunt = user("plr-aunt@example.com", "PARENT");
+
+        // Anna lives in two families; Clara has none
+        UUID huber = family("Huber");
+        member(huber, mother, "PARENT");
+        member(huber, father, "PARENT");
+        member(huber, anna, "CHILD");
+        member(huber, ben, "CHILD");
+        UUID maier = family("Maier");
+        member(maier, aunt, "PARENT");
+        member(maier, anna, "CHILD");
+
+        UUID room = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO rooms (id, name, type, created_by) VALUES (?, '3a', 'KLASSE', ?)", room, teacher);
+        UUID letter = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO parent_letters (id, room_id, created_by, title, content) VALUES (?, ?, ?, 'Wandertag', 'Liebe Eltern')",
+                letter, room, teacher);
+
+        var links = familyModuleApi.findParentLinks(List.of(anna, ben, clara));
+        assertThat(links).extracting("memberId", "familyId", "parentId").containsExactlyInAnyOrder(
+                tuple(anna, huber, mother), tuple(anna, huber, father), tuple(anna, maier, aunt),
+                tuple(ben, huber, mother), tuple(ben, huber, father));
+
+        assertThat(recipientRepository.insertIgnoringDuplicates(letter, links)).isEqualTo(5);
+        assertThat(recipientRepository.insertIgnoringDuplicates(letter, links)).isZero();
+
+        assertThat(recipientRepository.findByLetterIdOrderByCreatedAt(letter))
+                .extracting("studentId", "parentId")
+                .containsExactlyInAnyOrder(tuple(anna, mother), tuple(anna, father), tuple(anna, aunt),
+                        tuple(ben, mother), tuple(ben, father));
+    }
+}
@@ -0,0 +1,108 @@
+package com.monteweb.parentletter;
+
+import com.monteweb.family.FamilyModuleApi;
+import com.monteweb.family.FamilyParentLink;
+import com.monteweb.parentletter.internal.model.ParentLetter;
+import com.monteweb.parentletter.internal.repository.ParentLetterAttachmentRepository;
+import com.monteweb.parentletter.internal.repository.ParentLetterConfigRepository;
+import com.monteweb.parentletter.internal.repository.ParentLetterRecipientRepository;
+import com.monteweb.parentletter.internal.repository.ParentLetterRepository;
+import com.monteweb.parentletter.internal.service.ParentLetterService;
+import com.monteweb.parentletter.internal.service.ParentLetterStorageService;
+import com.monteweb.room.RoomInfo;
+import com.monteweb.room.RoomModuleApi;
+import com.monteweb.user.UserInfo;
+import com.monteweb.user.UserModuleApi;
+import com.monteweb.user.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for recipient resolution: all parent links of a letter are resolved with
+ * one family query and written with one bulk insert, in the order of the requested students.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ParentLetterServiceTest {
+
+    @Mock private ParentLetterRepository letterRepository;
+    @Mock private ParentLetterRecipientRepository recipientRepository;
+    @Mock private ParentLetterConfigRepository configRepository;
+    @Mock private ParentLetterAttachmentRepository attachmentRepository;
+    @Mock private ParentLetterStorageService storageService;
+    @Mock private RoomModuleApi roomModuleApi;
+    @Mock private UserModuleApi userModuleApi;
+    @Mock private FamilyModuleApi familyModuleApi;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @Captor private ArgumentCaptor<Collection<UUID>> studentIdsCaptor;
+    @Captor private ArgumentCaptor<List<FamilyParentLink>> linksCaptor;
+
+    private ParentLetterService service;
+
+    private static final UUID ROOM_ID = UUID.randomUUID();
+    private static final UUID TEACHER_ID = UUID.randomUUID();
+    private static final UUID LETTER_ID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new ParentLetterService(letterRepository, recipientRepository, configRepository,
+                attachmentRepository, storageService, roomModuleApi, userModuleApi, familyModuleApi, eventPublisher);
+
+        when(roomModuleApi.findById(ROOM_ID)).thenReturn(Optional.of(new RoomInfo(ROOM_ID, "Klasse 3a", null, null,
+                null, "KLASSE", null, false, 20, "OPEN", null, List.of(), null)));
+        when(userModuleApi.findById(TEACHER_ID)).thenReturn(Optional.of(new UserInfo(TEACHER_ID,
+                "admin@monteweb.local", "Ada", "Admin", "Ada Admin", null, null, UserRole.SUPERADMIN,
+                Set.of(), Set.of(), true, "SYSTEM")));
+        when(letterRepository.save(any(ParentLetter.class))).thenAnswer(inv -> {
+            ParentLetter letter = inv.getArgument(0);
+            letter.setId(LETTER_ID);
+            return letter;
+        });
+    }
+
+    @Test
+    void createLetter_resolvesAllRecipientsWithOneQueryAndOneInsert() {
+        UUID anna = UUID.randomUUID();
+        UUID ben = UUID.randomUUID();
+        UUID family = UUID.randomUUID();
+        UUID mother = UUID.randomUUID();
+        UUID father = UUID.randomUUID();
+        // The query returns links in arbitrary order
+        when(familyModuleApi.findParentLinks(any())).thenReturn(List.of(
+                new FamilyParentLink(ben, family, mother),
+                new FamilyParentLink(anna, family, mother),
+                new FamilyParentLink(anna, family, father)));
+
+        service.createLetter(new CreateParentLetterRequest(ROOM_ID, "Wandertag", "Liebe Eltern",
+                null, null, null, List.of(anna, ben, anna)), TEACHER_ID);
+
+        verify(familyModuleApi).findParentLinks(studentIdsCaptor.capture());
+        verifyNoMoreInteractions(familyModuleApi);
+        assertThat(studentIdsCaptor.getValue()).containsExactlyInAnyOrder(anna, ben);
+
+        verify(recipientRepository).insertIgnoringDuplicates(eq(LETTER_ID), linksCaptor.capture());
+        assertThat(linksCaptor.getValue()).extracting(FamilyParentLink::memberId)
+                .containsExactly(anna, anna, ben);
+        verify(recipientRepository, never()).save(any());
+    }
+}
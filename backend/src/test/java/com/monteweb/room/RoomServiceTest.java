@@ -7,6 +7,7 @@ import com.monteweb.room.internal.repository.*;
 import com.monteweb.room.internal.service.RoomService;
 import com.monteweb.shared.exception.BusinessException;
 import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.shared.util.TwoTierCacheManager;
 import com.monteweb.user.UserInfo;
 import com.monteweb.user.UserModuleApi;
 import com.monteweb.user.UserRole;
@@ -49,7 +50,8 @@ class RoomServiceTest {
         roomService = new RoomService(
                 roomRepository, memberRepository, joinRequestRepository,
                 subscriptionRepository, userModuleApi, familyModuleApi,
-                eventPublisher, chatChannelRepository, messagingModuleApi
+                eventPublisher, chatChannelRepository, messagingModuleApi,
+                TwoTierCacheManager.disabled()
         );
     }
 
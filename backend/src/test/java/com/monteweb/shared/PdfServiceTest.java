@@ -1,15 +1,20 @@
 package com.monteweb.shared;
 
+import com.monteweb.shared.config.PdfProperties;
 import com.monteweb.shared.util.PdfService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class PdfServiceTest {
 
-    private final PdfService pdfService = new PdfService();
+    private final PdfService pdfService = new PdfService(PdfProperties.defaults(), new SimpleMeterRegistry());
 
     @Test
     void renderHtmlToPdf_simpleHtml_shouldReturnPdfBytes() {
@@ -110,4 +115,39 @@ class PdfServiceTest {
         assertThrows(RuntimeException.class, () ->
                 pdfService.renderHtmlToPdf("not valid html at all"));
     }
+
+    @Test
+    void renderHtmlToPdf_toStream_shouldWritePdfAndRecordMetrics() {
+        var registry = new SimpleMeterRegistry();
+        var service = new PdfService(PdfProperties.defaults(), registry);
+        var out = new ByteArrayOutputStream();
+
+        service.renderHtmlToPdf(SIMPLE_HTML, out);
+
+        assertEquals("%PDF", new String(out.toByteArray(), 0, 4));
+        assertEquals(1, registry.get("monteweb.pdf.render").timer().count());
+    }
+
+    @Test
+    void renderHtmlToPdf_withDiskCache_shouldServeRepeatedContentFromCache(@TempDir Path cacheDir) {
+        var registry = new SimpleMeterRegistry();
+        var properties = new PdfProperties(1, null, null, cacheDir.toString(), null);
+        var service = new PdfService(properties, registry);
+
+        byte[] first = service.renderHtmlToPdf(SIMPLE_HTML);
+        byte[] second = service.renderHtmlToPdf(SIMPLE_HTML);
+
+        assertArrayEquals(first, second);
+        assertEquals(1, registry.get("monteweb.pdf.render").timer().count());
+        assertEquals(1, registry.get("monteweb.pdf.cache").tag("result", "hit").counter().count());
+    }
+
+    private static final String SIMPLE_HTML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <!DOCTYPE html>
+            <html xmlns="http://www.w3.org/1999/xhtml">
+            <head><title>Test</title></head>
+            <body><p>Hello World</p></body>
+            </html>
+            """;
 }
@@ -0,0 +1,153 @@
+package com.monteweb.shared;
+
+import com.monteweb.shared.config.RequestMemoConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestMemoTest {
+
+    public interface LookupApi {
+        @RequestMemoized
+        String findName(UUID id);
+
+        @RequestMemoized
+        List<UUID> memberIds(UUID id);
+
+        String rename(UUID id, String name);
+
+        int stats();
+    }
+
+    @Service
+    public static class LookupService implements LookupApi {
+        int reads;
+        String name = "Alpha";
+
+        @Override
+        public String findName(UUID id) {
+            reads++;
+            return name;
+        }
+
+        @Override
+        public List<UUID> memberIds(UUID id) {
+            reads++;
+            return new ArrayList<>(List.of(id));
+        }
+
+        @Override
+        public String rename(UUID id, String name) {
+            this.name = name;
+            return name;
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public int stats() {
+            return reads;
+        }
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LookupService target;
+    private LookupApi api;
+    private ServletRequestAttributes attributes;
+
+    @BeforeEach
+    void setUp() {
+        target = new LookupService();
+        var factory = new ProxyFactory(target);
+        factory.addAdvisor(RequestMemoConfig.advisor(meterRegistry));
+        api = (LookupApi) factory.getProxy();
+        attributes = new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/v1/feed"));
+        RequestContextHolder.setRequestAttributes(attributes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void repeatedReadsHitTargetOnce() {
+        assertEquals("Alpha", api.findName(id));
+        assertEquals("Alpha", api.findName(id));
+        assertEquals("Alpha", api.findName(id));
+
+        assertEquals(1, target.reads);
+        assertEquals(2, meterRegistry.counter("monteweb.request.memo",
+                "api", "LookupService", "result", "hit").count());
+    }
+
+    @Test
+    void differentArgumentsAreSeparateEntries() {
+        api.findName(id);
+        api.findName(UUID.randomUUID());
+
+        assertEquals(2, target.reads);
+    }
+
+    @Test
+    void writeInvalidatesMemoizedReads() {
+        api.findName(id);
+        api.rename(id, "Beta");
+
+        assertEquals("Beta", api.findName(id));
+        assertEquals(2, target.reads);
+    }
+
+    @Test
+    void readOnlyCallsDoNotInvalidate() {
+        api.findName(id);
+        api.stats();
+        api.findName(id);
+
+        assertEquals(1, target.reads);
+    }
+
+    @Test
+    void callersGetTheirOwnCollectionCopies() {
+        api.memberIds(id).clear();
+
+        assertEquals(List.of(id), api.memberIds(id));
+        assertEquals(1, target.reads);
+    }
+
+    @Test
+    void noMemoizationOutsideOfRequest() {
+        RequestContextHolder.resetRequestAttributes();
+
+        api.findName(id);
+        api.findName(id);
+
+        assertEquals(2, target.reads);
+    }
+
+    @Test
+    void hitCountIsRecordedWhenRequestCompletes() {
+        api.findName(id);
+        api.findName(id);
+        api.findName(id);
+
+        attributes.requestCompleted();
+
+        var summary = meterRegistry.summary("monteweb.request.memo.hits.per.request");
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+    }
+}
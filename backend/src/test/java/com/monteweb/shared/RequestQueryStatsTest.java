@@ -0,0 +1,67 @@
+package com.monteweb.shared;
+
+import com.monteweb.MaxQueries;
+import com.monteweb.QueryCountExtension;
+import com.monteweb.shared.util.RequestQueryStats;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestQueryStatsTest {
+
+    @Test
+    void statementsAreCountedInAllOpenScopes() {
+        var outer = RequestQueryStats.start();
+        RequestQueryStats.recordStatement("select 1");
+        var inner = RequestQueryStats.start();
+        RequestQueryStats.recordStatement("select u from users u where id=?");
+        RequestQueryStats.recordStatement("select u from users u where id=?");
+        inner.stop();
+        outer.stop();
+
+        assertEquals(3, outer.count());
+        assertEquals(2, inner.count());
+        var repeated = outer.mostRepeated().orElseThrow();
+        assertEquals("select u from users u where id=?", repeated.getKey());
+        assertEquals(2, repeated.getValue());
+    }
+
+    @Test
+    void nothingIsRecordedWithoutScope() {
+        RequestQueryStats.recordStatement("select 1");
+        RequestQueryStats.recordJdbcTime(1_000);
+
+        var stats = RequestQueryStats.start();
+        stats.stop();
+        assertEquals(0, stats.count());
+        assertTrue(stats.mostRepeated().isEmpty());
+    }
+
+    @Test
+    void jdbcTimeIsSummed() {
+        var stats = RequestQueryStats.start();
+        RequestQueryStats.recordJdbcTime(1_500_000);
+        RequestQueryStats.recordJdbcTime(500_000);
+        stats.stop();
+
+        assertEquals(2, stats.jdbcTime().toMillis());
+    }
+
+    @Test
+    @MaxQueries(2)
+    void maxQueriesAllowsStatementsUpToTheLimit() {
+        RequestQueryStats.recordStatement("select 1");
+        RequestQueryStats.recordStatement("select 2");
+    }
+
+    @Test
+    void assertMaxQueriesFailsWithMostRepeatedStatement() {
+        var error = assertThrows(AssertionFailedError.class, () -> QueryCountExtension.assertMaxQueries(1, () -> {
+            RequestQueryStats.recordStatement("select r from rooms r where id=?");
+            RequestQueryStats.recordStatement("select r from rooms r where id=?");
+        }));
+
+        assertTrue(error.getMessage().contains("2x select r from rooms r where id=?"));
+    }
+}
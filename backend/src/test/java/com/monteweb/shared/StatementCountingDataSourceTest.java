@@ -0,0 +1,106 @@
+package com.monteweb.shared;
+
+import com.monteweb.shared.config.StatementCountingDataSource;
+import com.monteweb.shared.util.RequestQueryStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementCountingDataSourceTest {
+
+    @Mock private DataSource target;
+    @Mock private Connection connection;
+    @Mock private PreparedStatement preparedStatement;
+    @Mock private Statement statement;
+    @Mock private DatabaseMetaData metaData;
+
+    private StatementCountingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new StatementCountingDataSource(target);
+    }
+
+    @Test
+    void jdbcTemplateUpdatesAreCounted() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+        var jdbc = new JdbcTemplate(dataSource);
+
+        var stats = RequestQueryStats.start();
+        jdbc.update("DELETE FROM feed_posts WHERE author_id = ?", "a");
+        jdbc.update("DELETE FROM feed_posts WHERE author_id = ?", "b");
+        stats.stop();
+
+        assertEquals(2, stats.count());
+        var repeated = stats.mostRepeated().orElseThrow();
+        assertEquals("DELETE FROM feed_posts WHERE author_id = ?", repeated.getKey());
+        assertEquals(2, repeated.getValue());
+    }
+
+    @Test
+    void batchCountsOnce() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.supportsBatchUpdates()).thenReturn(true);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1, 1});
+        var jdbc = new JdbcTemplate(dataSource);
+
+        var stats = RequestQueryStats.start();
+        jdbc.batchUpdate("UPDATE users SET active = false WHERE id = ?",
+                List.of(new Object[]{"a"}, new Object[]{"b"}, new Object[]{"c"}));
+        stats.stop();
+
+        assertEquals(1, stats.count());
+        assertEquals("UPDATE users SET active = false WHERE id = ?", stats.mostRepeated().orElseThrow().getKey());
+    }
+
+    @Test
+    void plainStatementsAreCountedWithTheirSql() throws SQLException {
+        when(connection.createStatement()).thenReturn(statement);
+
+        var stats = RequestQueryStats.start();
+        try (Connection con = dataSource.getConnection(); Statement st = con.createStatement()) {
+            st.execute("VACUUM ANALYZE feed_posts");
+            assertSame(con, st.getConnection());
+        }
+        stats.stop();
+
+        assertEquals(1, stats.count());
+        assertEquals("VACUUM ANALYZE feed_posts", stats.mostRepeated().orElseThrow().getKey());
+        verify(statement).execute("VACUUM ANALYZE feed_posts");
+        verify(connection).close();
+    }
+
+    @Test
+    void driverExceptionsPassThroughAndAreStillCounted() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenThrow(new SQLException("boom"));
+
+        var stats = RequestQueryStats.start();
+        try (Connection con = dataSource.getConnection();
+             PreparedStatement ps = con.prepareStatement("SELECT 1")) {
+            assertThrows(SQLException.class, ps::executeQuery);
+        }
+        stats.stop();
+
+        assertEquals(1, stats.count());
+    }
+}
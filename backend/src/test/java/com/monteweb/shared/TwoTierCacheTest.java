@@ -0,0 +1,188 @@
+package com.monteweb.shared;
+
+import com.monteweb.shared.config.TwoTierCacheProperties;
+import com.monteweb.shared.util.TwoTierCache;
+import com.monteweb.shared.util.TwoTierCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TwoTierCacheTest {
+
+    record Person(UUID id, String name) {
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StringRedisTemplate redis;
+    private ValueOperations<String, String> valueOps;
+    private TwoTierCacheManager manager;
+    private TwoTierCache<Person> cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(valueOps);
+        manager = manager(true, 100);
+        cache = manager.getCache("people", Person.class);
+    }
+
+    private TwoTierCacheManager manager(boolean enabled, int maxSize) {
+        var properties = new TwoTierCacheProperties(enabled, maxSize, Duration.ofMinutes(5), Duration.ofMinutes(30));
+        return new TwoTierCacheManager(properties, redis, new JsonMapper(), meterRegistry);
+    }
+
+    private Optional<Person> load(UUID key) {
+        loads.incrementAndGet();
+        return Optional.of(new Person(key, "Anna"));
+    }
+
+    @Test
+    void repeatedReadsAreServedLocally() {
+        cache.get(id, this::load);
+        var second = cache.get(id, this::load);
+
+        assertEquals("Anna", second.orElseThrow().name());
+        assertEquals(1, loads.get());
+        verify(valueOps).set(eq("cache:people:" + id), contains("Anna"), eq(Duration.ofMinutes(30)));
+        assertEquals(1, meterRegistry.counter("monteweb.cache.requests",
+                "cache", "people", "result", "local").count());
+    }
+
+    @Test
+    void redisTierIsUsedWhenLocalMisses() {
+        when(valueOps.get("cache:people:" + id)).thenReturn("{\"id\":\"" + id + "\",\"name\":\"Berta\"}");
+
+        var person = cache.get(id, this::load);
+
+        assertEquals("Berta", person.orElseThrow().name());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void evictDropsLocalAndRedisEntryAndBroadcasts() {
+        cache.get(id, this::load);
+        cache.evict(id);
+        cache.get(id, this::load);
+
+        assertEquals(2, loads.get());
+        verify(redis).delete("cache:people:" + id);
+        verify(redis).convertAndSend(eq(TwoTierCacheManager.CHANNEL), endsWith("|people|" + id));
+    }
+
+    @Test
+    void evictionFromOtherNodeDropsLocalEntry() {
+        cache.get(id, this::load);
+
+        var body = "other-node|people|" + id;
+        manager.onMessage(new DefaultMessage(TwoTierCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(id, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void bulkReadLoadsOnlyMissingIdsInOneCall() {
+        var other = UUID.randomUUID();
+        cache.get(id, this::load);
+        var requested = new ArrayList<Collection<UUID>>();
+
+        var result = cache.getAll(List.of(id, other), missing -> {
+            requested.add(List.copyOf(missing));
+            return missing.stream().collect(Collectors.toMap(k -> k, k -> new Person(k, "Carl")));
+        });
+
+        assertEquals(Set.of(id, other), result.keySet());
+        assertEquals(List.of(List.of(other)), requested);
+    }
+
+    @Test
+    void absentRowsAreNotCached() {
+        cache.get(id, key -> { loads.incrementAndGet(); return Optional.empty(); });
+        cache.get(id, key -> { loads.incrementAndGet(); return Optional.empty(); });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void localTierIsBoundedByMaxSize() {
+        var small = manager(true, 2).getCache("small", Person.class);
+        var first = UUID.randomUUID();
+        small.get(first, this::load);
+        small.get(UUID.randomUUID(), this::load);
+        small.get(UUID.randomUUID(), this::load);
+
+        small.get(first, this::load);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void redisFailureFallsBackToLoader() {
+        when(valueOps.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(valueOps).set(anyString(), anyString(), any(Duration.class));
+
+        assertEquals("Anna", cache.get(id, this::load).orElseThrow().name());
+        assertEquals("Anna", cache.get(id, this::load).orElseThrow().name());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        var disabled = TwoTierCacheManager.disabled().getCache("people", Person.class);
+
+        disabled.get(id, this::load);
+        disabled.get(id, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * Identity lookups with and without the cache, against a loader that costs about
+     * as much as a primary-key query (~150 µs). Run with {@code -Dbenchmarks=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkCacheOnAndOff() {
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 500; i++) ids.add(UUID.randomUUID());
+        var random = new Random(42);
+        int lookups = 50_000;
+
+        for (boolean enabled : new boolean[]{false, true}) {
+            var people = (enabled ? manager(true, 10_000) : TwoTierCacheManager.disabled())
+                    .getCache("bench-" + enabled, Person.class);
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                people.get(ids.get(random.nextInt(ids.size())), key -> {
+                    LockSupport.parkNanos(150_000);
+                    return Optional.of(new Person(key, "Anna"));
+                });
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.printf("cache %s: %d lookups in %d ms (%.0f lookups/s)%n",
+                    enabled ? "on" : "off", lookups, millis, lookups * 1000.0 / Math.max(millis, 1));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.monteweb.shared.retention;
+
+import com.monteweb.TestContainerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The retention engine on a table with millions of rows: expired rows are purged in
+ * chunks whose duration (and so the time row locks are held) stays bounded, concurrent
+ * writers are not held up, and rows locked by other transactions are skipped rather
+ * than waited for.
+ */
+@SpringBootTest(properties = {
+        "monteweb.retention.chunk-size=5000",
+        "monteweb.retention.pause=0s"
+})
+@Import(TestContainerConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RetentionEngineIntegrationTest {
+
+    private static final int ROWS = 2_000_000;
+    private static final int EXPIRED = 1_500_000;
+    private static final Instant CUTOFF = Instant.now().minus(30, ChronoUnit.DAYS);
+
+    @Autowired private RetentionEngine engine;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    void createTables() {
+        jdbcTemplate.execute("""
+                CREATE TABLE retention_probe (
+                    id         BIGINT PRIMARY KEY,
+                    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                    payload    TEXT
+                )
+                """);
+        // The first EXPIRED rows lie before the cutoff, the rest after it
+        jdbcTemplate.update("""
+                INSERT INTO retention_probe (id, created_at, payload)
+                SELECT i,
+                       CASE WHEN i <= ? THEN now() - interval '400 days' + i * interval '1 second'
+                            ELSE now() - interval '1 day' END,
+                       md5(i::text)
+                FROM generate_series(1, ?) AS i
+                """, EXPIRED, ROWS);
+        jdbcTemplate.execute("CREATE INDEX idx_retention_probe_created_id ON retention_probe (created_at, id)");
+        jdbcTemplate.execute("ANALYZE retention_probe");
+
+        jdbcTemplate.execute("""
+                CREATE TABLE retention_probe_small (
+                    id         BIGINT PRIMARY KEY,
+                    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+                )
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO retention_probe_small (id, created_at)
+                SELECT i, now() - interval '400 days' FROM generate_series(1, 10) AS i
+                """);
+    }
+
+    @AfterAll
+    void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS retention_probe");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS retention_probe_small");
+    }
+
+    @Test
+    void purgesMillionsOfRowsInBoundedChunksWithoutStallingWriters() {
+        var policy = RetentionPolicy.olderThan("retention-probe", "retention_probe", "created_at", CUTOFF);
+
+        // A writer keeps updating a kept row while the purge runs
+        var running = new AtomicBoolean(true);
+        var slowestWrite = new AtomicLong();
+        var writer = CompletableFuture.runAsync(() -> {
+            while (running.get()) {
+                long start = System.nanoTime();
+                jdbcTemplate.update("UPDATE retention_probe SET payload = md5(random()::text) WHERE id = ?", ROWS);
+                slowestWrite.accumulateAndGet(System.nanoTime() - start, Math::max);
+            }
+        });
+
+        RetentionRun run;
+        try {
+            run = engine.purge(policy);
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+
+        assertThat(run.completed()).isTrue();
+        assertThat(run.rowsPurged()).isEqualTo(EXPIRED);
+        assertThat(run.chunks()).isEqualTo(EXPIRED / 5000 + 1);
+        assertThat(run.maxChunkMillis()).isLessThan(2_000);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(slowestWrite.get())).isLessThan(1_000);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM retention_probe", Long.class))
+                .isEqualTo(ROWS - EXPIRED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM retention_probe WHERE created_at < ?", Long.class,
+                java.sql.Timestamp.from(CUTOFF))).isZero();
+        assertThat(meterRegistry.get("monteweb.retention.rows.purged").tag("policy", "retention-probe")
+                .counter().count()).isEqualTo(EXPIRED);
+        assertThat(meterRegistry.get("monteweb.retention.chunk").tag("policy", "retention-probe")
+                .timer().max(TimeUnit.MILLISECONDS)).isLessThan(2_000);
+    }
+
+    @Test
+    void skipsRowsLockedByAnotherTransaction() throws Exception {
+        var policy = RetentionPolicy.olderThan("retention-probe-small", "retention_probe_small", "created_at", CUTOFF);
+        var locked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var holder = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager).executeWithoutResult(s -> {
+            jdbcTemplate.queryForList("SELECT id FROM retention_probe_small WHERE id = 5 FOR UPDATE");
+            locked.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        RetentionRun run;
+        try {
+            run = engine.purge(policy);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+
+        assertThat(run.completed()).isTrue();
+        assertThat(run.rowsPurged()).isEqualTo(9);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM retention_probe_small", Long.class)).containsExactly(5L);
+    }
+}
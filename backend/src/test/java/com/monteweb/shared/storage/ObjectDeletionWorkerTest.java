@@ -0,0 +1,113 @@
+package com.monteweb.shared.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for draining the object deletion queue: per-key outcomes, buckets and retries.
+ */
+@ExtendWith(MockitoExtension.class)
+class ObjectDeletionWorkerTest {
+
+    @Mock private ObjectDeletionQueue queue;
+    @Mock private BulkObjectDeleter deleter;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @Captor private ArgumentCaptor<Map<ObjectDeletionQueue.Entry, String>> errors;
+
+    private ObjectDeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new ObjectDeletionWorker(queue, deleter, transactionManager);
+    }
+
+    private static ObjectDeletionQueue.Entry entry(long id, String bucket, String key, int attempts) {
+        return new ObjectDeletionQueue.Entry(id, bucket, key, attempts);
+    }
+
+    @Test
+    void removesSucceededEntriesAndReschedulesFailedKeys() {
+        var ok = entry(1, "monteweb", "fundgrube/a.jpg", 0);
+        var failed = entry(2, "monteweb", "fundgrube/b.jpg", 3);
+        when(queue.claimDue(BulkObjectDeleter.BATCH_SIZE)).thenReturn(List.of(ok, failed));
+        when(deleter.deleteAll("monteweb", List.of("fundgrube/a.jpg", "fundgrube/b.jpg")))
+                .thenReturn(Map.of("fundgrube/b.jpg", "AccessDenied: Access Denied."));
+
+        var outcome = worker.processBatch();
+
+        assertThat(outcome).isEqualTo(new ObjectDeletionWorker.BatchOutcome(2, 1, 1));
+        verify(queue).remove(List.of(1L));
+        verify(queue).reschedule(errors.capture(), any());
+        assertThat(errors.getValue()).containsExactly(Map.entry(failed, "AccessDenied: Access Denied."));
+    }
+
+    @Test
+    void deletesEachBucketOnceAndDuplicateKeysOnce() {
+        when(queue.claimDue(anyInt())).thenReturn(List.of(
+                entry(1, "monteweb", "feed/x.pdf", 0),
+                entry(2, "monteweb", "feed/x.pdf", 0),
+                entry(3, "archiv", "feed/x.pdf", 1)));
+        when(deleter.deleteAll(any(), anyList())).thenReturn(Map.of());
+
+        worker.processBatch();
+
+        verify(deleter).deleteAll("monteweb", List.of("feed/x.pdf"));
+        verify(deleter).deleteAll("archiv", List.of("feed/x.pdf"));
+        verify(queue).remove(argThat(ids -> ids.size() == 3 && ids.containsAll(List.of(1L, 2L, 3L))));
+        verify(queue).reschedule(eq(Map.of()), any());
+    }
+
+    @Test
+    void drainKeepsClaimingFullBatchesAndStopsAtThePartialOne() {
+        List<ObjectDeletionQueue.Entry> full = IntStream.range(0, BulkObjectDeleter.BATCH_SIZE)
+                .mapToObj(i -> entry(i, "monteweb", "files/" + i, 0)).toList();
+        when(queue.claimDue(anyInt())).thenReturn(full).thenReturn(List.of(entry(5_000, "monteweb", "files/last", 0)));
+        when(deleter.deleteAll(any(), anyList())).thenReturn(Map.of());
+
+        worker.drain();
+
+        verify(queue, times(2)).claimDue(BulkObjectDeleter.BATCH_SIZE);
+    }
+
+    @Test
+    void emptyQueueTouchesNeitherStorageNorTable() {
+        when(queue.claimDue(anyInt())).thenReturn(List.of());
+
+        worker.drain();
+
+        verify(deleter, never()).deleteAll(any(), anyList());
+        verify(queue, never()).remove(any());
+    }
+
+    @Test
+    void backoffDoublesFromOneMinuteUpToSixHours() {
+        assertThat(ObjectDeletionQueue.backoff(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(ObjectDeletionQueue.backoff(2)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(ObjectDeletionQueue.backoff(5)).isEqualTo(Duration.ofMinutes(16));
+        assertThat(ObjectDeletionQueue.backoff(ObjectDeletionQueue.MAX_ATTEMPTS)).isEqualTo(Duration.ofHours(6));
+        assertThat(ObjectDeletionQueue.backoff(40)).isEqualTo(Duration.ofHours(6));
+    }
+}
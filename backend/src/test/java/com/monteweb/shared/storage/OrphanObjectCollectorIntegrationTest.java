@@ -0,0 +1,151 @@
+package com.monteweb.shared.storage;
+
+import com.monteweb.TestContainerConfig;
+import com.monteweb.TestHelper;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The orphan collector against a real MinIO bucket: unreferenced objects are quarantined
+ * in one run and deleted in the next, referenced objects and keys no module owns are
+ * never touched, and an object that gains a reference leaves quarantine.
+ */
+@SpringBootTest(properties = {
+        "monteweb.storage.gc.grace-period=0s",
+        "monteweb.storage.gc.quarantine-period=0s"
+})
+@AutoConfigureMockMvc
+@Import(TestContainerConfig.class)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrphanObjectCollectorIntegrationTest {
+
+    private static final String BUCKET = "monteweb-gc-test";
+
+    @Container
+    @SuppressWarnings("resource")
+    static final GenericContainer<?> MINIO = new GenericContainer<>(DockerImageName.parse("minio/minio:latest"))
+            .withCommand("server", "/data")
+            .withEnv("MINIO_ROOT_USER", "minioadmin")
+            .withEnv("MINIO_ROOT_PASSWORD", "minioadmin")
+            .withExposedPorts(9000);
+
+    @DynamicPropertySource
+    static void storageProperties(DynamicPropertyRegistry registry) {
+        registry.add("monteweb.storage.endpoint", () -> "http://" + MINIO.getHost() + ":" + MINIO.getMappedPort(9000));
+        registry.add("monteweb.storage.access-key", () -> "minioadmin");
+        registry.add("monteweb.storage.secret-key", () -> "minioadmin");
+        registry.add("monteweb.storage.bucket", () -> BUCKET);
+    }
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private MinioClient minioClient;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private OrphanObjectCollector collector;
+    @Autowired private ObjectDeletionWorker deletionWorker;
+
+    private UUID itemId;
+    private String referenced;
+    private String orphan;
+    private String regainsReference;
+    private String messageOrphan;
+    private String unowned;
+
+    @BeforeAll
+    void seedBucket() throws Exception {
+        var register = TestHelper.registerAndGetResponse(mockMvc, "storage-gc@example.com", "Speicher", "Putz");
+        UUID userId = UUID.fromString(register.path("data").path("userId").asString());
+        itemId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO fundgrube_items (id, title, created_by, created_at, updated_at)
+                VALUES (?, 'Turnbeutel', ?, now(), now())
+                """, itemId, userId);
+
+        referenced = "fundgrube/" + itemId + "/" + UUID.randomUUID() + ".jpg";
+        orphan = "fundgrube/" + UUID.randomUUID() + "/" + UUID.randomUUID() + ".jpg";
+        regainsReference = "fundgrube/" + itemId + "/" + UUID.randomUUID() + ".jpg";
+        messageOrphan = "messages/" + UUID.randomUUID() + "/" + UUID.randomUUID() + ".png";
+        unowned = "parentletter/" + UUID.randomUUID() + "/attachments/brief.pdf";
+        put(referenced, 100);
+        put(orphan, 2_000);
+        put(regainsReference, 300);
+        put(messageOrphan, 4_000);
+        put(unowned, 500);
+        insertImage(referenced);
+    }
+
+    private void put(String key, int size) throws Exception {
+        minioClient.putObject(PutObjectArgs.builder()
+                .bucket(BUCKET)
+                .object(key)
+                .stream(new ByteArrayInputStream(new byte[size]), size, -1)
+                .contentType("application/octet-stream")
+                .build());
+    }
+
+    private void insertImage(String key) {
+        jdbcTemplate.update("""
+                INSERT INTO fundgrube_images (id, item_id, storage_path, original_filename, content_type,
+                                              file_size, created_at)
+                VALUES (?, ?, ?, 'bild.jpg', 'image/jpeg', 1, now())
+                """, UUID.randomUUID(), itemId, key);
+    }
+
+    private List<String> bucketKeys() throws Exception {
+        List<String> keys = new ArrayList<>();
+        for (var result : minioClient.listObjects(ListObjectsArgs.builder().bucket(BUCKET).recursive(true).build())) {
+            keys.add(result.get().objectName());
+        }
+        return keys;
+    }
+
+    @Test
+    void quarantinesFirstThenDeletesOrphansAndReportsReclaimedBytes() throws Exception {
+        var first = collector.collect();
+        assertThat(first.status()).isEqualTo("COMPLETED");
+        assertThat(first.objectsScanned()).isEqualTo(4);
+        assertThat(first.orphansQuarantined()).isEqualTo(3);
+        assertThat(first.orphansDeleted()).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT object_key FROM storage_orphans", String.class))
+                .containsExactlyInAnyOrder(orphan, regainsReference, messageOrphan);
+
+        // A row appears for a quarantined object before the next run
+        insertImage(regainsReference);
+
+        var second = collector.collect();
+        assertThat(second.orphansDeleted()).isEqualTo(2);
+        assertThat(second.bytesReclaimed()).isEqualTo(6_000);
+        assertThat(second.orphansQuarantined()).isZero();
+
+        deletionWorker.drain();
+        assertThat(bucketKeys()).containsExactlyInAnyOrder(referenced, regainsReference, unowned);
+
+        var report = collector.getReport();
+        assertThat(report.quarantinedObjects()).isZero();
+        assertThat(report.totalBytesReclaimed()).isEqualTo(6_000);
+        assertThat(report.recentRuns()).extracting(StorageGcRun::id).startsWith(second.id(), first.id());
+    }
+}
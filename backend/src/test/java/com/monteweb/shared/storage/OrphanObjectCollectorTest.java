@@ -0,0 +1,46 @@
+package com.monteweb.shared.storage;
+
+import com.monteweb.shared.exception.BusinessException;
+import io.minio.MinioClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanObjectCollectorTest {
+
+    @Mock private MinioClient minioClient;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private ObjectDeletionQueue deletionQueue;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private AsyncTaskExecutor runner;
+
+    @Test
+    void rejectedRunIsMarkedFailed() {
+        var collector = new OrphanObjectCollector(minioClient, jdbcTemplate, deletionQueue, List.of(),
+                transactionManager, "monteweb", Duration.ofHours(24), Duration.ofDays(7), runner);
+        UUID runId = UUID.randomUUID();
+        when(jdbcTemplate.queryForObject(anyString(), eq(UUID.class))).thenReturn(runId);
+        doThrow(new TaskRejectedException("queue full")).when(runner).execute(any(Runnable.class));
+
+        assertThatThrownBy(collector::start).isInstanceOf(BusinessException.class);
+
+        verify(jdbcTemplate).update(contains("status = 'FAILED'"), eq(runId));
+    }
+}
@@ -0,0 +1,247 @@
+package com.monteweb.tasks;
+
+import com.monteweb.room.RoomModuleApi;
+import com.monteweb.shared.exception.BadRequestException;
+import com.monteweb.tasks.internal.dto.MoveTaskRequest;
+import com.monteweb.tasks.internal.dto.TaskBoardDelta;
+import com.monteweb.tasks.internal.model.Task;
+import com.monteweb.tasks.internal.model.TaskBoard;
+import com.monteweb.tasks.internal.model.TaskColumn;
+import com.monteweb.tasks.internal.repository.ChecklistItemRepository;
+import com.monteweb.tasks.internal.repository.TaskBoardRepository;
+import com.monteweb.tasks.internal.repository.TaskColumnRepository;
+import com.monteweb.tasks.internal.repository.TaskRankRef;
+import com.monteweb.tasks.internal.repository.TaskRepository;
+import com.monteweb.tasks.internal.service.TaskRank;
+import com.monteweb.tasks.internal.service.TaskRankRebalancer;
+import com.monteweb.tasks.internal.service.TaskService;
+import com.monteweb.user.UserModuleApi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for fractional task rank keys and moving a task between two neighbours.
+ */
+class TaskRankTest {
+
+    @Nested
+    class Keys {
+
+        @Test
+        void betweenIsStrictlyBetweenAndNeverEndsInZero() {
+            String[][] cases = {{null, null}, {null, "1"}, {"z", null}, {"a", "b"}, {"a", "a1"},
+                    {"az", "b"}, {"a5", "a5001"}, {"a", "b5"}, {"0001", "0002"}, {"zz", null}};
+            for (String[] c : cases) {
+                String key = TaskRank.between(c[0], c[1]);
+                if (c[0] != null) assertThat(key).isGreaterThan(c[0]);
+                if (c[1] != null) assertThat(key).isLessThan(c[1]);
+                assertThat(key).doesNotEndWith("0");
+            }
+        }
+
+        @Test
+        void randomInsertsKeepOrderAndStayShort() {
+            var random = new Random(11);
+            List<String> ranks = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                int at = random.nextInt(ranks.size() + 1);
+                String before = at > 0 ? ranks.get(at - 1) : null;
+                String after = at < ranks.size() ? ranks.get(at) : null;
+                ranks.add(at, TaskRank.between(before, after));
+            }
+
+            assertThat(ranks).isSorted().doesNotHaveDuplicates();
+            assertThat(ranks).allMatch(r -> r.length() <= 6);
+        }
+
+        @Test
+        void repeatedInsertsIntoOneGapGrowSlowlyUntilRebalance() {
+            String low = "a";
+            String high = "b";
+            int inserts = 0;
+            while (!TaskRank.needsRebalance(low)) {
+                low = TaskRank.between(low, high);
+                inserts++;
+            }
+
+            // Always dropping right below the same task: about five inserts per extra digit
+            assertThat(inserts).isGreaterThan(100);
+        }
+
+        @Test
+        void spreadGivesShortSortedKeys() {
+            for (int count : new int[]{0, 1, 2, 35, 36, 1_000, 50_000}) {
+                String[] keys = TaskRank.spread(count);
+                assertThat(keys).hasSize(count).isSorted().doesNotHaveDuplicates();
+                assertThat(keys).allMatch(k -> !k.endsWith("0") && k.length() <= 5);
+            }
+            // Every gap leaves room for inserts
+            String[] keys = TaskRank.spread(10);
+            assertThat(TaskRank.between(keys[3], keys[4])).hasSizeLessThanOrEqualTo(2);
+        }
+
+        @Test
+        void rejectsMalformedOrUnorderedKeys() {
+            assertThatThrownBy(() -> TaskRank.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> TaskRank.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> TaskRank.between("a0", null)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> TaskRank.between("A", null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Move {
+
+        private final UUID roomId = UUID.randomUUID();
+        private final UUID userId = UUID.randomUUID();
+        private final UUID columnId = UUID.randomUUID();
+
+        private TaskRepository taskRepo;
+        private ApplicationEventPublisher eventPublisher;
+        private TaskService service;
+        private Task task;
+
+        @BeforeEach
+        void setUp() {
+            var boardRepo = mock(TaskBoardRepository.class);
+            var columnRepo = mock(TaskColumnRepository.class);
+            taskRepo = mock(TaskRepository.class);
+            var roomModule = mock(RoomModuleApi.class);
+            var userModule = mock(UserModuleApi.class);
+            eventPublisher = mock(ApplicationEventPublisher.class);
+            service = new TaskService(boardRepo, columnRepo, taskRepo, mock(ChecklistItemRepository.class),
+                    userModule, roomModule, eventPublisher);
+
+            var board = new TaskBoard();
+            board.setId(UUID.randomUUID());
+            board.setRoomId(roomId);
+            var column = new TaskColumn();
+            column.setId(columnId);
+            column.setBoardId(board.getId());
+            task = new Task();
+            task.setId(UUID.randomUUID());
+            task.setBoardId(board.getId());
+            task.setColumnId(UUID.randomUUID());
+            task.setSortRank("5");
+
+            when(taskRepo.findById(task.getId())).thenReturn(Optional.of(task));
+            when(boardRepo.findById(board.getId())).thenReturn(Optional.of(board));
+            when(columnRepo.findByIdForUpdate(columnId)).thenReturn(Optional.of(column));
+            when(roomModule.isUserInRoom(userId, roomId)).thenReturn(true);
+        }
+
+        private UUID neighbour(String rank) {
+            UUID id = UUID.randomUUID();
+            when(taskRepo.findRanksByIdIn(any())).thenAnswer(inv -> {
+                var ids = new ArrayList<UUID>(inv.getArgument(0));
+                return ids.contains(id) ? List.of(new TaskRankRef(id, columnId, rank)) : List.of();
+            });
+            return id;
+        }
+
+        @Test
+        void moveBetweenNeighboursWritesOnlyTheMovedTaskAndPublishesDelta() {
+            UUID previous = UUID.randomUUID();
+            UUID next = UUID.randomUUID();
+            when(taskRepo.findRanksByIdIn(any())).thenReturn(List.of(
+                    new TaskRankRef(previous, columnId, "h"), new TaskRankRef(next, columnId, "i")));
+
+            service.moveTask(task.getId(), userId, new MoveTaskRequest(columnId, previous, next));
+
+            assertThat(task.getColumnId()).isEqualTo(columnId);
+            assertThat(task.getSortRank()).isGreaterThan("h").isLessThan("i");
+            verify(taskRepo).save(task);
+            verify(taskRepo, never()).saveAll(any());
+            verify(taskRepo, never()).updateRanks(any(), any());
+
+            var delta = ArgumentCaptor.forClass(Object.class);
+            verify(eventPublisher).publishEvent(delta.capture());
+            assertThat(delta.getValue()).isEqualTo(
+                    TaskBoardDelta.moved(roomId, task.getId(), columnId, task.getSortRank()));
+        }
+
+        @Test
+        void moveAfterTaskLooksUpTheFollowingRank() {
+            UUID previous = neighbour("h");
+            when(taskRepo.findRankAfter(columnId, "h")).thenReturn(Optional.of("h1"));
+
+            service.moveTask(task.getId(), userId, new MoveTaskRequest(columnId, previous, null));
+
+            assertThat(task.getSortRank()).isGreaterThan("h").isLessThan("h1");
+        }
+
+        @Test
+        void moveWithoutNeighboursAppends() {
+            when(taskRepo.findLastRank(columnId)).thenReturn(Optional.of("y"));
+
+            service.moveTask(task.getId(), userId, new MoveTaskRequest(columnId, null, null));
+
+            assertThat(task.getSortRank()).isGreaterThan("y");
+        }
+
+        @Test
+        void longKeyRequestsRebalance() {
+            String low = "a";
+            while (!TaskRank.needsRebalance(TaskRank.between(low, "b"))) {
+                low = TaskRank.between(low, "b");
+            }
+            UUID previous = neighbour(low);
+            when(taskRepo.findRankAfter(columnId, low)).thenReturn(Optional.of("b"));
+
+            service.moveTask(task.getId(), userId, new MoveTaskRequest(columnId, previous, null));
+
+            verify(eventPublisher).publishEvent(new TaskRankRebalancer.Request(roomId, columnId));
+        }
+
+        @Test
+        void rejectsNeighbourFromAnotherColumnAndUnorderedNeighbours() {
+            UUID other = UUID.randomUUID();
+            when(taskRepo.findRanksByIdIn(any())).thenReturn(List.of(new TaskRankRef(other, UUID.randomUUID(), "h")));
+            assertThatThrownBy(() -> service.moveTask(task.getId(), userId, new MoveTaskRequest(columnId, other, null)))
+                    .isInstanceOf(BadRequestException.class);
+
+            UUID previous = UUID.randomUUID();
+            UUID next = UUID.randomUUID();
+            when(taskRepo.findRanksByIdIn(any())).thenReturn(List.of(
+                    new TaskRankRef(previous, columnId, "i"), new TaskRankRef(next, columnId, "h")));
+            assertThatThrownBy(() -> service.moveTask(task.getId(), userId, new MoveTaskRequest(columnId, previous, next)))
+                    .isInstanceOf(BadRequestException.class);
+            verify(taskRepo, never()).save(any());
+        }
+    }
+
+    @Test
+    void rebalanceWritesEvenlySpacedRanksInOneBatch() {
+        var columnRepo = mock(TaskColumnRepository.class);
+        var taskRepo = mock(TaskRepository.class);
+        var eventPublisher = mock(ApplicationEventPublisher.class);
+        UUID columnId = UUID.randomUUID();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) ids.add(UUID.randomUUID());
+        when(columnRepo.findByIdForUpdate(columnId)).thenReturn(Optional.of(new TaskColumn()));
+        when(taskRepo.findIdsByColumnIdInRankOrder(columnId)).thenReturn(ids);
+
+        new TaskRankRebalancer(columnRepo, taskRepo, eventPublisher).rebalance(UUID.randomUUID(), columnId);
+
+        var ranks = ArgumentCaptor.forClass(String[].class);
+        verify(taskRepo).updateRanks(eq(ids), ranks.capture());
+        assertThat(ranks.getValue()).isSorted().allMatch(r -> r.length() <= 3);
+        assertThat(Arrays.asList(ranks.getValue())).doesNotHaveDuplicates();
+        verify(eventPublisher).publishEvent(any(TaskBoardDelta.class));
+    }
+}
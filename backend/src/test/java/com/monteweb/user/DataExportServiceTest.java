@@ -0,0 +1,172 @@
+package com.monteweb.user;
+
+import com.monteweb.notification.NotificationModuleApi;
+import com.monteweb.notification.NotificationType;
+import com.monteweb.shared.exception.BusinessException;
+import com.monteweb.shared.storage.ObjectDeletionQueue;
+import com.monteweb.shared.storage.StorageReferenceProvider;
+import com.monteweb.shared.storage.StoredObject;
+import com.monteweb.user.internal.model.DataExportJob;
+import com.monteweb.user.internal.repository.DataExportJobRepository;
+import com.monteweb.user.internal.service.DataExportService;
+import com.monteweb.user.internal.service.ModuleExport;
+import com.monteweb.user.internal.service.UserService;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import okhttp3.Headers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the background DSGVO export: the archive holds the profile, every
+ * enabled module and the uploaded files, and a failing required module fails the job.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DataExportServiceTest {
+
+    @Mock private DataExportJobRepository jobRepository;
+    @Mock private UserService userService;
+    @Mock private StorageReferenceProvider storageProvider;
+    @Mock private MinioClient minioClient;
+    @Mock private NotificationModuleApi notificationModuleApi;
+    @Mock private ObjectDeletionQueue deletionQueue;
+
+    private DataExportService service;
+    private final UUID userId = UUID.randomUUID();
+    private DataExportJob job;
+    private final AtomicReference<Map<String, String>> uploaded = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new DataExportService(jobRepository, userService, List.of(storageProvider), minioClient,
+                "monteweb", new JsonMapper(), notificationModuleApi, deletionQueue,
+                new SimpleAsyncTaskExecutor(), new SimpleAsyncTaskExecutor());
+
+        when(jobRepository.save(any(DataExportJob.class))).thenAnswer(inv -> {
+            DataExportJob saved = inv.getArgument(0);
+            if (saved.getId() == null) {
+                saved.setId(UUID.randomUUID());
+                job = saved;
+            }
+            return saved;
+        });
+        when(jobRepository.findById(any())).thenAnswer(inv -> Optional.of(job));
+        when(jobRepository.findFirstByUserIdAndStatusInOrderByCreatedAtDesc(any(), any())).thenReturn(Optional.empty());
+        when(userService.exportProfile(userId)).thenReturn(Map.of("email", "anna@schule.de"));
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenAnswer(inv -> {
+            GetObjectArgs args = inv.getArgument(0);
+            return new GetObjectResponse(Headers.of(), args.bucket(), null, args.object(),
+                    new ByteArrayInputStream(("content of " + args.object()).getBytes(StandardCharsets.UTF_8)));
+        });
+        when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(inv -> {
+            PutObjectArgs args = inv.getArgument(0);
+            Map<String, String> entries = new TreeMap<>();
+            try (var zip = new ZipInputStream(args.stream())) {
+                for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                    entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+            uploaded.set(entries);
+            return null;
+        });
+    }
+
+    @Test
+    void archiveContainsProfileModulesAndUploadedFiles() {
+        when(userService.moduleExports(userId)).thenReturn(List.of(
+                new ModuleExport("feed", false, () -> Map.of("posts", List.of("Hallo"))),
+                new ModuleExport("wiki", true, () -> {
+                    throw new NoSuchBeanDefinitionException("WikiModuleApi");
+                }),
+                new ModuleExport("calendar", true, () -> Map.of("events", List.of()))));
+        when(storageProvider.findUploadedBy(userId)).thenReturn(List.of(
+                new StoredObject("rooms/r1/files/a.pdf", "Protokoll.pdf"),
+                new StoredObject("rooms/r1/files/b.pdf", "Protokoll.pdf"),
+                new StoredObject("rooms/r1/files/b.pdf", "Protokoll.pdf")));
+
+        var info = service.start(userId, userId);
+        assertThat(info.status()).isEqualTo("QUEUED");
+        assertThat(info.totalSteps()).isEqualTo(4);
+
+        verify(notificationModuleApi, timeout(5000)).sendNotification(eq(userId), eq(NotificationType.SYSTEM),
+                anyString(), anyString(), eq("/profile"), eq("DATA_EXPORT"), eq(info.id()));
+
+        var entries = uploaded.get();
+        assertThat(entries).containsOnlyKeys("profile.json", "modules/feed.json", "modules/calendar.json",
+                "files/rooms/r1/files/Protokoll.pdf", "files/rooms/r1/files/Protokoll (2).pdf", "manifest.json");
+        assertThat(entries.get("profile.json")).contains("anna@schule.de");
+        assertThat(entries.get("files/rooms/r1/files/Protokoll (2).pdf")).isEqualTo("content of rooms/r1/files/b.pdf");
+        assertThat(entries.get("manifest.json")).contains("\"skippedModules\"").contains("wiki");
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getArchiveKey()).isEqualTo("exports/" + userId + "/" + info.id() + ".zip");
+        assertThat(job.getCompletedSteps()).isEqualTo(6);
+        assertThat(job.getExpiresAt()).isAfter(job.getFinishedAt());
+        verify(userService).logDataAccess(eq(userId), eq(userId), eq("DATA_EXPORT"), anyString());
+    }
+
+    @Test
+    void failingRequiredModuleFailsTheJob() throws Exception {
+        when(userService.moduleExports(userId)).thenReturn(List.of(
+                new ModuleExport("rooms", false, () -> {
+                    throw new IllegalStateException("Datenbank nicht erreichbar");
+                })));
+
+        service.start(userId, userId);
+
+        verify(jobRepository, timeout(5000).atLeast(3)).save(any(DataExportJob.class));
+        verify(jobRepository, timeout(5000)).updateProgress(any(), anyInt(), eq(1));
+        assertThat(job.getStatus()).isEqualTo("FAILED");
+        assertThat(job.getErrorMessage()).contains("Datenbank nicht erreichbar");
+        verify(minioClient, never()).putObject(any(PutObjectArgs.class));
+        verifyNoInteractions(notificationModuleApi);
+    }
+
+    @Test
+    void rejectedExportIsMarkedFailed() {
+        var busyRunner = mock(AsyncTaskExecutor.class);
+        doThrow(new TaskRejectedException("queue full")).when(busyRunner).execute(any(Runnable.class));
+        service = new DataExportService(jobRepository, userService, List.of(storageProvider), minioClient,
+                "monteweb", new JsonMapper(), notificationModuleApi, deletionQueue,
+                busyRunner, new SimpleAsyncTaskExecutor());
+        when(userService.moduleExports(userId)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.start(userId, userId)).isInstanceOf(BusinessException.class);
+
+        assertThat(job.getStatus()).isEqualTo("FAILED");
+        assertThat(job.getErrorMessage()).isNotBlank();
+        assertThat(job.getFinishedAt()).isNotNull();
+        verify(jobRepository, times(2)).save(job);
+    }
+}
@@ -0,0 +1,194 @@
+package com.monteweb.user;
+
+import com.monteweb.user.internal.model.User;
+import com.monteweb.user.internal.service.UserDeletionPipeline;
+import com.monteweb.user.internal.service.UserDeletionProgress;
+import com.monteweb.user.internal.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.answer;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the batched user deletion pipeline: due users are anonymized and
+ * enrolled per batch, every module cleans up a whole batch at once, and a user whose
+ * cleanup fails is isolated and retried later without blocking the rest of the batch.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserDeletionPipelineTest {
+
+    @Mock private UserService userService;
+    @Mock private UserDeletionProgress progress;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingCleanup rooms = new RecordingCleanup("rooms", null);
+
+    private UserDeletionPipeline pipeline(UserDataCleanup... cleanups) {
+        return new UserDeletionPipeline(userService, progress, List.of(cleanups), transactionManager,
+                eventPublisher, meterRegistry, new SimpleAsyncTaskExecutor());
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Every pending step can be claimed
+        when(progress.claimPending(anyString(), anyCollection()))
+                .thenAnswer(answer((String module, Collection<UUID> ids) -> List.copyOf(ids)));
+        when(progress.removeCompleted(anyCollection()))
+                .thenAnswer(answer((Collection<UUID> ids) -> Set.copyOf(ids)));
+    }
+
+    private static List<UUID> userIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+
+    @Test
+    void anonymizesAndEnrollsDueUsersInBatches() {
+        var users = userIds(120).stream().map(id -> {
+            var user = new User();
+            user.setId(id);
+            return user;
+        }).toList();
+        when(userService.findUsersScheduledForDeletion()).thenReturn(users);
+
+        pipeline(rooms).run();
+
+        users.forEach(user -> verify(userService).anonymizeAccount(eq(user.getId()), anyString()));
+        verify(progress, times(3)).enroll(anyCollection(), eq(List.of("rooms")));
+        verify(progress).findUsersWithPendingSteps(anyInt());
+    }
+
+    @Test
+    void cleansUpEachBatchOncePerModuleAndCompletesUsers() {
+        var ids = userIds(120);
+        when(progress.findUsersWithPendingSteps(anyInt())).thenReturn(ids);
+        var files = new RecordingCleanup("files", null);
+
+        pipeline(rooms, files).resume();
+
+        assertThat(rooms.calls).hasSize(3);
+        assertThat(files.calls).hasSize(3);
+        assertThat(rooms.calls.stream().mapToInt(List::size).sum()).isEqualTo(120);
+        verify(progress, times(3)).markDone(eq("rooms"), anyCollection());
+        verify(eventPublisher, times(120)).publishEvent(any(UserDeletionExecutedEvent.class));
+        assertThat(meterRegistry.get("monteweb.user.deletion.completed").counter().count()).isEqualTo(120);
+        assertThat(meterRegistry.get("monteweb.user.deletion.step").tag("module", "files").timer().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void failingUserIsIsolatedAndMarkedFailed() {
+        var ids = userIds(3);
+        UUID broken = ids.get(1);
+        when(progress.findUsersWithPendingSteps(anyInt())).thenReturn(ids);
+        var messaging = new RecordingCleanup("messaging", broken);
+        when(progress.removeCompleted(anyCollection())).thenReturn(Set.of(ids.get(0), ids.get(2)));
+
+        pipeline(messaging).resume();
+
+        // One batch attempt, then one attempt per user
+        assertThat(messaging.calls).hasSize(4);
+        verify(progress).markDone("messaging", List.of(ids.get(0)));
+        verify(progress).markDone("messaging", List.of(ids.get(2)));
+        verify(progress).markFailed(eq("messaging"), eq(List.of(broken)), contains("kaputt"), anyInt());
+        verify(eventPublisher, never()).publishEvent(new UserDeletionExecutedEvent(broken));
+        assertThat(meterRegistry.get("monteweb.user.deletion.step").tag("outcome", "failure").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void keepsOneBatchPerPoolThreadInFlight() {
+        var ids = userIds(500);
+        when(progress.findUsersWithPendingSteps(anyInt())).thenReturn(ids);
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var pool = new ThreadPoolTaskExecutor() {
+            @Override
+            public <T> Future<T> submit(Callable<T> task) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return super.submit(() -> {
+                    try {
+                        return task.call();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        };
+        pool.setCorePoolSize(2);
+        pool.setMaxPoolSize(2);
+        pool.initialize();
+        try {
+            new UserDeletionPipeline(userService, progress, List.of(rooms), transactionManager,
+                    eventPublisher, meterRegistry, pool).resume();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(rooms.calls).hasSize(10);
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    void skipsStepsOfDisabledModules() {
+        pipeline(rooms).resume();
+
+        verify(progress).skipModulesOtherThan(List.of("rooms"));
+        assertThat(rooms.calls).isEmpty();
+    }
+
+    /** Records its calls and fails for every batch containing {@code failFor}. */
+    private static final class RecordingCleanup implements UserDataCleanup {
+
+        private final String module;
+        private final UUID failFor;
+        private final List<List<UUID>> calls = new ArrayList<>();
+
+        RecordingCleanup(String module, UUID failFor) {
+            this.module = module;
+            this.failFor = failFor;
+        }
+
+        @Override
+        public String module() {
+            return module;
+        }
+
+        @Override
+        public synchronized void cleanupUsers(Collection<UUID> userIds) {
+            calls.add(List.copyOf(userIds));
+            if (failFor != null && userIds.contains(failFor)) {
+                throw new IllegalStateException("Konto kaputt");
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.monteweb.wiki;
+
+import com.monteweb.TestContainerConfig;
+import com.monteweb.TestHelper;
+import com.monteweb.shared.exception.ResourceNotFoundException;
+import com.monteweb.wiki.internal.dto.CreatePageRequest;
+import com.monteweb.wiki.internal.dto.WikiPageSummary;
+import com.monteweb.wiki.internal.service.WikiService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.monteweb.QueryCountExtension.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * The closure-table wiki tree on a synthetic room with 10,000 pages nested ten levels
+ * deep: tree reads take a fixed number of queries however deep or wide the tree is.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestContainerConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WikiTreeIntegrationTest {
+
+    /** Pages per level, 10,000 in total */
+    private static final int[] LEVEL_SIZES = {5, 10, 20, 40, 80, 160, 320, 640, 1280, 7445};
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private WikiService wikiService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID roomId;
+    private final List<List<UUID>> levels = new ArrayList<>();
+    /** Pages below the second root page, which no test modifies */
+    private int secondRootSubtreeSize;
+
+    @BeforeAll
+    void seedRoom() throws Exception {
+        var register = TestHelper.registerAndGetResponse(mockMvc, "wiki-tree@example.com", "Wiki", "Baum");
+        userId = UUID.fromString(register.path("data").path("userId").asString());
+        String token = register.path("data").path("accessToken").asString();
+
+        var room = mockMvc.perform(post("/api/v1/rooms")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Wiki-Baum", "type": "KLASSE"}
+                                """))
+                .andReturn();
+        roomId = UUID.fromString(TestHelper.parseResponse(room.getResponse().getContentAsString())
+                .path("data").path("id").asString());
+
+        List<Object[]> pages = new ArrayList<>();
+        List<Object[]> closure = new ArrayList<>();
+        List<List<UUID>> ancestors = new ArrayList<>();
+        for (int depth = 0; depth < LEVEL_SIZES.length; depth++) {
+            List<UUID> level = new ArrayList<>();
+            List<List<UUID>> levelAncestors = new ArrayList<>();
+            for (int i = 0; i < LEVEL_SIZES[depth]; i++) {
+                UUID id = UUID.randomUUID();
+                UUID parentId = depth > 0 ? levels.get(depth - 1).get(i % LEVEL_SIZES[depth - 1]) : null;
+                List<UUID> path = new ArrayList<>(depth > 0 ? ancestors.get(i % LEVEL_SIZES[depth - 1]) : List.of());
+                path.add(id);
+                int children = depth + 1 < LEVEL_SIZES.length
+                        ? LEVEL_SIZES[depth + 1] / LEVEL_SIZES[depth] + (i < LEVEL_SIZES[depth + 1] % LEVEL_SIZES[depth] ? 1 : 0)
+                        : 0;
+                String word = "Seite-" + depth + "-" + i;
+                pages.add(new Object[]{id, roomId, parentId, "Seite " + depth + "." + i, "seite-" + depth + "-" + i,
+                        "Inhalt von " + word + (i == 7 && depth == 9 ? " Kastanienbaum" : ""), userId, depth, children});
+                for (int a = 0; a < path.size(); a++) {
+                    closure.add(new Object[]{path.get(a), id, path.size() - 1 - a});
+                }
+                level.add(id);
+                levelAncestors.add(path);
+                if (depth > 0 && path.getFirst().equals(levels.getFirst().get(1))) {
+                    secondRootSubtreeSize++;
+                }
+            }
+            levels.add(level);
+            ancestors = levelAncestors;
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO wiki_pages (id, room_id, parent_id, title, slug, content, created_by, depth, child_count)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, pages);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO wiki_page_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)", closure);
+    }
+
+    private static String slug(int depth, int index) {
+        return "seite-" + depth + "-" + index;
+    }
+
+    @Test
+    void pageWithBreadcrumbsAndChildrenTakesSameQueriesAtAnyDepth() throws Throwable {
+        assertMaxQueries(4, () -> {
+            var leaf = wikiService.getPage(roomId, slug(9, 100));
+            assertThat(leaf.breadcrumbs()).hasSize(9);
+            assertThat(leaf.breadcrumbs().getFirst().parentId()).isNull();
+            assertThat(leaf.children()).isEmpty();
+        });
+        assertMaxQueries(4, () -> {
+            var root = wikiService.getPage(roomId, slug(0, 0));
+            assertThat(root.breadcrumbs()).isEmpty();
+            assertThat(root.children()).hasSize(2).allMatch(WikiPageSummary::hasChildren);
+        });
+    }
+
+    @Test
+    void subtreeTakesConstantQueries() throws Throwable {
+        // page, access check (user and membership) and the subtree itself
+        assertMaxQueries(4, () -> {
+            var subtree = wikiService.getSubtree(roomId, levels.getFirst().get(1), userId);
+            assertThat(subtree).hasSize(secondRootSubtreeSize);
+            assertThat(subtree.getFirst().parentId()).isEqualTo(levels.getFirst().get(1));
+        });
+    }
+
+    @Test
+    void subtreeOfAPageInAnotherRoomIsNotFound() {
+        assertThatThrownBy(() -> wikiService.getSubtree(UUID.randomUUID(), levels.getFirst().get(1), userId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void treeAndSearchTakeConstantQueries() throws Throwable {
+        assertMaxQueries(1, () -> assertThat(wikiService.getPageTree(roomId)).hasSizeGreaterThanOrEqualTo(10_000));
+        assertMaxQueries(2, () -> assertThat(wikiService.searchPages(roomId, "Kastanienbaum"))
+                .extracting(WikiPageSummary::slug).containsExactly(slug(9, 7)));
+        assertMaxQueries(2, () -> assertThat(wikiService.searchPages(roomId, "Seite 8.12"))
+                .extracting(WikiPageSummary::slug).contains(slug(8, 12)));
+    }
+
+    @Test
+    void createAndDeleteKeepDepthChildCountAndClosure() {
+        UUID parentId = levels.get(9).get(0);
+        var created = wikiService.createPage(roomId, userId, new CreatePageRequest("Ganz unten", "", parentId));
+        assertThat(created.breadcrumbs()).hasSize(10);
+        assertThat(depthOf(created.id())).isEqualTo(10);
+        assertThat(childCountOf(parentId)).isEqualTo(1);
+
+        // Deleting the level-8 ancestor makes its children roots and moves their subtrees up
+        UUID levelEight = created.breadcrumbs().get(8).id();
+        UUID levelSeven = created.breadcrumbs().get(7).id();
+        int siblingsBefore = childCountOf(levelSeven);
+        wikiService.deletePage(levelEight, userId);
+
+        assertThat(depthOf(parentId)).isZero();
+        assertThat(depthOf(created.id())).isEqualTo(1);
+        assertThat(childCountOf(levelSeven)).isEqualTo(siblingsBefore - 1);
+        assertThat(wikiService.getPage(roomId, created.slug()).breadcrumbs())
+                .extracting(WikiPageSummary::id).containsExactly(parentId);
+    }
+
+    private int depthOf(UUID pageId) {
+        return jdbcTemplate.queryForObject("SELECT depth FROM wiki_pages WHERE id = ?", Integer.class, pageId);
+    }
+
+    private int childCountOf(UUID pageId) {
+        return jdbcTemplate.queryForObject("SELECT child_count FROM wiki_pages WHERE id = ?", Integer.class, pageId);
+    }
+}
@@ -0,0 +1,222 @@
+package com.monteweb.wiki;
+
+import com.monteweb.wiki.internal.model.WikiPageVersion;
+import com.monteweb.wiki.internal.repository.WikiPageVersionRepository;
+import com.monteweb.wiki.internal.repository.WikiVersionChainTail;
+import com.monteweb.wiki.internal.service.WikiDelta;
+import com.monteweb.wiki.internal.service.WikiVersionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the wiki delta codec and the snapshot/delta version store, backed by
+ * an in-memory version table.
+ */
+class WikiVersionStoreTest {
+
+    private static final UUID PAGE_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final List<WikiPageVersion> table = new ArrayList<>();
+    private WikiVersionStore store;
+
+    @BeforeEach
+    void setUp() {
+        var repo = mock(WikiPageVersionRepository.class);
+        when(repo.save(any())).thenAnswer(inv -> {
+            WikiPageVersion version = inv.getArgument(0);
+            version.setId(UUID.randomUUID());
+            table.add(version);
+            return version;
+        });
+        when(repo.findChainTail(any())).thenAnswer(inv -> chainTail());
+        when(repo.findReplayChain(any(), anyInt())).thenAnswer(inv -> replayChain(inv.getArgument(1)));
+        store = new WikiVersionStore(repo);
+    }
+
+    private WikiVersionChainTail chainTail() {
+        if (table.isEmpty()) return new WikiVersionChainTail(0, 0, 0L);
+        int snapshot = table.stream().filter(WikiPageVersion::isSnapshot)
+                .mapToInt(WikiPageVersion::getVersionNumber).max().orElse(0);
+        long deltaChars = table.stream().filter(v -> v.getVersionNumber() > snapshot)
+                .mapToLong(v -> v.getDelta().length()).sum();
+        return new WikiVersionChainTail(table.getLast().getVersionNumber(), snapshot, deltaChars);
+    }
+
+    private List<WikiPageVersion> replayChain(int versionNumber) {
+        int snapshot = table.stream()
+                .filter(v -> v.isSnapshot() && v.getVersionNumber() <= versionNumber)
+                .mapToInt(WikiPageVersion::getVersionNumber).max().orElseThrow();
+        return table.subList(snapshot - 1, versionNumber);
+    }
+
+    private static String page(Random random, int paragraphs) {
+        var sb = new StringBuilder("# Elternabend\n\n");
+        for (int i = 0; i < paragraphs; i++) {
+            sb.append("Absatz ").append(i).append(": ").append("Text ".repeat(5 + random.nextInt(20))).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** A typical edit: one to three lines changed, added or removed. */
+    private static String edit(Random random, String content) {
+        var lines = new ArrayList<>(List.of(content.split("\n", -1)));
+        for (int e = 1 + random.nextInt(3); e > 0; e--) {
+            int at = random.nextInt(lines.size());
+            switch (random.nextInt(3)) {
+                case 0 -> lines.set(at, lines.get(at) + " ergänzt " + random.nextInt(1000));
+                case 1 -> lines.add(at, "Neue Zeile " + random.nextInt(1000));
+                default -> {
+                    if (lines.size() > 3) lines.remove(at);
+                }
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    @Nested
+    class Delta {
+
+        @Test
+        void roundTripsRandomEdits() {
+            var random = new Random(7);
+            String base = page(random, 40);
+            for (int i = 0; i < 300; i++) {
+                String target = edit(random, base);
+                assertThat(WikiDelta.apply(base, WikiDelta.diff(base, target))).isEqualTo(target);
+                base = target;
+            }
+        }
+
+        @Test
+        void handlesEmptyTextsMissingTrailingNewlineAndRewrites() {
+            for (String[] pair : new String[][]{
+                    {"", ""}, {"", "neu\n"}, {"alt\n", ""}, {"a\nb", "a\nb\n"}, {"ä\nö\n", "ö\nü"},
+                    {"eins\nzwei\ndrei\n", "ganz\nanderer\ninhalt\n"}}) {
+                assertThat(WikiDelta.apply(pair[0], WikiDelta.diff(pair[0], pair[1]))).isEqualTo(pair[1]);
+            }
+        }
+
+        @Test
+        void smallEditOnLargePageGivesSmallDelta() {
+            String base = page(new Random(1), 200);
+            String target = base.replace("Absatz 100:", "Absatz 100 (geändert):");
+
+            assertThat(WikiDelta.diff(base, target).length()).isLessThan(250);
+        }
+
+        @Test
+        void rejectsDeltaForAnotherBase() {
+            String delta = WikiDelta.diff("eins\nzwei\n", "eins\ndrei\n");
+
+            assertThatThrownBy(() -> WikiDelta.apply("eins\n", delta))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> WikiDelta.apply("eins\nzwei\n", "=3"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Store {
+
+        @Test
+        void firstVersionIsSnapshotAndEditsAreDeltas() {
+            var random = new Random(3);
+            String content = page(random, 30);
+            store.append(PAGE_ID, null, "Titel", content, USER_ID);
+            for (int i = 0; i < 5; i++) {
+                String next = edit(random, content);
+                store.append(PAGE_ID, content, "Titel", next, USER_ID);
+                content = next;
+            }
+
+            assertThat(table).extracting(WikiPageVersion::isSnapshot)
+                    .containsExactly(true, false, false, false, false, false);
+            assertThat(table).extracting(WikiPageVersion::getVersionNumber).containsExactly(1, 2, 3, 4, 5, 6);
+            assertThat(table.get(1).getContent()).isNull();
+        }
+
+        @Test
+        void snapshotIsWrittenEveryIntervalAndEveryVersionIsRebuilt() {
+            var random = new Random(5);
+            List<String> contents = new ArrayList<>();
+            String content = page(random, 200);
+            store.append(PAGE_ID, null, "Titel", content, USER_ID);
+            contents.add(content);
+            for (int i = 1; i < 2 * WikiVersionStore.SNAPSHOT_INTERVAL + 10; i++) {
+                String next = edit(random, content);
+                store.append(PAGE_ID, content, "Titel", next, USER_ID);
+                contents.add(next);
+                content = next;
+            }
+
+            assertThat(table.stream().filter(WikiPageVersion::isSnapshot).map(WikiPageVersion::getVersionNumber))
+                    .containsExactly(1, WikiVersionStore.SNAPSHOT_INTERVAL + 1, 2 * WikiVersionStore.SNAPSHOT_INTERVAL + 1);
+            for (int i = 0; i < table.size(); i++) {
+                assertThat(store.contentOf(table.get(i))).isEqualTo(contents.get(i));
+            }
+        }
+
+        @Test
+        void snapshotIsWrittenEarlyWhenDeltasOutgrowThePage() {
+            String content = "kurz\n";
+            store.append(PAGE_ID, null, "Titel", content, USER_ID);
+            for (int i = 0; i < 4; i++) {
+                String next = "kurz " + i + "\n";
+                store.append(PAGE_ID, content, "Titel", next, USER_ID);
+                content = next;
+            }
+
+            assertThat(table).allMatch(WikiPageVersion::isSnapshot);
+        }
+    }
+
+    /**
+     * Storage size and reconstruction latency for a page with thousands of edits, full
+     * copies versus snapshots with deltas. Run with {@code -Dbenchmarks=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkStorageAndReconstruction() {
+        var random = new Random(42);
+        int edits = 5_000;
+        String content = page(random, 150);
+        long fullCopyChars = content.length();
+        store.append(PAGE_ID, null, "Titel", content, USER_ID);
+        for (int i = 1; i < edits; i++) {
+            String next = edit(random, content);
+            store.append(PAGE_ID, content, "Titel", next, USER_ID);
+            fullCopyChars += next.length();
+            content = next;
+        }
+        long storedChars = table.stream()
+                .mapToLong(v -> v.isSnapshot() ? v.getContent().length() : v.getDelta().length()).sum();
+        long snapshots = table.stream().filter(WikiPageVersion::isSnapshot).count();
+        System.out.printf("%d versions: full copies %d KB, snapshots+deltas %d KB (%d snapshots, %.1fx smaller)%n",
+                edits, fullCopyChars / 1024, storedChars / 1024, snapshots, (double) fullCopyChars / storedChars);
+
+        int reads = 20_000;
+        for (int i = 0; i < 2_000; i++) store.contentOf(table.get(random.nextInt(edits)));
+        long start = System.nanoTime();
+        for (int i = 0; i < reads; i++) {
+            store.contentOf(table.get(random.nextInt(edits)));
+        }
+        long micros = (System.nanoTime() - start) / 1_000;
+        System.out.printf("reconstruction: %d random versions in %d ms (%.1f µs per version, excluding the query)%n",
+                reads, micros / 1_000, (double) micros / reads);
+    }
+}
@@ -30,10 +30,10 @@ describe('fundgrubeApi', () => {
       expect(client.get).toHaveBeenCalledWith('/fundgrube/items', { params: {} })
     })
 
-    it('should call GET /fundgrube/items with sectionId', async () => {
-      await fundgrubeApi.listItems('section-1')
+    it('should call GET /fundgrube/items with filters and cursor', async () => {
+      await fundgrubeApi.listItems({ sectionId: 'section-1', q: 'Jacke', cursor: 'abc' })
       expect(client.get).toHaveBeenCalledWith('/fundgrube/items', {
-        params: { sectionId: 'section-1' },
+        params: { sectionId: 'section-1', q: 'Jacke', cursor: 'abc' },
       })
     })
   })
@@ -54,7 +54,7 @@ describe('tasksApi', () => {
 
   describe('moveTask', () => {
     it('should call PUT /rooms/{roomId}/tasks/{taskId}/move', async () => {
-      const data = { columnId: 'col-2', position: 0 }
+      const data = { columnId: 'col-2', previousTaskId: 'task-3' }
       await tasksApi.moveTask('room-1', 'task-1', data)
       expect(client.put).toHaveBeenCalledWith('/rooms/room-1/tasks/task-1/move', data)
     })
@@ -1,7 +1,7 @@
 import client from './client'
 import type { ApiResponse } from '@/types/api'
 import type { TenantConfig } from '@/types/family'
-import type { CsvImportResult } from '@/types/user'
+import type { CsvImportJob } from '@/types/user'
 
 export const adminApi = {
   getConfig() {
@@ -44,11 +44,15 @@ export const adminApi = {
   uploadCsv(file: File, dryRun = false) {
     const form = new FormData()
     form.append('file', file)
-    return client.post<ApiResponse<CsvImportResult>>(`/admin/csv-import?dryRun=${dryRun}`, form, {
+    return client.post<ApiResponse<CsvImportJob>>(`/admin/csv-import?dryRun=${dryRun}`, form, {
       headers: { 'Content-Type': 'multipart/form-data' },
     })
   },
 
+  getCsvImportJob(jobId: string) {
+    return client.get<ApiResponse<CsvImportJob>>(`/admin/csv-import/jobs/${jobId}`)
+  },
+
   downloadExampleCsv() {
     return client.get('/admin/csv-import/example', { responseType: 'blob' })
   },
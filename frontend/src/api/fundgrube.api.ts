@@ -1,7 +1,8 @@
 import client from './client'
-import type { ApiResponse } from '@/types/api'
+import type { ApiResponse, CursorPageResponse } from '@/types/api'
 import type {
   FundgrubeItemInfo,
+  FundgrubeListParams,
   FundgrubeImageInfo,
   CreateFundgrubeItemRequest,
   UpdateFundgrubeItemRequest,
@@ -11,9 +12,8 @@ import { authenticatedImageUrl } from '@/composables/useImageToken'
 
 export const fundgrubeApi = {
   // Items
-  listItems(sectionId?: string) {
-    const params = sectionId ? { sectionId } : {}
-    return client.get<ApiResponse<FundgrubeItemInfo[]>>('/fundgrube/items', { params })
+  listItems(params: FundgrubeListParams = {}) {
+    return client.get<ApiResponse<CursorPageResponse<FundgrubeItemInfo>>>('/fundgrube/items', { params })
   },
   getItem(itemId: string) {
     return client.get<ApiResponse<FundgrubeItemInfo>>(`/fundgrube/items/${itemId}`)
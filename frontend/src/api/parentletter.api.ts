@@ -95,6 +95,10 @@ export const parentLetterApi = {
     return client.get(`/parent-letters/${id}/pdf`, { responseType: 'blob', params })
   },
 
+  downloadLetterPdfBatch(id: string, format: 'zip' | 'merged' = 'zip') {
+    return client.get(`/parent-letters/${id}/pdf/batch`, { responseType: 'blob', params: { format } })
+  },
+
   downloadTrackingPdf(id: string) {
     return client.get(`/parent-letters/${id}/tracking-pdf`, { responseType: 'blob' })
   },
@@ -1,6 +1,6 @@
 import client from './client'
 import type { ApiResponse, PageResponse } from '@/types/api'
-import type { UserInfo, LoginResponse } from '@/types/user'
+import type { UserInfo, LoginResponse, DataExportJob } from '@/types/user'
 import type { RoomInfo } from '@/types/room'
 import type { FamilyInfo } from '@/types/family'
 
@@ -130,6 +130,18 @@ export const usersApi = {
     return client.get('/users/me/data-export')
   },
 
+  startDataExport() {
+    return client.post<ApiResponse<DataExportJob>>('/users/me/data-export/jobs')
+  },
+
+  getDataExportJob(jobId: string) {
+    return client.get<ApiResponse<DataExportJob>>(`/users/me/data-export/jobs/${jobId}`)
+  },
+
+  downloadDataExport(jobId: string) {
+    return client.get(`/users/me/data-export/jobs/${jobId}/download`, { responseType: 'blob' })
+  },
+
   // DSGVO / GDPR (admin)
   adminExportUserData(userId: string) {
     return client.get(`/admin/users/${userId}/data-export`)
@@ -34,6 +34,10 @@ export const wikiApi = {
     return client.delete<ApiResponse<void>>(`/rooms/${roomId}/wiki/pages/${pageId}`)
   },
 
+  getSubtree(roomId: string, pageId: string) {
+    return client.get<ApiResponse<WikiPageSummary[]>>(`/rooms/${roomId}/wiki/pages/${pageId}/subtree`)
+  },
+
   // Versions
   getVersions(roomId: string, pageId: string) {
     return client.get<ApiResponse<WikiPageVersionResponse[]>>(
@@ -27,7 +27,7 @@ vi.mock('@/api/tasks.api', () => ({
               createdBy: 'user-2',
               createdByName: 'Anna Test',
               dueDate: '2026-03-01',
-              position: 0,
+              rank: 'i',
               createdAt: '2026-02-20T10:00:00Z',
               checklistItems: [
                 { id: 'ci-1', title: 'Item 1', checked: true, position: 0 },
@@ -46,7 +46,7 @@ vi.mock('@/api/tasks.api', () => ({
               createdBy: 'user-1',
               createdByName: 'Max Muster',
               dueDate: null,
-              position: 0,
+              rank: 'i',
               createdAt: '2026-02-21T10:00:00Z',
               checklistItems: [],
               checklistTotal: 0,
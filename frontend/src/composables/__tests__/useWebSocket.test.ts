@@ -65,4 +65,19 @@ describe('useWebSocket', () => {
     expect(() => disconnect()).not.toThrow()
     expect(connected.value).toBe(false)
   })
+
+  it('should subscribe requested topics once connected', () => {
+    const { connect, disconnect, subscribe } = useWebSocket()
+    connect('user-3')
+    const client = mockActivate.mock.contexts[mockActivate.mock.contexts.length - 1] as any
+
+    const unsubscribe = subscribe('/topic/forms/form-1/results', vi.fn())
+    expect(mockSubscribe).not.toHaveBeenCalledWith('/topic/forms/form-1/results', expect.any(Function))
+
+    client.onConnect()
+    expect(mockSubscribe).toHaveBeenCalledWith('/topic/forms/form-1/results', expect.any(Function))
+
+    unsubscribe()
+    disconnect()
+  })
 })
@@ -1,5 +1,5 @@
 import { ref, onUnmounted } from 'vue'
-import { Client } from '@stomp/stompjs'
+import { Client, type StompSubscription } from '@stomp/stompjs'
 import { useNotificationsStore } from '@/stores/notifications'
 import { useMessagingStore } from '@/stores/messaging'
 import type { NotificationInfo } from '@/types/notification'
@@ -10,6 +10,19 @@ const connected = ref(false)
 let currentUserId: string | null = null
 let visibilityHandler: (() => void) | null = null
 
+interface TopicSubscription {
+  destination: string
+  handler: (body: string) => void
+  active: StompSubscription | null
+}
+
+// Topic subscriptions requested by views; re-applied on every (re)connect
+const topicSubscriptions = new Set<TopicSubscription>()
+
+function activate(entry: TopicSubscription) {
+  entry.active = stompClient?.subscribe(entry.destination, (msg) => entry.handler(msg.body)) ?? null
+}
+
 export function useWebSocket() {
   function connect(userId: string) {
     if (connected.value && stompClient?.connected) return
@@ -52,6 +65,8 @@ export function useWebSocket() {
         const store = useMessagingStore()
         store.addIncomingMessage(message)
       })
+
+      topicSubscriptions.forEach(activate)
     }
 
     stompClient.onDisconnect = () => {
@@ -89,6 +104,26 @@ export function useWebSocket() {
     }
   }
 
+  /**
+   * Subscribes to a topic, now or as soon as the connection is (re-)established.
+   * Returns an unsubscribe function.
+   */
+  function subscribe<T>(destination: string, handler: (payload: T) => void): () => void {
+    const entry: TopicSubscription = {
+      destination,
+      handler: (body) => handler(JSON.parse(body)),
+      active: null,
+    }
+    topicSubscriptions.add(entry)
+    if (stompClient?.connected) {
+      activate(entry)
+    }
+    return () => {
+      topicSubscriptions.delete(entry)
+      entry.active?.unsubscribe()
+    }
+  }
+
   function disconnect() {
     if (stompClient) {
       stompClient.deactivate()
@@ -109,5 +144,6 @@ export function useWebSocket() {
     connected,
     connect,
     disconnect,
+    subscribe,
   }
 }
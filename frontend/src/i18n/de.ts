@@ -1428,6 +1428,8 @@ export default {
     itemCreated: 'Fundstück wurde gemeldet',
     itemUpdated: 'Fundstück wurde aktualisiert',
     deleteConfirm: 'Möchtest du diesen Eintrag wirklich löschen?',
+    searchPlaceholder: 'Fundstücke durchsuchen...',
+    loadMore: 'Weitere laden',
   },
   bookmarks: {
     title: 'Lesezeichen',
@@ -1496,6 +1498,7 @@ export default {
   },
   wiki: {
     title: 'Wiki',
+    breadcrumbs: 'Seitenpfad',
     newPage: 'Neue Seite',
     editPage: 'Seite bearbeiten',
     deletePage: 'Seite löschen',
@@ -2247,7 +2250,8 @@ export default {
     acceptTerms: 'Nutzungsbedingungen akzeptieren',
     termsAccepted: 'Nutzungsbedingungen akzeptiert',
     exportData: 'Meine Daten exportieren',
-    exportDataDesc: 'Laden Sie alle Ihre personenbezogenen Daten als JSON-Datei herunter.',
+    exportDataDesc: 'Laden Sie alle Ihre personenbezogenen Daten und hochgeladenen Dateien als ZIP-Archiv herunter.',
+    exportProgress: 'Export wird erstellt … {percent} %',
     exportSuccess: 'Datenexport heruntergeladen',
     exportError: 'Fehler beim Exportieren der Daten',
     deleteAccount: 'Konto loeschen',
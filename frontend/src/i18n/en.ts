@@ -1428,6 +1428,8 @@ export default {
     itemCreated: 'Item reported successfully',
     itemUpdated: 'Item updated successfully',
     deleteConfirm: 'Are you sure you want to delete this entry?',
+    searchPlaceholder: 'Search items...',
+    loadMore: 'Load more',
   },
   bookmarks: {
     title: 'Bookmarks',
@@ -1496,6 +1498,7 @@ export default {
   },
   wiki: {
     title: 'Wiki',
+    breadcrumbs: 'Breadcrumbs',
     newPage: 'New Page',
     editPage: 'Edit Page',
     deletePage: 'Delete Page',
@@ -2247,7 +2250,8 @@ export default {
     acceptTerms: 'Accept Terms of Service',
     termsAccepted: 'Terms of Service accepted',
     exportData: 'Export my data',
-    exportDataDesc: 'Download all your personal data as a JSON file.',
+    exportDataDesc: 'Download all your personal data and uploaded files as a ZIP archive.',
+    exportProgress: 'Preparing export … {percent}%',
     exportSuccess: 'Data export downloaded',
     exportError: 'Error exporting data',
     deleteAccount: 'Delete account',
@@ -67,12 +67,12 @@ describe('Fundgrube Store', () => {
   it('should fetch all items without section filter', async () => {
     const store = useFundgrubeStore()
     vi.mocked(fundgrubeApi.listItems).mockResolvedValue({
-      data: { data: [mockItem] },
+      data: { data: { content: [mockItem], nextCursor: null, last: true } },
     } as any)
 
     await store.fetchItems()
 
-    expect(fundgrubeApi.listItems).toHaveBeenCalledWith(undefined)
+    expect(fundgrubeApi.listItems).toHaveBeenCalledWith({})
     expect(store.items).toHaveLength(1)
     expect(store.items[0]).toEqual(mockItem)
     expect(store.loading).toBe(false)
@@ -82,15 +82,37 @@ describe('Fundgrube Store', () => {
   it('should fetch items filtered by section', async () => {
     const store = useFundgrubeStore()
     vi.mocked(fundgrubeApi.listItems).mockResolvedValue({
-      data: { data: [mockItem] },
+      data: { data: { content: [mockItem], nextCursor: null, last: true } },
     } as any)
+    store.query = ' Jacke '
 
     await store.fetchItems('sec-1')
 
-    expect(fundgrubeApi.listItems).toHaveBeenCalledWith('sec-1')
+    expect(fundgrubeApi.listItems).toHaveBeenCalledWith({ sectionId: 'sec-1', q: 'Jacke' })
     expect(store.activeSectionId).toBe('sec-1')
   })
 
+  it('should append the next page with the same filters', async () => {
+    const store = useFundgrubeStore()
+    vi.mocked(fundgrubeApi.listItems)
+      .mockResolvedValueOnce({
+        data: { data: { content: [mockItem], nextCursor: 'cursor-1', last: false } },
+      } as any)
+      .mockResolvedValueOnce({
+        data: { data: { content: [{ ...mockItem, id: 'item-2' }], nextCursor: null, last: true } },
+      } as any)
+
+    await store.fetchItems('sec-1')
+    await store.fetchMore()
+
+    expect(fundgrubeApi.listItems).toHaveBeenLastCalledWith({ sectionId: 'sec-1', cursor: 'cursor-1' })
+    expect(store.items.map((i) => i.id)).toEqual([mockItem.id, 'item-2'])
+    expect(store.nextCursor).toBeNull()
+
+    await store.fetchMore()
+    expect(fundgrubeApi.listItems).toHaveBeenCalledTimes(2)
+  })
+
   it('should set loading to false even if fetch fails', async () => {
     const store = useFundgrubeStore()
     vi.mocked(fundgrubeApi.listItems).mockRejectedValue(new Error('Network error'))
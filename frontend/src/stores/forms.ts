@@ -8,6 +8,7 @@ import type {
   UpdateFormRequest,
   SubmitResponseRequest,
   FormResultsSummary,
+  FormResultsUpdate,
   IndividualResponse,
   MyResponseInfo,
 } from '@/types/forms'
@@ -224,6 +225,18 @@ export const useFormsStore = defineStore('forms', () => {
     }
   }
 
+  function applyResultsUpdate(update: FormResultsUpdate) {
+    if (!currentResults.value || currentResults.value.form.id !== update.formId) return
+    const previous = new Map(currentResults.value.results.map((r) => [r.questionId, r]))
+    currentResults.value = {
+      form: { ...currentResults.value.form, responseCount: update.responseCount },
+      results: update.results.map((r) => ({
+        ...r,
+        textAnswers: previous.get(r.questionId)?.textAnswers ?? null,
+      })),
+    }
+  }
+
   async function fetchIndividualResponses(id: string) {
     try {
       const res = await formsApi.getIndividualResponses(id)
@@ -289,6 +302,7 @@ export const useFormsStore = defineStore('forms', () => {
     updateResponse,
     archiveForm,
     fetchResults,
+    applyResultsUpdate,
     fetchIndividualResponses,
     downloadCsv,
     downloadPdf,
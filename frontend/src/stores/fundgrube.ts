@@ -3,6 +3,7 @@ import { ref } from 'vue'
 import { fundgrubeApi } from '@/api/fundgrube.api'
 import type {
   FundgrubeItemInfo,
+  FundgrubeListParams,
   CreateFundgrubeItemRequest,
   UpdateFundgrubeItemRequest,
   ClaimItemRequest,
@@ -12,12 +13,23 @@ export const useFundgrubeStore = defineStore('fundgrube', () => {
   const items = ref<FundgrubeItemInfo[]>([])
   const loading = ref(false)
   const activeSectionId = ref<string | null>(null)
+  const query = ref('')
+  const nextCursor = ref<string | null>(null)
+  const loadingMore = ref(false)
+
+  function listParams(sectionId: string | null): FundgrubeListParams {
+    const params: FundgrubeListParams = {}
+    if (sectionId) params.sectionId = sectionId
+    if (query.value.trim()) params.q = query.value.trim()
+    return params
+  }
 
   async function fetchItems(sectionId?: string) {
     loading.value = true
     try {
-      const res = await fundgrubeApi.listItems(sectionId)
-      items.value = res.data.data
+      const res = await fundgrubeApi.listItems(listParams(sectionId ?? null))
+      items.value = res.data.data.content
+      nextCursor.value = res.data.data.nextCursor
       activeSectionId.value = sectionId ?? null
     } catch (e) {
       console.error('Failed to fetch fundgrube items:', e)
@@ -27,6 +39,24 @@ export const useFundgrubeStore = defineStore('fundgrube', () => {
     }
   }
 
+  async function fetchMore() {
+    if (!nextCursor.value || loadingMore.value) return
+    loadingMore.value = true
+    try {
+      const res = await fundgrubeApi.listItems({
+        ...listParams(activeSectionId.value),
+        cursor: nextCursor.value,
+      })
+      items.value.push(...res.data.data.content)
+      nextCursor.value = res.data.data.nextCursor
+    } catch (e) {
+      console.error('Failed to fetch more fundgrube items:', e)
+      throw e
+    } finally {
+      loadingMore.value = false
+    }
+  }
+
   async function createItem(data: CreateFundgrubeItemRequest) {
     try {
       const res = await fundgrubeApi.createItem(data)
@@ -99,7 +129,11 @@ export const useFundgrubeStore = defineStore('fundgrube', () => {
     items,
     loading,
     activeSectionId,
+    query,
+    nextCursor,
+    loadingMore,
     fetchItems,
+    fetchMore,
     createItem,
     updateItem,
     deleteItem,
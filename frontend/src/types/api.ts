@@ -14,6 +14,13 @@ export interface PageResponse<T> {
   last: boolean
 }
 
+/** Keyset-paginated page; pass nextCursor back for the following page */
+export interface CursorPageResponse<T> {
+  content: T[]
+  nextCursor: string | null
+  last: boolean
+}
+
 export interface ErrorResponse {
   error: string
   message: string
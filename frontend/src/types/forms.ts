@@ -104,6 +104,13 @@ export interface FormResultsSummary {
   results: QuestionResult[]
 }
 
+/** Live update pushed to /topic/forms/{formId}/results (text answers omitted). */
+export interface FormResultsUpdate {
+  formId: string
+  responseCount: number
+  results: QuestionResult[]
+}
+
 export interface IndividualAnswer {
   questionId: string
   questionLabel: string
@@ -26,6 +26,16 @@ export interface FundgrubeItemInfo {
   images: FundgrubeImageInfo[]
 }
 
+export interface FundgrubeListParams {
+  sectionId?: string
+  q?: string
+  /** ISO dates (yyyy-MM-dd), inclusive */
+  from?: string
+  to?: string
+  cursor?: string
+  size?: number
+}
+
 export interface CreateFundgrubeItemRequest {
   title: string
   description?: string
@@ -28,7 +28,7 @@ export interface TaskResponse {
   createdBy: string
   createdByName: string
   dueDate: string | null
-  position: number
+  rank: string
   createdAt: string
   checklistItems: ChecklistItemResponse[]
   checklistTotal: number
@@ -49,12 +49,23 @@ export interface UpdateTaskRequest {
   assigneeId?: string
   dueDate?: string
   columnId?: string
-  position?: number
 }
 
+/** Moves a task directly after previousTaskId and/or before nextTaskId; appends without either. */
 export interface MoveTaskRequest {
   columnId: string
-  position: number
+  previousTaskId?: string
+  nextTaskId?: string
+}
+
+/** Board change pushed to /topic/rooms/{roomId}/tasks */
+export interface TaskBoardDelta {
+  type: 'SAVED' | 'MOVED' | 'DELETED' | 'RERANKED' | 'BOARD'
+  taskId?: string
+  columnId?: string
+  rank?: string
+  task?: TaskResponse
+  ranks?: Record<string, string>
 }
 
 export interface CreateColumnRequest {
@@ -73,6 +73,30 @@ export interface CsvImportResult {
   preview: CsvRowPreview[]
 }
 
+export interface CsvImportJob {
+  id: string
+  status: 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED'
+  dryRun: boolean
+  totalRows: number
+  processedRows: number
+  result: CsvImportResult | null
+  errorMessage: string | null
+  createdAt: string
+  finishedAt: string | null
+}
+
+export interface DataExportJob {
+  id: string
+  status: 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED' | 'EXPIRED'
+  totalSteps: number
+  completedSteps: number
+  archiveSize: number | null
+  errorMessage: string | null
+  createdAt: string
+  finishedAt: string | null
+  expiresAt: string | null
+}
+
 export interface CsvRowError {
   row: number
   field: string
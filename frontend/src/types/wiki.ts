@@ -10,6 +10,8 @@ export interface WikiPageResponse {
   lastEditedBy: string | null
   lastEditedByName: string | null
   children: WikiPageSummary[]
+  /** Ancestors of the page, root first */
+  breadcrumbs: WikiPageSummary[]
   createdAt: string
   updatedAt: string
 }
@@ -26,7 +28,8 @@ export interface WikiPageSummary {
 export interface WikiPageVersionResponse {
   id: string
   title: string
-  content: string
+  /** Only set when a single version is fetched, not in the history list */
+  content: string | null
   editedBy: string
   editedByName: string
   createdAt: string
@@ -7,7 +7,11 @@ import { createI18n } from 'vue-i18n'
 const mockStore = {
   items: [] as any[],
   loading: false,
+  query: '',
+  nextCursor: null as string | null,
+  loadingMore: false,
   fetchItems: vi.fn().mockResolvedValue(undefined),
+  fetchMore: vi.fn().mockResolvedValue(undefined),
   createItem: vi.fn(),
   updateItem: vi.fn(),
   deleteItem: vi.fn().mockResolvedValue(undefined),
@@ -7,6 +7,7 @@ import AdminCsvImport from '@/views/admin/AdminCsvImport.vue'
 vi.mock('@/api/admin.api', () => ({
   adminApi: {
     uploadCsv: vi.fn(),
+    getCsvImportJob: vi.fn(),
     downloadExampleCsv: vi.fn().mockResolvedValue({ data: new Blob(['test']) }),
   },
 }))